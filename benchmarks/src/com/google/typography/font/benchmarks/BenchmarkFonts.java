@@ -0,0 +1,112 @@
+/*
+ * Copyright 2011 Google Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.typography.font.benchmarks;
+
+import com.google.typography.font.sfntly.Font;
+import com.google.typography.font.sfntly.FontFactory;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+
+/**
+ * Access to the test fonts used by the benchmarks.
+ *
+ * <p>The fonts are read from the directory given by the
+ * {@code benchmark.fonts.dir} system property, defaulting to the same test
+ * data location used by the unit tests. The Ant {@code run} target passes the
+ * property through to the forked benchmark VMs.
+ */
+final class BenchmarkFonts {
+
+  /**
+   * The test fonts used as the default parameters of the benchmarks.
+   */
+  static final String DROIDSANS = "DroidSans-Regular.ttf";
+  static final String OPENSANS = "OpenSans-Regular.ttf";
+  static final String ROBOTO = "Roboto-Regular.ttf";
+
+  /**
+   * Fixed text used for the subsetting and closure benchmarks so that results
+   * are comparable across runs.
+   */
+  static final String SAMPLE_TEXT =
+      "The quick brown fox jumps over the lazy dog. 0123456789 "
+      + "THE QUICK BROWN FOX JUMPS OVER THE LAZY DOG! fi fl ffi ffl "
+      + "àéîõüçßÅØÆ “quoted” — …";
+
+  private static final String FONTS_DIR_PROPERTY = "benchmark.fonts.dir";
+  private static final String DEFAULT_FONTS_DIR = "../data/testdata/";
+
+  private BenchmarkFonts() {
+    // Prevent construction.
+  }
+
+  /**
+   * Gets the file for a test font.
+   *
+   * @param name the file name of the font
+   * @return the font file
+   * @throws IOException if the font file does not exist
+   */
+  static File file(String name) throws IOException {
+    File file = new File(System.getProperty(FONTS_DIR_PROPERTY, DEFAULT_FONTS_DIR), name);
+    if (!file.isFile()) {
+      throw new IOException("Benchmark font not found - " + file.getAbsolutePath()
+          + " (set " + FONTS_DIR_PROPERTY + " to the test font directory)");
+    }
+    return file;
+  }
+
+  /**
+   * Reads all of the bytes of a test font.
+   *
+   * @param name the file name of the font
+   * @return the font bytes
+   * @throws IOException
+   */
+  static byte[] read(String name) throws IOException {
+    File file = file(name);
+    byte[] b = new byte[(int) file.length()];
+    FileInputStream fis = new FileInputStream(file);
+    try {
+      int offset = 0;
+      while (offset < b.length) {
+        int read = fis.read(b, offset, b.length - offset);
+        if (read < 0) {
+          throw new IOException("Unexpected end of file - " + file.getAbsolutePath());
+        }
+        offset += read;
+      }
+    } finally {
+      fis.close();
+    }
+    return b;
+  }
+
+  /**
+   * Loads the first font from a test font file.
+   *
+   * @param factory the factory to load the font with
+   * @param name the file name of the font
+   * @return the font
+   * @throws IOException
+   */
+  static Font load(FontFactory factory, String name) throws IOException {
+    return factory.loadFonts(read(name))[0];
+  }
+}
@@ -0,0 +1,186 @@
+/*
+ * Copyright 2011 Google Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.typography.font.benchmarks;
+
+import com.google.typography.font.sfntly.Font;
+import com.google.typography.font.sfntly.FontFactory;
+import com.google.typography.font.sfntly.Tag;
+import com.google.typography.font.sfntly.data.WritableFontData;
+import com.google.typography.font.sfntly.table.core.CMap;
+import com.google.typography.font.sfntly.table.core.CMapTable;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link CMap#glyphId(int)}, {@link CMap#glyphIds(int[])} and
+ * lookups through {@link CMap#index()} for format 4 and format 12 cmaps. Each operation looks up every character mapped
+ * by the font's Windows BMP cmap in a fixed shuffled order.
+ *
+ * <p>The test fonts only have a format 4 cmap so the format 12 cmap is
+ * generated from it with the same mappings. Both cmaps then do the same work
+ * and their times can be compared directly.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Thread)
+@Fork(1)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+public class CMapBenchmark {
+
+  @Param({BenchmarkFonts.DROIDSANS, BenchmarkFonts.OPENSANS, BenchmarkFonts.ROBOTO})
+  public String font;
+
+  private CMap format4;
+  private CMap format12;
+  private CMap.Index format4Index;
+  private CMap.Index format12Index;
+  private int[] chars;
+
+  @Setup
+  public void setUp() throws IOException {
+    FontFactory factory = FontFactory.getInstance();
+    Font font = BenchmarkFonts.load(factory, this.font);
+    CMapTable cmapTable = font.getTable(Tag.cmap);
+    this.format4 = cmapTable.cmap(CMapTable.CMapId.WINDOWS_BMP);
+    if (this.format4 == null || this.format4.format() != CMap.CMapFormat.Format4.value()) {
+      throw new IllegalStateException("Font has no Windows BMP format 4 cmap - " + this.font);
+    }
+
+    List<Integer> mapped = new ArrayList<Integer>();
+    for (int c : this.format4) {
+      if (this.format4.glyphId(c) != CMapTable.NOTDEF) {
+        mapped.add(c);
+      }
+    }
+    Collections.sort(mapped);
+    this.format12 = createFormat12(factory, this.format4, mapped);
+    this.format4Index = this.format4.index();
+    this.format12Index = this.format12.index();
+
+    Collections.shuffle(mapped, new Random(mapped.size()));
+    this.chars = new int[mapped.size()];
+    for (int i = 0; i < this.chars.length; i++) {
+      this.chars[i] = mapped.get(i);
+    }
+  }
+
+  /**
+   * Creates a format 12 cmap with the same mappings as the cmap given.
+   *
+   * @param factory the font factory
+   * @param cmap the cmap to copy the mappings from
+   * @param chars the mapped characters in increasing order
+   * @return the new format 12 cmap
+   * @throws IOException
+   */
+  private static CMap createFormat12(FontFactory factory, CMap cmap, List<Integer> chars)
+      throws IOException {
+    // gather runs of consecutive characters that map to consecutive glyphs
+    List<int[]> groups = new ArrayList<int[]>();
+    int[] group = null;
+    for (int c : chars) {
+      int glyphId = cmap.glyphId(c);
+      if (group != null && c == group[1] + 1 && glyphId == group[2] + (c - group[0])) {
+        group[1] = c;
+      } else {
+        group = new int[] {c, c, glyphId};
+        groups.add(group);
+      }
+    }
+
+    int length = 16 + groups.size() * 12;
+    WritableFontData data = WritableFontData.createWritableFontData(length);
+    int offset = data.writeUShort(0, CMap.CMapFormat.Format12.value());
+    offset += data.writeUShort(offset, 0); // reserved
+    offset += data.writeULong(offset, length);
+    offset += data.writeULong(offset, 0); // language
+    offset += data.writeULong(offset, groups.size());
+    for (int[] g : groups) {
+      offset += data.writeULong(offset, g[0]);
+      offset += data.writeULong(offset, g[1]);
+      offset += data.writeULong(offset, g[2]);
+    }
+
+    CMapTable.Builder cmapTableBuilder =
+        (CMapTable.Builder) factory.newFontBuilder().newTableBuilder(Tag.cmap);
+    return cmapTableBuilder.newCMapBuilder(CMapTable.CMapId.WINDOWS_UCS4, data).build();
+  }
+
+  @Benchmark
+  public int format4GlyphId() {
+    return lookup(this.format4, this.chars);
+  }
+
+  @Benchmark
+  public int format12GlyphId() {
+    return lookup(this.format12, this.chars);
+  }
+
+  @Benchmark
+  public int[] format4GlyphIds() {
+    return this.format4.glyphIds(this.chars);
+  }
+
+  @Benchmark
+  public int[] format12GlyphIds() {
+    return this.format12.glyphIds(this.chars);
+  }
+
+  @Benchmark
+  public int format4IndexGlyphId() {
+    return lookup(this.format4Index, this.chars);
+  }
+
+  @Benchmark
+  public int format12IndexGlyphId() {
+    return lookup(this.format12Index, this.chars);
+  }
+
+  private static int lookup(CMap cmap, int[] chars) {
+    int sum = 0;
+    for (int c : chars) {
+      sum += cmap.glyphId(c);
+    }
+    return sum;
+  }
+
+  private static int lookup(CMap.Index index, int[] chars) {
+    int sum = 0;
+    for (int c : chars) {
+      sum += index.glyphId(c);
+    }
+    return sum;
+  }
+}
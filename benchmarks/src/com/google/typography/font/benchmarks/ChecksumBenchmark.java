@@ -0,0 +1,121 @@
+/*
+ * Copyright 2011 Google Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.typography.font.benchmarks;
+
+import com.google.typography.font.sfntly.data.ReadableFontData;
+import com.google.typography.font.sfntly.data.WritableFontData;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.channels.FileChannel;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the word at a time checksum in {@link ReadableFontData#checksum()}
+ * with the original byte at a time computation over font sized data held both
+ * on the heap and in a memory mapped file.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Thread)
+@Fork(1)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+public class ChecksumBenchmark {
+
+  @Param({"20971520"})
+  public int size;
+
+  @Param({"memory", "mapped"})
+  public String backing;
+
+  private File file;
+  private ReadableFontData data;
+
+  @Setup(Level.Trial)
+  public void setUp() throws IOException {
+    byte[] b = new byte[this.size];
+    new Random(this.size).nextBytes(b);
+    if ("mapped".equals(this.backing)) {
+      this.file = File.createTempFile("checksum", ".bin");
+      FileOutputStream fos = new FileOutputStream(this.file);
+      try {
+        fos.write(b);
+      } finally {
+        fos.close();
+      }
+      RandomAccessFile raf = new RandomAccessFile(this.file, "r");
+      try {
+        this.data = WritableFontData.createWritableFontData(
+            raf.getChannel().map(FileChannel.MapMode.READ_ONLY, 0, raf.length()));
+      } finally {
+        raf.close();
+      }
+    } else {
+      this.data = WritableFontData.createWritableFontData(b);
+    }
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    if (this.file != null) {
+      this.file.delete();
+    }
+  }
+
+  @Benchmark
+  public long wordAtATime() {
+    // resetting the ranges clears the cached checksum
+    this.data.setCheckSumRanges();
+    return this.data.checksum();
+  }
+
+  @Benchmark
+  public long byteAtATime() {
+    ReadableFontData data = this.data;
+    int highBound = data.length();
+    long sum = 0;
+    for (int i = 0; i <= highBound - 4; i += 4) {
+      sum += data.readULong(i);
+    }
+    int off = highBound & -4;
+    if (off < highBound) {
+      int b3 = data.readUByte(off);
+      int b2 = (off + 1 < highBound) ? data.readUByte(off + 1) : 0;
+      int b1 = (off + 2 < highBound) ? data.readUByte(off + 2) : 0;
+      sum += (b3 << 24) | (b2 << 16) | (b1 << 8);
+    }
+    return sum & 0xffffffffL;
+  }
+}
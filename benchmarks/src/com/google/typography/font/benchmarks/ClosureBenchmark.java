@@ -0,0 +1,93 @@
+/*
+ * Copyright 2011 Google Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.typography.font.benchmarks;
+
+import com.google.typography.font.sfntly.Font;
+import com.google.typography.font.sfntly.FontFactory;
+import com.google.typography.font.sfntly.Tag;
+import com.google.typography.font.sfntly.table.core.CMapTable;
+import com.google.typography.font.sfntly.table.opentype.component.GlyphGroup;
+import com.google.typography.font.sfntly.table.opentype.component.Rule;
+import com.google.typography.font.sfntly.table.opentype.component.RuleClosure;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link Rule#closure(Map, GlyphGroup)} and the compiled
+ * {@link RuleClosure} of the glyphs for a fixed text over the font's featured
+ * GSUB rules. The rule map is built and compiled once during setup so only the
+ * closure itself is measured.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Thread)
+@Fork(1)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+public class ClosureBenchmark {
+
+  @Param({BenchmarkFonts.DROIDSANS, BenchmarkFonts.OPENSANS, BenchmarkFonts.ROBOTO})
+  public String font;
+
+  private Map<Integer, Set<Rule>> glyphRuleMap;
+  private RuleClosure ruleClosure;
+  private GlyphGroup textGlyphs;
+
+  @Setup
+  public void setUp() throws IOException {
+    Font font = BenchmarkFonts.load(FontFactory.getInstance(), this.font);
+    this.glyphRuleMap = Rule.glyphRulesMap(font);
+    if (this.glyphRuleMap == null) {
+      // fonts without a GSUB table have no rules to close over
+      this.glyphRuleMap = Collections.emptyMap();
+    }
+    this.ruleClosure = RuleClosure.compile(this.glyphRuleMap);
+    CMapTable cmapTable = font.getTable(Tag.cmap);
+    this.textGlyphs = Rule.glyphGroupForText(BenchmarkFonts.SAMPLE_TEXT, cmapTable);
+  }
+
+  @Benchmark
+  public GlyphGroup closure() {
+    // the closure is computed in place so start from a fresh copy each time
+    GlyphGroup glyphs = new GlyphGroup();
+    glyphs.or(this.textGlyphs);
+    return Rule.closure(this.glyphRuleMap, glyphs);
+  }
+
+  @Benchmark
+  public GlyphGroup compiledClosure() {
+    GlyphGroup glyphs = new GlyphGroup();
+    glyphs.or(this.textGlyphs);
+    return this.ruleClosure.closure(glyphs);
+  }
+}
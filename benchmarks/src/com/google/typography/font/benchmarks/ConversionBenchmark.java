@@ -0,0 +1,106 @@
+/*
+ * Copyright 2011 Google Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.typography.font.benchmarks;
+
+import com.google.typography.font.sfntly.Font;
+import com.google.typography.font.sfntly.FontFactory;
+import com.google.typography.font.sfntly.data.WritableFontData;
+import com.google.typography.font.tools.conversion.eot.EOTWriter;
+import com.google.typography.font.tools.conversion.woff.Woff2Writer;
+import com.google.typography.font.tools.conversion.woff.WoffWriter;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures conversion of a whole font to WOFF with {@link WoffWriter}, to
+ * WOFF 2.0 with {@link Woff2Writer} and to EOT with {@link EOTWriter}, both
+ * with and without MTX compression. WOFF and MTX compression are measured both
+ * on the calling thread and on an executor with a thread per processor.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Thread)
+@Fork(1)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+public class ConversionBenchmark {
+
+  @Param({BenchmarkFonts.DROIDSANS, BenchmarkFonts.OPENSANS, BenchmarkFonts.ROBOTO})
+  public String font;
+
+  private Font source;
+  private ExecutorService executor;
+
+  @Setup
+  public void setUp() throws IOException {
+    this.source = BenchmarkFonts.load(FontFactory.getInstance(), this.font);
+    this.executor = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors());
+  }
+
+  @TearDown
+  public void tearDown() {
+    this.executor.shutdown();
+  }
+
+  @Benchmark
+  public WritableFontData woff() {
+    return new WoffWriter().convert(this.source);
+  }
+
+  @Benchmark
+  public WritableFontData woffParallel() {
+    WoffWriter writer = new WoffWriter();
+    writer.setExecutor(this.executor);
+    return writer.convert(this.source);
+  }
+
+  @Benchmark
+  public WritableFontData woff2() {
+    return new Woff2Writer().convert(this.source);
+  }
+
+  @Benchmark
+  public WritableFontData eot() throws IOException {
+    return new EOTWriter(false).convert(this.source);
+  }
+
+  @Benchmark
+  public WritableFontData eotCompressed() throws IOException {
+    return new EOTWriter(true).convert(this.source);
+  }
+
+  @Benchmark
+  public WritableFontData eotCompressedParallel() throws IOException {
+    return new EOTWriter(true, this.executor).convert(this.source);
+  }
+}
@@ -0,0 +1,72 @@
+/*
+ * Copyright 2011 Google Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.typography.font.benchmarks;
+
+import com.google.typography.font.sfntly.Font;
+import com.google.typography.font.sfntly.FontFactory;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link FontFactory#loadFonts(byte[])} and
+ * {@link FontFactory#loadFonts(java.io.InputStream)}. The stream is an in
+ * memory stream so that file system costs are not included.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Thread)
+@Fork(1)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+public class LoadFontsBenchmark {
+
+  @Param({BenchmarkFonts.DROIDSANS, BenchmarkFonts.OPENSANS, BenchmarkFonts.ROBOTO})
+  public String font;
+
+  private FontFactory factory;
+  private byte[] bytes;
+
+  @Setup
+  public void setUp() throws IOException {
+    this.factory = FontFactory.getInstance();
+    this.bytes = BenchmarkFonts.read(this.font);
+  }
+
+  @Benchmark
+  public Font[] loadFromBytes() throws IOException {
+    return this.factory.loadFonts(this.bytes);
+  }
+
+  @Benchmark
+  public Font[] loadFromStream() throws IOException {
+    return this.factory.loadFonts(new ByteArrayInputStream(this.bytes));
+  }
+}
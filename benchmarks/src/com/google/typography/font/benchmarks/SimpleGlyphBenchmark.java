@@ -0,0 +1,89 @@
+/*
+ * Copyright 2011 Google Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.typography.font.benchmarks;
+
+import com.google.typography.font.sfntly.Font;
+import com.google.typography.font.sfntly.FontFactory;
+import com.google.typography.font.sfntly.Tag;
+import com.google.typography.font.sfntly.table.truetype.Glyph;
+import com.google.typography.font.sfntly.table.truetype.GlyphTable;
+import com.google.typography.font.sfntly.table.truetype.LocaTable;
+import com.google.typography.font.sfntly.table.truetype.SimpleGlyph;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures parsing of every simple glyph in a font. Glyphs are parsed lazily
+ * so each operation creates the glyph objects afresh and reads all of their
+ * points.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Thread)
+@Fork(1)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+public class SimpleGlyphBenchmark {
+
+  @Param({BenchmarkFonts.DROIDSANS, BenchmarkFonts.OPENSANS, BenchmarkFonts.ROBOTO})
+  public String font;
+
+  private GlyphTable glyphTable;
+  private LocaTable locaTable;
+
+  @Setup
+  public void setUp() throws IOException {
+    Font font = BenchmarkFonts.load(FontFactory.getInstance(), this.font);
+    this.glyphTable = font.getTable(Tag.glyf);
+    this.locaTable = font.getTable(Tag.loca);
+  }
+
+  @Benchmark
+  public int parseSimpleGlyphs() {
+    int sum = 0;
+    for (int glyphId = 0; glyphId < this.locaTable.numGlyphs(); glyphId++) {
+      Glyph glyph = this.glyphTable.glyph(
+          this.locaTable.glyphOffset(glyphId), this.locaTable.glyphLength(glyphId));
+      if (glyph.glyphType() != Glyph.GlyphType.Simple) {
+        continue;
+      }
+      SimpleGlyph simple = (SimpleGlyph) glyph;
+      for (int contour = 0; contour < simple.numberOfContours(); contour++) {
+        for (int point = 0; point < simple.numberOfPoints(contour); point++) {
+          sum += simple.xCoordinate(contour, point) + simple.yCoordinate(contour, point);
+          if (simple.onCurve(contour, point)) {
+            sum++;
+          }
+        }
+      }
+    }
+    return sum;
+  }
+}
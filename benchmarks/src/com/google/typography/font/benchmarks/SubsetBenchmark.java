@@ -0,0 +1,124 @@
+/*
+ * Copyright 2011 Google Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.typography.font.benchmarks;
+
+import com.google.typography.font.sfntly.Font;
+import com.google.typography.font.sfntly.FontFactory;
+import com.google.typography.font.sfntly.Tag;
+import com.google.typography.font.sfntly.table.core.CMapTable;
+import com.google.typography.font.tools.sfnttool.GlyphCoverage;
+import com.google.typography.font.tools.subsetter.RenumberingSubsetter;
+import com.google.typography.font.tools.subsetter.SubsetPlan;
+import com.google.typography.font.tools.subsetter.Subsetter;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures subsetting a font to the glyphs for a fixed text with
+ * {@link RenumberingSubsetter} and serializing the result, using the same
+ * settings as sfnttool. The subset font is either built and then serialized or
+ * streamed straight to the output, and is also streamed from a
+ * {@link SubsetPlan} made once for the font.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Thread)
+@Fork(1)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+public class SubsetBenchmark {
+
+  @Param({BenchmarkFonts.DROIDSANS, BenchmarkFonts.OPENSANS, BenchmarkFonts.ROBOTO})
+  public String font;
+
+  private FontFactory factory;
+  private Font source;
+  private List<CMapTable.CMapId> cmapIds;
+  private List<Integer> glyphs;
+  private Set<Integer> removeTables;
+  private SubsetPlan plan;
+
+  @Setup
+  public void setUp() throws IOException {
+    this.factory = FontFactory.getInstance();
+    this.source = BenchmarkFonts.load(this.factory, this.font);
+    this.cmapIds = new ArrayList<CMapTable.CMapId>();
+    this.cmapIds.add(CMapTable.CMapId.WINDOWS_BMP);
+    this.glyphs = GlyphCoverage.getGlyphCoverage(this.source, BenchmarkFonts.SAMPLE_TEXT);
+    this.removeTables = new HashSet<Integer>();
+    this.removeTables.add(Tag.GDEF);
+    this.removeTables.add(Tag.GPOS);
+    this.removeTables.add(Tag.GSUB);
+    this.removeTables.add(Tag.kern);
+    this.removeTables.add(Tag.hdmx);
+    this.removeTables.add(Tag.vmtx);
+    this.removeTables.add(Tag.VDMX);
+    this.removeTables.add(Tag.LTSH);
+    this.removeTables.add(Tag.DSIG);
+    this.plan = new SubsetPlan(this.source, this.factory, this.cmapIds, this.removeTables);
+  }
+
+  @Benchmark
+  public byte[] subsetAndSerialize() throws IOException {
+    Font subset = this.subsetter().subset().build();
+    ByteArrayOutputStream os = new ByteArrayOutputStream();
+    this.factory.serializeFont(subset, os);
+    return os.toByteArray();
+  }
+
+  @Benchmark
+  public byte[] subsetStreaming() throws IOException {
+    ByteArrayOutputStream os = new ByteArrayOutputStream();
+    this.subsetter().subset(os);
+    return os.toByteArray();
+  }
+
+  @Benchmark
+  public byte[] subsetPlanStreaming() throws IOException {
+    ByteArrayOutputStream os = new ByteArrayOutputStream();
+    this.plan.subset(this.glyphs, os);
+    return os.toByteArray();
+  }
+
+  private Subsetter subsetter() {
+    Subsetter subsetter = new RenumberingSubsetter(this.source, this.factory);
+    subsetter.setCMaps(this.cmapIds, 1);
+    subsetter.setGlyphs(this.glyphs);
+    subsetter.setRemapping(Collections.<Integer, Integer>emptyMap());
+    subsetter.setRemoveTables(this.removeTables);
+    return subsetter;
+  }
+}
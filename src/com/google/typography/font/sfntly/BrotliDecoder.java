@@ -0,0 +1,855 @@
+/*
+ * Copyright 2011 Google Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.typography.font.sfntly;
+
+import java.io.IOException;
+
+/**
+ * A decoder for the Brotli compressed data format of RFC 7932 as used for the
+ * table data of WOFF 2.0 fonts. The size of the decompressed data is always
+ * known up front in WOFF 2.0 so the whole stream is decoded in one call into
+ * an array of that size rather than through a streaming interface.
+ */
+final class BrotliDecoder {
+
+  private static final int NUM_LITERAL_SYMBOLS = 256;
+  private static final int NUM_COMMAND_SYMBOLS = 704;
+  private static final int NUM_BLOCK_LENGTH_SYMBOLS = 26;
+  private static final int NUM_CODE_LENGTH_CODES = 18;
+  private static final int LITERAL_CONTEXT_BITS = 6;
+  private static final int DISTANCE_CONTEXT_BITS = 2;
+  private static final int ROOT_BITS = 8;
+  private static final int MAX_CODE_LENGTH = 15;
+
+  private static final int LITERAL = 0;
+  private static final int COMMAND = 1;
+  private static final int DISTANCE = 2;
+
+  private static final int[] CODE_LENGTH_CODE_ORDER = {
+      1, 2, 3, 4, 0, 5, 17, 6, 16, 7, 8, 9, 10, 11, 12, 13, 14, 15};
+
+  // the static prefix code for the code length code lengths indexed by the
+  // next four bits of the stream
+  private static final int[] CODE_LENGTH_PREFIX_LENGTH = {
+      2, 2, 2, 3, 2, 2, 2, 4, 2, 2, 2, 3, 2, 2, 2, 4};
+  private static final int[] CODE_LENGTH_PREFIX_VALUE = {
+      0, 4, 3, 2, 0, 4, 3, 1, 0, 4, 3, 2, 0, 4, 3, 5};
+
+  private static final int[] BLOCK_LENGTH_OFFSET = {
+      1, 5, 9, 13, 17, 25, 33, 41, 49, 65, 81, 97, 113, 145, 177, 209,
+      241, 305, 369, 497, 753, 1265, 2289, 4337, 8433, 16625};
+  private static final int[] BLOCK_LENGTH_BITS = {
+      2, 2, 2, 2, 3, 3, 3, 3, 4, 4, 4, 4, 5, 5, 5, 5,
+      6, 6, 7, 8, 9, 10, 11, 12, 13, 24};
+
+  private static final int[] INSERT_LENGTH_OFFSET = {
+      0, 1, 2, 3, 4, 5, 6, 8, 10, 14, 18, 26, 34, 50, 66, 98,
+      130, 194, 322, 578, 1090, 2114, 6210, 22594};
+  private static final int[] INSERT_LENGTH_BITS = {
+      0, 0, 0, 0, 0, 0, 1, 1, 2, 2, 3, 3, 4, 4, 5, 5,
+      6, 7, 8, 9, 10, 12, 14, 24};
+  private static final int[] COPY_LENGTH_OFFSET = {
+      2, 3, 4, 5, 6, 7, 8, 9, 10, 12, 14, 18, 22, 30, 38, 54,
+      70, 102, 134, 198, 326, 582, 1094, 2118};
+  private static final int[] COPY_LENGTH_BITS = {
+      0, 0, 0, 0, 0, 0, 0, 0, 1, 1, 2, 2, 3, 3, 4, 4,
+      5, 5, 6, 7, 8, 9, 10, 24};
+
+  // the insert and copy length code ranges for each cell of 64 commands
+  private static final int[] INSERT_RANGE = {0, 0, 0, 0, 8, 8, 0, 16, 8, 16, 16};
+  private static final int[] COPY_RANGE = {0, 8, 0, 8, 0, 8, 16, 0, 16, 8, 16};
+
+  // the distance ring buffer entry and the delta from it for the first 16
+  // distance codes
+  private static final int[] DISTANCE_SHORT_INDEX = {
+      0, 1, 2, 3, 0, 0, 0, 0, 0, 0, 1, 1, 1, 1, 1, 1};
+  private static final int[] DISTANCE_SHORT_DELTA = {
+      0, 0, 0, 0, -1, 1, -2, 2, -3, 3, -1, 1, -2, 2, -3, 3};
+
+  private static final int[] UTF8_CONTEXT_P1 = {
+      0, 0, 0, 0, 0, 0, 0, 0, 0, 4, 4, 0, 0, 4, 0, 0,
+      0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0,
+      8, 12, 16, 12, 12, 20, 12, 16, 24, 28, 12, 12, 32, 12, 36, 12,
+      44, 44, 44, 44, 44, 44, 44, 44, 44, 44, 32, 32, 24, 40, 28, 12,
+      12, 48, 52, 52, 52, 48, 52, 52, 52, 48, 52, 52, 52, 52, 52, 48,
+      52, 52, 52, 52, 52, 48, 52, 52, 52, 52, 52, 24, 12, 28, 12, 12,
+      12, 56, 60, 60, 60, 56, 60, 60, 60, 56, 60, 60, 60, 60, 60, 56,
+      60, 60, 60, 60, 60, 56, 60, 60, 60, 60, 60, 24, 12, 28, 12, 0};
+  private static final int[] UTF8_CONTEXT_P2 = {
+      0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0,
+      0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0,
+      0, 1, 1, 1, 1, 1, 1, 1, 1, 1, 1, 1, 1, 1, 1, 1,
+      2, 2, 2, 2, 2, 2, 2, 2, 2, 2, 1, 1, 1, 1, 1, 1,
+      1, 2, 2, 2, 2, 2, 2, 2, 2, 2, 2, 2, 2, 2, 2, 2,
+      2, 2, 2, 2, 2, 2, 2, 2, 2, 2, 2, 1, 1, 1, 1, 1,
+      1, 3, 3, 3, 3, 3, 3, 3, 3, 3, 3, 3, 3, 3, 3, 3,
+      3, 3, 3, 3, 3, 3, 3, 3, 3, 3, 3, 1, 1, 1, 1, 0};
+
+  /**
+   * The literal context lookup of section 7.1 of the RFC. For each of the
+   * four context modes there are 256 entries for the last byte followed by
+   * 256 entries for the byte before it which are or'ed together.
+   */
+  private static final int[] CONTEXT_LOOKUP = new int[4 << 9];
+
+  static {
+    for (int i = 0; i < 256; i++) {
+      int signed;
+      if (i == 0) {
+        signed = 0;
+      } else if (i < 16) {
+        signed = 1;
+      } else if (i < 64) {
+        signed = 2;
+      } else if (i < 128) {
+        signed = 3;
+      } else if (i < 192) {
+        signed = 4;
+      } else if (i < 240) {
+        signed = 5;
+      } else if (i < 255) {
+        signed = 6;
+      } else {
+        signed = 7;
+      }
+      // LSB6
+      CONTEXT_LOOKUP[i] = i & 0x3f;
+      // MSB6
+      CONTEXT_LOOKUP[512 + i] = i >> 2;
+      // UTF8
+      if (i < 128) {
+        CONTEXT_LOOKUP[1024 + i] = UTF8_CONTEXT_P1[i];
+        CONTEXT_LOOKUP[1280 + i] = UTF8_CONTEXT_P2[i];
+      } else if (i < 192) {
+        CONTEXT_LOOKUP[1024 + i] = i & 1;
+      } else {
+        CONTEXT_LOOKUP[1024 + i] = 2 + (i & 1);
+        CONTEXT_LOOKUP[1280 + i] = i < 224 ? 0 : 2;
+      }
+      // Signed
+      CONTEXT_LOOKUP[1536 + i] = signed << 3;
+      CONTEXT_LOOKUP[1792 + i] = signed;
+    }
+  }
+
+  private static final int OMIT_LAST_9 = 9;
+  private static final int UPPERCASE_FIRST = 10;
+  private static final int UPPERCASE_ALL = 11;
+  private static final int OMIT_FIRST_1 = 12;
+
+  // the word transforms of appendix B of the RFC
+  private static final String[] TRANSFORM_PREFIXES = {
+      "", "", " ", "", "", "", " ", "s ", "", "",
+      "", "", "", ", ", "", " ", "", "", "e ", "",
+      "", "", "", "", "", "", "", "", "", "",
+      " ", "", ".", " ", "", "", "", "", "", "",
+      "", " the ", "", "", "", "", "", "", "", "",
+      "", "", " ", "", "", "", "", "", "", "",
+      "", "", " the ", "", "", " ", "", ".", "", "",
+      "", " ", ".com/", " the ", "", "", "", ".", "", "",
+      "", " ", "", " ", "", " ", "", "", "", " ",
+      "", " ", "", "", "", "", " ", "", " ", "",
+      "", "", "\u00c2\u00a0", " ", "", "", "", "", "", " ",
+      " ", " ", "", "", "", " ", "", " ", " ", " ",
+      " "};
+
+  private static final int[] TRANSFORM_TYPES = {
+      0, 0, 0, 12, 10, 0, 0, 0, 0, 10, 0, 13, 1, 0, 0, 10, 0, 0, 0, 0,
+      0, 0, 0, 3, 0, 0, 14, 2, 0, 0, 10, 0, 0, 0, 15, 0, 0, 0, 0, 16,
+      17, 0, 4, 0, 11, 0, 0, 0, 7, 1, 0, 0, 0, 0, 20, 18, 6, 0, 10, 8,
+      0, 0, 0, 5, 9, 10, 10, 0, 11, 10, 0, 0, 0, 0, 10, 0, 0, 0, 10, 10,
+      0, 0, 0, 11, 0, 11, 0, 11, 10, 0, 0, 10, 0, 0, 11, 0, 10, 11, 0, 10,
+      0, 11, 0, 0, 10, 11, 0, 11, 10, 10, 11, 11, 11, 11, 11, 11, 11, 11, 10, 11,
+      10};
+
+  private static final String[] TRANSFORM_SUFFIXES = {
+      "", " ", " ", "", " ", " the ", "", " ",
+      " of ", "", " and ", "", "", " ", ", ", " ",
+      " in ", " to ", " ", "\"", ".", "\">", "\n", "",
+      "]", " for ", "", "", " a ", " that ", "", ". ",
+      "", ", ", "", " with ", "'", " from ", " by ", "",
+      "", "", "", ". The ", "", " on ", " as ", " is ",
+      "", "ing ", "\n\t", ":", ". ", "ed ", "", "",
+      "", "(", ", ", "", " at ", "ly ", " of ", "",
+      "", ", ", "\"", "(", " ", "\">", "=\"", ".",
+      "", " of the ", "'", ". This ", ",", " ", "(", ".",
+      " not ", "=\"", "er ", " ", "al ", "", "='", "\"",
+      ". ", "(", "ful ", ". ", "ive ", "less ", "'", "est ",
+      ".", "\">", "='", ",", "ize ", ".", "", ",",
+      "=\"", "=\"", "ous ", ", ", "='", ",", "=\"", ", ",
+      ",", "(", ". ", ".", "='", ". ", "=\"", "='",
+      "='"};
+
+  private final byte[] input;
+  private final int inputStart;
+  private final int inputLimit;
+  private int inputPosition;
+  private long bitBuffer;
+  private int bitCount;
+
+  private final byte[] output;
+  private int outputPosition;
+  private int maxBackwardDistance;
+
+  private final int[] distanceRing = {16, 15, 11, 4};
+  private int distanceRingIndex = 4;
+
+  // block switching state for literals, commands and distances
+  private final int[] numBlockTypes = new int[3];
+  private final int[][] blockTypeTables = new int[3][];
+  private final int[][] blockLengthTables = new int[3][];
+  private final int[] blockLength = new int[3];
+  private final int[] blockType = new int[3];
+  private final int[] previousBlockType = new int[3];
+
+  private BrotliDecoder(byte[] input, int offset, int length, int outputLength) {
+    this.input = input;
+    this.inputStart = offset;
+    this.inputLimit = offset + length;
+    this.inputPosition = offset;
+    this.output = new byte[outputLength];
+  }
+
+  /**
+   * Decompresses a complete Brotli stream.
+   *
+   * @param input the array holding the compressed stream
+   * @param offset the offset of the stream in the array
+   * @param length the length of the stream
+   * @param outputLength the length of the decompressed data
+   * @return the decompressed data
+   * @throws IOException if the stream is malformed or doesn't decompress to
+   *         exactly the length given
+   */
+  static byte[] decompress(byte[] input, int offset, int length, int outputLength)
+      throws IOException {
+    BrotliDecoder decoder = new BrotliDecoder(input, offset, length, outputLength);
+    decoder.decode();
+    return decoder.output;
+  }
+
+  private void decode() throws IOException {
+    this.maxBackwardDistance = (1 << readWindowBits()) - 16;
+    boolean last = false;
+    while (!last) {
+      last = readBits(1) == 1;
+      if (last && readBits(1) == 1) {
+        // empty last meta-block
+        break;
+      }
+      int nibbles = readBits(2);
+      if (nibbles == 3) {
+        skipMetadata();
+        continue;
+      }
+      nibbles += 4;
+      int metaBlockLength = readBits(4 * nibbles) + 1;
+      if (nibbles > 4 && ((metaBlockLength - 1) >> (4 * (nibbles - 1))) == 0) {
+        throw new IOException("Brotli meta-block length has a leading zero nibble.");
+      }
+      if (metaBlockLength > this.output.length - this.outputPosition) {
+        throw new IOException("Brotli stream is longer than expected.");
+      }
+      if (!last && readBits(1) == 1) {
+        alignToByte();
+        for (int i = 0; i < metaBlockLength; i++) {
+          this.output[this.outputPosition++] = (byte) readBits(8);
+        }
+      } else {
+        decodeCompressedMetaBlock(metaBlockLength);
+      }
+      checkInput();
+    }
+    checkInput();
+    if (this.outputPosition != this.output.length) {
+      throw new IOException("Brotli stream is shorter than expected.");
+    }
+  }
+
+  private int readWindowBits() throws IOException {
+    if (readBits(1) == 0) {
+      return 16;
+    }
+    int n = readBits(3);
+    if (n != 0) {
+      return 17 + n;
+    }
+    n = readBits(3);
+    if (n == 1) {
+      throw new IOException("Invalid Brotli window size.");
+    }
+    return n == 0 ? 17 : 8 + n;
+  }
+
+  private void skipMetadata() throws IOException {
+    if (readBits(1) != 0) {
+      throw new IOException("Brotli reserved bit is set.");
+    }
+    int skipBytes = readBits(2);
+    int skipLength = 0;
+    for (int i = 0; i < skipBytes; i++) {
+      int b = readBits(8);
+      if (i > 0 && i + 1 == skipBytes && b == 0) {
+        throw new IOException("Brotli metadata length has a leading zero byte.");
+      }
+      skipLength |= b << (8 * i);
+    }
+    if (skipBytes > 0) {
+      skipLength++;
+    }
+    alignToByte();
+    for (int i = 0; i < skipLength; i++) {
+      readBits(8);
+    }
+  }
+
+  private void decodeCompressedMetaBlock(int metaBlockLength) throws IOException {
+    for (int category = LITERAL; category <= DISTANCE; category++) {
+      int types = readVarLength8() + 1;
+      this.numBlockTypes[category] = types;
+      this.blockType[category] = 0;
+      this.previousBlockType[category] = 1;
+      if (types >= 2) {
+        this.blockTypeTables[category] = readPrefixCode(types + 2);
+        this.blockLengthTables[category] = readPrefixCode(NUM_BLOCK_LENGTH_SYMBOLS);
+        this.blockLength[category] = readBlockLength(this.blockLengthTables[category]);
+      } else {
+        this.blockLength[category] = Integer.MAX_VALUE;
+      }
+    }
+
+    int postfixBits = readBits(2);
+    int numDirect = readBits(4) << postfixBits;
+    int postfixMask = (1 << postfixBits) - 1;
+
+    int[] contextModes = new int[this.numBlockTypes[LITERAL]];
+    for (int i = 0; i < contextModes.length; i++) {
+      contextModes[i] = readBits(2) << 9;
+    }
+    int numLiteralTrees = readVarLength8() + 1;
+    int[] literalContextMap =
+        readContextMap(this.numBlockTypes[LITERAL] << LITERAL_CONTEXT_BITS, numLiteralTrees);
+    int numDistanceTrees = readVarLength8() + 1;
+    int[] distanceContextMap =
+        readContextMap(this.numBlockTypes[DISTANCE] << DISTANCE_CONTEXT_BITS, numDistanceTrees);
+
+    int[][] literalTables = new int[numLiteralTrees][];
+    for (int i = 0; i < numLiteralTrees; i++) {
+      literalTables[i] = readPrefixCode(NUM_LITERAL_SYMBOLS);
+    }
+    int[][] commandTables = new int[this.numBlockTypes[COMMAND]][];
+    for (int i = 0; i < commandTables.length; i++) {
+      commandTables[i] = readPrefixCode(NUM_COMMAND_SYMBOLS);
+    }
+    int[][] distanceTables = new int[numDistanceTrees][];
+    for (int i = 0; i < numDistanceTrees; i++) {
+      distanceTables[i] = readPrefixCode(16 + numDirect + (48 << postfixBits));
+    }
+
+    byte[] out = this.output;
+    int remaining = metaBlockLength;
+    while (remaining > 0) {
+      if (this.blockLength[COMMAND] == 0) {
+        switchBlockType(COMMAND);
+      }
+      this.blockLength[COMMAND]--;
+      int command = readSymbol(commandTables[this.blockType[COMMAND]]);
+      int cell = command >> 6;
+      int insertCode = INSERT_RANGE[cell] + ((command >> 3) & 7);
+      int copyCode = COPY_RANGE[cell] + (command & 7);
+      int insertLength =
+          INSERT_LENGTH_OFFSET[insertCode] + readBits(INSERT_LENGTH_BITS[insertCode]);
+      int copyLength = COPY_LENGTH_OFFSET[copyCode] + readBits(COPY_LENGTH_BITS[copyCode]);
+      if (insertLength > remaining) {
+        throw new IOException("Brotli insert length exceeds the meta-block.");
+      }
+
+      for (int i = 0; i < insertLength; i++) {
+        if (this.blockLength[LITERAL] == 0) {
+          switchBlockType(LITERAL);
+        }
+        this.blockLength[LITERAL]--;
+        int type = this.blockType[LITERAL];
+        int p1 = this.outputPosition > 0 ? out[this.outputPosition - 1] & 0xff : 0;
+        int p2 = this.outputPosition > 1 ? out[this.outputPosition - 2] & 0xff : 0;
+        int mode = contextModes[type];
+        int context = CONTEXT_LOOKUP[mode + p1] | CONTEXT_LOOKUP[mode + 256 + p2];
+        int tree = literalContextMap[(type << LITERAL_CONTEXT_BITS) + context];
+        out[this.outputPosition++] = (byte) readSymbol(literalTables[tree]);
+      }
+      remaining -= insertLength;
+      if (remaining == 0) {
+        // the copy of the last command of a meta-block is unused
+        break;
+      }
+
+      int distanceCode;
+      if (command < 128) {
+        distanceCode = 0;
+      } else {
+        if (this.blockLength[DISTANCE] == 0) {
+          switchBlockType(DISTANCE);
+        }
+        this.blockLength[DISTANCE]--;
+        int context = copyLength > 4 ? 3 : copyLength - 2;
+        int tree =
+            distanceContextMap[(this.blockType[DISTANCE] << DISTANCE_CONTEXT_BITS) + context];
+        distanceCode = readSymbol(distanceTables[tree]);
+      }
+      int distance;
+      if (distanceCode < 16) {
+        distance = this.distanceRing[
+            (this.distanceRingIndex - 1 - DISTANCE_SHORT_INDEX[distanceCode]) & 3]
+            + DISTANCE_SHORT_DELTA[distanceCode];
+        if (distance <= 0) {
+          throw new IOException("Invalid Brotli distance.");
+        }
+      } else if (distanceCode < 16 + numDirect) {
+        distance = distanceCode - 15;
+      } else {
+        int code = distanceCode - numDirect - 16;
+        int extraBits = 1 + (code >> (postfixBits + 1));
+        int offset = ((2 + ((code >> postfixBits) & 1)) << extraBits) - 4;
+        distance = ((offset + readBits(extraBits)) << postfixBits) + (code & postfixMask)
+            + numDirect + 1;
+      }
+
+      int maxDistance = Math.min(this.maxBackwardDistance, this.outputPosition);
+      if (distance > maxDistance) {
+        remaining -= copyDictionaryWord(copyLength, distance - maxDistance - 1, remaining);
+      } else {
+        if (copyLength > remaining) {
+          throw new IOException("Brotli copy length exceeds the meta-block.");
+        }
+        if (distanceCode != 0) {
+          this.distanceRing[this.distanceRingIndex & 3] = distance;
+          this.distanceRingIndex++;
+        }
+        // byte by byte since the source and destination may overlap
+        int from = this.outputPosition - distance;
+        for (int i = 0; i < copyLength; i++) {
+          out[this.outputPosition++] = out[from++];
+        }
+        remaining -= copyLength;
+      }
+    }
+  }
+
+  /**
+   * Copies a transformed word of the static dictionary to the output.
+   *
+   * @return the number of bytes copied
+   */
+  private int copyDictionaryWord(int length, int wordId, int remaining) throws IOException {
+    if (length < BrotliDictionary.MIN_WORD_LENGTH || length > BrotliDictionary.MAX_WORD_LENGTH) {
+      throw new IOException("Invalid Brotli dictionary word length.");
+    }
+    int indexBits = BrotliDictionary.SIZE_BITS_BY_LENGTH[length];
+    int transform = wordId >>> indexBits;
+    if (transform >= TRANSFORM_TYPES.length) {
+      throw new IOException("Invalid Brotli dictionary word transform.");
+    }
+    int wordOffset = BrotliDictionary.OFFSETS_BY_LENGTH[length]
+        + (wordId & ((1 << indexBits) - 1)) * length;
+    String prefix = TRANSFORM_PREFIXES[transform];
+    String suffix = TRANSFORM_SUFFIXES[transform];
+    int type = TRANSFORM_TYPES[transform];
+
+    int skip = type >= OMIT_FIRST_1 ? type - OMIT_FIRST_1 + 1 : 0;
+    skip = Math.min(skip, length);
+    int wordLength = length - skip;
+    if (type <= OMIT_LAST_9) {
+      wordLength = Math.max(0, wordLength - type);
+    }
+
+    // two bytes of slack for an uppercase of a truncated multibyte character
+    byte[] word = new byte[prefix.length() + wordLength + suffix.length() + 2];
+    int size = 0;
+    for (int i = 0; i < prefix.length(); i++) {
+      word[size++] = (byte) prefix.charAt(i);
+    }
+    System.arraycopy(BrotliDictionary.data(), wordOffset + skip, word, size, wordLength);
+    if (type == UPPERCASE_FIRST) {
+      toUpperCase(word, size);
+    } else if (type == UPPERCASE_ALL) {
+      for (int i = 0; i < wordLength; ) {
+        i += toUpperCase(word, size + i);
+      }
+    }
+    size += wordLength;
+    for (int i = 0; i < suffix.length(); i++) {
+      word[size++] = (byte) suffix.charAt(i);
+    }
+
+    if (size > remaining) {
+      throw new IOException("Brotli dictionary word exceeds the meta-block.");
+    }
+    System.arraycopy(word, 0, this.output, this.outputPosition, size);
+    this.outputPosition += size;
+    return size;
+  }
+
+  private static int toUpperCase(byte[] word, int offset) {
+    int c = word[offset] & 0xff;
+    if (c < 0xc0) {
+      if (c >= 'a' && c <= 'z') {
+        word[offset] ^= 32;
+      }
+      return 1;
+    }
+    if (c < 0xe0) {
+      word[offset + 1] ^= 32;
+      return 2;
+    }
+    word[offset + 2] ^= 5;
+    return 3;
+  }
+
+  private void switchBlockType(int category) throws IOException {
+    int symbol = readSymbol(this.blockTypeTables[category]);
+    int type;
+    if (symbol == 0) {
+      type = this.previousBlockType[category];
+    } else if (symbol == 1) {
+      type = this.blockType[category] + 1;
+    } else {
+      type = symbol - 2;
+    }
+    if (type >= this.numBlockTypes[category]) {
+      type -= this.numBlockTypes[category];
+    }
+    this.previousBlockType[category] = this.blockType[category];
+    this.blockType[category] = type;
+    this.blockLength[category] = readBlockLength(this.blockLengthTables[category]);
+  }
+
+  private int readBlockLength(int[] table) throws IOException {
+    int symbol = readSymbol(table);
+    return BLOCK_LENGTH_OFFSET[symbol] + readBits(BLOCK_LENGTH_BITS[symbol]);
+  }
+
+  private int readVarLength8() throws IOException {
+    if (readBits(1) == 0) {
+      return 0;
+    }
+    int n = readBits(3);
+    if (n == 0) {
+      return 1;
+    }
+    return readBits(n) + (1 << n);
+  }
+
+  private int[] readContextMap(int size, int numTrees) throws IOException {
+    int[] map = new int[size];
+    if (numTrees < 2) {
+      return map;
+    }
+    int maxRunLengthPrefix = readBits(1) == 1 ? readBits(4) + 1 : 0;
+    int[] table = readPrefixCode(numTrees + maxRunLengthPrefix);
+    for (int i = 0; i < size; ) {
+      int code = readSymbol(table);
+      if (code == 0) {
+        i++;
+      } else if (code <= maxRunLengthPrefix) {
+        // a run of zeros
+        i += (1 << code) + readBits(code);
+        if (i > size) {
+          throw new IOException("Brotli context map run is too long.");
+        }
+      } else {
+        map[i++] = code - maxRunLengthPrefix;
+      }
+    }
+    if (readBits(1) == 1) {
+      inverseMoveToFront(map);
+    }
+    return map;
+  }
+
+  private static void inverseMoveToFront(int[] values) {
+    int[] mtf = new int[256];
+    for (int i = 0; i < mtf.length; i++) {
+      mtf[i] = i;
+    }
+    for (int i = 0; i < values.length; i++) {
+      int index = values[i];
+      int value = mtf[index];
+      values[i] = value;
+      System.arraycopy(mtf, 0, mtf, 1, index);
+      mtf[0] = value;
+    }
+  }
+
+  /**
+   * Reads a prefix code as per section 3.4 or 3.5 of the RFC and builds the
+   * lookup table used to decode its symbols.
+   */
+  private int[] readPrefixCode(int alphabetSize) throws IOException {
+    int[] codeLengths = new int[alphabetSize];
+    int skip = readBits(2);
+    if (skip == 1) {
+      // simple prefix code
+      int symbolBits = 32 - Integer.numberOfLeadingZeros(alphabetSize - 1);
+      int numSymbols = readBits(2) + 1;
+      int[] symbols = new int[numSymbols];
+      for (int i = 0; i < numSymbols; i++) {
+        symbols[i] = readBits(symbolBits);
+        if (symbols[i] >= alphabetSize) {
+          throw new IOException("Brotli prefix code symbol is out of range.");
+        }
+        for (int j = 0; j < i; j++) {
+          if (symbols[j] == symbols[i]) {
+            throw new IOException("Brotli prefix code symbol is repeated.");
+          }
+        }
+      }
+      switch (numSymbols) {
+        case 1:
+          return singleSymbolTable(symbols[0]);
+        case 2:
+          codeLengths[symbols[0]] = 1;
+          codeLengths[symbols[1]] = 1;
+          break;
+        case 3:
+          codeLengths[symbols[0]] = 1;
+          codeLengths[symbols[1]] = 2;
+          codeLengths[symbols[2]] = 2;
+          break;
+        default:
+          if (readBits(1) == 0) {
+            for (int i = 0; i < 4; i++) {
+              codeLengths[symbols[i]] = 2;
+            }
+          } else {
+            codeLengths[symbols[0]] = 1;
+            codeLengths[symbols[1]] = 2;
+            codeLengths[symbols[2]] = 3;
+            codeLengths[symbols[3]] = 3;
+          }
+          break;
+      }
+      return buildTable(codeLengths);
+    }
+
+    // complex prefix code
+    int[] codeLengthCodeLengths = new int[NUM_CODE_LENGTH_CODES];
+    int space = 32;
+    int numCodes = 0;
+    int lastCode = 0;
+    for (int i = skip; i < NUM_CODE_LENGTH_CODES && space > 0; i++) {
+      if (this.bitCount < 4) {
+        fill();
+      }
+      int bits = (int) this.bitBuffer & 0xf;
+      dropBits(CODE_LENGTH_PREFIX_LENGTH[bits]);
+      int length = CODE_LENGTH_PREFIX_VALUE[bits];
+      codeLengthCodeLengths[CODE_LENGTH_CODE_ORDER[i]] = length;
+      if (length != 0) {
+        space -= 32 >> length;
+        numCodes++;
+        lastCode = CODE_LENGTH_CODE_ORDER[i];
+      }
+    }
+    if (numCodes != 1 && space != 0) {
+      throw new IOException("Brotli code length code is incomplete.");
+    }
+    int[] codeLengthTable = numCodes == 1
+        ? singleSymbolTable(lastCode) : buildTable(codeLengthCodeLengths);
+
+    int symbol = 0;
+    int previousLength = 8;
+    int repeat = 0;
+    int repeatLength = 0;
+    space = 1 << MAX_CODE_LENGTH;
+    while (symbol < alphabetSize && space > 0) {
+      int code = readSymbol(codeLengthTable);
+      if (code < 16) {
+        repeat = 0;
+        codeLengths[symbol++] = code;
+        if (code != 0) {
+          previousLength = code;
+          space -= (1 << MAX_CODE_LENGTH) >> code;
+        }
+      } else {
+        int extraBits = code == 16 ? 2 : 3;
+        int length = code == 16 ? previousLength : 0;
+        if (repeatLength != length) {
+          repeat = 0;
+          repeatLength = length;
+        }
+        int oldRepeat = repeat;
+        if (repeat > 0) {
+          repeat = (repeat - 2) << extraBits;
+        }
+        repeat += readBits(extraBits) + 3;
+        int delta = repeat - oldRepeat;
+        if (symbol + delta > alphabetSize) {
+          throw new IOException("Brotli code length repeat is too long.");
+        }
+        for (int i = 0; i < delta; i++) {
+          codeLengths[symbol++] = length;
+        }
+        if (length != 0) {
+          space -= delta << (MAX_CODE_LENGTH - length);
+        }
+      }
+    }
+    if (space != 0) {
+      throw new IOException("Brotli prefix code is incomplete.");
+    }
+    return buildTable(codeLengths);
+  }
+
+  private static int[] singleSymbolTable(int symbol) {
+    int[] table = new int[1 << ROOT_BITS];
+    for (int i = 0; i < table.length; i++) {
+      table[i] = symbol;
+    }
+    return table;
+  }
+
+  /**
+   * Builds a two level lookup table for the canonical prefix code with the
+   * code lengths given. The root table is indexed by the next 8 bits of the
+   * stream. An entry holds the code length in the high 16 bits and the symbol
+   * in the low 16 bits; a root entry with a length of more than 8 instead
+   * points to a second level table indexed by the following length - 8 bits.
+   */
+  private static int[] buildTable(int[] codeLengths) throws IOException {
+    int[] count = new int[MAX_CODE_LENGTH + 1];
+    for (int length : codeLengths) {
+      count[length]++;
+    }
+    count[0] = 0;
+    int space = 0;
+    int[] nextCode = new int[MAX_CODE_LENGTH + 1];
+    for (int length = 1, code = 0; length <= MAX_CODE_LENGTH; length++) {
+      code = (code + count[length - 1]) << 1;
+      nextCode[length] = code;
+      space += count[length] << (MAX_CODE_LENGTH - length);
+    }
+    if (space != 1 << MAX_CODE_LENGTH) {
+      throw new IOException("Brotli prefix code is incomplete.");
+    }
+
+    int[] codes = new int[codeLengths.length];
+    int[] subTableBits = new int[1 << ROOT_BITS];
+    for (int symbol = 0; symbol < codeLengths.length; symbol++) {
+      int length = codeLengths[symbol];
+      if (length == 0) {
+        continue;
+      }
+      // codes are packed starting from their most significant bit
+      int code = Integer.reverse(nextCode[length]++) >>> (32 - length);
+      codes[symbol] = code;
+      if (length > ROOT_BITS) {
+        int root = code & ((1 << ROOT_BITS) - 1);
+        subTableBits[root] = Math.max(subTableBits[root], length - ROOT_BITS);
+      }
+    }
+
+    int size = 1 << ROOT_BITS;
+    int[] subTableOffset = new int[1 << ROOT_BITS];
+    for (int root = 0; root < subTableBits.length; root++) {
+      if (subTableBits[root] > 0) {
+        subTableOffset[root] = size;
+        size += 1 << subTableBits[root];
+      }
+    }
+    int[] table = new int[size];
+    for (int root = 0; root < subTableBits.length; root++) {
+      if (subTableBits[root] > 0) {
+        table[root] = ((subTableBits[root] + ROOT_BITS) << 16) | subTableOffset[root];
+      }
+    }
+    for (int symbol = 0; symbol < codeLengths.length; symbol++) {
+      int length = codeLengths[symbol];
+      if (length == 0) {
+        continue;
+      }
+      int code = codes[symbol];
+      if (length <= ROOT_BITS) {
+        for (int i = code; i < 1 << ROOT_BITS; i += 1 << length) {
+          table[i] = (length << 16) | symbol;
+        }
+      } else {
+        int root = code & ((1 << ROOT_BITS) - 1);
+        int subLength = length - ROOT_BITS;
+        for (int i = code >>> ROOT_BITS; i < 1 << subTableBits[root]; i += 1 << subLength) {
+          table[subTableOffset[root] + i] = (subLength << 16) | symbol;
+        }
+      }
+    }
+    return table;
+  }
+
+  private int readSymbol(int[] table) {
+    if (this.bitCount < MAX_CODE_LENGTH) {
+      fill();
+    }
+    int entry = table[(int) this.bitBuffer & ((1 << ROOT_BITS) - 1)];
+    int length = entry >>> 16;
+    if (length > ROOT_BITS) {
+      dropBits(ROOT_BITS);
+      entry = table[(entry & 0xffff) + ((int) this.bitBuffer & ((1 << (length - ROOT_BITS)) - 1))];
+      length = entry >>> 16;
+    }
+    dropBits(length);
+    return entry & 0xffff;
+  }
+
+  private int readBits(int n) {
+    if (this.bitCount < n) {
+      fill();
+    }
+    int value = (int) this.bitBuffer & ((1 << n) - 1);
+    dropBits(n);
+    return value;
+  }
+
+  private void dropBits(int n) {
+    this.bitBuffer >>>= n;
+    this.bitCount -= n;
+  }
+
+  /**
+   * Fills the bit buffer. Zeros are read past the end of the input so that a
+   * lookup may look ahead; whether the stream actually overran its input is
+   * checked separately.
+   */
+  private void fill() {
+    while (this.bitCount <= 56) {
+      long b = this.inputPosition < this.inputLimit ? this.input[this.inputPosition] & 0xff : 0;
+      this.inputPosition++;
+      this.bitBuffer |= b << this.bitCount;
+      this.bitCount += 8;
+    }
+  }
+
+  private void alignToByte() throws IOException {
+    if (readBits(this.bitCount & 7) != 0) {
+      throw new IOException("Brotli padding bits are not zero.");
+    }
+  }
+
+  private void checkInput() throws IOException {
+    long consumed = 8L * (this.inputPosition - this.inputStart) - this.bitCount;
+    if (consumed > 8L * (this.inputLimit - this.inputStart)) {
+      throw new IOException("Brotli stream is truncated.");
+    }
+  }
+}
@@ -0,0 +1,1012 @@
+/*
+ * Copyright 2011 Google Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.typography.font.sfntly;
+
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
+
+/**
+ * The static dictionary of RFC 7932, appendix A. The 122,784 bytes of the
+ * dictionary are held deflated and base64 encoded and are only expanded the
+ * first time that a Brotli stream refers to them.
+ */
+final class BrotliDictionary {
+
+  /**
+   * The number of index bits for the words of each length.
+   */
+  static final int[] SIZE_BITS_BY_LENGTH = {
+      0, 0, 0, 0, 10, 10, 11, 11, 10, 10, 10, 10, 10, 9, 9, 8,
+      7, 7, 8, 7, 7, 6, 6, 5, 5};
+
+  /**
+   * The offset of the first word of each length.
+   */
+  static final int[] OFFSETS_BY_LENGTH = {
+      0, 0, 0, 0, 0, 4096, 9216, 21504, 35840, 44032, 53248, 63488, 74752, 87040, 93696, 100864,
+      104704, 106752, 108928, 113536, 115968, 118528, 119872, 121280, 122016};
+
+  static final int MIN_WORD_LENGTH = 4;
+  static final int MAX_WORD_LENGTH = 24;
+
+  private static final int SIZE = 122784;
+
+  private BrotliDictionary() {
+    // prevent instantiation
+  }
+
+  /**
+   * Gets the dictionary data.
+   *
+   * @return the dictionary
+   */
+  static byte[] data() {
+    return Holder.DATA;
+  }
+
+  // initialization on demand so the dictionary is only expanded when used
+  private static final class Holder {
+    static final byte[] DATA = inflate(decodeBase64(DEFLATED));
+  }
+
+  private static byte[] inflate(byte[] deflated) {
+    Inflater inflater = new Inflater();
+    try {
+      inflater.setInput(deflated);
+      byte[] data = new byte[SIZE];
+      int length = 0;
+      while (length < SIZE && !inflater.finished()) {
+        int n = inflater.inflate(data, length, SIZE - length);
+        if (n == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+          break;
+        }
+        length += n;
+      }
+      if (length != SIZE) {
+        throw new IllegalStateException("Brotli dictionary is corrupt.");
+      }
+      return data;
+    } catch (DataFormatException e) {
+      throw new IllegalStateException("Brotli dictionary is corrupt.", e);
+    } finally {
+      inflater.end();
+    }
+  }
+
+  private static byte[] decodeBase64(String[] chunks) {
+    int chars = 0;
+    for (String chunk : chunks) {
+      chars += chunk.length();
+    }
+    byte[] bytes = new byte[chars / 4 * 3];
+    int length = 0;
+    int bits = 0;
+    int bitCount = 0;
+    for (String chunk : chunks) {
+      for (int i = 0; i < chunk.length(); i++) {
+        char c = chunk.charAt(i);
+        int value;
+        if (c >= 'A' && c <= 'Z') {
+          value = c - 'A';
+        } else if (c >= 'a' && c <= 'z') {
+          value = c - 'a' + 26;
+        } else if (c >= '0' && c <= '9') {
+          value = c - '0' + 52;
+        } else if (c == '+') {
+          value = 62;
+        } else if (c == '/') {
+          value = 63;
+        } else {
+          // padding
+          continue;
+        }
+        bits = (bits << 6) | value;
+        bitCount += 6;
+        if (bitCount >= 8) {
+          bitCount -= 8;
+          bytes[length++] = (byte) (bits >> bitCount);
+        }
+      }
+    }
+    byte[] result = new byte[length];
+    System.arraycopy(bytes, 0, result, 0, length);
+    return result;
+  }
+
+  private static final String[] DEFLATED = {
+      "eNo8velyHMe1LvrbiOA7lNpni8Q20QBJTSYGB0dJ3hq4Bcq+2z4ORXZVdncB1VWtyiqATUkR4ICB4ABSnAXOMyUC",
+      "IDhiIIGIwxeg/pH/FOeiuhsR9yHu962EbBkS0J2VlcMavrVyrZWJX9FeNBgGflEHupgUlNvvRp72VKJMORqMwqBm",
+      "/ES7flKLqjrsS00S+P26GGs9GMX9id6X1LSKowEdFyKvFuCXYhRXClHUXw1ULfAHdOCHuqyDajmqaON7uhLFfNYL",
+      "orCUlHVlwNeDRT/0qqqE99ZMMQ2CslZeouOKVm5ZxVoV46iSxKmuqLhfFQKdVqOw7JfKGKcOVOiFetDoAR2GGI+r",
+      "jC5ESbkamSQ12qsoT5fRpqzx3rJKQlXRn/lhfyGISsbfrwtoj/GhXT/690M8E69vdf5UjgJPh54Z9JPyF+gfw/AG",
+      "0YfxS2GCtmU1oEvoy2gduioIqiopD2r8N0hNRYdp0Q8qVRUnfZEfJmXfBL5JSlGEsWpvEPMc1AbfFUwFc1eBiTCc",
+      "KPbdMt5vAmWSRCtMt1Ir4pl+PywN+kGg8fmgir0Cni36sd6DNesPo0GFDvPVsFTB+ieYbBApr4S1NzoohlGiK6lb",
+      "LmquRViLI7ffd6MwCl0dYJ/K2BPP194n2J84DXQZ66b61D4/LEZukBYCNWgCbUxZBUXDPURf+6NQb+ro+A/8x7jY",
+      "oL2go1i5uhCk2P80HtS6v4i/yyCaEtYJm4j9xtjLOsSa9PfralJVBp361TiKKp/s/fwz0Eu4t1YFPaJTPNOvdbUY",
+      "qBLopx+r4xUxnwTjjbHnCWi2L61UE6yWh/4wBnwPCgYtYvS1fqwV1iEpYl9UmkSgjTjvgoZU0A+6rg5gTTz0XwGt",
+      "Y0eTJI3DQoQf0Ak4IYgjo9M42GCw8HEUaDwKUkwMlht7q7GPgZfvq5bAGpUBFdfwTAJaDg0Ixouj6t9A025UrW3K",
+      "d+S62lWPSbAQAXbDx8uwPlXwWb7kF7EGiWvMX0qxquEN4bulpDPGfmCMSYB5GuWjO+XhHQ72L+iLyiFopL8axZib",
+      "SdZ/va3NA112tRd6qlEUFzhvrOHX+d78IOimAn7dXN3X+Sn2MlZh/yD6HlQhaCggMXn/7PhXZ1WlwSDW26Sx/l8b",
+      "1v9xUPlJBXsD2jOlSJsSeAJbU6piLO+0tTkB6CcN/QT7xn76QYeVQciPfZUgZ8jTmOLmjuo+LB3GPoj5RkExCtGn",
+      "HxhVxLfoWVWNCzkQo+9iEA0WVKFmqio04Iv3MN4P8APWMaD9BHwXDPr9PmRCYhIQTuxj+qX2ADw4qFV/gr3YDZkD",
+      "vseahAZ72I/trsVpaPrSoAZJ1r8J/ZUiFZQgAgzep72S9r3unNGJeR/f5fvMX97DmP2is8FEEfYRcgJ0mKQFvV+T",
+      "GkKMQ3ug6QTcHGHrQF5xZdNH1X0uZEAZ617AOPaDlgciLLIytRg8C5oMqhijj/VyQf9b8K4+7H2iSqbgJwa0FYD5",
+      "kn4IsBC024UFLmHR/tr75RdemtS+oHxRga5FKdY9wRL5YZ/av9+lbKppU/RNeXBwMB/7Bn0WTDXWA5swD/ytN2Ni",
+      "28GPHsaxpaNjYwF7DirA2OIQssQrRPvyReXHAcaD9WLfcV+KOWu37Bc3vFMFnekBP/hfG3KgibgS4FkP9FCFfN7Y",
+      "0dHBWXqxGiynYIpqlBTT0CuAj8qxLkKyBP26ZhL0UQa9g/ch13WwCcRoUj/Bo8FXvb05inzsSe3jXXtzWDOtfNAc",
+      "h+R7BkvbGaqBWgkMkfhV88c///nPGAdko1cDv5vWTueHarn6F8juAHwdDELB7C9vzf6zfV2LA+EEeRXkW1q2fYh+",
+      "qqkpQ5MkWJpOFzTwn+1d7WVouA+xRpAxSQwZ5rz7rgNtEmA/oV1AVRhExYeM6verCfYfOgr6IdAl0EwVm/Ee1nRd",
+      "y7oWl/QNmZDHYLoKcY8Gg1aw16XUh5wOsFEGrwaTKEqkqNLuV0rv/vGjzUEKXYt+sZSdIKpaCfRWTiqUEoEXp6Xd",
+      "X+3aFUI+hVjDv4BYA1Ih1n6AOgC8hfVzQP9xrINaATrIgFa8tF+HyihXVfUgaKOUBsW9m7dsLYPWQPdJCTIFwh+6",
+      "L40hr2qbMP/161s7WztzPRUDoeWDf/zYM5AvBQ3OgRzfu+mjrdh6QwbA/IMPsIhF0MP/HbpoClHNQIbk0UVuz5e9",
+      "ewsYTz/2rrXzhx+gvGpYN2/D1//V+m2qPOxNvQ0Ktw3/g9Cv4pl1wB3J3k1/3jrgu5B+Xs3ThaQHE4MsC0LNcUaD",
+      "ezd9sNWDbNMDKti76cOtAdYfdAtyVEEV/BNGAwr8YEo61M7/HTpjoiJkU0Unvshx01XeAtmYxkXggCp0SVcS90Dn",
+      "+q3fv7MB/9UYV7MAeoJ8iTs6WjsrftDvtLX1+HEUAud4HnhrEPtkIj+opolp7zPtwAa1vZs3b/20d/sXezd3bFWe",
+      "qmCt8K7NPX0Qgus3OuuhYpO9mzdtdTAf6FmIel9VIFu62qs9JkqDzz79Yhf4EXglxhq8t7WrvKnnI6wtREDXn0Gn",
+      "ezve21oB1tr63gf/AA1oP3TL/wPMBfLimFfWt7aCrmPsSUlDp4K0QuCe0Nu65cN/fBMVv1n/r9ZO0NZGtG0kkIk1",
+      "4oZoMCiAF7a+/8E//qoG1Ba8r+X7H1r+Y8eW/9i65b1/9Olicdf/s+dTyNLygA91B9I2wBfoY/XblDoU/AD6ga5K",
+      "sHb5AujQA72WgUUgL4CRwmTrlg/+8cnevXvaNndsKkbQ1Ohj1xc7nX0QOFvff+8f27/c+T8e+uhs+aFF7/PR/v1/",
+      "QL8Z0E6y/ofWTmCRBKzeqYDmfvihq/2f/r/yn0H/9Ff+z6NBvCcBzSnPM5AWAdhxX2fLH36AyIpC7GUeiqGj4/1W",
+      "rEWtD6LegKjAsZCzURFr0eps7ugAjYOHsRiAf8Cp4Im45mJfkxooSwNT+FGYhzJzoedKeC90Yv59rNOecn4n5AGg",
+      "nuCrEHzdD1qBplEh9OE+0IkLum/xoHPdwK+2Qvh8iOewDh07/7bTfPivnq4EfEkE7P/pT62D2DeAjKgK5RFVE6j8",
+      "QO/e9t8GdBK2bf5gb0B5Dlr/+qvPnEIaAJdH/Z0/rGv5ZNe2neC5VlUoQF6rcMOmP38EfFamUOhq90FbkCUpcTRw",
+      "gl/V37e1vNPRsbk1BND/56Z/df7zX50tn0UlB3olWdfyhz9AX5agUysFyKfW79a1dJAmsA/90db/D3INa92zzmxt",
+      "b3fwIKQi8W1pQ+t3LWjqQG+ux/SqXqqg/1SS/+uej1uxsd+mUYL/toDHISF/WAdSeA8/7+PnA/x8iJ+P8PPnzR3y",
+      "zyb8bMbPFvyg3Wa024x2m9FuM9ptRrstaLcF7bag3Ra024J2W9BuC9ptYX/4bBO+24Q2m9C2A8904NkOfNeBNh1o",
+      "24Fn0AEWAz9oh3+B0PDzEX4+xM8H+HkfP+/hZwt+NuNnE37Q7iO0+wjtPkK7j9DuI7T7CO0+QruP0O4jtPsI7T5E",
+      "uw/R7kO0+xDtPkS7D9HuQ7T7EO0+RLsP0e4DtPsA7T5Auw/Q7gO0+wDtPkC7D9DuA7T7AO3eR7v30e59tHsf7d5H",
+      "u/fR7n20ex/t3ke79zHjDs76vU1b/gy1hMnjf8CsUeXVdVgTiSboqgLHJJEXlYHLXQgs9Wo2KvgQ0K+mlDKvpgZ8",
+      "D3rDEHFFkEsRLRL8rlzsref3RbDdIuDUELqYFgWkKTg2KEXfpq/uE9WG6BM6AlAAnAMdVFB9fB/JOVKlVFVTQMww",
+      "AksCe0OGBalPVQcjpxbBnlAQjnHVx/sLeGfABkHk+RH4Iua4/NfPXz98/RI/S69f/Dr0+uGvQ78e+vWgfPb09TI+",
+      "XcJfc2j1Er8/kb+WXj/Dd0v4ZO7X4deX0fYp/pn99Sh6OPr6x1+P/noA3z7C74/w38vs4/Xs66v49yJ6wlOvr72+",
+      "hc+fvr6EtgfR7op8+gL9P3x9Hj9n8HP510P4fBbve/r6At7/9PX865f47AX+uYHnDr1+9vbA2/E3N9+OvB1+cxc/",
+      "828PvT2Mv8fezL6ZwTd38f2Rt6Nvx94efjuMn0P4hL+Pvrn35jF+P/zmNp4dlT7G3x7EM6P47Bf0dI+/Sdtx/H4Y",
+      "bfnfQ2+eSK/DaD/8duTNz/hsHG1G3kzJE8P45gne/gTY3STYeB0FsKYTmOWwg7E7QHW0+gk5CsSHMb811P607AF/",
+      "QEOwLXy36MNyJqiMqzRzoaKB8mBtAZHBTIdIiD3gP6MBatMqPQaG7gIDcqQRB3N/EL/QZIutAAYwpOUOO7sKiQ7s",
+      "g/fqOIZhHEL3qkKUJvQLAFgmAa3BQMz+BDYJpBmMUKDDuCTuBSO2OamHsNmFWeqmxoXRE9PoCwo0YwjRYIMIlSl6",
+      "JWC3K9o7Fby75lOz0ltgAL9D2qHsHq8H2oCeARwCPoCSfxeAsRPzgIkdxa6uUkHTkIZGK/mhKuIJ6FI/AZZMNb0Z",
+      "+AK4BqpT70siQFciZPSMT/FsmADEG1NI/SAR0xdKQAN9pV4NzOjRvA49Q1MT/8XSlWEK0+ViwJpQa1DHaAzoQ1eA",
+      "Rz9FiFUb0EC5plz098G8xoDCCOgvpucF2BQ4CzpSBTEM7JgWrfk2hX7GklR1Oa2oEFqargtf/AvQztD2XgEc6cK0",
+      "cSlasOLA6OUAdlEoxs8gRI2mQ8fQm2I8dg0REesCpg9rPk3KMJPwLF5nsNhJeZDuGU7aA+m5xGIJlzOtJLAnKFTi",
+      "hM6U2g5Ihn5acDF9S9hQWKqBqmkij7jGd9RSMdO5TC4WNsHmxQ5ALemqmlZpHhtVrQa1T7m/BeCqUlqFcKSfhNSE",
+      "XrCmhua4wQbFEFDYWgrCfrpaaKYRcAMamBSPVZU8i+5JWyG9LiGJhr4j7e0lsXLg5mNyAERbCHxAb06EhS0q0C/9",
+      "SjWVggi5WwbTDzR9Fe2coEdvlvEAd2uwygIaSyrpS2G+JmX6KGBXmpCDLtBN4Eb0J9AZxwlqekSMW3P5b4BjOlgM",
+      "JWv/ILcZeE6HVV+7hPV+UMRENc1Kch70vF+ByapIHT6MQMIeNAcp02WnST1gv9QtF7jOcVQDKjL9GpsHFIP5kSzA",
+      "YA5XAmA9KcuOEl3VomIRJOFGVc3FhIkFFgd64E5brxzEQkx/CPRHnMREUwq2OKYahdhQETIwMQh3eykyPiPVgVar",
+      "tch1YWrqYrIVuN2UQcUJ1wAmJRmHfjeTxoA7Rb6SBIyN5lqlSdSJ3Ul0nvZXhUwCY08F/0PKMXgZpgp0iyUexKd4",
+      "L83eEFLQp3PCLX/F/uiKhISM3TLBj6anz9DNaLwoLcCSqoVuAm6iFR4NYi91sUY2gPUCs5h2KShhABsK3qW30uwg",
+      "X/ZSchF41/rE0wg7KgDOc3UHLfBeis0q+DOg3wUglxJBJDUMeApz6wQ19PQYuuSMonMCm2c0kSvleCiDxgZUsYT4",
+      "M6GL1dDHxm9rZDDY5Nh8Q18vBXdM7g5LMKC39HDLSgTd7ZUU8peb7O0hc6Jd6CURpA9ghO9toAO0QI8IPX7spQgj",
+      "zSd5B4F4fGvFNf8ajCa0ddrbYYIpjwZaqVZNdlHK01rt3EVipS8459K6g3QME3HlwrzI9ZCJgfjVAJ0YsIT9/dqU",
+      "ADwSDPe9njiiYxjf1tjBRtEdhDSeG1N3+CUY0YOQ0J4CAWNBjO6hR0aH33zd++4ft/y5k1h33zckaigCDC3sA+X3",
+      "qX15RavBgGXKdL059B0TvEOehtCmoRrI9dAJEIrXi95EkAVWA/I+inupe4gysYMQCvQTmz5VFfEQwOz2QXPglFhR",
+      "5WAem3sUbDhgLzAjuChWubb29r/TBWrohzJ0HJs9ZGLMMilT54V0TvzFYAAJmJckCPBFCZfQ/VrEzmiossFcD9Yf",
+      "jB2nlLFQ9H+jPt9NyZAPdcItaYH5XHO+a6FHkh5zQ7cWSQWr7YEGvuViJ7H4DAtRTMc/ZAeGC2FLv0hCqtR+vJkm",
+      "lfiz6dMzO8jY4G5IOEp0nhMYOpToCMVa0+ddIbtQq1Ge+kbc215K0az3KVOMwe10j2z8/nsxVKo5jBWbR7dELqJ7",
+      "oasQt/cUMa/Y0Cfn6WpSduwJANjUpZTnaYM4LzshY0oh3VRmkKPiaDshXLpzdF9DZWFGn2PmTj6f72oHdA1LBU6a",
+      "hyAOPYedPFYAecdxDdICxK6L1BUl/Q3PQfIV0gZgiMK32K4qT1DkoKCrPYl76P4xHLyjQCEUQDR1A4iwfeASOg3K",
+      "PKUxVLgufc2OgRA3gGqhuIaNswGUSie69w0xBF2fRrA7SahfTmKEGcnnHp0AnYNUJ5ib0RtaO3POdsIjPJru66M7",
+      "vgqZGNDJ09Pa6Rc3tFHIegrAEfDK6N2EVpg9z132abOXqhJKgpPRlZ6CinM9eRO73QklAwRYd84lOiyD1mqb3xPR",
+      "l6RVH3RZIw6rgukxCZCG+KoNZUceAl3z+EAH9A+adteYdp5AdPKIAgIlLRYLPjqlZ9/Q/dfRD05TsGPXtdCrD0yj",
+      "U93tfPdD50fiBeSRyne0fxUPm1zO1wdZlXm85cTkZ4JUQ89yrqbKUdRKZ/k2IlCeVhkw4qYe2EBpiQ5msdK7abOY",
+      "H1qxgnR0dlYpVehSNDxfMB37Pujo4KlBTvy4BaqORGHBKj5EGdFbAAbraqdzGTOCcGrj5pGk8phHyx8qZBIH9v6f",
+      "d2/77672OCrpuEi3/g7yzGY6THnIY+hJ6gJjJgl98WYzxwIIFva3Ot9/7wT0DPI0J/hjB0SaA3JyeG7nDXLFKeA6",
+      "+9TW//eg8UHVXfTcx4AONR57wH4j/MWCVRPqme2Una3OO92OR8xKrwddLRWoo35dq8C8DHiilqcb26kSO4Onwxo9",
+      "iYYIJ7eJyzFIQE4PVqV377av9pK2HB84NtzowJanO6GFADc/4AMMiCsV8iUEX0LL8ACM0DoKq+Rf8kxL1AbcwlMJ",
+      "OWox1JQOnW8hvS7fKS8q6PXcTN/r3tRBhdDJ4zonvzlf8XmIlqPbG1AD27ODmKsAcag3c6TY5NY/8Zfv6cQG/0ET",
+      "l8nimzZ35ByqWIi+nnUtVBDdng8QQI7HF1hwys6WPxaLRTARIAsRXo7wAcoaj7XS+7xJeAE4qxpahzPsIW7FIR5V",
+      "uFzEHCctp0OmDbzW5tHQank3SDrpeTVb3/voH108u22LUzAaT54cKkig9X4xFaqm28nlOqEMoI+4apt4IgHxr0K6",
+      "0SNKw+6o+z8273YojWCaF3SXXyk5+Mn1bHSKfYa/OTmu3+d7o+p2ntjlQj0Y1HZiT/rd/Vqwsh8QK5NJ3u8pqm9z",
+      "PfvLbW64qQO72bYp19pJFN7N00LotzSoUZYYOpM6sXpd79BjETg89ICyWye77/TRliDHO9ytPDh3XcsgcQnPPkxK",
+      "cePxqKMApulPyFvgo5zDM1rgZwyNThDw97eg0TSq+CaCLQIZ6mk526FnxFRTGqCvZiM6TV5dT3xIXKCARNEnIjCe",
+      "p5OgzBRyhn6UmENT6KwCkQq4WoHKitS36aspelWMefU4iFQt9VRR8/iB3hAAo4R2ZoRRJZGhh8UIBfOMNlL0dgRp",
+      "iUdktYhHk9YBghUhAgBdGPpUOT6FAb2aMhyLAkBLPXHa0HqPgHx1SLwIu8kjwxLs6fjVdcAiztj1477IiNtGxURW",
+      "gBZpNSrTjSpkgLdBZwCaR1DvyoQ8xic005yqAgdqHq354geCKHF9VQS05PGRD7iHha1CUkSFFNMkuo4VSCzgn4oo",
+      "Eign3o9+CzTiMASQAV706nEl4iSjPv4JXPNqocwmXIMa4L+rKmkfMDLQUFxMqUjwoqgE+0D5JeDiAa4LHVgAfFh8",
+      "7iWWt4L3gLagr7F3dFmFYQQBBgDlYszgHrpgDRbHp1OqDE0WmwigFyuFVQUzvnocQnLtj+hYEN+UGeCYVTWqYaQh",
+      "QRYYjp9FLtg5luMj2EgYC4WIy8fo1jL0koQkmvDVddp8vthAsJ1ARq4MV9GWDEgbmDvsAAwDqwF0rQmTdRWaGGqR",
+      "3eBpxkLQLQZ0Sy8aaKgU0PPGV2MhKgoimdaxXcDQB1V/a99hFI0gNyrTqTfgqz4IXyDoV/epc0jyMWxi0E2fAnmD",
+      "nmF+qYAaWQeaZjDQnJI9BFiNTJDyuB6bjK4CrhueoIUd008ohMQwBpcHnQN4OUYFIvGiAWAmQ7efUZVCxENbj+18",
+      "RWwrvKBMCqsdALkPqwvZTyMO0/NdhcV4NdUX8VXYMqWFpygKwAZ+bFIdcASRKYrHhh5GbrdMkOsIy53+KO6qgkUW",
+      "EZYp0m5C3RBon+EXhSigCxOrBiIE+OKAXh2QfXMZB4MnYGuAGNgjB3SdO40OeC5F1yclyH1SJ5mdfIKZUCkpAmb8",
+      "5oq9lYDh0RUlC2ithnXDJgUVoMuIAFKcqTQrgFB8TIvTh+wCZWMSEPiUJcDzVXHGisGmRKgZn8e43DLaGwDmEDz4",
+      "WNN900fkqBVdsuZd2qqdXkQtjY6h8Al6UutUAw0ZOudqhsMXdVHgoUwca4HhLk+v0yoNX5AeDFvKnrQCtYWnQpi6",
+      "lDyENaBAWAbVtAB9iacYLwM8ZUjnFbBgrBgkROeYAZ/GLiYUyyFrLB4nWBVaoIRmKI5bFvcE9odOx1iXMCo/YZwL",
+      "2BaWEscJ3o2CtBLS0oohFmlxi8OwR/v0XABIl5JyEfINZmdMFzgWDrgOVAxZSy7GBLR4x9JKBStAyzzm6mqvap1N",
+      "+2CeeVXIOrcmKiChlU8WBYS30gR6F5IE1hywRMkT41IcXUachEBSPnZ6UMz1qgYxajJeqQYJmRLr0pFQBHPHjDNC",
+      "D65QUlQsAgaDDTFAOhChYtNChW4I+gLFyWrSKqN/gNECmEt0E3ni4AU8K/OkOpX+y6DUQRANZio+W/NloU+7ibgF",
+      "jfX2gqwhW9xyLHFbFYwQBE+fXVloLKSyxTgxR4h7kBrnCn77NlV05CWUOXSwGToguYOchcS08KAK44dZSSsbaxXx",
+      "cBkWFPrB0n9GmYPpJHRKYW0ptitE8BqyWTNqSHtJVCoFWtzQoGueHpNufdeFIgUVEVdVatRkgypJYI3I4XVSFCd3",
+      "WbAlo5tyPYxp0x7ovZgGwsk1sVXFY8J9By2AtlwMh9KpZP2QRu9zGYZCD0CJ+4rxlGUxilDzibjErYfbYL8wNigH",
+      "6CfGeUTxAClTfyUrRjYHgZEpCS6oh13MxDB6AIBbNiPnEPzRKaOTknh4yFMkINAk0FmRIKEGERpURNDQW+zCTCa3",
+      "+qHE2ylSyw5x3kWyy+LPhVTxvEDv4gkkxeEgHZgl5dYqwuPY7LRUZmyXFrCt6YMv+SHHraCZfL4LCsElFocAkbMC",
+      "T/xkhPaMfVEcfyTnqUI/NTERGQ4BNefS3oQcAL+XPU1JHQstgWOJAVKIi6TCWMGaL55J4TUtrnvzhcgWL6V8sN5E",
+      "OTswjPrSHiGFdSzBFPIDcC5Wr0RvO893C8I7dOUxGgusYz4W2UWfLC0jelZdWauCeFmBYmNVBR1g96wvDMKDdA5I",
+      "l9QwC9JeFZZj0mYHUaW8rTDkp0SPIxR8CnEMWc/4FoAf9N3rxn41wRjonCeR0qqByPN8ciodYSR7zrFNvAhYR6wD",
+      "qBACQQkN8CRFe3SuaG+HrCEWmA60Mp0VKmB8IeMJcw7sG8gNrgls9+/otcEAi/6+SI4LPhE6zzM8ZoML4UEKIL4A",
+      "XMPkAwXUVf5KJGEiM+I5Bvk8gQzyhP63C6fD+kiTmriGKd9KUdIrEkxR0gOpCUVDKnG0ViOIRZxwB2PNbz4XCS9a",
+      "CLRN93yv6AIR84Yj0N67YcFUO+nUN1oMcYeqOvS66LZ1eD7uy3lNdw7MCmwh0X3ASgMSPUFraKuzt6wdjx61kpxL",
+      "me27Pv70C+dzsAT1Mh31rtgDZZHMSkyKT+UtFDyJ2VXBZutekaXgd3CDh7/dxB4LgHfA6b3CF/mWli9DcepojyZL",
+      "rmcPcLhfFWeWKUtkAnYNPXwpUiKWtRciNqH4E3tF2niaThu6b4Oas0HnS/mCLjPuIiKdYCIgHJ4DaIkCxA9PncS1",
+      "mxjCQpmVb+zxk7eFBv73hHSeorfVrfEECEpOYl9h0O9nlB6lvdBPT0HXIP3axP9P6VRNRBt6xDOh3h1FdAgoRn+K",
+      "Q6TlG4rsnHhgRQ4bk3PaYcPlxRqLJDJVKCH+ch+j0Tg+bDCkmT8gnBsWJcpqp3XH0h7NqWqV2gzMk+uRw0XDGNd+",
+      "wwhgMcFcemyhbTBnjFZvg1IHSuSyEQRjP/eIhu0qxBjLIJVLLKd04pfR3vff0y3E+ed6fKvFwGOqRs7P9TDWCPJE",
+      "h7A/IddSyhCAuFDc/GYTPYPfi/rhGuIjOU3J0XODt5OIOjkTJbpMBZvkjIGfgMhjHpQUsRzJVnE8OHLild8mWkAO",
+      "loyxx32UG94n1rlPf2D89d7dbR/l5OjR2S5aIO/8HeiGB4V+JP5i4LeQsUEx0GbS99+pRKqQPsXXAgQFAZ8ABYEP",
+      "YNmUuONkTXpJnO98EysstKoJenHxSnoNcz1lkRhcDB7mkb/lCMnIeWqnLIMnztcuWArC3dzDtjZGtkJC+UkNk2G0",
+      "CJ5XqXjDnE1ymhEVEvqnidOMElfXRufT0KWjRHs14SAHOgT6RQ6O85To2pMTodo3JNb8bkF0dFxr73PRmIHRjl/c",
+      "I5gNe92va62dEksrpnVJsJkcL5udgoF/YJDud2AfNN+OPrvai0LhcrKZLwoeljMK0yWeXh7cOB1VfFZRIDoMS0zg",
+      "GGYAbDfBJ56cxxlGzfjh++KMolMInEU7IMwTEG1QAyoRGwCr941MSSjBCG8qOSneWBTtJuhLYtFpAWOYG4Q74l7B",
+      "gaRd9uzVcj0t/0lht7fMbYbmwUz7CGlqjGXvaudRb7EGHIsufNgzcU2OcLt3iBQVR5yj5ITlG4FxPIZVHuXSAHSx",
+      "i7WV85aWXrEOnJ10BrsEJrGc/BvxaHvb6L52GMEb1Lx/ny/nepgDwHFS4MlpuqHZnBqJR6CT8p//6pQ4hHwphfET",
+      "Ax8w0pUj3MrTWe19SXDh8Fgj50DKpTyRwSbDROBhmJw1Y5UAU4rALtBoO6wlBoMZUlSOhHtF+7S0/B1SOVEgm1ii",
+      "A7biQUZXx0QniaxertX5k5OTHe8ppOQIOcc1n4uOpsYhkqwKBKRM5jFVrmdAwg7EBo7lLBMaCmCFlmBC11oi2B6b",
+      "B80UqoGefoY/G8qNXI8cTZtuOR+WA2GnLL11WIZvafk0dBwJk9gDO7Xfb5NFxDsgB7eLxpezQadNaGmzyBzmSOR6",
+      "OsTl+qVIuTYRTxXSFQiDdMt4RqdD2NGR4Agj1kGrFuuP6NuPGRuXcxxrJEjPbcL80F+79lW3ypEqcyb8kEY7ECMD",
+      "OYyca6yTo2+n5Q/kwR4Gh/0Bn3s9LfJtS0GVGTcUc5NKjLQFT5Zg0VZljiau4t8SMTO2MjdVPzfamB5aeXm6MX9g",
+      "9ZczK8vX6wdm8Hk2+bI+dmpl8cHK3NDK3M/Z8INsYq4xfb1xcqQ5vZBdnswmZlYWb9cvHc/Gr9fPP1s9/wTNVhYW",
+      "VhbuZqcPNEd/zp7Prrw4sDL3U/3q7calo9nz2ysvLzUPnGk8Xqw/ul6/dKTx8lTjl4v1I0P4vTlzGN3yvcuHOKRf",
+      "rjXO3KuPPV+9c271+lM+ODRcH0fLmdXz06s3LjQm57LhxytzR5svX9ZPXmo8ubHychmPNF9iVM+yS/caC8src4to",
+      "2Xx6uH7uYvPuyOqNU9nklezW8frje9nIMb598VL9zLPm+YlsZDibnq+fuNc8fjKbO5hdWqg/G8M6NO4vYF7ZxKls",
+      "7tDK4tDK/Fh2+2U2cbRx5mr9yWI2udQ4MspvZ89mdw7Wr1yqHzlax7PnHq6eX6xfGsIv9XPz2YuJ7Nj5lYUH9YmT",
+      "K0uTHPbCifrkk+zWT83li1g0LEhj8Wrj6u3VA6frc3P1sYlsfjk7NZ4NP1tZPIf+m9fvZdNHsuF7jQeyHS9+yk5d",
+      "aC5PNq8faxycz0YXG0fG6pcPNc48zaZOrsyda5w91pxeak5fz4aPN5/M189ebB58lI1fy4Zvc9jj99AtdjY7O4Kd",
+      "yo7/lE3faJx4iEVbmRuvP32Ouay8PJs9f9RYnGjg2XtDzZk7jcWRxq2l7NhC4+Ji9vJs/dID7N3qpaHmnQMri8/r",
+      "117Uz8zUjx0A2axeHF49vVQ/cRu/Z9PPssUFDKYOApg4unphuDmzWH98Nls6uvLyeOPlNF5Rf3pidehI/eh9rEb9",
+      "2vPs5ensyPFsbKQxu1g/8SPmmE1eW5kDXd2qXziNVc1Onli9+nhlHjM93jz0cnUIyziKZqC0xt1TIBJQJj7HS7Nb",
+      "o9nJMRBPdusuRoLxY+ka18407j9bmTuN9ljS1UP3Vq/PNyan8fbV0WPN5Qv1CzPZi6Hs7tH6oeFs5ClWtXn4FGiS",
+      "dHX6QOPIsWxuOhu/j0+yY+dIXQsn2f/UHfx/Zf5adulhdnmo/nSieXesPn4WDUD5jXtHsVD12YP1oROgIvBLNnQx",
+      "G7+KcYJK8RUGgFmjcXN6Jrt6AkQIysFCcU9fztaPTjYPXMhuPqxfOLGyuMjdOXA7W3heP/uwfny6sXSC3Dr7svny",
+      "zsri0cbi8ZWXI5gFV+zpAdAqWBJcBm7lXGYu1y8sNW4tkJAWJrPjZ7ERYFtQFNa8fuUkxz+5VD8/DFLEyLPh55gX",
+      "OgGVZmPnwTXYx2zuHCgtmxlpXDsAtiLdnribjT3js8cWsqsLIA+sLUaF9iCq1dHjnCOod+FYdu5S/cENUC+oEV1h",
+      "kckFC5PNoUPNmbOgdpLi1fnm9BQGTII8s5wtXKqPYbsXGidmshuHVu9crM/NZCePcRnvzYIS8NTqEETNUDb9E/du",
+      "4hQ3/fSB+rXRbHREXneiefdmNvIYI8TCikw7iv6zifHmk5tY0vrYOUgYMAJkzsriTXBc4+4MFiS7DW5dwDpzpmeG",
+      "sjPT2SiG8bBxZxESJls4A5mDZUF7UCOG1HhxrrkEwXIV3Ae515y5QSrF1l8C/z6mcLhyOFsaA+/Xf5yqn1lqLB5u",
+      "LI5ijo2pc43JJ+AakEQ2Plm/fBt0Vb94cPXcaQrPsYeNQ1Or5++hk9Uz06BerPPq5SvZ3Fzz6GxzZqpxcSlbuJPN",
+      "HatfmiQ93H5cnznTXDrU4BhGmncPc2XIidMk+PP36odBnwcaj5ayl/fr5yHGKZ1Wf7lAaXMPgmt+9fIN7OPq6Kns",
+      "1mHIfIiX1YsnQYqQeKunn4HdyCmY1NjIysIvjSP3yRqLE82Tt+vPIWGucYTTz7CzjbvHQXIih59jUmS68evUJqfG",
+      "m9MPIUmofRaPNp/cWx2daJx5TlJ8OZudPp69OEsVMH4bLTFm7sXyL6tDV7Mf72FVufUPf4Ikx0QaZx43Z0il9WvX",
+      "sSPNmdvZiZFs4lE28TO4oLl8BmK/+WRqZf5hdvJ44+5DESYjoCgy4MwT8hTE8sKZbOq+yM/T1C/3jmYLE6CT5tiD",
+      "+qVD2enr7I2b+CybPrSyfLk+fqs5BJlzZmVxPLt1v/Hz+WziJkRrfehAY/wZ/31kPhv7pTl9C6/LlodXry9C5kMj",
+      "ZA8n+NKxU9kQqZTf/vwj9G92bLh+9MHqwZuQD3gvJSHk58gwxdFJTG2enA7+vTuCma5evAHGpN5cHsVQG2dmoVNI",
+      "qJCcowuyzsfxVX3qJqQ6Jli/cLV+dnhl4Sjoh/r32ijmSPk/fr25dBqciDeC/LDjjetD0BcUZQsjZJnFhcYU6Pk0",
+      "tBsV0MlDkLckKiiXsR+zmXm8t3kE/D5DjTxyjPwLWXHpauOnw3z2l6ONqSONhbsQ5tkViKaJ1Z+PZdNXyONjzzB9",
+      "DBVQAeNpTC0Jvx/NTlzNxibr569RTUADAhIMHSWuAHePjdaPjWbHz5MLzk+tTo5kkzdEJwpzQa1PXqtP3WoM3wWV",
+      "1p/PZpceY44kOejT51eEzq+CyDEe6JHmMub1AgqCzE55eBqcK3qEuoZqZeYwVFvz7pFs6Tw55fgJqrOFqWz6GIin",
+      "fvgqv5o+0rw5jAbg0NWD09QREIMLd1ZvXiUKuviycfhZ8+UDopTx2+xt+iGRDGT7dbz3GBifu/bwFMXIaUiwS83b",
+      "y+BEbOLq8I/Zwnk8Dn23snih/mAJEgDqnlILuzx9jAKWyOQcNB006eqNkWzmBVEW5ntsERQCucH/L05kw3Nc1clr",
+      "2fzjbAJccBhcmd24Aj6tXz4JdESyvHFlZf4o3tU8QE1aPzuGHSdtzz8BMIOyI8WCIMG2M0eAN6C2Vpan62fms4mD",
+      "K3Mn6kdOZ8cfgkMhjSnlbjxs3j1IcDJ1gWDs0VLj9pXmieeyUPcx2cbi3cbi1MrLa8AhlP/QifeuAylBlBFvQAbe",
+      "uro6Ody8eKJ+Gurs0urNE8AY5Menz6HlSZ8vTwPVNK5OEbJevo6Vrz9abJw731w+SYSzcBezgLqHxMOyNMeAYMdA",
+      "mcSfk1eBEMhWZydWgaBI24fxCqLHh4cotB+PEjECwY7faz65CgWRjYBP0dUywCeot37uJeHNxPnm9D0sDnkWCHni",
+      "+OqdMaKsFwsUv0N3m8cOZWB5IOSjF1denFo9/wjrCSKklrl0vHl3iIJ94iAeAbNASJIHsb/Ll5szwFFLK/N3wODc",
+      "iKdHoRkbd4ncwOBcHCiy6Z+aB683blPv1M9NAYkBXVAHYYXHr4B3sJvArqujo5zXydtQXkQj2LvJabLb2Cw0b/3U",
+      "YaKLS0eof2+NNm++JKqBIL20gKWD1sumzoO8sdGQnxTyI2DYU0RNl2+QI4AeKQ+vQLCwt4dPQGCgXuGmcWCY5sMb",
+      "+H/94jS4iVJlDmQzvvLiGqXB2C/1qWP1yUf1o7dFj0wSNg8fJwdN/EyNef4ZFfHj0ea98ebSEvgLnMIdnL5BGDl0",
+      "AL0BeONdMBlolTx5AundePYIuJTIHxpq9GewD5gd74KWAdQBua5evs/9WqCGpRwG3b6AAroJ/Z6NXVu9eIuLPzbX",
+      "HD+IhQJuwY7UH1yvn52Dys4enqImHfsROA2asX5ERgV+PHmCCHD4nrz3KWTLysvHUDqNqTNQDUQay5dXf7oEoYcX",
+      "1W8OgcawF9g76AJMs/7oR240ZPXcXOPMT83RxxzPyRFiQiA96EpAmluAxM/w0uaV49n8XOPOBDE/UNbLG1RkoyPA",
+      "upQngKywccYe1ocu1w+BCE9QjxyfABdAE2FqxM+3X4I7aMIcOwJRSVKEBJuHuXSJBPbiF9AMtpvGyxFIj8MgRWx3",
+      "/fIyaBUgDSILjEZz6cJpzI6QbxycMkkRDZvi+CgWnGp64Q7368h98tTZJwCiGN7q0DVKTtLY+dWr9yFPmk/m2A8m",
+      "iK2cnFs9f4nSGNrh5Sw1HawqyHPgmel5rjCWa1yspMvXIQ9pKgI9TnNrQPACcp5ls8NgHEjO5vIVMCkUUHYcduIS",
+      "HqRp8Pxudvs2RAStGGg9GLCXb1uTFjQM2iPNQJlC6UDaj1/h4oOp74xBo2GDwF+rZy5iozmFk2PAexDp2dALEBgn",
+      "O3mqcfkm9DJEE62whZ+hnlYvUJ1Roh5Zrh8dhphdPbssHLdAFAGLCVoYtsniE3AZhHN9fil7fiebeAzuXll8CRKC",
+      "pgCLwaqC9oeso1EG2jhzNTsF8+omuAnwlTY46OcFqGK+eeQRSA7zwr7TVAQ3QWLAwD8M+jlOUT98l9sHTQrBuHyS",
+      "ZAOhtHy++fgmMdszAPLR7NJVQuWnF+uzV2HZUQGduEfoC6MP4788RX165C6tM5Dl0DVIG4IWtJlfFltyoT4x0Vx+",
+      "mE1cgJVEll+8Sn4/Irxw8X5zZokQ6xglNnEjLDi89MQiddCR47DKaR3MPwEV1S8fxNhAAytzL0G9VN8Xod1G6pd+",
+      "5hwhb2mkwM69CQlDLHRkLLt8vrnwC3YB880WRjBs4HYSnvAL7fFLV5uz8vkh2AKXCHcPTjemZwEtaKfPHoQSzCbO",
+      "QZZSG8JQnZzDyoO1iYrHRlZ/vAq7Bn82rk8TV0NWLx2lZXR5CFZD/QoshYvNGSCiaaKg6cvNJ5chUQlabp7A3Osn",
+      "xFqHhTXzYzZ9DTwCsUO4df9s85dzjXNL+AqGCSUDRgLB+8tFatLDy41fbtdnJkSkTGW3LEeP4BNqn1v3609ug62I",
+      "JCceNg7cBEUBo2LK9J/M/Qx9lE1foDsCJgOQ/+Qc1fTYhcbZ24S+eGoJZt0YjaOlZQLpySlQIO3QseVs9mj92gTF",
+      "EYxErDbIZvRJ4+cDpKgDpwWIPhB3ymkwRf36TVLs+GMIk2ziTnbrHPl3+BDwPE0AAoYLwGzZ5KRo5+vNn4HST6z+",
+      "dLJx9wDWist19zBUZ/3ZWPPJfDY8Cy7Lli8AONFJBSN07g73/eRxTLZx8QV9Iy+GYElRjVKznxdNQUqDxIBNQctR",
+      "LDj8jt5grYiJehU6moCfaJM+KKIUIIHLV6GqsNfgAsqxYfoosDhURi8uNO4OYRkB/LAmEKGrB8brY49IRRM36dtZ",
+      "uJU9nCXqWL4M81wsCDDyQbyasoWYii6ybHaWJAd1efgquLU+PU6Kun6lfvJS9vBoNgtleoIG2tjz5pMbtJVuPly9",
+      "CthGdxA+IZy7/BPlxvwjmEWYHUUcMNXkOC3oi6fwySr4/dgwpLr40J7REnw6SQgHQ+DopAicYxgMZdqFmcalF43L",
+      "2AtAlCfZPSiISSJJrM/xX+g6eHGhfugayDK7OUphODzbPDJDJ9jwMF00D+5gx1cvAic/w1yIXoBAJmZgk+J10JL0",
+      "PMBygXVJG2SJHoMbL9DPyovzAL318xP0g8FaxKZg47DRU+hwBpSzOnSQAvbEVew1QBfFIDo5NwpaArRuLC5DyjXu",
+      "EQU1FsewYjQ6jtyHHUcfy8lLjaMAgZPY8ZW52xR6D+eay5eykYuc8qUjsGQbv2Cdj8B+ac5eB5lhoTjy2y8bi5fx",
+      "YXb8AA3b5UPN5UlMCoYA9BGdTi8uZOPLbInBP7jZfDqRzcNCOUNnJnACmOvkKdEODymogbuml4AVIXP4lqeHgWDJ",
+      "NdeerP400bg8ROl06y6dgRdm6jNnSSEXFyirj50jl00fI+Ngs66egPCk+QPxC6V/5DTkbePMDfo37hwUD9U9Wn/L",
+      "lxuAWJPXGk+uUT4AWwJ7H7xHXDS5RG/k4UlRPeCRm1BbAplo41ODTx+pn/ixDuA3e2R19JhIuUmYbzRs7y+s3jkH",
+      "8EyL49zh1fuzRNdzR9GG6zAC6578AjN8Zf7I6oXH2fAR7D79US8OrixMZyMABkcbJ+5Txy3dwr4TQz48BaUMOqE9",
+      "fm+WWnv4ObptnFkEaCF6eUyjFeqeWBRA+tBL0DYdd9cfUEfDsrh0tD43XL/9U/3klcaDU/QSXzuwukhUBsoh2c9e",
+      "bR6dwHYTnc4tNqavr154Vp9+2ry3mI2MN5YXmzOnIITBONmBn4iIXrxYmT9Bo296hlv2/Hbj6FB9+OjKPADnXOPE",
+      "DJn6KsTRItd8+SnRyBU6e4HiuJKwlI8tYzpuyjAOHQ74jOvzYt+TEMnYD33XjxJfV6pRNYq/TbWbMlCFJ55eJAGz",
+      "oQRsGtY7iJUEzoZhVCnEWuJnw6qOmYSlGL8qIaXG9VNPeXLOHqk0RJ/Sj/HkE4maj6uxxnuNLr1aCCWO1AxEjOWQ",
+      "wFLDdJJQlVWBucslOUhjSK6R0EIOm9Eo36Z+1QY+GomtNSoopaFyozjWkU3uZEivH6s49guMPkRvZRm55gE4DzI4",
+      "TlUp+GsRiYw7Zai5YaDfq6lQK8btuNoG4UrsqITmFhRDcGOJhcV4UsbpSWxPVGHAZjDAaEB+jvnKKhkJwDUSpBtK",
+      "VQAlkbyG51CMZuYpu6eZzx0VecYmkZ5G4mEiZk74SoIzOUesmBtVqjZzWxuJ9uGuxXiBL+GZPL+1kZCxxH8aj/E3",
+      "mGPs+qoaeRgEs7WTyPM5UPxeCCSomFECmGvA+h1+5Ma+8bGbzEPCTqXsAb/rIikEqxJjZSW9SmsGRkUSQC0Ryp6S",
+      "HlRU5OphBdBUt/HgnCujjJyVG4lVixizZPtnNChWKpK4QSNR1waT9Rlly5wRCaM2sdr/6jHeWfA505QxblGgvSjR",
+      "IfYXk321YCQ6j9GyfqgY14TxcmWUy7CmyH113fP3S9wnY//wlGR7Ke7+flK4H0TYRY6ZJB+/ur/PxztePa7q/aQq",
+      "Tw28mvJ0pAd4dllVzAKuaIaQM5SVaUBMlyi+uu76gasKeEgigiV81UOfeDrqU1XMQoJhTUEoRCKnjYTRxhItHBZl",
+      "tbHX3HGG+hpJ1+VMMfeCHxRURI4A4ZArDWOYlMQ3etHrJ68Xf534dVSy5BdeP8TPHLPefz0unzz69YDkyj/G78u/",
+      "DuHzg9Lm6a9H8HNI8up/kk9m8dtzyalftJn2r3+UZ5clC3+KvUmPL34dxacvmK2Pvxf5b2bx49klyep/jNZr378+",
+      "w7G9vsr38jv0Jxn8kmH/4vWC9PdY+n/E3mVsL15ff33v9Un89yGevWtnIc8+km/xJMZ9Q8b8RD7jW1/IfGXW+PZH",
+      "+QRv+XVYZs2+WWOALZ/gn5fo+Uf7xrWxMdf/x99HiGcPrPXANkPocfbfFQPm8MRLWdMr8g/XekTe/lDa2DoGrCyw",
+      "JJUDltAzx2nrFyz9egC9Pfnt1tnfbo/+dmv+t9tj8vvQb7fm5JOzv91akk+O/nbrzG+3Hv5262f59z35dkIa4P/L",
+      "v92akqdG+SA/QZtb8tS8/HtEHpyXNjP8hf9eYhs2vo3f+xR5Wlpe4v/51PBvtx78duuO/H7+t1tj8tWS/D4hnUzL",
+      "G+/9duvpWp8c1e3f/413XZCRXPq9nyF5nfTD359Ky3vyyb3f+0T7IzKL6d9XYFpaYgyP5JM56W1anrojn5yWp0bk",
+      "wwfSYEo+eSDd/sQH+dU9aXNe1nZIeht6M//28Nsjb27z329H3zx8c/fNjTfTb2bfzL+ZwT93f/8cP0+lrsPC2/E3",
+      "s1LJYYT1GdCeNRhG0H72zTO0O/z20NtR/H0Xn469HX57UOo8zEslh7vyOVuwYsPP6Pkgqzug36k399ET3vv2AD57",
+      "jt7u4e2z0vI2R4XfhtHiLlrOcLRSW2JcKknMv3mGb8ffHsDvU29+kbdybKPo9ybf+ObB2kxG8ftj1qLAeEbezMiY",
+      "Hsu7ZjE7zpRVJR6ylgRa3pTaFMPo0Y74Z5kJRoCnWKPiKZ56gp8pfDIm1SpYDeOujJZP8D2znNfvz2KEN9H3GOZ5",
+      "F0/fXPt8hG+TsXAmY/jnIMeLliNvprna8tvP0ucw3nj3zXWZ3bi0Yeun3BtZn9m3B1kdg6vENZZ9mZFx3JT2WGfs",
+      "3c9cXTwxgs8eoI9hGcPP3JM3D/DbfazSCFqO463DaM9ZLLx5hE9GMIfH3HEZz2Gp0sEVtqM7iPW5J/O+yxVGTzeF",
+      "Rli14zr3RMYxvLZ3h1jRA9+S5n7GNxzVvX+v+mNZmUPyrnmhihmMD+OSt3Id5qW3Uel/lDMH3cy+ec4xSGyY5AYx",
+      "RpKxp2mQlBnkGhRtBLbAOgY8pVWJRpQwJY+VNaS6g0SqFZUp+1HYZWPsJeQkrgHuSE6vRNMzXZ+622YCmDgNQ8l+",
+      "jvg4qxEwkldik5ldwzzOQR1I0UXgMzfQaSilF0LNrPZ+ohsV1rwa1KpNyzcS0Deg3Br6ZLR5r50Ry9GgU8+X3IhY",
+      "S3ZyLPPFGwosP1H2pWiEzQMwa+HKfAvDXXXMeFdGyLD4QJmR0YGNu88rT3IepbKH9ga1RDsLtnSZVO2lLsvc8C+A",
+      "GYZ8Mp3NVaFNnvBMKtMV0MzcIrfMtIU0ljoWzDJhwZECwEVNopSldKdivqcUbouZmIDvKopp7tqGJRpZAgKCkFgB",
+      "gygxzg8gRyc1m48ha81UMonJ9xJAnxLTFBhpaxiWyXi4QHJ3CdZCQneGKNcI4jFcpowzzEmCvphSV5XUhICxTDaX",
+      "ZGMfOsMjeLtsJ+uuoW/7pd7H4FmzlltRYLymq3dxpqa8w9JZUo4ZcrVHwqUdYERb9oGh8YkakOg7GgiYu6QblXQv",
+      "SIGV7ohn45qnXUY2MVmVySO+4f6x7geWmMUT/IR1Nhm8WJKEuoD0wZQBLS2NDXSS+hisUSH5rizeCHhtsxyMTcow",
+      "Nj6bRbu4ZiQw7ABjgH3JDiFpeH6JyLzqu1yebbbmSoXGBldeMeg3sDtt02SsRaQCEC4p0mZPtNuweCNxnQCNWuLG",
+      "GCnL+aUmcQraZnaYv1lqTZlsENQ0k8485kgwYI0B/sJjA34ESImFxOccpSQdCM13tadBz7oWBr2yqEAgdUkkns8P",
+      "GcHH0E2m8pW0slNhATSAeonA115V0gzC1L5/p527qySt+++W1RhJmzIpB2zkgsrBI9rbxvIhTMmgfQPSKHGrHBvn",
+      "ZoN6GcdHatiWMussKelE5i6pLYZDwV977Ba7SvjXJsgwz0CSXYjqXc38AW6wrLUh1cEy6d4kb/rECgGn2wn1oLPD",
+      "7oNNbfJ6SSEq+MLKHsoQX0o4kEnA1+SHHcxuK0k9ogILMjJk0xS05JJILLj2duo0MUzpCUnzEr8f2zo7LCaTDOq1",
+      "5P6gZuz8QFKcdK9lX8iXKslzX9kv+AkTft9pa9thhYfUwGFC9QD3IUolCnQt72UtOWaDFVrVlDagFjndnbMh9w4D",
+      "zqUwh1DIp2JLck9ABcwiApvVbGKLadvEmoItkogQV3ZYYcXitKHNCiKBVZlaU2KBFIZJWsEpMfza+5jUH0IKMwvI",
+      "Y2htXOnxYbmknh4sa0tSzATxeu2OuSphoP42qwNsTpEt8ARuCH0+L9JG15jngpXfwezAUlRmyRFV+9hyODOGQLQb",
+      "rQgSkgIpatalLpEZB0i7hoGJknsFwqcACmr5lhYmC+C1DojMA+2AA7ZDMmBzd1DqQkliiR2Wm/TRSn8aSy3qnCMZ",
+      "2DaNw9C+9aUoM7MVPrMivZxKwqMfOmwFSaD82OzACjKdmRmGKijENjzblzyrQFqXtrIOb3fOZk84a0lKjPTHmoGZ",
+      "K37KLJB+zHZbhWVI1S5PcuP/Zef+udXaTEtxkkgiO7tzVKaB3seoaVJBIpkHBUbODmip+KXjNpt+Z9PpDGsy4HGW",
+      "98Xcd4MZitE+KjcGJkNX0WgWYQWVtc+vpJWyFXKQK74X1CCfK1KFFFQCBY9xsuy3xHsbqW2FqWAE2uZWp6z2GiqT",
+      "1ECeeKvTa3FIzAzFVFOWRJXaVxZWYM1EN1ImU8ChZ7xPCXnn7RJss6hkl0eN7BhdIhd/FUGUJ45N5zB7lOtb0czc",
+      "gLTqDEr5Ioa7bh3UDst+bxMtuZalYb6x2XosuYRJK1cEBCsoY9+l6Ib2tjoSyptYMFSg1jVJATtR9BPGRWOAvVbA",
+      "szIp1gwSGB2aSiTyhXXy8B/fOCxozrnHRounBFvB+tTdOVF1IGhWFhpgzD9TEbgPUrm0ormi+/D+is0HjrVNDNqq",
+      "xa3mYZEc1gVieLYCD4tKHlQ1LrmzLWUeq80yMzss+LJZZUaKwEGPs2iakdQQDEIqYKxrqbKmNTR6LKmRLuuNVxPB",
+      "bgwkjiVZzQZt2zROFgJjipyzfj0ZDwKEc4cyDSSHFcIcMsSqeQuwtAJZgimZVi3igslqpjUvST6Sceyu5SFBk4hr",
+      "x/rCPBvU79gcnFiKrjFOn7WK9C4J8ocwFm2/lmS5w0I/X3xmQQhZTuiQyjZ+Y1MimNJBOmNAdK6HQjwgLJTOqAjw",
+      "XRsgZ/9aGpn2/pqyPDL1UVUqxEELV8zeMlSccSrRfqIbbqMvZVmY1qgtM0PAU9xtFYraWGb5Le19GdQqABrfWCFp",
+      "E1mNFKfCxACpQt9dy6K06YyMzwdSFB9uIsJDdsTmx0qRsaBWsomwUiIL9GeL1FDxsRurFC3l51mVouxXWbDHZ2qt",
+      "iC7JziFMYUEiL01kq5gdymxECxkT+b4kvBYwGYE5hNstngf65Xt/cKQwzx4LJ6EiKa1Ysh4kthuEAUFv0xONZNJp",
+      "bxd5hxqnSG3PVFwAHt5XAGnTq2UubXaVdlsozTyyqMgiJiwfJKWLqK5D5lyyXNaGjtZ2lpLuk+raFBfWjOhNdLWs",
+      "QyYQ6NCJCmJUSHmmdS2fS+aZwxXDUHOOFL2xKcsGemU3iLyl5XOwkWNzs4zE8mMfrNQr+gLJWCQDQ6PDVMobMusC",
+      "FoqsEgsmuT6MEYB0Y/osLX2sWSzA2c4iOWnFlibqSQZ9QWYREzNqrO7O8nMKuDzWjk2jYA0Z2mPlmE5EMi3ZUXKy",
+      "BFxClLJq8boWZ4c17kDr4EmW9DcYIN/uKCNv98E+klrYRbbo6WLlewAJQQ7rWmy+nrFj0XZBthLMohfXIuNNNv1A",
+      "you1OMbuWMHWzLIJp86glrS8jg5brw30DiIEDKUEk8ofEJ4+VbhT8HmtQo3XWzgsaupwA1kcHX+9GyuohE5e18DK",
+      "26y8FpY2WOLdiX8BVTF5j/TpMzWEpYD4hm1WlPwNsAz25wCIkV+mFDLGZQlCFYhqdbr/boWHVAmDiHVEndpkFa9L",
+      "SWIvE5GwmM42yN/YFx1X1jt/N1cTKBKP6S4DnBHTljsLioLFsDA3RwYJSKMYIgNrSh3uKNqUtD6BR9nZX5mSCMgh",
+      "mSaS8EY1YdM0bBqIs1tyXRyiGbJvrUpyk9KHLm3Fii91EUPHL1qjKbEJYR4JCK9tt1KgYLNt2sRu2cqKnGL3My07",
+      "L/lTuR6MDG9NYIMEWqw90rzk/OA7LHLqJ7vlsgGPeU/kC+oBZaQ+Xq4Hs+Q62zRZAEjeGNDDazGcgtwygk1Vjkit",
+      "Cg3UuNYumVP5ooUAHvYE6ozFaaDZXIvZpeSB2DK0vvxEtH2Yikj6q9RQd0RUmoTQD38WpfgkZQG4kmW9WHvTChRn",
+      "sBxxuCTSlEU0pDCFAcjHeGXpWDJT8t1tQrfplZoFDsv4czejCreTSAlERf2HF9mkxa5CjZvpfGEh6h7r7LApryyn",
+      "SfZg4hJ0eS/YA/1JTbegtoeaCRIycniCRcsmpZVMo9TYKgnMGaZ2MpKVbHiFCpaJ9YRoZSnJa6LFDqFjkwg3tNlE",
+      "LDEjcj20ehK/2mtNZ1vpwOxN434MQgqn6jgvJTQ3CC5oaSlYGpTSdbyGg3maa5Ufur9iXYzYk2zyoFblPSi+mMX+",
+      "7ylELZLqtPWPaSAMJIdmRi5SEAkGU8CV8vACHbSbrvlDjBRTxcR2WieXXdaWrY5UApS6bzzGSiEcKmJQYavonsL4",
+      "9kl1O0lvXddiqxzk/7KvEjgDcq+N2GqsAMc6Atwk3qmANhr4uK2tpzUPjo032Iw9w8tV8ADrQOF/Ylbv139jGigI",
+      "RdJEQeOx251r32N9SB6zy+lJEsyXWCC4R0ppOLy1xvHDv7JyW1neTIBpbbUuyUbvUY7AYN7bEK6XK0Xijc4u6+Ep",
+      "wrYjKiPDRPEnKc2h2jY/tjUOZCogG1oun0uZlcDm+pk9a46ljUBVnuPYvME19w9L1EomfREs3WJLYJiP5SYdZ5u1",
+      "c/hsRYmes5UxABBrLHEnOkBEM9sbSi8gXt+wdhwsc9bJj5iEBhycxDtstZLPUwNkYv5uzSsYVBXBpuK9o7bGen4q",
+      "eaIbpXZmUGunnfuNAsvInQJSi2DDtlTKLJJFQW7Wu7Xx01A4DpCYO/aJdnhJj00FN9vkMLbW8oc/sOLYThiVGkLI",
+      "2mqSDJfrYWo3WEZwz369DXZfWVU22NIR31kGqqbSdauosQ0267Fl57a92/7p/CdxInCF2EU0KhKMXhLX6YVjdcWa",
+      "843U+1svYgayTFI5jV/cQNjwaSLDfZeX0HQ6uR6pQ8sbbkAvX1ofp7ZAl1fiiOxh7mZYEvTjRKGU+xVYUay5lHzk",
+      "KuuXSqDzB0Na1az5GQ6QPIVRwxI3DN/xChCQcM6BRdyd85iyHVXtGxLMgRRgM2QNjH+OgtUpwc0qcGm8t3aKpLDJ",
+      "ggoYgnJ+QNS/+A6hXrdZ7ytr8+o0VtaHJEfaYJUgICYaXJuYqBkjzr9iTQSRVF8p+mRtDNpNdlqsSJMVy9Mie+rY",
+      "giuSj4lePpOSB852atioSG0o7sWQF8dQDYJS+umk7E8kOXm9TYzMObaUTfeglabU8l/5pc4WmR/LYXCG27BRGx03",
+      "TqV+Desa5Hrox0S/UnDTsJgdjWwaBunvhqaxWcEO2JAuCsGK3U7LOil6mURSZOAra7HvsX7h3RZr7KGjgKV5pHTF",
+      "3/yYpLVWkGGHdWvtsWjU5sJ3VgkVWOtC0eX5mVirjq1jYraFAExhzep35yvr2tllrXJrfhjXUjk2HZRioRgdKGL1",
+      "tNlCNF9YPCi5oACZv1eHUCwnZEtyGN6yRHAixYKMSL5CjfpW6nbH/egT9AmCrAF80hXI79C5svKMF0Zh41paeqEo",
+      "nfVSBXm9rbph+nWNBcNF9wcBU9TRUirWtnbSO6kHHVutx5Fa2RCmscMEZiml0Lk22k7xvUIfSZ63sQmwDr0ROij2",
+      "Wq/Kbi1J2wOihLXUQzJlemChlhL6l4BkXamZQHXusEoUtafZmfZTKtoyQRvFIPaTQSvyeAsRNkA5kmKc25orJ0mV",
+      "bwYn2qoTLVJ2KKjZWjSxaw0HMjp7F1wX9trjBPo78aKA5ZyTWtHaFhTyADXa2lUmpaNJ94oV6ZQtXX8lJU5CqR9g",
+      "km0B3SlKlI14PWheCfbN9eQFhnpeJDiraBeE9VfRhv4QlZR3Wo23w7qObc0b02qVDYawBtN4IxxRghVd9Ml9ag3N",
+      "ol9MNC/BcXgZW15Kd+blWoLQK9py8rDVWEoIPBVIvnYJ8tvtdj7Hy/NiZEP6WWRctQVAlCN1rVl/DUvACvYUAuL/",
+      "cgpitsS82cyh9Uw177BWgsPgFsH6sVQlWStyxAoKiWinROoBB1HqFWO6WtDZ5+Ks2MTDLvp7YEFC6W237mGi/kge",
+      "YIjRgOVbqRAP8Cw17DxeswKRYWs6OFJoRHufWb/3J1IQypEbn2q8OAh/1cTbBGkqBTMkaogQg5Xocz1GRlDiVT+g",
+      "we2Sld3KqnXY7NjWXvoYyphnZ9gAB5omZe01z9YjMCwO7IBYrEuPZTa5xdSNWAkldo6lSCkAgEehubzITWUhy6yt",
+      "L8X0WZmmmFoPlGOLXvTsZrk3U6O2FzjVh830vrbHHhyuuBQiHvLYM0VHnAGuTgVcOJ9be9rm87doGhNhUtDiW4Ms",
+      "2MH6aP4+EhG1fcV3/9gh/yPhxfRLeYCmji005oi2BWIBscgKAps63VJfmOdArNph9lhQynsMiCMTeW8xFef0gNy5",
+      "VLK1mKADxMZnbBQsWanirdfqvBjymKaXTjSKuNFc8gercNjSZ228JYb+AhWSWWxmPZbSIRprzUNrbmgVp1FrpxQO",
+      "toxHrW2lDU9TqY5in3X5bMkjw/Kr+LGeWfC6Q2G3Q9C2sdWnnO2pGJprNYz2WqsA7Cv0XdWsWlGKPFal26tKpM9t",
+      "wlRbqbYgWL6SCi2gdIZgyQ2UEEi29MG7n7EgUBAOaocsscOex/01hVQ3FWuv0LVCXSUnEw4kvuFYIOJowEnV8PUb",
+      "hfhgTUVsHbSIhmQ5WtYnobVBq3ANJkBVEIba8la2apjZzhoPsdT/4QE4+R6i2dIgL890WH4+ht6Od1s3Ux9Pr2F9",
+      "ii7P5615TGgSstyNw6tTbGki1sMB34fyn8TGJOYcOb6JHdYIpgTF68JIbigTqoMMqVVAgWIQ8HYLHXfYshCEB0C/",
+      "Fo/n2v/T6XrnnzvESHO6I3GOOLRdwUdytZvnWPRLs8X8W70YxxoXEIZ4YFAOB11jq5/x2kqWTuGNkBSAmD+Xbs1H",
+      "KtLNcWypuB/Ea7fBFhIss9haIdo3aFWdnZjHWm37wWOOF8E0ia1zPO+Igh4czOewnwUxiEtS8T3aynXDWucdcZxZ",
+      "d5H5/vvvfugc9AUCREVTC+3y8JzUSE1STQ8niZ1VV/bGKhVB6hhbwM4aKl1gp15ApW3WC27N3Ly1BpMd1hoUgsw5",
+      "f/cDgI+KSWHFFnjnWIrdKvhSWzcvVwJssMUQHVt30EidmKgYsiaaCnbYk2zWsguU3FWABZHbAIJam3XxtNkii13t",
+      "gd/T0pJ3xL0IxiMVQ/zS0b9rzScudb6cAV+JrVZltcoApEfPXpwGgp5jcca5lhsJClivLw0oCMtk+qjfVk/c2G2J",
+      "aMNa4TTxswIBS5F31mrG8n0ulUuc/+I9q15trRoUi/ezM/Gle9vlilcj1fu72gnqiG1sPUcCeEjhsl8h1dCMKGAb",
+      "xY7Ls84/S4PD3uS1jpxWEpm8vefRE+dDlcXSkpqlr62+EHTtM3vSqxxhhU90XBAejf1+ULKth5hfK/coxf/Wjr6r",
+      "vAQS7CSetNix8tOhjxMmHdAF73ikUxRMEltMJGfjjsNTjwrvLvVjkbTQcX7yXxb5AwtHoR/Zeo3OWnnANT1hSxLS",
+      "NUpvaK6VF6ltEGdAwMNtShRbVW1t0Bv32KgBLCPvGHToE+/OOVaf+aE4A7rsMYatbPO3nq7/3Q6RSBcQT6QtWDcs",
+      "yBoD3ooSljtWlHmn21mPv+kOlWtr4wQrYWvBbN0WqwKQHKUw5u5adxGri3G2cgrYZisGbgQpUW+w+jK+o8oEq+0I",
+      "uHIhS6nRGVcSfWudt1IVn2Jm7SzSajxMnbW4d1gL0xavMj3WbJWVoNcP2LMQ2JJ6jkRWYCpiFeSrZmvO+Ytjb45J",
+      "QE486mLJdmyqrbdopMg+RsY7ROjG8Eg3hBWCEtB5d46KyJ5JMc5juyrAngnt+diamBF3A89gEzmC22YEvtpKdIbc",
+      "58dkXfoJaXaDfj5hxeEo3LzmuXRdogtbJNRhOX4enVqY1iq36G2oUpqhe+uTBZv9NQ1qWMY/OTkiXB5w0u0KtEan",
+      "E+hRLGG6+hy57XT9n9ZDHVpE7NgaalQ2HI6ts2d4uTJ3hWfeaq0QqNNlSYpgSw4h2XIDS7aBEUguMDHAtLwSOu/I",
+      "uZpcYCIlOvF7rd3yb6EkyAeKgRv+qb3zQi4bAfSz8GBzdZ+zpbqvT24zycutSI6yFVTzMFSIWCw9t3WLT66T9EnV",
+      "JAVj87ZPR1Sk021rt26krcOb6WxhQFtgik4yBiDxOkxHGVuz1JMCgrGtzd/iUAlHUmWViLpo6YX6MaTH16Hbg0tO",
+      "dWXPDwctrBgsixeWZ13g4kLcw/s+rS/HsSfE3aKkgCBS2vbaN+I/U7JFzjav4sfi7t2nvU5b/db53MYo7SFdb3Qo",
+      "SWI/IpbiEWIsChb8ztKJ3Tm59oSFoOxhMNGvkpmIkBX0K8JYbj1wsFgVIn/ei+Wwphl4Mk0M5JIp1tBtUYoIAr9A",
+      "9kRipNlCaUaIL6TDDOxfIWziwYovINHzxam9m4ezMF7FM7fBFs+kP7KKbmych0NioFKgNcEjV547G3ctzIDFrH4v",
+      "JtdGQw1bBSsZurlma0+adqtGd8QRBqwcW++RVzBwYomYgyIgsA9aNF3rd4wdg4wTgBVYU4+XVUGj7Zb/5SxP5+SK",
+      "B+UwySOqGSIph3fF8BKN0B4GxxUrwdKCXMEQa4llIxQDRVqY1iPBj5iYlht2v7BHBn5oywFHshh/Z0nW9eYLe6wq",
+      "RSZVKMcJtANEO0JmEbTZcr01Iiu5Hlc0nq3L+R1hPysBSg1V8KBEhuSt79+RSmEb5N6mXE/KGvq5HqeXDmU6LQZE",
+      "BUD7QltBf2L/CH1Z8BjCBpO2p3KOY48j6DIBWW3I7fzy8x2RDTgUPmdchJg5zn/ZsA1bU5CHyBJPFFH9DloI3Wlh",
+      "WuKtCWqRIWEFBhV9HszqIR4Wz5elnvWiRaHBpb6vt50hXLBvo8SWCpNaYdYu3lwSX0x1hw0hya/VobZlXyVYocwD",
+      "WJ47MuiQss6VXkS38aTCsSFcjB0wNBXKUsyQ8VmcAGSDjYXrLlg/Hw0paMzubodulS5Lri1SbpRnWXJUK8y4Vnw0",
+      "Lxg9CqnYoT7z1ofIMyxaNqDfYhTbArGOrVWIacs9Y5GVkbboX55yUEhMIrR2WG+9sZWAOWjMhkQKjibKwo5acc+9",
+      "IwmTTnzMyJ7/YWFZlJG0C/gnJQwZeiIwzR5bfVOw8AA4mFc9fGrBui0BvlE5cobDx7EUX0j9P0duANExb31n2Wx2",
+      "rX6vizsYid98gy1ibFGFiBrMtc0y4B6peylLK7Ai5lZZK+kbW/96o8RZSNipH3kb6XO357fWryaBg3K4vhbjydqV",
+      "BK61bTYQJZFzw1q/xRqigte1kJuwK4qhV1EYpixaGuywAY7i7GdCkVBrFAuQoNcGi4rmG/GhG8t9ZbZEXpuNazZf",
+      "ujwq42UNNNIsBzj0fOGBndbroOnUI2IxZZ6r8Z62gCd3gXUz4c9uP5GYFQZYDVBO2NBSUShrxQ2NJboWa6TlfZqO",
+      "0IPW9LJ68xvl8NIxgKF+lry3oVAbiagxsW8sgcplYbx/hCuw0UbbQcHKwhSE8SpyhxzUp9SBd+wZn0M+EzVhiI1t",
+      "DWXH0pkRNBHXbJF049hDoj02fglChltnY8i9otx6yIN1coccw/sho/QAVKig6TGzLnFeZ8TFYolfWD72YFpigoJA",
+      "bthzlC3e6diK33l2TQ32mRJcwSPhNPkECwgqEOu6UOPxmrV6eBrm+VI4uiBhTDUxfQJl9ZiRWpeJIY+VSB70voax",
+      "Lqbm97rSTvfXvXym1x6T2bKYRs5oQY6yAnlKC7zPnrRv5HWQPIdNpV6ksFMQWPDUbuXKN9/YuqyfqBgiz2uXO5es",
+      "jBNMSe8qY70YcMEy80CH/TVsnvqaGXCelgPNdS3bElb+VXKEndp7tWobeU90QGMLf+V61qpgym2LjgJcpzcc1MOF",
+      "lQr22Ly1gG0RAg6rojrftdj4I94HzUlvFGak9qJ3lJba33n/tOaOu0po4hPWWqYkkqCFtbqS31miZRwdfR5FiU3l",
+      "gvCOcswPI6vYtzMgaZCxOEnMHEdesoWVFV3KAVTouObaR/HXhpEuXdROBNasS+ubNhslVraePZbDxFtofcodjJoH",
+      "CLyOjf7dRGwZam3aS3KKYXwbXFa0KmF7WgS4imx5zi5xvkNex9z/aIc9MhArxw9tDdC14HFRnwDesG4HAPZtdXzn",
+      "B16ixRM2hx3JjToq4NFZyPBfysH2JOW1jyxmy4PwXrBeReJ/eQzY5nQppxzb6xagrJ0vvtzr2HL6G2VPFIRf7Nia",
+      "+XTTJ1bDiim5rsUq+3zZcoeMkKdgPo9ncmTOXE9UAH5i+WKeaEc5qoeiL4oda7SLwVowxKSaux+KJU/ZDNJXLCKf",
+      "6L/yNi8d/w997+84hFNYbYYgSPgv5bRjbJQeRkqg8RcbjGrzJdbUtVPw5e5KUbDdOSyGzCgRu/orSbfYaCtAO7aA",
+      "tmPjUQblHlhQJ/0myqlan1VkBXyb3cBOG3pki6k7tiqyja/Qg1Wri+WCJkfKnmPSypF4ig2+KLc1x0KnPfvW4f4a",
+      "g5PEMUF5RfL5zh4LcZSqWsMwyFf07IhXnT77FrlojTpQfOn/O+3o2LJDic/QURLp8Ic/2GhV4UxI0q7eHV99umfv",
+      "VzaAxVZbb5eg82jf9tqn3obcPkkANRsH7TEnxmKEKIsOuMyW5XcsQDXO13ToytlhWUk5cuyRbHGhxvLaPFCzBx3W",
+      "sPXabSF+ez1XOBAFxCh4A0/5lGXYgj2+/9Qew4vHuBTxwB4DtWzk2DiyLuuzUJ0sC93VbsugG4mvUolFDjYFINaO",
+      "rQEu/N1eVo7Y7FUbXfsJ9VE3PWRcZ+ZFAwn8TUnIX/c//9W5oZja2uSmvUfc4XS9QaN+atdF+KHrHXsAZBwbErJd",
+      "+30SWQUl+OqaZ8P2JSNbpxCo/ZDRJaX9ACYKhCP+to43RVNL9WlmP+D9ib0EpsLUYDeqvrpektsoYXIwSFouVInc",
+      "JOUVVKmECLMLkr80UPYuBya1m39nxCuefb66z/gJ11fGfqdsDlVk0/FZpZ3pvjbuQoWvFvBcpJj77TFLmLG6FQyi",
+      "wEsfqdlsSnxkb5KCPdwnNpFg4nK0lm8uWUVexHLqJcaIyqUbTCXnFX68nZE4f8CGq3Kc0asFXsUcie6IjE1timyS",
+      "kL3CSbJOYhag57VOfoQB8ZakiuS4RzZj3GjrDJJrtZj3gqWKaX3qV7NRImE6vDLK80uRXEnhyT6gM3EN+EpZZxxW",
+      "gtlTpZQO/NgWADBrtQX4l6/FzOeFREzkgvB7NZWkvEgp5L1MzDrnDUgUvX1RUfSKkmwrnrfxOyURchDSkuFusGAM",
+      "hsbo/VePQwmbSiRfFgO0Sfn2ygPDW39cVi9wXbaE7YOpx3Jxl9yfy6hEXuoTv7pOWyf21yoTmMravjNLfwo4D3QT",
+      "KrvkUpQBY+HtQj7vtqowc5wS59VCKFeERXIhWIXXhGFZlVQEkHh/xlrIbdkVe20zbTGe1vMwnX8T5DMuCzypgKPW",
+      "0pB4aaacAPKki04XuaM45h2i9paA32+y0fts2o145LEfdKJSSnKrEjnZ9xiCU1tLRDRrUw7WEunM/jaJdti6lnYD",
+      "nFBk7o22yQsJ78di2j0rrici32zKiFnL1vGIX/mgBO7KfH3J26L/iY5HRpGRnplZxVB0G0emAhr3RJ826EjHa7lc",
+      "QI9GEuhoy4M6Al7fTKy/lrsjwo7qdC2XzkgyAYFGWJN0JVUwEl0pOXo81x2wt3HDmFf7GTsmERSML7TH9OL1xIsH",
+      "rGxzutbOkmmAMzaDxw8MREuikojCtaQcryC3B7Ee/aBYGmv7Jp42OvLMWnbSZ2v7bL07zJu0+W1y6zXfD3nLGIkK",
+      "OJCBM78nFliFHdTkYJ0ZNHK7a0y2UFQGRS73ALNZtLhvJSpUbqaRGPuEaUb/P1tv2iTXeV4JyrtR3eh9X69T7WZh",
+      "XKgC5OkJN6pQDhAkRcgkxRAgq2c8PYpblbeqLpmVWZ03s4CkpAgQJLiJFGVbpGSZNkURJCEIAEGAAAFw+wD7q4L8",
+      "ZDDmizuCpKiJmd8w85xznue9b6JHC6oql3vf+67Pcp5z0DaQVSBOp2TsKmQieVywWq6kghTLn7y6s+nbVkQmeoei",
+      "QaHMRiwqxbpKoXSWtyCNYi8wzsj6U4yuzVMY+PZ923aoHAh/H2YRVVqHlLjcxPgDaoroHKx+zANi8W1uRnUjggB2",
+      "5RGyiJiPfC57Zs/PTQjfsiGUtkHV3a86EMQ2ZxHXUA4FXoW0ETCfx5j6XaIcJmU9XIV6rEJVnG9ElaFyBshIr55q",
+      "HGje3Rg0RE0AsIP2A+QKN6zc2sI5sOFFndKGWV6yTWnMMJkKBjqF79I9baJmXXgRosfgJ4Spr9mHKhaerouXH3Bs",
+      "xJhXR0KK2X3X690rdX/BC85iHWq6sb5Ixoi329YLDhubAMes7xEgIt4NoqNdPCSWg0TeVlfZNff6OgFggAuMGif9",
+      "dQ/wLTsav7uviMLTEeXYgeDHAjoc+4dUAYaIrLP+E0pa66MN1T7bPGcYkUBU7qOoq0XYQoW6qxPKxYPeHgvVPklh",
+      "0rXK91XOT8YqNiB8gJ5E5Fjrf9DDQKs6rIt5ayt2pIBMpxBCGqLFEyZtvFSokSJPqJr0JgCAYL0q12j7HBB5W6iV",
+      "My91hK2D86NLZXQiurRP/wfBm+YdhbS6vGQG59IINTDcj1TqVUHQmaE2thYl3o66pXihPfvd1nmwzLyWuvEC7QbB",
+      "TEQpBZnAOG4OsJ9H3TgCAnaKVkqOdZZhjcEVUulrXX5NdTNF4aWK9/i+IY6h1REPa6p2aF+D1wO72QN9M17j29A+",
+      "NwuRtVKQ9uur3EnKBNZ1jMH3HB0PnCUN7obnnSoCuV98JfZ/1cl0vWy7QV4H+8FKbfse8itQBavWhbWqgV4ilBtQ",
+      "BaZ//ZyZMKFj8+5+GWo9AkZQcE77TavL5lZX+igLy17n3bC8ZKYoHLLWuHrdJCrfHEHelVYX1r9QqACHYp+3VWYe",
+      "qO1fdjc8o+aNzTczDoTAY7h+mS6wjQwl2/k/7Jhm8WDQrdMc5bZwj0o3CulIdZY7hfSXilmtO2g24n4elZ3h+T1c",
+      "RbjSOqsudX5gEGruk4teZweTG7p/tBqwroEKAUrD3D5s5V5sLO2QfcXnVarUkKWAMSnbf/U84x4yWUteOeKYA4Co",
+      "eA7TT7KfS72a85plTTZ01O1m4R0CV6vVkiJ7y5p/iC8KFiqUQ7ULAVycew6ULjYlfThahYdp93Yc2T6uPzuPHSnQ",
+      "6dUPcYZ5GLHY5W6jF1t1pZszM8PFZguH6sebkHPvc144i0DjsHmGE7An4ZxEtY9HFCc4i3HePzDusuLRS7DnkYbG",
+      "dQpfwKpxh+IeQfIduE2luUkSeqO024jlGTw/oYFU8pyaLxQW7dYEqxQqfVitdsv8290pVLnqwCgWEWL7c+ieOwmq",
+      "fiRQqpK7yH3GFqRXJYNxioahzJ/eZF9xG3OAtwkMdBufNlThsM8Si4aaMtZuFDpX1yZ3mQ+DM59BYBuhqOJxFHTj",
+      "5bN9ohoI8N/m/PgaCprLzSjsGn7d2TG0D6xOnD8AgQqu7LVedQx25UG3k3vl0SHnk9q7LN1JKlxxvIusZBbryZxW",
+      "TONlp7MwN30TUJi+E0UU1PHCCaD6xGbBgwILbgCLzgL7znA0XvfCpP2dDueh/XEUuzNxGdxou1QEs/WjrGen8H20",
+      "i921Udkf98X/CLXoemsR1fJ32LN13EuH7wCdauHZOgXmFmaQkC0oizQLXKqP3PcwXAjdOs9Dw1L0Qd04rHFmh3OK",
+      "OBGHHR62OmyfRUgJ+xvKVWkDM/dAxUaGKFWFwnWwBUdvf0fwnTsdJON2YiP1zE5RDb06vOsxzsnmFtDfIC1BFA8O",
+      "G+pT/HxZopofDhgBexsnEZmH7hliLIXiS/uDPEXbR2d53gHI2vfAAlKrEm7cW8cRNe9pKG9/10vYCy+ebe5U/SNU",
+      "jjAPmy/7Pt9xkLyWG3Uth4iLOuNJU7odxBpJa+AdbjfRQbUHmC9U7D4hoqG35jClwkyyjdq8FufoKFgxtFLD04cf",
+      "N2G2lPX+2g+RDUPQVLsYqhT5/IVjjxsHChdeR1bt/r3f+0//effeDion4Eu68z4sgquDyo379ngGYQQfCXPZCUGa",
+      "3V6DxBCA9aNjfQq6ce15b9MGQXFUuzDf0vH9bd7Pi66XKjfrqGg0f3Rm5gABCtBAwj7G4NESSABWB92E1+wsI7qE",
+      "c8kJZgDcHmGjecAmN4JoBGXbcziIfR7kJKzltH0c+6hXKzYqlpzZoeIdzAux7Xg0fnE0EDJjaYE46uXBgz3EA0ov",
+      "fkM8jlXde7zU1BkQmq/4vHXui24xe9Q2uo1ivtDzwQ7BPkZ7qi22HjrFSuHzqfACi44TVhTOr4IgDe3DRackWPTi",
+      "rEBDaF8re3M+/wJBP6/SiY55Fyy5WfbwHlACq7a7A/UGborRhs1He5AuHZqm+o8wve125tMRlkfxWrs/VxvbL2IU",
+      "B5MGmqZgs8ruwEtfOohjmJ3TW/J0uNcSLi15EuXroIzZar7p1CGNk0fEtCy8srOg7HYf9r3ynEsrik/2vByq8A23",
+      "8Kp5r19ulhRLLYJnwZlYUBZoe7xAWbCr5N/3JrucjGJUHmNpBcpA8L63e8Y5Jxrs8uMbZxppMx8ZFO6oan7tnDGz",
+      "CfqqE9s1rQvrhl612dFrNsknQGgOhr3ubUA39bqo1PDh2h/0OO5vb24dWwToe3fhddlO+tP483S3S9nrdm5sblEF",
+      "WfEBpHlYVKXy8dgm9/A+nN9CRy95QeXBiO8ggLJWH5vxheLHW7HkG77TZDTMjwE2LzqYonDDys2bgiXmtm8z/QNq",
+      "A2eDiVpEZsIwj8T7sx7V7oJ12HecRqmwnjebYFl2EPK40t/DoqF9pOJSxSXQVE3Lxveteal2HqI2qfX/BE5BvG/3",
+      "7jhf0i5mSeqmcFaPhv1k4+TUA5g35qP04fTaZm8zUtig/djpYCM+UCLjiywQ+FEa51DpLK+Xm7qhypYLZEuw3nw+",
+      "FUiqE/2KXYhxpa19e7eOFfP+Aa9WaRxr/IVe+dAEO2sfcTbrIPYv61+4DXRo7dh5LqDW0oK7m/7+vi8seKDPucMK",
+      "91sLZbY7hRPeeDradgqHkTmJzMyspOB2zUoMbteGGTej5sG6drtxONi88eP+Xz0yuvHO8MEbr1VggAOzG0OkN37S",
+      "J0rMzEoP4rt2NzTTGQlv+ogsY4LTDqsHPo4Dj/bHuijXBys1HCQP4zce4IaKHgyrEvsQzk+EbMY3fmLXp72N70/I",
+      "kKpuGGzduA633NZ6MwBvqOwLnLvcJxA37SHsQI3EPuJRCEaPEPWmf4HIBrhoPV6Ghoxqa50nFBraWzcu0c8wz9SM",
+      "KUbkm3Lzxk9g+G4zWmIbA9iHuqQr3aKjxoLVcuhFmIMtFKyhMgT3tedh0gJhUF/gnmxo+D1w6d64NOyaa/IQsiiD",
+      "h8pIjAiASxVRG1gx/KB9Zc9OHICflDLRdmzj5HFfKmvic/536UmDxvuvJHdsvT0o8Ye1kZzG9lz4g7yoykPAjwfn",
+      "TCQrzC4k8gS4jgHC7CU6sV+XiEvifp7isL16lYy6pbW6RwXsmu+vIcqC1xmBh10T/gZDRY0KDDjuyN40KyXDW1Uw",
+      "cskPK4cejxkoSoO/4Vlq/sHAe+DGpW0kDBR/Gw1GN36yCgPD3n8ARMnUlLf2Kx1VwnUdw31CAgQNUHUqihes926c",
+      "Q5Jgm/0jHjv/HuYRMzuIuw4wn0nOAXXkiqWn2BPwi83PG5fMgRkg0sN+Y3kRROGxyuBfiZ3XdiT2E8fD+mmwpf5n",
+      "HqHG/WnvDlBMuW3XgRokrgewSr1SDz0uWNKu4boiQLYsNU3tUzfOIRDZvXEJZZTOj4F1x4wKOKlvnBsg9b0Kzhtb",
+      "udh3ze6BvWwOAvpnBZEYMDsBds7ifTsPS40//C70I8XMh+ulyrMHNM4wuxjvBPpQ4+GZnHPmHGyTZ5g0YA+BRhqU",
+      "USPGu1n9p0QT0Ck3zoEdmEzZFZfv+tg+v42vWbtsmYLxONh9G3smOxseYn7mxhsl8iOAO3sCSvG2iicBlVE9v9io",
+      "ZNLWpS1ewKX1HIAcif9ZJb+V57psHqh/SmffvfDB5Q8fBpMtfn544sOnEw+w/cTfzib8zgfP6XOJuRd8vGDTJc/w",
+      "hyf9c9d4TXAL6zpXdR8w3/Lzfj37v96/QKbhN+w6aM1V+wT/xmfJ2Pse+XivWUsedRbid8VpTFbg96w9+nkNd/rw",
+      "ONpsf+H+4j9+R+9/+B22/Qm//1WwAztr8pvOASzW3gvO83uBbX+D9yTvsH0DjMDPgtEXf/GpT4Bx2a6NluP53uY1",
+      "8P3L/J49l7fP2qPPkEMZ7Wc70D68QgZk3OfbHz7Gfvo2RoOtAH/wm9ZuMSdf5tXe5HOqny7a7094f73D8blqz3bB",
+      "GZsfIQvyBfsW2Yrtt/f4xBd8XL79wVvkZ/4O+YovYZzIenzJ+++at/oE2aXftc/o++/5817wn5g9x9mjV+1anBd8",
+      "7WnMG84jMUWTs9nae5U8sI+KD/bmGbCzfnSSvLBijP0JX79ARtRHyX571k77p8Rue/PHYteFBQAuV7LFXv7oYed8",
+      "bVlo8c2n7N0n7JU3wcFq74tLV5yzr/HbT4Bn9ubL9u5P7Yrnybir/58jeyyu8ig5ep8AV+vNKzev33zL2szrOgPw",
+      "I3wH98dVXycD8KP2qdPe/kduvkl2WXAFnwTHrjPRvgZeXbTL3nsVHL1oqf18i8yy4Islm67aj1Zbi8Xi+4a1/KQ/",
+      "78NgsP3oBLl5T/J6F52V9ydgyLWfrztj7VPsUbDhiuP4J2CSxXfJtotvnkV/2GdfJkfxk84g/Brvfc566Br74Yr9",
+      "9abf45J951H1J3h8+e3Xyb37mnhv7W4/CR5esvNeEWcyx/Rh3d+5es/Y+w/fvMLrovfOs28xLqe9fa/pfbITg8eY",
+      "PL3k30Wfn5RVaKP1svfv6+Rsfs3H9DE8D/mbz3BkTpJ/+Dx+07h8zv/zS/7fX/b//qr/93O/9Mu/8qu/9uu/8Ru/",
+      "/mu/+iu//Euf+80dM3/n7+78e3//7/+9nX/378zs+M1/8A//0T/+J//0n/3zf/7P/uk/+cf/6B/+g3/xL//Vv/43",
+      "//bf/ft//+/+7b/51//qX/6L/9f+E/fA779kP3/Z//9L/v9f4Xvxp//2m/7fz7FRv2JN+bXP/frnfiPiWoqyogIl",
+      "MuSST1CseHMTFUATO3zqHqIsJFeC4X7HkTsWjpGDiZAycxRQpol6TygdVKONtjq7GirmRWKpFR7j5sm5W4/gNUCy",
+      "w044zOZnMOa8TGoOGPGdwqt17LweKy3DpCUgegMPaylsUfcm8ufE2dtDTKhyEgrQ5qNCEJxgnmMu4pdGvMJggx0N",
+      "x0z0A/TCDH4nMlFbqNRHmRBA5GqG55CdWc08QFQvMVKY4BPVMQA6wPCLmDYzafJcds4QnY3vI6VB4q3b6wHzRpNv",
+      "BfAy0m8NMW1woA+4Y9kEkqLpwpFFLLspyRIzapOjzjRgFgxxVmZMELcASL85tj1GZJ0Na2lBXJ+gLlTs0W7DpKa1",
+      "1kbMmoH0L17BpQSdeqjqxi26pKzro27MnoWYutGG+cx9mzr3eTKtmF+zljWzuxZhv/NxNut1jVfZh1GzGhR95jKK",
+      "MYWkrg2raUDNB/dzuxKSDe4/gilIPCJ1gMTgRPHEOkXKwTtpswexaeWo62aTXDX4TEWVdTPXDvSqYwzdl1uKvHUD",
+      "iNIQt43QlLOj2URaW0OsEskthdmXWcGK9wUutl8WItCI8h4mHxxtu7+zEqPMzN1R0PyxbsY+AyjnjdfKurnbJvbk",
+      "6GCA/F0pj9uBOI0tEBL8zLCaAbe/w2xZ+N4okSOKoXvQ3A8W04AzDhdubnecDwJ/a2NccHnGQ+zhWgbfEUAGFWnF",
+      "CkaFUPZON29NqvaOBa4Qc9hCuaoyFTMBeWhYZYPB9fxC2RP5LWkDHQfg5RadBQflV907Y1ltoQLqUH80CzkVBpXH",
+      "fa8ntXuxyTNKU1oz7rPJQuxgxcQr6KvFpFd1R0cHBRgbGhXFjIQVZOW6Ux13lllD3i9RlqM8Z/d2IpZZFT1Uin7E",
+      "hCDK5OEzIEhMHlLUFsbTNHfCmVqxGyw5WHI5EuX23WZMhG7Uoy6qINyu88XKZwJcIaZ/zU2yizPvvsnCqyaAUfN1",
+      "n1gC0p8JA3Qw9mcHL42bQNmQzgXkf1XgnRoWRmA4+wKUo2B2XUSbnDWi3WWp/ArgzUzXTJwSrjdBdSfHNBLEi0IK",
+      "OERJ6TXRZdu+Yfs6eVPwBc7ymhkru7J4OEHJgNWGEC25nvCoABRubQxARVltWudtVQEOaohqAoxiV8SbQcnHKysh",
+      "Rz6pzcEqUnEs+uf0OzbSdtGMPSvo0XWk8ZWGbNIZ4PdC+WDd5YyyNqO6YyV4ym3jti1OUUzPUncDXtVE/nymGTfK",
+      "uHsGo9jTbNVDnFy9yIXPbNag7TBPTVly6zFn10A8GVWzNoFEYWaN94DXA2Rrq0A77jTM2HsFcupi0+eO7aRaZK/V",
+      "gBEAgQcUOTVS+mCPiaKVMY7+L3mwsCDSnpQOHn7tlr11nLQbmwFwaoBJIbmzsOH9irmR8VBgLSyDyL4ojS48jJek",
+      "EdinzNNsQEUETZPBIPL8XYxKrm4UgRbp7o686F3VyhCshkUkcIvIJO4j5AGbnS1A5rpx+KKCDpZMD5GK/R3NzFUw",
+      "uZY6gA44YK6QPQR2g2Neanw3OuMP8E9kjQNlU2wSoGBHCeE7JGddW9Nki8jkDg+xk8eDx/G8zVknS2OBbYkixYF1",
+      "+9GNQeAUPTDUqE6lhpOuVCVzkUJBYgJsY0/riu23BiTAA7LzTtAy61R2QIIgc2EtxDoj5WLCPOETDD9FFq4LUmAa",
+      "HLtji6z6GCMA4Xs+NxziBozCskinImleOLds1b3Pw8FFnFZLawA3wLI65AjAohj0V3rjodl1Y2aX+YD1lrhAGnKR",
+      "Ffda/7GKplwZyMxwdl+vLwRsvUIXwLwQpbTtWn2QHxDl190mG2WzdcyB/6u+MXbNKN3fMXum4wg7SlSI1LYIcKSr",
+      "XAyGgRZrPN1XdQ8DvYcnLLtdJqRmY44UHqKvWNpCLiQ3SsEdbc+B7f1wbO/gLrJuoWjWiOxuwerWdWjXsPkSwup4",
+      "PPAesFBF2xe4tTyd6jVx1loAnhFYskdZqUEeQijIOmy1o2SkBg/HsUUnctyoQH4PBibCRcfDyL5VkeDr2jFR9sXb",
+      "4FsTcnc1cKBUIUB7VIlsK+IOh/VMfO+lsAIIj8wwE4GlmeiEpBHzJGxWo8IuVOc7inc+ttOlNaLxQJWB1Q1CKNCP",
+      "NySWIkF+jcJ71AfZEVQEaoaoHBCe8MSCQQ6LrxSwVF1YjPvOAWjr9EESbXQKp6+LZFclehZySm9WZJ4K3NJkBTsn",
+      "Uh1l4dznHB3MSuwA/dHy0sJ9g+FRO2RhMhNdxGGyLc5xtfBOhrOBpIA9D2T2xDmAQc40kpVM6BbRDX7czLtaAjZ8",
+      "eTdDm1jbHDggKDTK5jKwllG1lKCrF2EnKphXBNMppaxgi5enln3mQHsEECkEeT6HAh6ohzh3bZKxzg11mWKl2K5Q",
+      "cI4OrpysoR6R68UzWzjBRBoL2oset7gulDiGg6Nkh+LujrIsUUzYfAv8bbM56IEypWqIwbc9jLYoLXHQa7LCkuDz",
+      "DbOWWS5HvoXKNzRSo29hFybbKPAILCBi1ZYgvKogAwMIk/oYZe4tuE4/zEvhNe1id8a5TAI1THzK+zWaopt0Iu4X",
+      "uLzskSQd4489cxUWmjmqIB0ewqQRPkLUVoDL/NYfHSQHZGfZURiHHVxWOMuCbZUVzmv71nxxiBxKyLWp01TwMEIK",
+      "VlDCeWGgBIoiKLFxUuzeZHc4qLLZaPyPnBjHxn+3YDZrbmQjV4hOWK9GB1lNSq8f47W0oMTiMkugNr3YuRYlpyzq",
+      "RkwDNB2BBaapxv2+PyLLIdJ7giXV1dGv1W68mf2nJxUfg50ReFqyffyhbXoPjW0vnRWBQ29CmwzutNJ38OuExwR7",
+      "z7ZtawUY9bY1bb5WP1hvYbbKuiC4RJRqE1kdR1EoYs3HSR95aAeQwT4UV3M5YgKNpwzZkYYo6eyJ3ser3WnXkZq3",
+      "q5or2GOV8wUuR0r0EO0xPMIR0Z6y2JWblBcobTYs5sKBcRd2HTtsSUzB05w2NvYphOzZMPSKKHIxazGmR8LsUXkD",
+      "corYhDF7+rbvrwMx5Al12xy2UAMGTCTZ3EkJ3FPlp5jBQfQf5zpa3AV5n6Yi9o3SSyydVQX07kqCF+L1BJ2GfZqb",
+      "flk4B3gP+1hDuiSGZgZrX/ZJWzj1ka1l+ne1dJw2cXCYmdvjOid8paFZ4moo5MMgpz2FA2wufSOwmCqlJkvfuu7l",
+      "kk5I3DIhaf7g5roANeSaA2UX7G9wT1bSn+HXI0mOk3xUbm5BYIN7Lwbli0PS8q6X9JJQ2Cz1DRCSdIsSVYMYsUGf",
+      "FLgYOHzra/DRvAKctqjwyEc2aJ8PQykKCCQUJgMq7xDaRjxs9q2DYfvFc3WdtLrCWqxI2b8UyEZHtu2ccTduFQg5",
+      "HSUBSlguWahvvxdFSDw4zhQ4kDXaSLsDwu6Ui6CSmogFhdw7A+s6mqY4NMU5jJ1R1eZgARiy1LH5angK7gHZPr/O",
+      "CrRRRR4ALFFUKOqQxKaOiztX+lwAQDrLfi9CxxXWq0T6aEuYghbcE4A2ECcjvEqzcpEHhg17cAMUYDVYO1Q5YDOV",
+      "CD9wtDU1FjOS9nr2mYApKIZGAgkP05FApjQDg3EmRiFIMbENBxy86XZBsDA+CDUDrGkUh4TggFm5oDcDyL0M6MyS",
+      "2RE9cDyohZvg0UMA1zaZmRmnLnYuvdFAZTkIXnndRLMcFURhCTu0W1JR4y2OBVJ/GCYq2sLuLh2412PJr287YMI6",
+      "6hpbNHedpeqgjezKSoUu8H0jqkSao4iKmF3Yj0hFlNLuI5feCuIboka3bziBfbEXBhWCgstuafUm4rDFnMTOj2M7",
+      "ANxFVLSxyphNjbhLIa4qcNlUtq+gV5sIDdmeNTywLoC0wj5ikN/aMEstaklszq4DZRRFGHNrZrsxxESDAdZH4JSW",
+      "QELFbRBrhxp2IiyAxUiD4cEKxQBmRCOiCLsFG35Ee+bEc2QPeJgSXzoHETQ3m4SVXLCA4xAP8LRZMhqB5ZEzOKEM",
+      "WgsiALhN+ETdI2GvglSPW2UMyn6xWQBSjKMfRo5TpoJtpSHUP1Ua2C08ShQx6kkC5a5yywSJoYeIrKO6fda3Y+DI",
+      "nlVEqV8M9xdYY4/rlEWrQqY4m3vHg6FopICOAbmhTfAi0g1gMyFEa0Z23ai7LHujIPU1UbIzZlusunUB5lPUlUcQ",
+      "bASSO8gsyBjAwRZndoCklpacuWFZ9dnWhsDp9ANovRynzR4SXHB79xq9OQa+UcHMQ5xejRnkpMuVehd2LS+onGM8",
+      "WjSNgk4XEYPd57TXvclBHp92UuCCot9FdTv6CNOPRy3eovktiKAY2MWMAR6eJg03wu3h0UOzRG6Ik01vVPfaUhlv",
+      "kiwYVFe2ymcjLrYJ4YJmMCq3ogyzLHzE7kByAFcUfTRPT5ekkGCLNRGsyt/EccRidBlUdjNsT52C5obZJLDy0BuO",
+      "Z61TRVHj5A+rg4h5FlEcVJIbQaVGYAKySVmyGp66EQ65dE7TesTFCmxcEeD7WBeF2Ghshgge77hGmruMhWPf5QRA",
+      "C3dGgH2/E2XOdyvZ1VWgzgsFE7BL2HWohbO04BUn3qma4SAmqViDhzbY0tf3KRRx95F77yEtBHzXyT7n7j64geCg",
+      "75A8TMhEhgxeuAPF7kCv+kFvrm/U76HkhqU1ZZxNxMahuHotkhQ9lG1Vf/3S2I6x0Xi7/utLf/W0/QnB7L96xn/5",
+      "22uP/u3V7//t1R9/+v1XPn3h7Gdn/lKAvU/OfV+IPfvl/3nuhf/r8rn/+/k3P756/eO3j3987YnPzr/08/Pfh1b9",
+      "2e99dv4Cvnj6O5/99PlPnjn+6QvPfPLUS5/82emPr//JZw9/7+fv/vGnT7z/yQsXPr7+2sfvv/Hxte/+4pHTnzx+",
+      "/edPPvHzU+99+p0/+eylpz999QV78bPvvvvpj9757P0///jq8U/PvfLp917/+O0ffHL+L35x5unPXn/45z96+JPX",
+      "vvfJH//g43d++OlzFz595vwn1//00ytPfPbmtc+On/zkqb/85OTZT86f+uz86c/OX//k6eufvvXGJy9c+uTqiU//",
+      "5Nyn33vP2vPJ09//+PpZe+WTU699cu7Vn3/vxc+uPPXpX7xi//7cHue7j+Hi77/06cOvW5sDTtjY3LtxznyGAUw3",
+      "TORypQRsGxmSMUFw1dAxYN0EEjT7qieYE2wt5G1thrtTY0t6TITXyo3ryOmy+lxoISq1kyVA3g2CsUIPOvy07g7C",
+      "eBtuh5OVkIQAXgHUR5oUgqH6MGZZm65zuYUzJlxkU3uAa6DKaELvVseE36nW+ca5st688RLsi0DJlsOAVw2ZcwHS",
+      "EuX2vKmZcTd+soYqfUhkOSZLIDIV0+oWxMlhpr7Ug1a915/bpusAqsYjZnVp2z9SFWXjNduDxkFZoVprPW+NufHS",
+      "6kh1JQRGeh/WjiSzV9DL7FUsHDY1nsJR3oSrEcZX9rzuhcwL9gK4EMhaCS+9BItTH3qG/Yes+dVDEUA2L7/H2VIG",
+      "jK9xswxTYAhkZR9IvJeYyQAklxgxtJmTZKv0bwVasAmYZPT8oAlR7ROUxH7fJbchOn6CwtgSBb/Kf1/hu5f51gV+",
+      "7PFQIpdI+cN/e+rP/S18/iz/fZWK3dfiOlIlv8YPPxvXOc5m6Kavshmn4+unujWYKgarjUuAo0kX/vaVE9QvP83P",
+      "nOfvp/j7T/n1CxRHv8oXT0WTLoZsue7+WNziQqiGX4m3rCXP85WLvJ2a9FzcSyLlZ6mnftybil9+yKd4mndUj10M",
+      "hfLnKXD+ZOiUv8r/nZLOOq+gTrgSeucn+d3v86bn4i7fD7l39eSFTK9dA/dkiMRz4LyfraMedplzvPWi9zYe8NsU",
+      "Yn8uOuFk3Ov7Idx+ir2R1NZfjI46wQ+rPd+Nm56PHlPL34tBtz+fCpX6H8a9vhtdpAtKEv59vqjevsi+0nw4GwOt",
+      "x9FcfS969Tg74Sybd5qt1dcfj4Y9htddV17zWXNVo/MkW3suZOwvxFO84FPF+/m8PxfePcN/X4gHfCXudZztvxaq",
+      "9mrkj+JPffhhPrJW0Cm+mGbLqWjeq2yzfj/jDUabn+YjXIn2vBpT6/W4qZr6OgeXN/I2H3f+Dgh8QT6GxS6RXd85",
+      "czBwLMUD5XapksUEYKEym9gslrYCm8PEGiXXYANJu2GpjHfFKIktzHVpvrBnL658WFcOEFADtoju6nC8uQJr0jZk",
+      "s66B9HkIu1NPjiquchCSLlDILJ1voyYS2kM/9ymkVfMI6MtW9mi2/dZP7yo+WmZPvrQZdRadIiWxQzFR3ygFKnGV",
+      "CTMTxyCaL2776oHdw1Qtn1BIDYIOimSzLXSUv1aSg3g0aINv80UyEmtWEOAbCCqsDJHRUH6XPJrytuvEvLu/8/nA",
+      "3JPnzQ05NxXwvNXRRrLIzhmCvkLitha2RupU9daRNIL3Q8y6dATYVsmI9bgXYzlPx/jLa7MduMo9Ykk8fc1+9iRs",
+      "IwU++IVfSVnFrydMGNP/5jINuv2Bl8QuMYLNq6A4Ti4pSaG26M2CdtPusr+zlAU46VxQerJu5ml6e0rMrnJw0Hef",
+      "ju4V/N8RBm03LfyUGIemxVjlnJEy0RPZOWNNBWOGqq5n4xyeI29m6atnGAriAI7g7dvTCnCFSaRw+hyAuqlmKdQC",
+      "+uqUgeoEy0qncBSDnd/JpF9IaJWZ0B5ny8zOA7Z969iiu5pb5jKiwmNjEond1ci7i84OYBrWyHtCsLuVoB8gChPT",
+      "a4QTK8YJVmBsTDYmWwOKxDbzykbP7lokSxdD2ESNuHowODrxvHexh9ingUHrkNByy1lgnB8D9QZj1eZFdBd9imzJ",
+      "SLlQkSl2603PJ9o8OCggVdQwIt0DJ44m0urqeEvDOoDDtsZyLtRIUtp+OHCUmdeD12JIQJEDuEVil1p3YE692kmV",
+      "TFSRo6xVyrEvdKsY/dU017bGYEbBVaoeuR9URezjQTVbAQa2wo/nRsI5yapUtiC5it2NvbHywCguVInDD1bF1slp",
+      "0CBuu8Jc8BfTPjkzcwe91GKU8oTwOGr5f0jHsD5p5LGcEep2N30NMhLB51hKGQGFlRAzug8CPlREW6kmA415cCVV",
+      "Xa8KtL8cSSTGEl8LYgSo+p2EDtg5E7woi4VjdFjTSdliVJ2S2xVE+gn8FHEtcC0xg8+WOhZt50yRIB+BxygKRdD4",
+      "bCvOu0tWOoWLSPrJ/gvOgqp/P6vnxyhrQsaUiXpgJcyPQT3oZrBHERfCDGjZY2AHlZzHigbFuMXnGQ5hPMNZG8B+",
+      "2S8cVuSoxIcwEwF4RGAC1ccUtmwiygZGB2Td8HiMeRJQuvGFmBu2WzhOdTYFtckqinmEE4zy8eAh6jh3etfTzMMJ",
+      "kW5bwgjFTr3Wrt9jiZtDcIi1cS9wVMMG9WhgGhtvEl7C3Crap/hEf2CHoh2yo0Xn/0BgV4xfNQvjhBtyFXBMj3E/",
+      "ohMB6FudpNAcSMSRTMEg2f5MNeUh1q8ME5/jZOforSooTW5GrvOezU5PZGMsSXe/J2GLA/Bke06vN1b2cA2Mxwzv",
+      "cvZx679fu5l9eW/67laDeDROTiKzmENRuSieyGY2XkDmeUAtANvAQONacc0kwHETeYbeZDmBCAdkSwazMYJvQ/Zu",
+      "vUnMLMS91woJEcyVEo+we9yTLIWv9gOHiTioko0zCfpcK/ho7x4cRGKUYABKPdwv4VNi7kgLhCxnoBGKwxGFnxPL",
+      "A+thBcuxq+xMN4HdIwDnSFSs1j7ML6BTbB9S9t6BZLqy+HfBx/M/pWx4QJdXQTnp7q6CvrBpYnUvLSS75LbajKk9",
+      "i0VdLAUcd5XIJoFfEvi3UTQY6y3YjnqT0UA8vURlowZshHDzbif//dZM7Fhefw5bRRXVD5FDqNJ+ABA7H23Z1wzx",
+      "HAMPSd5blX1W3c7FWqiEQWANOgLOEs4QJgOhxCPJigSUUTjXlbJ5sCKXGwGPpPX2WCjjkoXHYJdSKlOQA8w1asTR",
+      "vkKgYaMSw5GnvBtFb7G5Ouue7RFKbDUkBaUEMNhhUy4pnfHNl7Tz88R2/FpYHmQ3wkZDzA96kSQ0O9o5iYAS+3Q5",
+      "OSAJ898wbMskSWR4quaOtIclMH2jPOWYujEqH0WfFJ5dIBUjqaYTlngHAwpEwbh5ir2zCp3SFsnkXN8cHVYpYnkn",
+      "WLfS+MjkJLRz4WgY6+h7xsfMdrPOWQ+mkRJRnEITS5klZNw6MoY7uxYdSHG0FBqNSu4soTDza39HsIk7ETV2hh6b",
+      "X75z9iYOQYPXMdjyU3ec9oNUWdH/cna6xB474zBVJIRpJ5Lrl8hem+QwabSOHDJvG7nkqtH5B9IMWwPognvnTEqO",
+      "OiKEIX/UgxKU+Luxi+qka4gq6rmHJpgT/TemtLGPz8Z8mU2o4EZCENgVUh6mWSInLUxoHUHIk5A9hVhueTakcmQW",
+      "BO9LqYmnn98CpxWBZbRuth107vp/2L1Jf4z7eknKQ7D11pxkgOTLtBSxs9rVbXfn/EPgstoKkFBBNhmSwQKyrisn",
+      "nOsXgnlisNYcdcDVvHtP1v19Jg1gbxwdIpvbL1YmCUzTJFjoXuw73WF5tOyt9QblaB/IfGtI2hD3kvDnLay/kZI2",
+      "TqQ7knW9Ag0xWqpbyUeELSCQAe2rPgvKnUUSMEsviCgEGsMqww4nUB880hI5lNJ51XqYa16Y0pCN0qY9QcM67bv3",
+      "J1+8V8fMOSzPAexdesHMDuzyNJiahE2kfp9EGO5BFbMiBEjGCyogIUamy4mQF0RDeK3ugbRqU4Z38x6BOQfDSYK7",
+      "fiEVrUB92O0ceJoVR1B9D1m+sMtxN3BsoCcJS1wxVxGImp6Uhg4n+96Z/KxjQG3mp66zY3SQ8C2UJwABsyelhWaq",
+      "BKElfGjOddI4Ex3cMbNFtUqgOWTDIfOc8uE214JDLhmWRVtcVRYIpg9ZpOFw8A7gQhDA0gro0/K1HdgZOVL2shDS",
+      "HriQVMBQSCmVx4FYLcyCJ7qpLNaqo+DPF8ZJ8wf9JxQy0CwJGbF8AKr0lGYr0pTQHkFCeOfErMhwXJOvI0UhZhTz",
+      "R55e6H/c404qJhfV+noCfoPZAOlY20HuTzGZg8kKCghxZzldeedCCymQEpPNiN0PNE33wdt27Vp01RX6Bi27LdYn",
+      "fHZ/BfcIYEqTMMhFSYg++HQSttIsc8TvMKfuT7EgO09cpPP+FCsQkyBjChUlvK0FLrFAsMpR6iRuVAlYnPDsBGOD",
+      "9GfPnj0gRRsU66iySh6kYwZgj5NsxWe7AFbdxp5gNwCJa4P+g9WEe8hi6K7uu7sK+1SFIpQAjmKUQpqw9IOGqy5q",
+      "HpbWdpVAHUXCbBXOTwnLSEyPiJ9IFRQeKTOr2CSA7hNoKRh2duxg3yMqEvaVTVTnvwP6mDYQ8joQmBANXndcudKd",
+      "JJsxqrDIxOVnthQonhwmJjkul5ez145EkdIc0lmyn7/ibJ1lX4gBFH/cmayCB20o5eeldRmVf4yMVfrGEJ7rOvD8",
+      "TVuRCV+oNr91SGbKrRoFNOJApWJYv+uovhJt7tJyC+ywrwBcfDX5EKjdQRzJrE336GGNbJGLUj4sPZ8yrP/tSsLO",
+      "5KRxjt3eRJ4SQj2ek7P2sSdX0QL6phwjWpFmd1YjWz1jrTMeizqYk/s5m8qpDmZ+aOEoB84wblUQaRjRbbPRcsqm",
+      "gF1gCvry/f0Ee51xXWIbVZyNiiwGN1BRdoooM7inrqwvwNgzk5B3AowTjaBhJhSjC/FcASErPSV3ecmJDdfHlWNJ",
+      "bAnQgg+gyG2Nc+7S0xxuyv9VJcV4C4xMQOCuqwz3AaHUEgqdPNjyU+YTiux2ISI4+tYrFBZPVZUUJGVdZtW0529U",
+      "pM2vSsQZ0M1+IV0wGfS7j/qclD1wmCB+PLnbQzVMEZ+d+6gbCgGHgauhYL3eVx0t/lfA4sowS5o6VX1207k6jrrR",
+      "wObY1gEgIg/YMiLg2xXRfyDxVh0uWd8OCgBljx9VrbBFyu7kMOEnji2mjFKsjyZwJIQbqqQDJotOq2Qp0O4cwUdE",
+      "ZYNwXHNFsDGp1gLnfoLKYh9x0knn8Mb4AhvC430hRSHWq4i3M0EjH6zqydKpUgFwgQoy7XCgc0xkZWYD7zeDjMBV",
+      "DhcU42pK2oH7RSBx2AcAHYBvkWsVKx5I4aSVJ39Ge854CH8+GEMHrt4iRKV2i6NRbVKkouq5yNRwpx5rPyC8jthv",
+      "3EOyX6lCu0kgteIO7btAGAtUuHfPHkKneXOXMAtMDBmKXTEbG/Kg8FunqgZCb+6CzbXhmGFoFTqTemcZqlsyYSKK",
+      "U/bcj+qON11IDou+iJ0NcHet/iLBm1ON7TwSErtZ90JrrlfaoeX4InvsbiqR70lKryhHYofGZUrKVxGEhU14ILEB",
+      "FTsKHy8Usx+CxUDgTJ5MCZmaPPDtStg52JgNdlvSwWuUIbLpUsgFbCqopmAOgItTKjzwZ4a1WIcHW46CFBJZa58T",
+      "tewLSI1zhrkYBgCTdSPhRErYKS5FVuIJ8bFMDMGgwDqg+DhlSlUwhXdXhgFd9zgrXAzWf3AXXfU4HIV7Gl3F56QY",
+      "XwU2w2yHug3Y8DHTuuAOkNCz1vmqcLN7ir3VJv6/eHuKySykAAdOEjhLdCA9I7GQWAUgNiO7cJRiBbZzjmxrGa5v",
+      "JBt9Z/DGzq6JXxOCjq43ywgfbZWdM4V5CaWiTStC4sMIAUe6lwRJ3YAxRmIkC4d5YYwOxt4+1xacoAQbrSPzN02d",
+      "cZMoCArHrdovy+lUS/XpSx40g/Qd4iiErs1L+q+zsACmc8+RkugOMMdge7ezFj7YaulVj0LQd4sAGvZT9kH8tmA+",
+      "/Jsf/80f/83pv/mzvznz0cNkebv0fz4NAqUh3Er4+5UUNrnTEJ7TwFNzRBNZzWy68uzhu+OV2j8n26t2NjQiaVpk",
+      "UJN21kraF3gtobpQxUn3F3PfgVnINzpLGaNbvEdAeOsBVVd4t6g1qwfkO1BbBisOvkpl11UCbzWMQOILjfLx2KHD",
+      "fkmaHWTTUsaYWXOzDXAeiXlfT6lYUA0tr549j726Ap5CuN6l0F+CW0l7w9oceLQmeOhQ9uOgpcYr/6qHyiBVqKJf",
+      "AL+y5t+4BNGFRC4BvRdrptk6DykWWTPt7rAxzzZTPCVtvGtIV4iBDTUS4lgLWoWKIql0WchXdIVMRG+IXerDE/4a",
+      "frsIDqYP3vnwWbIoXeerj5MTCbxTb9jPt+39yx+8Rz6mxEtFVqTr/Akeq/fJM/V2YpO61PJRicmJd3kruJM+PJHe",
+      "BQfWVXIrXSVr0xVyYLGl+NwHLzp31XX7zJvOlOQMUeK2+vBZewd8WI/oKROP1DVnnMJvaN9x9sE7/FecXuKeupYY",
+      "sk4mDqgL3hvgy3pHjF/4BFuIb3mbrS3B8oS7PWI9B4ap9/1537Qnv8DvXo3fnN9JfFn4Hlip2vui9e+x19VmMYqR",
+      "QYx3fpx98Tb/5nfttUfwCpmoNCJvk/tLHFJvpue47KMWo/U4+a9ejHHzz13NrnwtnpqcW3wXbF7ip7L7vUSOquvO",
+      "OAYurHc++GG6x3WO6CVv73voU2e0wni866MfrGRXxT+GsbQ+xbixD1L/vcf7XiZ/2A/Jn4U+ORX3BZ8Z2uIjJU6y",
+      "92PmWAvBEvasXU1j+eyHjzl72An75gle400yrF0gs9jJdL0LH/xF6g22hU8SM+KCPTl4zZ7mGF3AtXyUj/Np43Oa",
+      "Z9f5u7N62Zi/o1krdjP2+1X99uF3fG68w3l0iXMXHGRsH9nKnkmsZRjbd/E0ad6/w3Zr7n7X2nTSrnoRLFo3z9x8",
+      "/aMnb76Ck8JZwfRTHGLXwAoldinxfpGF6+TNs2TWeuqjJ8C0ZZ8TH1awjMV3r9irr5Cv6mG99tGJm5f8G9ecj+sc",
+      "mMvIIPUoT6wz+M3+PWGtAlvX6+QPwzfeJPcUmLXIZmXvvmX3f8p+c5Ywu7I9B65i93kLrFrkKCOX2c3r1oIz+JZ9",
+      "4zRfA6+VnhWcYedTbzzl7XvDP3fi5mX7rz0D23EycaqR/4yf/2nwscWz8Wm838guJtayR8RrhiuBSY3Phh56nc/z",
+      "E3J+vYG2qE/BiGavgSHM+8Ce9wS5tx6z755ka8TQhc9dZk+etB56A0/EfiALnL3PpxGTGBnbToPbLI0CPneJXGIn",
+      "wWQG1jH2Pe74pPjMwI7mn8PdzqonfKStpX43tsaZzbzvnZPutTTGL2NmgDUuWM78Kuc5lpx/N1/15z2hUSSj2uvW",
+      "9pP2/K/dfAs9jJlorXmU4/aWva4Zpj7XTD5LprM3Me7qe/vU686U9xZmTHP75Ei5DlakWUmNMEO4twUtzK/Xa/6q",
+      "zmUC30LlWli4njvdnTYLlirGYPyL5MtMN+GneLGqv10PB0SneI6NsBiEZLcAyKqIK9rsls3GYqoqR1mEpxqXFpQG",
+      "pyeJmJmnuz35H6i1asQgMyP7GxTJbrPR+xJNV2d5TwvwqURCAM/BAT4C4qB21aO7IudxORz3uw94RJOwpoCGkEd4",
+      "y73IauR6ybPjYW/W4RebeAqmQxphenaDaplOCFMyKFajyW/X3dVGsto8ezP/pfu/+E1ybH0zWUmjSsm7JZBpt5me",
+      "xaU2W7JhlpJ1F9yumZm7o2xSejGCSiLctA9J5cXVQUIySn+5UObdXFSY9fs7ItVg0xGW+d+qElZ5Iiqpulsbg5GT",
+      "HAWDDMIOvdFiM94CtFGJH+ByJvexOopmffAyWfdtlsdUv7e/01gjHtIn7miHO7FM9cDe76QyxdJCSDYtjzYY4Vup",
+      "h91hldiuhF/jPMNIRZ7RI1h11QAw0njGL8Vam5kdydNpkSLdqHijUpSYyBAadp66Onh6ASfo/i/tlGtj4IsM9rIq",
+      "GQXPIV/CPlOcNLz+NVxRYUPzvw+srTMfMVJo2J25e21yQRl5MJxtzKmDB09UTF8e20olmSwnxCChQknBamnX2o2X",
+      "WmgRIysqeawpGcoQWt3fpqNpDd41v64pPruLZjg9rd4dFRTJGFfotN5hrSAzO/VYGflWqSv5qwh8aJG1wQWFI+jk",
+      "hiIIy3cDltOspFhlAWV5X2R3tGsoeKtsZc23ACABTYXQTDjAxlOQTHk7Kowd1Z8UigN1U5ypkPCSYo8DwgOQcrmX",
+      "MhEF8kZLLcC13XfsOpTJxiWiQoYbSBFkbijn6AuNyEiSAlXhzEExzuNqqMRDUl6+dOIb7E2oLWgTrT+a7G6TfSBf",
+      "94GVTCtnB3rfNpYeamMHgBP0MRMJpqwZGxAakSCnr9hkqRHXsG27SDgnh4RhekpLwhP4hBD4GHcrFW8SktIMV/d3",
+      "FpZaeKOnOIKkxWeqe6rIrC8tpARfyCdif6jJRqW6ZRYHkg4OB9Wq5w48X1AVEqlmMHBeB9p9qAVeH9bSv6sOtPtO",
+      "UrAETJmxb1Y/KqrHQFuqmy1mWwg2+teT7k6ys3fPnt9GDMU5L5ZayAPLPDHK+zu75hORUFrzg/6X+5GhKkKwD7kJ",
+      "ZyVCAHoo/I7KDbPEgiJn5HrqlcNbwBTNofYYD1g65688dspyFtzZifJJGe9249rbRv8LSeXwCrsWbZFqsidCEGgc",
+      "gvkN0u59B5AiYgSkc1/bZ0KFd5ZbnD6Dry7fhC84vuG3UrxlcevYYuFnZ8jgIdLouRTGczedH6Lb5gUKB9Apm98M",
+      "PGS9tPE/x7B0SVexqj5zGoGVSVt90NaDYgsqIvl/VASDisdtAZKGCFu5+t/GtR+siocxuEvForFQi8Kf2K/foLQG",
+      "sGT74gAogEZCJBqImKqt1ehyUwCiB6iWLrY18t4kIH7UnHECJeT6fOLE600OZZv5qAjORy+cmzB2yop8QA1dloxP",
+      "D6xjSRC6xOwc0a1QDKGjw8idYb3ZXzhBMFie3OW2qVgjQuPOaFOScoe2T4h5IBaaUJEFhF4UnG5CLVQMGd4l0oQD",
+      "NR/ZOFL2rBLgmXydZYp7RoLeDCKb0mD0G0AdSmqjAgitubYQo9gabtbhCl2hzZ+qFdbUwOs0A96UTVfKACXHodIJ",
+      "xhyicllCH5o/hOxQLJ39IAZSdPWhw18OnSSS3wyGAMm16axC7CJkE3HBLpKU2keDQI0Vy5yW+xLV4SwmHLvEbGVH",
+      "jcdOIAqhhQeaENqwi0VBNNnCKmGW2rgwqB3dGGmPuhmPTWNy7ZwJEZolhwUf0bm5VWvfAWzLE3Mhmwn6mEAoUCzO",
+      "GTxoEPUFPxRZoXKgRHMJdDUomnLCQbizNcrKIgGRgiMVR12ChzbOxUFen2SyNqEaZ1e4W0JfWE2RjWdqTJSgdW8i",
+      "RhTBXYNupzcJXTCkSeEPlMRVrvn+jvnr8D372oZKHQQ2C0hYE8qttt5CvMcGlstfRlmzgaWjEvdSVKUgAWKSjC+H",
+      "phiWNEGKzEp1WpgxMQXYQJt9pNDT12yui/pvo2rR24XT4yL/MOCJz3wvOQ6i6VR8FRuuQKvI7jqlmjVvQ9YkODbs",
+      "KD/kgnSdsO+sVf2U423BkpwwXmwxM5PZk4kytT17llS7cOc2IWuS6rK7dgok0Cs7vr4OmcdaT0FZNofzSfQJi4aZ",
+      "15rvHGxPp6iNsadQoorT895xMiJxSCFVYX+2h+UXsKP7B9x6xV+b9bEg8lipRkcrkWeE0BumRiKa7iWXdhtGTIBA",
+      "I0FAtK2fWdvVwh1H7ij+C1gBnKyVkB4um/7qRKg7cgXa1xwihvXbbe31NqFfhBNkDZ1PbAMFiSdkShxojSfsUa7/",
+      "ExArniJkpQaWjPum+CnmWtcnSl2snfdPRQS8OK8JNtDayTJ043JlBWeD0tLrERFoUo6oaL3xItRQw04VPpP5eZmL",
+      "Afbm8RVn8N4Q8bav3d1uushWueyqNnpOFMgEk7do6JYCNzEOgKBqLcY8Azo3WpDk5YCZRKjbStXW59ldv3jvEWnA",
+      "HWitbRjQbq3cmUIGc/QAaVAm3V/cC9NwhRlhzRIUjm2QrGWDtlhUY7nzWgm1eC/NWwEiATvxjkqomb6I/WgOt8hK",
+      "wg09Q2+rkVgLO4IOtfZkoAlJwwN9xC52OWxhnvBLfvd2VsvXFG1dKfc+na6aUcypJsob2vckuqjy+iMyyhTy0fhA",
+      "DiHaUBachG5I7daU1dpIaIqVSRrjKDjDCjfHfrQbRKhJQs6MC7d0sQiUvq5REzhorXiccwAJlF2FQ+yWYiMmeQBq",
+      "ToQuwJRrDc65pYV0slbyz+lWpx3mdw+1/kVbIdrQB9jNPN18kSIjIdFFKtdktamUicdXaGqDQQqAZBlwWaWj7T9R",
+      "h8NbaOm5FCbGOxGjo5TYSfasEV4PB/ldMNwJSx8kzzKmbfUSB0DRtiidhGETqCdFOIqSGEP739ZWnZj5e9BUDQXn",
+      "Fda8smUkFOLMOKp6AnbAZmXmp1SLj0RNiDkECTrfHGldowDRkaHHK1KREk6zpK3vbKL4CDnvMnmLdiJiYpHIRxrK",
+      "kExtIaG/n7BxdT/x7lddx0HCUdFPzp1U9UcYG7kt7Lr3ModMGyXohDMsGIz0xjkYbdK25YzBOshyuFR0GuV1D8Hm",
+      "knY29nXnxSSesVs40oigNa0T0Nw1gobIOeG43U+GCupukzvK6zJHye7jksYyACK7oIkG3kEW6bF1ZIEU8WYQpZrN",
+      "dShVBM21EMRmRDojOm42U8MISXG5speCmmUv5YjNjSJ3kk1nTiOUoj+oOUmHzUYyqU0UZXFss9dv9g3W95vdksrc",
+      "Uy38sdHBVGvoJOLsNqAUQdMIwCfLqQhKblHcMyHCgT3VmuM+CruTFLRloDrIf7tZ+TaoqBpPnLZID8RcsGCw0zOG",
+      "p/6l2dzw4MKB4zCkNlSx2Jbyz8lRJ4bH2vBgVW1pjKPSucEGWFADvdFMhiZI56A78TZeoZNpo8mAK0GYi47BxZIS",
+      "8oxRMQ+nQS7TGgTyQEyNUJSlKcGJyBpr7wey+gM+Qo7bUCH/bx3qHKjIblAWQmsQaCR2rmIB6C1BHnqTO9ucxM62",
+      "/MWH0KbD3HJrcO5paypwW6dBdOg+xigqGdzRdfqc0B+fAjoCQQsmeQcQeilHs69vJ8YiKQKX6IAWoDEnratAorL7",
+      "sLYG8AQws8xDE4yLBgUPd8HGvGQcEyZEE9AlhGoOqDif6tKKQxHfH7HG1AtUE3ctqgy0VdjOrWdjLL1e09mKYLtt",
+      "CmuqKCpt4o8UsNo5s0Nu984Z9K+fZGsC1edqudheuS5o8HmNDtf8oEi2t0IR7LOj8n5xSAwTEJI+jRITQ2rjem6m",
+      "CK5AcjM28oPIYkiWwLYio1htz6ygzcNCCfd5VxanKUjQOOg7Csu93yVqK6iCo2XQ2BfQUPAQBPObncFQOqxXhvV4",
+      "kxXyOupqZ0i1JQ1WUd9T2wJYxh+Am4M+97AK9CkNSD1rSGJjEwMRoG+vcOIVcQnGjLrlPaW+yXryh8xZpqoyJq1i",
+      "WHZtH/Xd3XKSWP1ROKkDEui7sXTgweXRpszkk2kdN94YIMKBIRdcO3Hju1YE2d25BUn9Q14Axo/AW8faD/r3YgV8",
+      "GScRYGSqwAxdV+s+8EQhb2J+gSYtFY7Ds9QJGSeZTl7GB8oi8Wajf70NiWe0HnlxAfnPyZtHUwhT3adBoB8ZxiL1",
+      "Rrt42bKkuKPDx1GLAei2z97fes3S7PDVkrDuR8EWus7q+JWJusZh+w4/dWYuRxFvoRDJHj7q/V29Y6TiG96KZOC9",
+      "Nqo2z6WnwkGnnIYxEr5YoWIV+KaE+XH9fHX+cHAkTKExQQ7ci0zbWksIgO/4OZ5kOAC3LzZAYEpEKVXbu+Te9KgM",
+      "M406BAdrwrS6oeWxldFgr3XBnbapAq0pFxXGaWI/Q1bZa0AL7WCad2RPVXrHLw+fLxSESRJbBem7G4Xcjbrdu8Qy",
+      "VsVuv1FvcV16LNMDgsqkht0r3DEpDJX6tt/shKR+NmcJu5RbVJEwuxvaaVV8GBsTRrMXEaDERYNJ626CnV3oVPiv",
+      "ELNIhXGlR384Qg4HVexVEeS6H1zVo+5y3y2nWtTTJC8GjWJi8aEHyOxLyjStjPoQJfeOCgQ1NokNGVRMgyk9zIi3",
+      "rDds0KDlbWeJh8jusV3QX01llDiEGyxLkNLe2YZOQokci6EN9bQMM3OufTD0heMWFgk0lSpKsXjls3jk1H3gMB/U",
+      "lgULz4WLk8zObdA3LRA8ZvXCGs5gFG248DXGonXwwP3T936QrSIXrcXHt5xBZA/1Eg5EDX1yLccJu2OH112pfKuI",
+      "WjIPhJHM1bwd8fHZ3R6I3SixZfYnLZfDXAixjKE7sxURARQ3uWYIGGZ9CNysa6aqIEBs86CHFFGvjxB8r17Woiqg",
+      "NU5jhPprXcnjfg0GliOyWTzdRgRSGBcnjuhUyRzcxA6ONeHjBjs8ppyOWo68bB3OXY9XYbIqbCIqYAEwpEexSgN6",
+      "KJkwVaQtt24SrX/92jJWzYWyTYFJW4b00ah1MpngSMWmYZ+yxqU6iO0/hWxtWKrkQx5uLf6W32nOqzSEiw6up8ZJ",
+      "2Onlk4Cf+5kK8PkOTXcvXlHxGSZoVH2gz1wEysyDBBPB6e/aGGBwwPzmiuUiO8b4Vnr4mkaO2yVYTm6tiJ6G642V",
+      "06IpcCMfpNVtny6wUIM0kRP3UHGuiTuXWS/hIBLlrafV4Yf7EzvRPSxi8Uy4aRlkZvNcsWRA6LsciptfkYugQSLj",
+      "VEsSrMBwdPveffwAocm9RD2LSi7Fz2yWwzD2EfKngOmzeWsqOe1yX1NzjrQRLakz0Hg63Pr+wXHzheKbjEcVDMCE",
+      "CcRkyFYEKEQzw20w6kLoGqWCi1AFkn0GyZGeYsVwX0hCoeqfPinwuWDMgCQnuz9Jf1BEYs4ZWRolOBREtVOEuyWU",
+      "7SuWPWyidn/BzTo47e4wwYFVOKSRoklwmszRkJVLw88qSMFp1Jf6W7QX6iNpt1ftFKc9gFGx9IrE373ZhvB9B4fv",
+      "39LMzZGeHnk2M7fStj3vPBBNHnGp+zsyiNCordpxsm4shiY5TCnhhdhNSh26Ep+o07cjZ+mrkF2icwW/7siIwiCr",
+      "wCLdrtsaEguidUF9C+6TiMk2WC0enWZloHYk2IgD7RwesURZY3tYzh/0Cg1zj/wWUsUpe04PwvCNIi64m23VCPiU",
+      "rbyWQvNSiivHfboE3Fa2fd9xYA3WZKpMkmfpNlfKlhwdOOMGEyfyVmHhtat7jj3qNBp9Gnsuz+B79bwX8mJOJJjj",
+      "6iTRytv2NihA16M0GNO9yg+loBnXRc+XU+IhUR4dcZYB6MkPiZwmcmob4KQtYpdnfLkCp12jfYfJYqcd5L6+ns7N",
+      "I23ynI1UnNSLcilPmkz3OTfHvyYhpImXQzc9m6r9v3oGRPSpKqYJorhuqe5TiUdL2tvyRCLlssoA0Y1zpeavl8n0",
+      "o5qlJOxCgunqB2iHt/UnTRTcoI6QIgo8FgEGKTdrEpJVdnWhQ0JBindz0z1IGXmLtgInFeNYI+GxIp7dLbtuWuIT",
+      "q2DO1S0Sca/tNmOXl2/gjoKnl/S9qTamEd3PqtecjLt1qUIewgXgGor7kR+wVd41W+iBEtzrUVfUDDxXyv71ZCpo",
+      "UphqXrNnQ5XbUM1B5NisITxx8EeyJ+FncQDo3WqEBLgFJw9LkRxzo8gWf+3bFrCexoKkNnYTkIsF/TejGaJ92Ncp",
+      "9iWGsAzh2yBcHPpYIbWAHWVhIRE1zXxZmrDCEgXe0X4Hb52nKvYl4U5zjboV2NV3M5zGHTO4zDKAafSglHNbfMFC",
+      "Fm504kwUIM4WGT4oa/9CC8BarRYWjh49Or8+GKz3XGHnoZAVHoS1nGWxFXseel0kHT5FGZXZrNTVwiEBbLtv7++Z",
+      "fSlxxQmI86JBGdCvzV4S59hm81zxR1hUkFN42/b+5+yaoVFiJ2KW/+5+YU/7md0ZporHM7JeKzZeyy0IBlI7a95B",
+      "tyX6jtt23TVmMg2ewhxxEdsekkr53/2IogyGfgJ1QfTtPpjQFaGXqrphDrcdWF5d31DWqoDoCWrv24D1/VW/30x6",
+      "29YB5YHWLJ5bwig7Jx+QwwsOHQZLStD8Ay1iS6dnP8sWINObZIi0GYcfCWid0J5lz9yIA0H2leGYmhQIr8WJFUm8",
+      "/Vkk0CWtpVM83x11oaRjDW4ZJMvewUE78LfNZTCcUCMFai2l0WHWtY3IQJFNFnXcWxYtq8xSW7LaudMOr1XKXdel",
+      "0B0CWmZou678LYH0Ez+oPeMd9hlvdJP121ISU7MxTTLfOHRgiK4p2tJyhiGq0hotcSrPfvXwLvjR/S79m1kHGymf",
+      "OF9kDkagBVarToYyEpadaYLFg4wdHqWnAZBsRPeSdU6Xxn0TiK1l3lKV9c9ilup/YGxmcFAijtwQs/mRp3cOgTdA",
+      "hsVchs7/HeeVdPw4edQV5GmKJKU97LTcvAmE7kh4lAJgPvurqpZPdbzWn9gfPOnQshcDK7kJPeyQO9/c8n2VRRP7",
+      "O/ZVMz6jypZ2v6OdGJGQ4NFwXC0eZrX2wsKd91mPY1xcbEU8UkqqIUwce0WGHi0Sy5vNn4NZGxJ3CbjtfuuPIC23",
+      "9l93717+Vhv/n0muB5XcE2hwziWl5Cl7LbnSzkzNcnBkWyoqOBv0CUqzwocmkHbcb5lBKfUaoibBuWh9kp0jRZIy",
+      "L5id7ce4Z07+QmAlxHaLoKzziYmeSohDnBeutrOUZZm/OKaFK7d0m4DRHkK7HsCN1INcSVtuczPzfeRD6Zu0gH1y",
+      "BTq6dCbHdiq0ZJvD1rEiS1HsTerk9rxZvcveTQDg0pi25yNhM+6LrzMcqLizeQE4CyStG3U+1v4vJSbvTtHHMqaD",
+      "0jQtzHC1uj1U1O3zy1k0MTumZrJhLBILWJJo0e6CzSzQ/dlaMEentxb7c2YMF3ErQnGDLy7LfUyU2ImiBfMtR3CB",
+      "eoS9wlEXS6/tRcc2e/t0BrWsGmC1RfpSki2JPJWOVJUGLAfPJtFte8Iv2fHWuAN+f7bPo/4jyC0Qw9rNm+wbZkfH",
+      "LneFuL7g0tp2izmMrGaiaIHcH0TJCRNoisSBI34eet8LWeShoIryRt21SbBoQ2rXXyEOV3udmLCSfjfGBQF8d0jx",
+      "/VD23ZFVR7mabSkmcgGRqNQJcIOixA2F7OukOio1H1sn9w2gDs6pNJdVejUzO1qf1/byFOqpWugcqRiD5HfWXN6C",
+      "Goa75jtFy1eyle0z+Hw8Msfd8+I72nTOzEzm2COQ1gsOuRYoWdztWY274PW2Z0STwey1r6atGINxG4Z5QXDOYJwt",
+      "UiiZ09RDHd9oYVD7soBikYW2i6TcKrRVb+DFIaGPXOXxWXv9QNGCWzNocJGhFbpCban9y3lJizJ1jK+utDl5IsuF",
+      "76li3JlfjSAzQzbdbtVGMdoKtbasp+wdhsTMqPgqxFLsycP66HpYmnfvU7ZVuRBy+ESSuw1rFll5YHOoT63MOeZs",
+      "29uW9Wbr74BShNOf8JkUHAKt9CD8ha0sF8VNrnf7eAXfyQ7ILMhXyOPnUuoO26iuqGus+T0SpBSJ1u1QZgvRiPN9",
+      "L3On2klbQMg3jddwY2x/SfqYvlucX/554rwY7BlqAmVx3yIYzciYxOsQptKwn73N5bBKCUD8HoDzZpNymzovCpUr",
+      "AQJPIUtHvgJ9FzBlG9CEL3f4AWEQXCNe/UngfyX2j8OkqsTOX/ZbT2bnTEDzHNaS1Ktxwfs8E5QW7xa2V7gW2odb",
+      "xjqIGJYg/B83nuYLvBQ4F+PMZa7WnzcyRggV6azRv23cr1OIF2mL66g/KFLebVhFiWhvEvse5upyhphnMs1zcvxi",
+      "6DBmNljkMJRFS0BAduYhbJu1AMTUZVCIDm9RG9LTVnzhYOZ3ZEkFrzXUasZtuKeTj9mNQ4Y/BTCy/fdY1KjiubLt",
+      "qsjOMuXpnH0WdkbhuSOBeRQCJgebl6ukvLvOGsZOJSzo+SumLomraZCQ9XofbhNJqzTAQp5ymM38uEOjliwQGdE4",
+      "f61ZXOKww5V7EsL4QOaDO9KQ0zgr22syG6YvbjG1M0kJgzmKvrCnMktWVPEwMWsjcQQd1VpfGfS6i4lbTqqayPcS",
+      "LpQKlbCnteV1tbQmFPGgtGzxtXJYHDo04gohuWoT6zhD73NbLp1ljzn8FqHO+RyhS667hpHfItYg+rq1pVcmwhQp",
+      "+n0wxVIkzAprohu+iZ8FWf69AEN04Q7N/W3AOdv3Bn3PlBMgk8E3WTMTe4u8ZeFeApjoqDqiNrtZCaPOL1eZV9h3",
+      "K2op/Gxl37i9TbRWVssetajcNJmZ8h0iAz84S7UqwpI4JtaRzb7YG5ezwylVPHl9pZfINlk5fdPJYjs6H4kXsH21",
+      "9VlCB4IxB+bQCk7YATZ5N6KdDa4zGmx1Eis4ka8JCZ0jkncGjyuSDW63EK6g7DXzBo0riIwkQp0qexppGkY/u/AI",
+      "8gHqTy+Oamv6uB96KSB9NI97qFRYfhYaEEDKVC9kV9Ne4XV7OOur4MGT1m7YsUQQl0OKacbewTPUF0GS/WVGMBVr",
+      "Nswh+9o0fwokZl9erVo/EnmA4F/DXAo/BmtTQHbNHCYUjoY/G3W+jjH262flXr5PSiqDh06Cb7VBq8ztnsHnSUEq",
+      "rlmqtGeJF25JDbTi4Ozs6Sy3nPNikpPePAsApEhL/9cewGkOHJgVyacmEPjBld3Hrh6s6sgQrsrawKJK2WOWHVQp",
+      "CYv1Fnn7OmPBD4ycP+8o1g7sVSSB4C9kAP0ZXV0xhEGIJdsuBISlxwf30zNKaCJXKWVfpTN3Lhj9uI4a4OckS9Fk",
+      "cZ4o/58wN2qHraeZQ54W5kgnWTDUJyGpWM5DMPGMWULdZOdUYn3A1uFrFgFowqloMkBMp5fmvO1vLG5GjLG1EggL",
+      "39RBTtn0hMg5Sk13rY3AaABd5HhbFqK3+zDYWMcpt+p9y8WfhLxRR0N78iu0S6PiMecFlh6TKzNgD0Z0uFLpZMri",
+      "BvzJK31cmJY2AfqtZJ7fy8H9+lpfkONY9zWutmauaiO0h3YwZR512GXb8JqqTGR8aI/V3h702zjyvFLCIyhtTDKz",
+      "M4cMz/jBHsj0CctZQ22gs/wVWPTFnZuAdkc+XntLEdnFuWQXMRtfJIpk9A+3kXqtms3KnJezB87gh0WVIP5mk5jp",
+      "E/t5qrzS3ujF2/0B9xwsGtlGseNUycGx8TrUgtzmVrL4j3TqtZ6TrjSsSoGauJ9sUjHCc63al1R5uBqeSW8CYhUW",
+      "9CGGhlFxOPd2varetI6ZzQLZLXsz8hRu52DDjbhNyXxN6hauWX+yqEEjbtdrVDjPh5rjR1H5MdhMVSIobAj/16uY",
+      "/CxLe8g89c5Go+D8hh3eCK2QfNW5KPfBuDjkmvXQYTsxzhMK46rRLciSwH1DMwJrQPukelKH+KjncYBR4CzCrm/a",
+      "sgd2Qct2UVNOurX9ErhXMvduK7b1Tk1FvyAkyNNarvuJLkJx+wTrUgHWyNe7g6Csy+zpVAPrWCIHuUzirJbygqq3",
+      "j9gi0t6lsz+qTX2fGUectiSgy21vooJrgqfTodD2g9lZTZXgbaDCRlx64NrNkWuw0122MTgX0D+t33TYk9gTVXhX",
+      "guSuVBn3z96F/+N/b37nm/b//7CwXu36BjyBo0X1rUW3SXiWoyAr8WQHogTC3xuDVEyTylvIAFymOTyE6r1KCJsd",
+      "WQFQqk5P9o/2ooxHCSzRnsf5g11VltP54AXy610i095LHx7/4H2yE14lQ93/+Pt7wS8GRq5Pz738i59+7+Or5z59",
+      "/nGpQvvv1x5Ov3/6wpO/+LPvQnz52asfX7/+6YU//vR7739y/YVf/OD9Xzz+9CdvvWn/+/mp9z5+54cfX33742tP",
+      "fvqnz3z87gs/v/T2z99+0T7583PPf3rpuc9ee9TXHdPg1hNDwQxCWwUggtWBx+uUKrctknGwLrVxBwEa8HwcPxNM",
+      "mGUXNZS4/o2XJMocrw8aKdMxugzloZXygZIiy0KBl0rWT6DBrOsDGWCfuKdeGdIepuqwmdpiYnDezTGM18BJRKG4",
+      "c3k2daT6G/JggmGzfcYykBm4jgSD0IzuQHHaeC7wreh32xfT77hY5M4qyN1tVg5XiHjdIEeJhPSzwCEpgg+0xUrI",
+      "j5Zk7gNnIBj6fkRmw4fB/NfyQgbv5odPi00S7H/OxdjydoJd8jhZH8nKKPZJu8Jl8m8GW2GwcYKRMd3rw2cxhzk7",
+      "L+bXcd5Ocg2KjTLuzb/f/eBdclW+yZl/BX8l5kKwFaZr2qdwxTfIU3ktu1fGjUh+xavkFNU9gxPzcrr+ZbIjBrfl",
+      "Vb5HZk3ru78k66ZYDhNPpn267cNHwHNJzsi37XnxLGA0fRKsoc7YeSnjCr3kPXwBDJ1gF/U+AQdly2552Z6e/WPj",
+      "En0D9saL6Fd7oredefECWUy/bc9+0V5zBtAPLvEq79v3vp1xSF7Onv0C+0nMnW87iyi5J8li+ra37k3xsHLE9Jmr",
+      "fKY3nEcVMwBPRh5P8kGKLfNdu8N1tuCqX8fHEcyVZJa0e9sT4u/H2QLMz9S2D37czlvxYHJuvWM/T/isuZZ9F8/y",
+      "Pvk33wPzJUfxCjhlOQP55Pbd98lpeoH9o/aKm/V9zXUbr6uJKRbvvu88tO/wOfwzU8/yXjYWV3U/zrn32jnMO2sG",
+      "XI31RX7OEx+8lK2dd8QRCy7RxKJ6ifPoXTwfn7ZdL5fR1zbCXF8ZB+jlliPU2vIIP33RWvGseFR9TYnhVuP7LtcA",
+      "5u13bOa+y3Vz3H57x/l3n8jbz/V4wVfgNY7/BbLEnuB1cN+37F7tHMY4tuso8aFq1rG/sf/8uXPZWv9k2twnqMJ8",
+      "IbSkT7r+uDTQITkd0tIuIS2NbPvAM3zrufjlvVDHts+81EqQt9eRkPSr2TXPhHw5Zabx+gm+ci7UtE9l7TlOifb3",
+      "2s/j38tt2yDqndS6dd9rVPc+Hdd/Lj5zNvTQk0Q1BcT983qKF1zBXNd06fYX23u195WE95P85Tl+/vVMFPsqb6fW",
+      "6rne4r+P8bmeC1Xu90Oa/AobJiH4aDZe/wE758XpZzzePpe0s11zPPXScyGA/lpIvZ/M9OWlO6+HPc/7/kV8S/3/",
+      "cvRJel4b2Xd43/SMJ+IzL/JBrlA1/pkQ6U5j/UKM4Ono27jmK09kguZn4u5prI+HIPjp0Cg/Ec9+JsbouGvEe1/F",
+      "OOL1s7z+j3jZ1OdqyQW2860Y8RN8MX3m2yHdfnFqPni/XWPXnfJffF2kOXA8nlrC7q/GvV7gk56AXry3/2powV9t",
+      "HznNW78C+x+ffyHrq8uxgq7ysqejP0+7wH3bZvXVD0JC/WL7XN6rx9mex+PzbB6ufIptvsCePMFeutiOna+j90JK",
+      "/rFs37gcr59u57D6DXPsbHzlWnxen7ka6/Qam3eKn9R80/x/MfrkVAzKlZgDavMVb7DGvZ2rqQ8fj/X+BK92Jfrk",
+      "1Wx/OJ49Y7bn+BNFl+K+qT0XqFaf9hneF1c7n82fND+Pxyy9zLcoZO/j9Xw2x07GnHmFN01rTWvh+en98zi/pbV2",
+      "ns/+flxH81+b/HPTe/61+Myr2ZzRxL6Y7QM/jT45Gzv5Kd+j8JXz0bDv84nS9S/ECnqn7Qe89Vi8dSZG/HSMAlui",
+      "bmnX+/NTe0U7uLHWfJ5f9odN+4P/qbHQ3Hua1+e08V36QnvG+fOmfj7JP6/yM2ejkc/6M/pnrsYAXcye8fH493le",
+      "4TJffys7Ky/4d7Fv6Lx7JY072aLBi/0UGZLfJJ/0I4n1+dLNt4Kx+aOHwS790Um+foWMyC1Xs5iUT968SDbvxAOe",
+      "GJZfyziWX7crvA5ecPBpBzM4Xp3iEH9UzNi430cn/F7hAZNVmrzXev0s2uRs0xecdRy/n8Nn/ZrnPjrBK6k9b5D3",
+      "Oq75mr13EozUdp2r/nkwdD/GT4Hf+vHgKCeL9MuJm/yNmz/mU4Br/HR23yfIz822OcO5GKkvkbVbjN/g5j6J52ef",
+      "BjP2G+Q3f0x84+KuJo/4JfJP6/VHyGJ+xvvtMT7laTFW3zyD58d1+OoV8qU/xdfBYn4GfZC+S45u5+s+zW+87tcX",
+      "b7nag2u/5c943ubBUzcv8YpvJL7un2b/XiaDtvd5y3VuM6Ptk/PgQ/dxP+vs2i13/OPxehpT8Htfw9yLsYhnvPkq",
+      "WqN+sKs647j112NkLg927xgXzLw3fP68br89wStj/l+3v8CTfpktiLlxmozvZ7xtV/E644qI/MFtb+VEEfnfn8HM",
+      "xA3u2FNSaqyPhx697LfvkG46wsokH0Y13mBzdheTIeJrmQDFg8ieRLRW6+HqeNMjjvM5NjjH5DdLtyAx29x2RmYF",
+      "nAd4EDxn2/IpBZ11J4m8B5cmK9C3Iak7b/90gkh0qFR70CciHHYv8jurG2PQnqjYwjO/+5n8i8wMg+wRht0aQtba",
+      "ExoZBuLzawFCZ6XAXRnqtdhUFqrsV/YoxLknYHAIjDvhTxZMQZ6kIxBZh6FniSrt7yCymZjODo+3kB4sDkKTK4cW",
+      "F62uaW8ydx8D3g6T3Tq22Da8pfqrq+bOfO7Mjwb3ICt70LpstkUgkVmghdc5TbIH/e/KQCRzHslW0STGIdF9O0Z5",
+      "DSwc4AlvyEIC5ed7UV+IKF6/KpFNHJaixRhmuTgJ3aXkYyHFPu8qxraDTM1JbIlFcZrBDaFO2rpt0ntkGKCUw2Yq",
+      "wvlg55HOYNY4UkGHbe7eBRY7wE1zvElLKMMyR1yINZ2A+SRmeGtOkNFwhTm4QZH2xNbrUAqHDSeqa+GwKVqdhGVn",
+      "c5j1kQwKg6wX0xc2NVTs0CTi4cRFZ698EWlFsvKiPDFPmiKfss0cNapGW9r9/Z3FIitceGDctEUnXlziRGxjpgCU",
+      "1nPonlAdKHZsQQLCGWsLyHq0+AZTQJGOnMkD3EWOGg6egUrcFYFhsr52hQKJ2pct1krMAs5H7VxVntKw6TJU2oEE",
+      "60POS6fPJC7BMSIZf/nSgqQVYuvMqzSc7SdgkCzSWrHZ9SAZk4auzlqkynfcJyu97k1aWWZbC8y9iAtkOAUWWsyQ",
+      "oyAuTbR3vYnQa9/MoWzebo52wAKWcrzFIC9uaPn8pdtM2hP7zPq+hWO7mw17lqM2G3e39Shcp+KoZzblvgxBPuco",
+      "COFJMnxR1dLZOSrTJRY57bO8S4txRLI3R4zEVh1CsUOKWoJ9KMe4zbUJTfvoghNh87hLNHki9Aht854TdpSrQhm0",
+      "lMyA94gX3nPe/YyjMhVSkKoFqU58CryqG4NNxNUlA64C/lIg3jSjsCXl6M9G21nC1Yhrh0DBVCFJFHzVap43OVTv",
+      "870g/lFCUgydOumKDCPcKVo+i+WpRGoCDjn/UAxe1VWKzGFIh+xs2R2Aku1xr+/DK21wIhaDHDrh14n5DrBYUgM9",
+      "CLCEJqTgA8HpKXyKnXxJ7rfdYeuy7wQrEnV3iJP+yB+uaIvBbFuez8tMxMEevCKB08LQZ3UvO2cOBSEG4emEPBac",
+      "L1WOA513YWNJAPv6qaMTnSETs9Px3sxKJ6IA7FGBJBWEL7Go4sOZ5EVCIjeOvNLK8jLIjUFstxmetDfBHr+1FazC",
+      "ThjO04X7W8Lkm2lFTCo+tjSFPnbgt6rglQZVhvUIksVBoiJaa8q3IgvpEs68pBaviARC55STIhVVERGCiogZL4lI",
+      "kB9s3y07pkitnPOyplqcK/kmiv0gzbBtIskzt6Vk9jFxZDtVNlKzKY+t2qAoTIhimU3yT+N0DAhnWyLQKWKZidss",
+      "AWtsIhzId/8WtGct2JEXzmYsf71JXknaxDnJPYR4ZK9z7RaZ3k7R6sg452Ui9Snb2jdS6hBOwx5NG11Ar2VeTNcS",
+      "WHNEVIeTwU7FtlIAhHeTPjQhWYuW+BswdxKZJKaY9Iudx6/I8fAsXa5LHYetkHFG2VbAPhgNBg8WgfEJ7ijOnaxg",
+      "qDdZ8j2VP4IsW1snuGxjKhBgVaAE1T6REQiCQTQKWm3Ltdddz8f+yQt053LzuAke8YlqFXweOHsZBYMJgGw1PW21",
+      "3+HVik742dZyNUfIVupILhiAga7ddzCD480dmnZf/Dxlr2A4Q2LG6Yz8DMZMszvxPFwZmEkd9FezeQlohkbrFBm5",
+      "JwDhTd0k5qpE5+xQlCgZb4J+lAA4lVe11EMsGOLsycs2m9YS4gV9wo3NKMEhcQSrUMwMvRYTl2EDSTxO+jK6qWt1",
+      "b7MIhu3dqkJUgW+oJnBSRCGldorWKKkbF70PMj7XZMbe7oA1AcnGqCNZrajkCQhXy9jWiorYRRwrVhAFXofQsh/v",
+      "ZosFPtBZmbgiWyFeu9qOvBQR52nCimG/7tVetHp3BrQvDuTLOZHs42NOm6GTKVPkKkpWFlWp5CvmNfG3wTsDcz9I",
+      "BEQ+7AxSMFenbM9Us9qItkOsHEDzfbFlzxqstUTRxF5tVwl8FR1PACAReCqFtA7J69S2a7A+/f8U288JwkZ0JEQf",
+      "bGFESQT2kHTaUisnqYI0hVfT2yqhY1Zl7DJQ8mGrl/PK7cyBQnminyOofwn+PBa05UQDBZWRo/Q+zjmAHJuc1b6a",
+      "yQ8JWe7+Ryob8HrlFrqVyOeJLIxKBnGax3Sz+8xMzarEKkq2BqFc+YPciMEF1VpCACETcbzbp3NeCstyIM70phIT",
+      "7ZaLD6RiW5w/2YS1PbEKTXj360UjBEINovo8ppNvVdrDA1s8kw9J2ePWJTJaLJlUWtmSYcOMiFjAxMkkU4VPzuDQ",
+      "eDgJTGb9bsiPkBcGZWx+tNX9rHBoYVlwrChXzskbMnr2RqdC0H25365dLI+ebXqxHsS8udW07PRewqThx/6caNN7",
+      "9baqpHz2hgJIb3LXIMMKfyW3/TNiO9IatQeacJy+2KOW2gGBAel2Yvgwi5ZbaqsaqNoQCnMeJeBr6QzLn6PvNmoE",
+      "/xPJ0CRcX3rSsJLTruZ8oOKUyUtZSheueogreCGvsC3z+mKCtEKbJPQ7iDtGUYdcSGujK22VXXCPH0kQYrMY7cXt",
+      "OjZvB1fK3yR6MXz0ln4KG74L+TEs4gXKqnjMKpntsROU0vHSCZBt79ZsGWa9mGjJ1kg4WXJF5oSzTINVBGbTZrwq",
+      "cTQpcquG7kuKfvUGZfegWZBmDZO7vY0zi8JLPZXXsJQ9EV16JYoIl3DIEOWZSq6gbp55lMlKxXgx3huqIgHBJ3fL",
+      "XVW3PSRIhRWA1OR0kcO4yAr40Wf3R4EOQ0Duo3ShBF+gjucoMG2y+QJzGTU2DqJPYNHSNpIEW1/MajKW8rqHSaZm",
+      "hcOCCNqj1dAsypwcsvxqcHdgI0jbICq6g5yZrU7vwLIjkjv8IevcuhcOL3fYft9eRLkF/Mngrckfu1n20A/jqMF8",
+      "J+Psji8X9335SHHgniN3fsVJ4mV5sl6lWfj9xq63X0eoQ1VbqK1NwY08MBDA2zGVZ1om6N6kjchg70ucAYMmcxFs",
+      "VwI/12Zw4Tn1oKZ/zj/Tp7EQhkUL/VYpblQZN9ViXr3Y7sg2cRYzZYp98lyDgTXxu4j4r80Q+Pmis1w9699ZKa0X",
+      "yuJe25kn4/5g2DxoFt+Dmzde6emP/oQ/xeH11y+RxcvTEKtSigFnXUu+pTxIgoSi4fzDJRlbxbNyc6VeH3N13DHA",
+      "mQlt2NvmitvKrrTpPbhWb6JEhTkKMzlCsd05JDJ/IhIq8hH2OTbb/ZicEcRWwXJuRCQSK6ftXkOdg/d3cvIVPpb4",
+      "qN9hKQ/OLe+Hb/jbv3vgt79wl/1vaSo1Ej9tcph3sjCVBvrWrnxZzjcZNdDsgame2F/0zas4MByWExQZTMV6pk6c",
+      "xa8CGzwaUy5jMtdZzjkppu6+vP82zgzbO6vRbYWrT7mNPFfkwfulXp2xklDYMykXZpSi2KtHlFbyJ1L6QwJCnWJm",
+      "KoCeZFtLl3HbLFTZBiLOkKRIso5trfA8Gz3vD11MBStEJxG8/BnXPHlJE3FJdzI/FccuDuYpvEYjFY2JGklFgXbv",
+      "zvv+fpA6FVLCIEmlHwxIrsB4KhKdj0RikqjXVHyCFVTJiFEnp0rasq1cFqNia8eEd7zqvdTO1m1Ws7VH1tQKmFGM",
+      "rXHrdGpfx06fcQkWU6kV3ySxQUUtYlp/OcOD7Tx5OmJ3pgVn4357qylhV5tydWeWplISGVMv6h5cxUHfW9IU88wM",
+      "y8xSBbkkD8NmqNtYEiqgdy0WDzTzdbfYbzO+VVfYs+e3O1PbaaF6qIPmbA4AYmf0PIKTa7kxWkxlWPaO8nAI1HWt",
+      "oSmajTmSVFy2OHs2ffbMP9BkSycTeqV6F7e3yIyz2u5O7VuzR+cz/bFZmeyjLv4ZLqe4FaZSeSjP5c4VU1GTgw9V",
+      "dvaE1pynzv8AIk6DzTbrBBsFyT+aJHSsxYkXteOzUyEwMA+2ClkZP15KjkQtXJuaY9KLz3WbeuI25x+yHWhmCSzC",
+      "toCSv7o8dRnXTXSHZnYqRb5jagtbnsootdWVaGum2IejPi9PXhaxc8SGPDbne89qOVwhRZVtK91qZsoLjudkpmD3",
+      "wlTAONO1kxBkthMtTSVkw1GUesqR+r9ff99u/Yf1f3/78ZHCP40byb7wKFG57/N7plILU2mcJRqMzk5UdSO3D+uj",
+      "U0wdTjNTzm5RrZrl29SlqIFlzUakqmW7QH8uTfkzZGohr2wYZDLBERmt6ZeGJOZUtKFw/94T2Yopx+7msXQflc6U",
+      "4zoVfitcAsxHumnfSGTVu7GJA3uBiVhEbsEdCN9fAlQh9EbGtRO7InS29AKnW6q8dslWO1j7g1HrmGGitpWesKjN",
+      "6wOziYMGpKgZafLWzMSsS5z3xBu0GRs0NCO6c5+sFXw/kKeeikznx9zZdJLQ/1uaOpqLKXNGenLRHvoOie6AO6aX",
+      "e9cyfFNSu91RyHwSfoDq5LTepFy9TMao5Jgx3IFXGF8DdUsNZhsu8ixabdNjyg7ZObWKi0xpliGU2Ktx0Z1T69bV",
+      "nv00mUo2izttGDz61HhLiYksJAFXssi58DLRjxR7WImjxFe4Fm7upYH3I54UplnYVNrBYCXXaXttpRYQYclEsSkv",
+      "CaBQL4Xd6mwFFEVuGU/hboopX7JYnMIvZUwNXAEZ6Klp2aGIHgA8IAlZZ9ztNo1arjJabFM7eybdd+vZURdTE2bK",
+      "Lgc0yomi0ULy9lOKEnMw0sBiexpWPId9H2EPphz5H0IvLrnlUneMfgOLCicuo6b8XvJkM1K8vVvHMh4NjxY6nzfC",
+      "A6KY8HW7Y/oB8zgpNkjbi3oe6fEgn9zBJsQTVGM75eilALGCdhnPp7OAZPW0zs3k0b4UhRHXSx7OnWrmaHYKiSfY",
+      "CsttUWfbRtgkceqs3lhV5NhIQZx89TVVpP7UL3szNkHP86S+9spxDxs4bb67/ZnuoPd8m5edmUppZrKELuDBjB1T",
+      "L20dLfYyD8GkvHUizCcKRKlhz8X4kkagaN9KpkgFvqVWl4lCJAgjQdsWK+DrME9boEu5VY/KWLc7ZzK8UePMlEmi",
+      "hGiOsdKkx+695247fb5SkaKEecgEU2uwo3VDu52WVerPqYRJ04yHa1JISZZc4lIDcsAWIGN3q5Ov29nZevQpFR2U",
+      "85mhd2jKLg8vK+kWZMp9UhMKdnJGkr2Lq+4dreJ8rNsqQrsHp/wjnaI4zDBqXEpJ6m1qJq9m7Dr2ySmndWe9JpFr",
+      "Cl+tgS9augNBk1+nNHzCxXE03aK+z/tTc8Jp1QZtPgvxuK0qG/cDLVOF3WVmanuL0167APslnSuzU8t/CrDXTMvV",
+      "Stg6xC6UVYsdemE5n2jFFESS62g8BOgztDUSb86iW55ra2vfmpmfmd4oWkEZRi+T9ixSVFMTm4mXtC/RgkgBO/cU",
+      "wyNqdcXtKlOpAqa4W+zuVFNWMu1G6xHZ9uI/sUNvEMlDCd7kLvRURG23q4+1e0HkGTwD5wRjPBsDtyVGrSQIbndP",
+      "JHJilGmzsfZJ2eqB4aRWY7Lk/OjBgkeAYaMqsusyux4sNTnUwH7keIkiM5Zmds5Mxcil5pXkcRK8k7ti1k5bM23I",
+      "3WckUiiOdDjq4goy+F2ZxPee9poQYetM4S0y5doChy33rIjYu/Th/k5/0Ckk9BbSy4cOzZn9a+2iI4+2tFLAEYat",
+      "h5BvapOnHLEcrSgwa/I3SwYZAqFh/ZKpxSYSt2Ducunu4BZqk1w5m54d7Z7yrptWj8lzYGXSYSAaONHCDAYuQNP2",
+      "vvw2eQGZj8cfU2cjNo/Mymu9KAmmJaFysxRammzZZ0zaeVaVvloSeAx8aqZQk84rRrCc39RmgZ/MTfL/WjbQLKgI",
+      "yzg6XVp6gyIjTHNosq+VEE31ZVbkJ7qiMYH7yPycDaq8rko6WwL0VZH4ySctmj09EbZkSjxN7SFb8pVDCXTHjlvv",
+      "3sqbZ8eW9e4ULDAStG6fedbCF8VU8Hw1dgEl5Kbw+XMtRxYgf1P++9IUhtxW2Fbz4GAD3HjNgzbd81jCBz9C7b/Y",
+      "ND64htrl9q9k3Wc8C/WW/mJ1OuvRWef9HlkIogI/f+8a68jf9hr563lVur37F6pF/x+/BwaA9pofPv3BRXIMiAUh",
+      "+6S9/6xzL5BvgH9dV3W8V3nnd3jZWoB68KusT8+YF+yv9ppgI3h4igsgq4H/8DtkHQGfA655kXwHqjEHN8LD6Rrv",
+      "sg798dQrZJNgb7zLevg/ZXX7RVaSP+u98h5ZBq5O1e6DNeAyq9HfJafES1PPh0r9ZxIvw8Pkgnjzw0dwt5blAJ/0",
+      "yv4LXhl/nfX1aM+7vGu6A0Yp64nL/HmJte/+vfTeOx/8iJ9+m6wGF7wa7bGbZ26+/tGT6benokKIVVxXWMnl9VRt",
+      "dZuq5lId2xusO3qV1WRRcRd1Ri/bZ67YXy9NVXGpnurMzctZddJr+SfZGrumV1W9rGoqr3tCjd9Z+96j/t4J1kzp",
+      "KlduXkd1lz/Dw6gBs08+4d97g9Vjp6cq2aItqGCLtrx88zzr397wmq2Hswqyl6f+OsPnfQp1g/jroxNtrVbUgPn9",
+      "zrNi7C1dkz15xv695pVcT6EKzu+nerRzdpVr9l3VsD3qNWJngjXH+/OJrJ7tZdQhtnfPn8HudAb1a+m966oHhCia",
+      "2YMC1AwXkxCmTqJQevEDvzMd1c0khUkHKvmVKILBdocNzXOlyLl8sxXMW/qt7mCVnFQMPjqzp22JFbJES9MB46nM",
+      "nFm+01v5dHKnaQNh6xXSelMh3RmCSFYhTLtKqG2knuDnA7qo+GFKVuaJmyYiO94qj24o790pMmsvHS7g6RQocWb6",
+      "8ItLRXy8DSPQeZ4KbdMXzfy1XYtTruqU6d9Z3jWdhVuZyum0z7s6GDxY3xJBXPgW+uobsp337VnMNURAB+o65n6p",
+      "+elkB47ZzDuaQn3NzOTJYzs7l6ZHJUu/4cqdKWxBp63bcFbqIhdh8SRqzCt5bCks2VmeihpOW19L5ujq80cHw24z",
+      "F9naQulaF/BOrN0ZeyoEI6atNWvV0arXa2ULipzFfed0MMN7xcWwZzLV9jBpPPqblNBH9Yorxrqxl6pWphyefdOp",
+      "qqViOhUfyQC3Xr5IzftEyTsd4vy8Z15tNt5v3T1piebUjDZtgXogT4NFEIgTudXy7hRTa6WFm2nGw6ltbcovD7F6",
+      "B8eKgxvj4epGJlyMD0/7vcR3ZYtHQJYNQs3MiPvWrtnc0tJYx+M2CceqS/s0azKA5n3MChCml5am8MsZ1GM87M0y",
+      "xty6pM0t3k+k5WQOT1VX9pNXmwWs2jQF75v5PRklID7fei4KhBVTSRXGjdr+i+oq93xaQC8Rk9O72fLRpGnNqUIq",
+      "1K+DvByX3p9peGdGf3izwf3rkshmmAanpPueOZF7Fk0Sp2W2ykRrFrIviKZM5dlCHnzcugNFsOQy5JSHIYvct7MR",
+      "zRFUjMP0euVW2ihZE9lGX5N2pd6V6IwjZlcmmY680yfactaNiHZelzq9tga2qi0NSOtYIIZyuu707umNUSTwyS/M",
+      "wmThymZxpq/2JbVoT4jBW57egnKQI0Ohg637h4Otcr0MtmTXYM5qUCL6mpV9YIKIVs5c+fU+IKFVH/Gfw4iX2jO2",
+      "eWfd6BDzUmlU2q2KW2FWGLttc1Z+7HawTk7jWZwLNMX7p2qord3T6B7FcxOcLi92CTR2mwWf2kR3zpiDn0tZpbmq",
+      "TYY5EcdLYpVphrolsa9uihxkHEeMajoXi2kYDpZGprkj5sNiVpyIu5LKoMQM2yNV4oc5+AubW6pHxYom3ccZ0nSI",
+      "oCmxAD0TjBznM76pi8H/821nhgFdyemgFbqYcVKdDoqP51peF3z4ojNWnXreaUyc4eeHwZHyPslAzjltjr97xVmY",
+      "nPUlb1Vilfl+ECslUpHg2sJ94/POoWRNfZJfOR8sNO8Hscy1jFvG2vwIOEbwlR/xyj8m7cmpjHXqhaDKec6v7Jd6",
+      "MThzxMTyfHbZn5IZ5ulgUzkdzUj8MGJAejXePTtFOuTMJ8H8k4jC0qB4T55yWien5HqYb50NypfX4+snguPl1YwD",
+      "JyihcKM/j1bpvuJ4eSsa/0LQlD0ZvEan+JZor07wjk/wymIM+3YQOp0JEq2X+fuPg48op38RW9FPgwHmGfaMrvx8",
+      "3Pck5+EzbOd7+PcV0nk5y9BVp9DB76eiD58NZio90bmYPz9AY3ApsYG9yktdjUF81Se2P8K1eN7oSZ9sz/Arifnq",
+      "tSA7ej9olC5H152K532VVEIvxndPx3WuxBhpbiQeuVdj0p4KSqIXggXoTMZy9lZMZt3ieKygRD+VWHROxWp6OHaD",
+      "x7NReC8YgcQv9JJTD+HDz8WIvx6sRKdjLTzil/J19O244Ivs57SfnGi3CO9MNemHMduD18uvLG6fi/HhmLHek4k0",
+      "LLoOH3vOv4K3RNkUXF748/W40QuxNYFFatg0v5NrbOweTWd5+HLO5T5KIGGm1acN7pmlW2AYxVRdWa9evsUrHnnN",
+      "6Lzt5bzU/KodQg+2ma1i+jzZfYtJOxPXT351Oe2y71q8JTcE9HLXzB0ZKPuKW2zVFp9Ec2hf8LF7KLa4XbhklGv3",
+      "gTIKXcewqpcYiYVGGigCqv1C4LXewi2e3wzgGLneWKJ1Ce3ZbpfwuXvoe1TDhB9WQWzR3DIAC7fECpwD2SzTZmJX",
+      "2OxMm5B7RyQO39/5OjL3D3aWyUlTtMjLDO0NON7izC0Rg7liOptf0sRuNbtucdaX0v09w7h4SwcIp9CaqsTq5OWZ",
+      "xTTiKXN+VJeZ6XDBCgpXM3zN5OOS/6Gz3LnFo5opiqm0Ki689z9lhR2eb7qjWivNDptVQVeiUClunzwkVXDnqwdx",
+      "0DdHG/b+N9F/39wGfDVzDbNfBXS5xQ/JMLDAeTQ5Lzi+cFhZpyRpk+sNqwZHy8ftxH2O1EgG5FTJCK7JXugPZCt2",
+      "luWqtFjJvMSR411M40GnZ9eePb4+dpt5WELwQ0WaKHlRfCjzo0k6Quc/09aDFusqZvCq3PDOtMO/+y4W0DLDXDaD",
+      "/twty2FHc/vkSLmOjP9ss+uP9vzXW0zbpflbXmhnggJkt7FZt93mfsNtWX6MHehBoRQEbPF9jmvfou9RFEv65RYf",
+      "ZOThjDR/V27ZXxLHuEStd/3suZ+9bf9962fv/uzaz67/7Oz/V9e19UZ1XeHnjMR/OJkosq16ZqBEVYPHExmbNFRJ",
+      "QKlRUvWhGs+MzcDYQ+eMsa2oUoyBkqSERAolQlVCCgmOG6gDcRgIxlL7B/Abj/BSqf+ie932XvvCiy8z57ova6+9",
+      "1re+b/ccsAFjzJzyIA8w0r2DEfABRuDvINcxRtjN788xUwGRfOT79fMdzPl7j77Fs79AhmDgE97GnMCXmEXYwm8p",
+      "Y0GMysj5jL/943UEnvmUmQN3sHse8xiQHdji7MQWZwUe4RNc2j3HPLzEGg05mB3kG14jNlvz/Px+u5/w+21jvgSZ",
+      "ss0ZW3574NHb+KzUPltBdmTTRfcVJx7zkqm49nmIdHNcWUX84aeNX/+gMglrwNT2ZJ3Pv/vkPnDm0fWe3AKWMryD",
+      "4yajsz6yXH0XkO9Nvsf7I9/ehuQRPJ6zb8wTnKVPgmd0nHd8v153ptvXYi02l0+53GLN1VAyYVk1XKPQxiHIjS1d",
+      "OKmqlhgK0DJds7gi14+a+znZYRVQDCdSVSuFYPE3RQwQ9EJ/EggesToLHFnjSK7sRouBeXPYOYvQX4KUaMsZfFSd",
+      "7y7gFMbJLOqe2SGQlOwZi1j2mBv2FLxIC9QqV/3MKKw6EnPmJvTcFoDE21O4Y4oij2N/6yASmR7pF0H1+lxJ5ohC",
+      "6H2wLXVwQK5dEG9mvDgBonmj2Rutzmmsdx3FftFZEBfC4JNdETvu/M1iw5h/8wNCI7Wq56GB6lOATQYZNIhu2hqg",
+      "KFExVGU09HhxsT9b+nWxVnAoTQtIPN2qd1RYEsJY1JtZ3sLoeLjaZaE7hEAfieshxkSXU8GjA4JjliSXaBnwK28Q",
+      "kKCKxlXdKuLuZtvLxVrQtXsKUGrTKjVBl52IMSgWDG8GCyogGWcziqNOGo/LLFr1HFTlW9nJdgeQNT2gEgxcR8Ia",
+      "Nfp2xFg+JAnCHT3exRBWNsGKuaLgYV+fcwId+y4HWwsn6qBcAuxuJ82DmG9bJXCxoNXm6vMtth+ukscc/C4JQLGC",
+      "lmgoZeIcHO11EYT1G/PPwgxUDGsiHAHMIioH2ZEQ8aKowAgWhegUrabKzG6SG5Eth4uPS0xNIJgCDnHevTV9GFPM",
+      "K1KaZtuDZaXAx8LoY+6XQgEyiDxUF8ZEColFKMuDUol2I/eYvzBmymBvEm+qz3V5Hu+RibwndAsKgB/LtNCzGTOj",
+      "mbYIHi0U3OWtttkKQSFv9i5mMnNXA8G20MHQeBwoZ4ZMm8cfhu3RJTgciCRh8BxknagTmahSiCkUlMnfQpSNa9dA",
+      "qJiIIbXzbsdWxSAyWBd/S0DziPGILdkJV7k67fM26C8KHoXYA6jWxl5US2BjPfQ8YvLafVtWoIV4WUnHDBNW2CTQ",
+      "oi1aqYCCI+iutfyk1ERopL0TYFVsgCgS4J5laPeXuiXj8/asMOPUIsvhAVILVAmb8gFcrtfuNv1ChowayN9YMT8e",
+      "5+06Kx4poZBjWeZJWHZRmLCn7IfHX4cIXBw9FC/HpvY4NyFvYTcm9ZkciBPMniw0wjbIfUDi4WNqV0obpbET9WUz",
+      "32dyjidU9pVdikqqjagzVJy7wtNauz/ogoCVLyERyXjR2PPT9YbZfiGKGJa/1nDx5f2TqsxvKHrm2hGl+4YimqNq",
+      "J0i+0i+rDjwpa6ki3TCb4nr/gFnQzLoFeDSZhNHcL0QOWR43kPaeiDsni0aeQ2eKwmMxCx21YrSjVLxmfHt4rFcq",
+      "na6xy1w92VQDlAakqwQUrwDZ7DorioxDdBJdHdZY5ATqRDnh3TxyQzweaijqzRUkWaBqND8VBOuw9S+sq5p5CRXa",
+      "6yLlGEmo4o69+uLUkcnp3x89lElXaNIe+lmshTEpr4MxquLj/eBm45GjAXg6Idtc7EBVaWBcjK3wq56gX9+o98zz",
+      "NnVExzlVXDVNrjLU10ow4MgySHvpZZu98pOtFcQKmBnDb6FGmtopcH3mLDJNdFQNsR7h5J5nkdvu12RgdUe00JSj",
+      "1duvpUCL3oFx0lHJdUCu4qi3rB/gE/qVjcIc5epOZFEj6bDZPhMVCiNVprVAnXuhK9yogM6bouAwNny0KNUI6qOg",
+      "3+tZGGOajp452tf0Hb4YAlGtXrfHJD5mIe4s5kgg4RVfYvRFq7PRbs8MNSoRttw3k4cnONz0uhkrM93uSYsNcEwZ",
+      "CzRy6jZ3K3XXzihj2WtrXlXvI9NWvwPxswYpxlLy27yJhI9GpS9YW1hh1ckK5Iz4P9LvK9XIWmQiJxayINWuyE4s",
+      "3SdsYBZ7ziWY7C7QkDZuAm2GYbTMGS9nMedSvPwogH2Bt2POJcQ1qtryBwGdiwMYEEhg3lXn6ExohhuCevNEHTE1",
+      "doxh3MsLCBsnP2cCIst6qjhhienGXBcNrU3MHydiUmEox3pGRkrYcOsURB7Rh5JabEsLnFGFqtAa6UolqSJ1jMTk",
+      "RGreBIhHdns6qoalY3R1KsBqIG0IDWAzPHpI8QsEhwI78zYFdlrZaCN4N9CcXcL8mPFlYTBZ/XnroNspeW7tkmm1",
+      "POBCMPOU8U4KoXKwC5YXCGGYPS8PasjMlk5BAnlkBrXw4JhTDSX0b7cPxR+5qG0KBRPw8yjed9wn+NW/RNwd7jPt",
+      "vYFBYLl86vipAGtnRl9kaAuOHVOoj+pAztVFE8F7XT9KC7KOPsYca1GZCMr58dO6wgHfXeB1Rbp5cWTM0fi0iV+2",
+      "5UHtsIlxUc00RRyXaWFIhrjV9o5lQTLK5yfBcYgrLO71KssliAirm3A/ZtF2Xn9LUTSbfrB/kM3E5znVRk6Xx5/t",
+      "fvT4Z8Auo14Y6ZSFn9wgFTBEkp+H+C4ruz0IVNhE1Y5jnP4nu5c4qnqXFd4grgpx3R38nyPDj3/AM3cIVY546of4",
+      "F0V5N839KBp7D1HlHGNGhDfjuvnuFFH+GXX9SNeM7g647wf8FsHzQEwZI7jbHDH+6+4niDw/h7j5Acd6QdnuB44m",
+      "byP6exs12rbw/vSmcAzh8OWTB/QWrNIGd/8Uj3+AmnLboPKH+daLAhjYlITsBcyormJu+g5meym/bAEMSneMJZzO",
+      "ySnfSrr2vqTXL0q2mlK6Xyutq28VEoDy3VqBS9AR8LmcBXnnq/j3V4ziYC0hQlxcVcnfMyrtvo7PsKrUfx6p97Jo",
+      "GfsWA7nOZ3jKHdE+WxdwyKbgCj7A629y3pyxBISrIVmcWwIReSiveQFP0WdRy6h25jbckFOUCo/DGFyUfLoGV+wo",
+      "5MaGNPKH0hH3FT5HtaEDkFgsgYaCPJKuFzSCQ+P83UEIPM27VYVC+UkhZ65Li+1I79wTUIQCF3lIj4uigbWBf+wg",
+      "wuQR6ze5pz0janqEHrnqQ1PuyME38cQz7k3dvTakRy7jWbcZoMJifDTAbkqb3BYFLmq6GyKzJZpufPfb3uhlPbsL",
+      "2JIfIHCFYAwfCyiIRO7oef6m2v+8PN5fZDzbdv6ecSkOVvRQRu+6TJ91kaCyY0xQN+4T6qZ11c5b7joEDuF5sS4z",
+      "zgpvreMT/kuJwaFiIPx7214nziN5tSmuImXNHLWO1RwbtqpB1IzgmPvm9788dR73ieg0hfmh77hO5AJmqH7ELBVd",
+      "GWpa1lGxiJ9HNI7UJ3cx23XWZqa+x+dahWoO1vG5Gd4Lj92Sv9SGUkIwS/vL3d5cZd+rr75aWUYSH9gjhEEh3PbC",
+      "t2OZTQVEURhhbVL6HEVgbxHW7/Fid3a2qCntmMZvDOQ2IFUvoH/jsUQBpeyloD4E3ECdsuIcjvWyXiqmBHz4ZC3o",
+      "wR8VqlE+plI59HYx0zdcAtKSZuvYO4cnocR0Ab0lvuEJ43XTJQ6EiWfUGA9yKnnDRnUyG4/TdFZ82yz27uL9uOeQ",
+      "8Y3jrs3ACw0iWpKowHanQFQl0bdx4AlbAjuZkkKv1QpLURrktSD1hrEVzPV718qiHeuBON5SwGihp+7Rr8YhqSwd",
+      "KwnA7CowIyf74xtfypOQIFYHr+Ac+cIyn8LAhey9gL8ux5aGDp8JwtU+ZBlOVuRLMkSzKJe4z9aZYETOTIS5GdDz",
+      "5qCA2UvPAaIlmgjteQFVqS3MRKPebM1TXIKQI7mKJAmqR+8q+fHLZtDwJuLgyuHmcLs5QkxyJwSYDVti2WYItdfI",
+      "GDPOeH0bu+gFr58pRlaLI8aCVW65KheGiaPwBXNgaE0HTl17GXD6GVuOtqcGQWHFgCuM6Aag7NkTfoBUHOz+F+b6",
+      "QKw4VZ4sx+O+RDwMwgUBgY1RLU0m7B5uV9hU5dZB2ZBKmEmokyvEIP8n8ccsDkDOt3Nfnq07a3mqRrPjvCnM4+jm",
+      "pDFj8zPturpYa9kMSCZF4eKUxZzUCVS7cSDQy/5CuMYP2tVnZ0F0oa9eCLHn3MY8rVzwTjHERSFwCazAcYfhEgtN",
+      "DXXkmeaycHa3rSUDeHIfkdzlUmvGvHMLmUXqkGzs9V3RIq12EAOySTfAGUlc0WZbhQTBsly8zpFd9cgMZdIKQMwK",
+      "r4fJ22Y/7PqL2B90iVMd7U6jfqougiSOBU0Hbr0hB6UpNORmF3s4TpUdc+1FKgZQ3yFyFs6UQghsxbTBHBDAEbFZ",
+      "3EFVPzX0XunYROnU8ZWc0A5WpAZwgGZJBRMmo8/GphrwRQPQdsPyGi45imYAGx5xI/SOObNy2DgX15xZjwZUeXT4",
+      "hwKRIHXVQ44pmCaYzsB+bIC2YA+IIqBdXt5/6OX9kzzGzD/FkZGxMCIFK6RHUigxbDOs/hjUPYb4WoBZBkYaoZdx",
+      "nu29EvDITpmZNDwCRnu6PW/+yuIQTNFbVtizcB6S83mCglxUpbPvoFwjpKqV2cX2XI4bUm3gl84y3tjCcVQWL+Ey",
+      "cYRe26e+OEj6zkzN6rsioKy3NI0cw3VYrld46E3a0kjsAa13J4bHA9/yjXzuDi7qCXDOTFsx16vPI/7FIiC0wJGA",
+      "l+z1HNrCK6yV4xIrdrx8/qlYTTg0ajmyPqqXv+CjqZWDnvpVrQovqoewMMrpEYhOXVCJHeKtsT43izPJxcS6mfDe",
+      "itSXfa8v84Tnt6cQP18tNfDZGIggHeiPjSUWDccY5gRTrHKVqJO0QcyAZRs0Bpsw/x7AKsh8VuGnpybBeTF6H5/9",
+      "WE290912c3jvyFjRYxy3pc7xVs3lHJzpriVcbh9/SH8FFeoILiEMFGqOEucdvK9itpLJUI2DzA3OasPK0WnPYvOO",
+      "ejqIAkaJTVjmOCjhOHIPmu1THSIWtQw2ueP1ce+LAyPAv2WJNuDkdS4+DuYXE+6jp3alXDdPros4vqIdHUmpYbbb",
+      "/qWlm0SVwozgfphZMT7uSRqJbmw1RSyC7ZcFnYkgErep1epRx3Fey9seBQXSCCXAPj0NOCKgQW4BO1JOnt0pyHda",
+      "pqthu0F2ewjVVjYj6liwnX+U6KJalthAIgaHQAkIHIJnI/kyHw6BIxJlgRy+UqlTob+y1M4BS4fZdJyGUp4M9iW4",
+      "uV94SfOS9MNamFNsN+n9+IXgH5t1tFk1tUBAh3TnzchVjpcnl8g9MJuwL4jHZFkoxgchmf7i3OJ/NvJsmHLriyPC",
+      "h7N75fH27ipmOzYxhxB89vgaZg1WkSOIciP3w9wFIczNOWcxC/BQ8inmepIFcTmEbeIMkuwDcOvE5zJWPvzsGmVR",
+      "zHUBwz6wGH3Kh2xZVp74ep/Q88ITO64dc39iB9rEz5APR/hNMOb3PSqvn+f42o8cKVxT2PEz9NmTW/CZv0Ydm34d",
+      "bElO3pcxlKoWxi/dZTlWz+rIaEJak/FsCMeaGPvI7IBHFUSyKDqUp/ysYmoxUBhxZ5KsN1JQ7ghOt3D6VVNOinzp",
+      "eTiuKkSYwIzHFfmMcOEMOMjbjZPeKjcsnq1ybP+sCEPF0ylmR9F1H8r1virLUg556GijNx8t01SS4i1d9Cu07erI",
+      "4OdLwPsJ0/F9M5VLXLZVSPm4RFpT88lraPEKwhFyaEEfG7gUheqLpdIffAKPiXYPnqRWSLRIyjNdejq49nRw5+ng",
+      "O/h5/+zTwZWng388W/vm2dqnz9auPVu78mzt+rO1q8/Wvvjvrev/++fntuT8/qr5b0TyYpuSvKAsw9cYt/+QU2Cc",
+      "6JGsDVdcXpR0m60qDTI4Nj1hkwK2CnVDikAHnIWEsy67QlFXO2wri23x7BWVvgkSgh9LEfSO5LC+lMc7J/WkmyrJ",
+      "aKuGbb5yXQp+deJmNSrNvswVppwU0/msoEz7hhTzXuSidW6Tdayf3ZGvNiRBdlmO3JGU31fqdGqfM/jM+sMNqd71",
+      "q+D5aTdVFvKGyhDZfqezrsuJt6VVzd2/9oRL7S44RhMC/kC5EaosLRr28It3J6EHAWQr6jZSf4MGK9xfplb9Yi20",
+      "gTRdEnH55fmOOtYZs4BeSqyn4qRRuxmzCiR8qJQ/XKmFIQ3a1ZTTllvtON2k14bUWdcYfwnmM9iGcjWosu5qi1eq",
+      "VN7dP1mpTE1PZe+9Mf3Wm9m+8t7M33RJRCbY8DBVlnlc5mnCrRvUSJiGKnirp5ziIhm/NY3+O270VDvmB+dS+78s",
+      "aCze0eJdhoLeHIpjUAgg8q/A/Zoll6zxoV8kMlDV5JJZgETPaNYH5k549VFMvamqL1WO5teRyzhLmv70BPCXM+sg",
+      "pCJFpud77XqJusC8eW/RbJT+fa9KbR/Og8743jGqQ1fu0ftq449D+0AGzEjJgXr8hRdS8bR6HxTkwyepJZf/5Fuk",
+      "19VWshnGe8nbtcZTzor2xpvd7GDPOOmdEcW1OEDeRsLy3EFMEPjIPzn8jsc7eUeqMbH28i6xRypMU+IK5lO4wiXi",
+      "hwSED9We+tYzO3rs4JuHJ7PiQr80HRAZQPfFMZVJ+B6iMQw70/lVssTGEC7kuu3T5mDa/Eu2c1+p711QubbT7/Ah",
+      "lYSHbGbjmK6AVEsLhor6b5tJVqa6lYMIf03aj4X6iTwes+ZKdjs7UkY8PA/e2IfFE3AMx2tNHHXEr1ORLrO7VauC",
+      "duqr6dUijlrhQ6k1RFPuJTABOEvSljKOjmAj18vJzUqyWedbx9OvyQpR4WjR4wSHySvlvfuyaX/1twnH59yz+pzu",
+      "KWbpFSzx8pj2HE+2YX94KEuvC89pr2Iz7cTkgAzuJOAQ8fvT3Kim3RPIJye/wLlUjls6mss88wM3wi6Oz+nCwnOa",
+      "s5qy0/Bez2m2GqIzLykLxdaLMJhSO8+7fod8HDCK0tahA/oSbeUOIhrtdQRrNhB31XrrlwXtdUXBygY+xu1jxQpD",
+      "3v1NBVyyiLwdRfCzw9dMuPO0cbmMFFOE29oUrNZXqX3Ghr8TuigkT48Q+TXwvXvGjv0foSWBhw=="};
+}
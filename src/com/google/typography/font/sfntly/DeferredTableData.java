@@ -0,0 +1,101 @@
+/*
+ * Copyright 2011 Google Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.typography.font.sfntly;
+
+import com.google.typography.font.sfntly.data.WritableFontData;
+import com.google.typography.font.sfntly.table.Header;
+
+import java.io.IOException;
+
+/**
+ * The data for a table that has to be decoded from a compressed font
+ * container before it can be used. Decoding is deferred until the data or the
+ * header of the table is first asked for and is done at most once, even when
+ * asked for concurrently from multiple threads.
+ */
+abstract class DeferredTableData {
+  private final int tag;
+  private Header header;
+  private volatile WritableFontData data;
+
+  protected DeferredTableData(int tag) {
+    this.tag = tag;
+  }
+
+  /**
+   * Gets the tag of the table. This never causes the table to be decoded.
+   *
+   * @return the table tag
+   */
+  final int tag() {
+    return this.tag;
+  }
+
+  /**
+   * Gets the header for the table, decoding the table if needed since the
+   * length of a table may only be known once it is decoded.
+   *
+   * @return the table header
+   */
+  final Header header() {
+    data();
+    return this.header;
+  }
+
+  /**
+   * Gets the data for the table, decoding it the first time it is needed.
+   *
+   * @return the table data
+   * @throws RuntimeException if the table can't be decoded
+   */
+  final WritableFontData data() {
+    WritableFontData data = this.data;
+    if (data == null) {
+      synchronized (this) {
+        data = this.data;
+        if (data == null) {
+          try {
+            data = decode();
+          } catch (IOException e) {
+            throw new RuntimeException("Unable to decode table - " + Tag.stringValue(this.tag), e);
+          }
+          this.header = createHeader(data.length());
+          this.data = data;
+        }
+      }
+    }
+    return data;
+  }
+
+  /**
+   * Decodes the table data.
+   *
+   * @return the table data
+   * @throws IOException if the table data is malformed
+   */
+  protected abstract WritableFontData decode() throws IOException;
+
+  /**
+   * Creates the header for the table once it has been decoded.
+   *
+   * @param length the length of the decoded table
+   * @return the header
+   */
+  protected Header createHeader(int length) {
+    return new Header(this.tag, length);
+  }
+}
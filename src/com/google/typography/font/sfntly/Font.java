@@ -16,6 +16,7 @@
 
 package com.google.typography.font.sfntly;
 
+import com.google.typography.font.sfntly.data.FontData;
 import com.google.typography.font.sfntly.data.FontInputStream;
 import com.google.typography.font.sfntly.data.FontOutputStream;
 import com.google.typography.font.sfntly.data.ReadableFontData;
@@ -37,20 +38,34 @@ import com.google.typography.font.sfntly.table.core.VerticalHeaderTable;
 import com.google.typography.font.sfntly.table.core.VerticalMetricsTable;
 import com.google.typography.font.sfntly.table.truetype.LocaTable;
 
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.SortedMap;
 import java.util.SortedSet;
 import java.util.TreeMap;
 import java.util.TreeSet;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -84,7 +99,10 @@ public class Font {
     tableCheckSum(4),
     tableOffset(8),
     tableLength(12),
-    tableRecordSize(16);
+    tableRecordSize(16),
+
+    // Offsets within a collection header
+    ttcOffsetTable(12);
 
     private final int offset;
 
@@ -324,6 +342,8 @@ public class Font {
 
   public static final int SFNTVERSION_1 = Fixed1616.fixed(1, 0);
 
+  private static final int TTC_VERSION_1 = Fixed1616.fixed(1, 0);
+
   private final int sfntVersion;
   private final byte[] digest;
   private long checksum;
@@ -371,9 +391,29 @@ public class Font {
    * @return the font checksum
    */
   public long checksum() {
+    if (this.tables instanceof LazyTableMap) {
+      return ((LazyTableMap) this.tables).checksum();
+    }
     return this.checksum;
   }
 
+  /**
+   * Get the total length in bytes of the data of all the tables in this font.
+   * The tables of a lazily loaded font are not built to calculate this.
+   *
+   * @return the total table data length
+   */
+  long dataLength() {
+    if (this.tables instanceof LazyTableMap) {
+      return ((LazyTableMap) this.tables).dataLength();
+    }
+    long length = 0;
+    for (Table table : this.tables.values()) {
+      length += table.dataLength();
+    }
+    return length;
+  }
+
   /**
    * Get the number of tables in this font.
    *
@@ -467,6 +507,146 @@ public class Font {
     this.serializeTables(fos, tableRecords);
   }
 
+  /**
+   * Serialize the font to the file channel. The table checksums are calculated
+   * in parallel on the executor given and then the whole font is written with
+   * a single gathering write. Where the table data allows it the buffers
+   * written are views of the table data rather than copies.
+   *
+   * @param fc the destination for the font serialization
+   * @param tableOrdering the table ordering to apply
+   * @param executor the executor to calculate the checksums on; null to
+   *        calculate them on the calling thread
+   * @throws IOException
+   */
+  void serialize(FileChannel fc, List<Integer> tableOrdering, ExecutorService executor)
+      throws IOException {
+    List<Integer> finalTableOrdering = this.generateTableOrdering(tableOrdering);
+    if (executor != null) {
+      List<Callable<Long>> tasks = new ArrayList<Callable<Long>>(finalTableOrdering.size());
+      for (Integer tag : finalTableOrdering) {
+        final Table table = this.getTable(tag);
+        tasks.add(new Callable<Long>() {
+          @Override
+          public Long call() {
+            return table.calculatedChecksum();
+          }
+        });
+      }
+      Tasks.invokeAll(executor, tasks);
+    }
+    List<Header> tableRecords = buildTableHeadersForSerialization(finalTableOrdering);
+
+    ByteArrayOutputStream headerBytes = new ByteArrayOutputStream();
+    this.serializeHeader(new FontOutputStream(headerBytes), tableRecords);
+
+    List<ByteBuffer> buffers = new ArrayList<ByteBuffer>(tableRecords.size() * 2 + 1);
+    buffers.add(ByteBuffer.wrap(headerBytes.toByteArray()));
+    for (Header record : tableRecords) {
+      Table table = this.getTable(record.tag());
+      if (table == null) {
+        throw new IOException("Table out of sync with font header.");
+      }
+      ByteBuffer tableBuffer = table.readFontData().asByteBuffer();
+      buffers.add(tableBuffer);
+      int tableSize = tableBuffer.remaining();
+      int fillerSize = ((tableSize + 3) & ~3) - tableSize;
+      if (fillerSize > 0) {
+        buffers.add(ByteBuffer.wrap(new byte[fillerSize]));
+      }
+    }
+
+    ByteBuffer[] bufferArray = buffers.toArray(new ByteBuffer[buffers.size()]);
+    int first = 0;
+    while (first < bufferArray.length) {
+      fc.write(bufferArray, first, bufferArray.length - first);
+      while (first < bufferArray.length && !bufferArray[first].hasRemaining()) {
+        first++;
+      }
+    }
+  }
+
+  /**
+   * Serialize the fonts as a TrueType collection. Each table is written once
+   * no matter how many of the fonts have it, whether they share the same
+   * {@link Table} object or just tables with the same content.
+   *
+   * @param fonts the fonts to serialize
+   * @param os the destination for the collection serialization
+   * @param tableOrdering the table ordering to apply to each font
+   * @throws IOException
+   */
+  static void serializeCollection(Font[] fonts, OutputStream os, List<Integer> tableOrdering)
+      throws IOException {
+    MessageDigest digest;
+    try {
+      digest = MessageDigest.getInstance("SHA-1");
+    } catch (NoSuchAlgorithmException e) {
+      throw new IOException("Unable to get requested message digest algorithm.", e);
+    }
+
+    List<List<Integer>> orderings = new ArrayList<List<Integer>>(fonts.length);
+    int[] fontOffsets = new int[fonts.length];
+    int tableOffset = Offset.ttcOffsetTable.offset + fonts.length * FontData.DataSize.ULONG.size();
+    for (int i = 0; i < fonts.length; i++) {
+      List<Integer> ordering = fonts[i].generateTableOrdering(tableOrdering);
+      orderings.add(ordering);
+      fontOffsets[i] = tableOffset;
+      tableOffset +=
+          Offset.tableRecordBegin.offset + fonts[i].numTables() * Offset.tableRecordSize.offset;
+    }
+
+    // lay out the tables, placing each one only the first time it is seen
+    Map<Table, Integer> offsetsByTable = new IdentityHashMap<Table, Integer>();
+    Map<ByteBuffer, Integer> offsetsByContent = new HashMap<ByteBuffer, Integer>();
+    List<Table> uniqueTables = new ArrayList<Table>();
+    List<List<Header>> fontHeaders = new ArrayList<List<Header>>(fonts.length);
+    for (int i = 0; i < fonts.length; i++) {
+      List<Header> tableHeaders = new ArrayList<Header>(fonts[i].numTables());
+      for (Integer tag : orderings.get(i)) {
+        Table table = fonts[i].tables.get(tag);
+        if (table == null) {
+          continue;
+        }
+        Integer offset = offsetsByTable.get(table);
+        if (offset == null) {
+          digest.update(table.readFontData().asByteBuffer());
+          ByteBuffer content = ByteBuffer.wrap(digest.digest());
+          offset = offsetsByContent.get(content);
+          if (offset == null) {
+            offset = tableOffset;
+            offsetsByContent.put(content, offset);
+            uniqueTables.add(table);
+            // write on boundary of 4 bytes
+            tableOffset += (table.dataLength() + 3) & ~3;
+          }
+          offsetsByTable.put(table, offset);
+        }
+        tableHeaders.add(
+            new Header(tag, table.calculatedChecksum(), offset, table.header().length()));
+      }
+      fontHeaders.add(tableHeaders);
+    }
+
+    FontOutputStream fos = new FontOutputStream(os);
+    fos.writeULong(Tag.ttcf);
+    fos.writeFixed(TTC_VERSION_1);
+    fos.writeULong(fonts.length);
+    for (int fontOffset : fontOffsets) {
+      fos.writeULong(fontOffset);
+    }
+    for (int i = 0; i < fonts.length; i++) {
+      fonts[i].serializeHeader(fos, fontHeaders.get(i));
+    }
+    for (Table table : uniqueTables) {
+      int tableSize = table.serialize(fos);
+      int fillerSize = ((tableSize + 3) & ~3) - tableSize;
+      for (int i = 0; i < fillerSize; i++) {
+        fos.write(0);
+      }
+    }
+  }
+
   /**
    * Build the table headers to be used for serialization. These headers will be
    * filled out with the data required for serialization. The headers will be
@@ -591,6 +771,260 @@ public class Font {
     return Font.TRUE_TYPE_TABLE_ORDERING;
   }
 
+  /**
+   * A table map for a font that was loaded without any manipulation. Each
+   * table is built from its data the first time that it is requested rather
+   * than when the font is built. Building a table is done at most once and is
+   * safe to do concurrently from multiple threads.
+   */
+  private static final class LazyTableMap extends AbstractMap<Integer, Table> {
+    private final Map<Integer, LazyTable> lazyTables;
+    private volatile boolean checksumSet = false;
+    private long checksum;
+
+    private LazyTableMap(Map<Header, WritableFontData> tableData,
+        List<DeferredTableData> deferredTables, SharedTables sharedTables) {
+      this.lazyTables = new TreeMap<Integer, LazyTable>();
+      Map<Integer, Header> headers =
+          sharedTables == null ? null : SharedTables.headersByTag(tableData.keySet());
+      for (Map.Entry<Header, WritableFontData> entry : tableData.entrySet()) {
+        Header header = entry.getKey();
+        LazyTable lazyTable = new LazyTable(header, entry.getValue());
+        if (sharedTables != null) {
+          lazyTable = sharedTables.share(SharedTables.key(header, headers), lazyTable);
+        }
+        this.lazyTables.put(header.tag(), lazyTable);
+      }
+      if (deferredTables != null) {
+        for (DeferredTableData deferred : deferredTables) {
+          this.lazyTables.put(deferred.tag(), new LazyTable(deferred));
+        }
+      }
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+      return this.lazyTables.containsKey(key);
+    }
+
+    @Override
+    public Table get(Object key) {
+      LazyTable lazyTable = this.lazyTables.get(key);
+      if (lazyTable == null) {
+        return null;
+      }
+      return lazyTable.table(this);
+    }
+
+    @Override
+    public Set<Integer> keySet() {
+      return Collections.unmodifiableSet(this.lazyTables.keySet());
+    }
+
+    @Override
+    public int size() {
+      return this.lazyTables.size();
+    }
+
+    @Override
+    public Set<Map.Entry<Integer, Table>> entrySet() {
+      return new AbstractSet<Map.Entry<Integer, Table>>() {
+        @Override
+        public Iterator<Map.Entry<Integer, Table>> iterator() {
+          final Iterator<LazyTable> iter = lazyTables.values().iterator();
+          return new Iterator<Map.Entry<Integer, Table>>() {
+            @Override
+            public boolean hasNext() {
+              return iter.hasNext();
+            }
+
+            @Override
+            public Map.Entry<Integer, Table> next() {
+              LazyTable lazyTable = iter.next();
+              return new AbstractMap.SimpleImmutableEntry<Integer, Table>(
+                  lazyTable.tag, lazyTable.table(LazyTableMap.this));
+            }
+
+            @Override
+            public void remove() {
+              throw new UnsupportedOperationException();
+            }
+          };
+        }
+
+        @Override
+        public int size() {
+          return lazyTables.size();
+        }
+      };
+    }
+
+    /**
+     * Gets the font checksum. Only the head table is built to calculate the
+     * checksum; all other tables are checksummed directly from their data.
+     *
+     * @return the font checksum
+     */
+    private long checksum() {
+      if (!this.checksumSet) {
+        synchronized (this) {
+          if (!this.checksumSet) {
+            long fontChecksum = 0;
+            for (LazyTable lazyTable : this.lazyTables.values()) {
+              if (Tag.isHeaderTable(lazyTable.tag)) {
+                fontChecksum += lazyTable.table(this).calculatedChecksum();
+              } else {
+                fontChecksum += lazyTable.data().checksum();
+              }
+            }
+            this.checksum = fontChecksum & 0xffffffffL;
+            this.checksumSet = true;
+          }
+        }
+      }
+      return this.checksum;
+    }
+
+    private long dataLength() {
+      long length = 0;
+      for (LazyTable lazyTable : this.lazyTables.values()) {
+        length += lazyTable.data().length();
+      }
+      return length;
+    }
+
+    /**
+     * Creates a builder for the table with the tag given and relates it to the
+     * other tables in the font that it depends on. The tables depended on get
+     * their own builders and views of the data so that they don't interfere
+     * with those tables being built themselves.
+     */
+    private Table.Builder<? extends Table> tableBuilder(LazyTable lazyTable) {
+      Map<Integer, Table.Builder<? extends Table>> builderMap =
+          new HashMap<Integer, Table.Builder<? extends Table>>();
+      for (int tag : new int[] {Tag.head, Tag.hhea, Tag.vhea, Tag.maxp}) {
+        LazyTable dependency = this.lazyTables.get(tag);
+        if (dependency != null && dependency != lazyTable) {
+          WritableFontData data = dependency.data().slice(0, dependency.data().length());
+          builderMap.put(tag, Table.Builder.getBuilder(dependency.header(), data));
+        }
+      }
+      Table.Builder<? extends Table> builder =
+          Table.Builder.getBuilder(lazyTable.header(), lazyTable.data());
+      builderMap.put(lazyTable.tag, builder);
+      Builder.interRelateBuilders(builderMap);
+      return builder;
+    }
+  }
+
+  /**
+   * A holder for a table that has not been built yet. The data for the table
+   * may itself still need to be decoded from a compressed font container.
+   */
+  private static final class LazyTable {
+    private final int tag;
+    private final Header header;
+    private final WritableFontData data;
+    private final DeferredTableData deferred;
+    private volatile Table table;
+
+    private LazyTable(Header header, WritableFontData data) {
+      this.tag = header.tag();
+      this.header = header;
+      this.data = data;
+      this.deferred = null;
+    }
+
+    private LazyTable(DeferredTableData deferred) {
+      this.tag = deferred.tag();
+      this.header = null;
+      this.data = null;
+      this.deferred = deferred;
+    }
+
+    private Header header() {
+      return this.deferred == null ? this.header : this.deferred.header();
+    }
+
+    private WritableFontData data() {
+      return this.deferred == null ? this.data : this.deferred.data();
+    }
+
+    private Table table(LazyTableMap tableMap) {
+      Table table = this.table;
+      if (table == null) {
+        synchronized (this) {
+          table = this.table;
+          if (table == null) {
+            Table.Builder<? extends Table> builder = tableMap.tableBuilder(this);
+            if (builder.readyToBuild()) {
+              table = builder.build();
+            }
+            if (table == null) {
+              throw new RuntimeException("Unable to build table - " + builder);
+            }
+            this.table = table;
+          }
+        }
+      }
+      return table;
+    }
+  }
+
+  /**
+   * The tables shared between the fonts of a collection. A table at the same
+   * offset and with the same length in the collection data is built only once
+   * and the same {@link Table} object is used by every font that refers to it.
+   * Tables that need data from other tables to be built are only shared when
+   * those other tables are at the same offsets too.
+   */
+  static final class SharedTables {
+    private static final Set<Integer> DEPENDENT_TABLES =
+        new TreeSet<Integer>(Arrays.asList(Tag.loca, Tag.hmtx, Tag.vmtx, Tag.hdmx));
+    private static final int[] DEPENDENCIES = {Tag.head, Tag.hhea, Tag.vhea, Tag.maxp};
+
+    private final ConcurrentMap<List<Integer>, Table> tables =
+        new ConcurrentHashMap<List<Integer>, Table>();
+    private final ConcurrentMap<List<Integer>, LazyTable> lazyTables =
+        new ConcurrentHashMap<List<Integer>, LazyTable>();
+
+    private static Map<Integer, Header> headersByTag(Collection<Header> headers) {
+      Map<Integer, Header> headerMap = new HashMap<Integer, Header>(headers.size());
+      for (Header header : headers) {
+        headerMap.put(header.tag(), header);
+      }
+      return headerMap;
+    }
+
+    private static List<Integer> key(Header header, Map<Integer, Header> headers) {
+      List<Integer> key = new ArrayList<Integer>(3 + DEPENDENCIES.length);
+      key.add(header.tag());
+      key.add(header.offset());
+      key.add(header.length());
+      if (DEPENDENT_TABLES.contains(header.tag())) {
+        for (int tag : DEPENDENCIES) {
+          Header dependency = headers.get(tag);
+          key.add(dependency == null ? -1 : dependency.offset());
+        }
+      }
+      return key;
+    }
+
+    private Table table(List<Integer> key) {
+      return this.tables.get(key);
+    }
+
+    private Table share(List<Integer> key, Table table) {
+      Table shared = this.tables.putIfAbsent(key, table);
+      return shared == null ? table : shared;
+    }
+
+    private LazyTable share(List<Integer> key, LazyTable lazyTable) {
+      LazyTable shared = this.lazyTables.putIfAbsent(key, lazyTable);
+      return shared == null ? lazyTable : shared;
+    }
+  }
+
   /**
    * A builder for a font object. The builder allows the for the creation of
    * immutable {@link Font} objects. The builder is a one use non-thread safe
@@ -614,6 +1048,8 @@ public class Font {
     @SuppressWarnings("unused")
     private int rangeShift;
     private Map<Header, WritableFontData> dataBlocks;
+    private List<DeferredTableData> deferredTables;
+    private SharedTables sharedTables;
     private byte[] digest;
 
     private Builder(FontFactory factory) {
@@ -630,7 +1066,7 @@ public class Font {
         fontIS = new FontInputStream(is);
         SortedSet<Header> records = readHeader(fontIS);
         this.dataBlocks = loadTableData(records, fontIS);
-        this.tableBuilders = buildAllTableBuilders(this.dataBlocks);
+        this.tableBuilders = null;
       } finally {
         fontIS.close();
       }
@@ -642,7 +1078,7 @@ public class Font {
       }
       SortedSet<Header> records = readHeader(wfd, offsetToOffsetTable);
       this.dataBlocks = loadTableData(records, wfd);
-      this.tableBuilders = buildAllTableBuilders(this.dataBlocks);
+      this.tableBuilders = null;
     }
 
     static final Builder
@@ -659,10 +1095,229 @@ public class Font {
       return builder;
     }
 
+    /**
+     * Gets a builder for one font of a collection. If the builder's tables are
+     * built without being edited then any of them that are shared with other
+     * fonts of the collection are built only once.
+     */
+    static final Builder getOTFBuilder(FontFactory factory, WritableFontData wfd,
+        int offsetToOffsetTable, SharedTables sharedTables) throws IOException {
+      Builder builder = getOTFBuilder(factory, wfd, offsetToOffsetTable);
+      builder.sharedTables = sharedTables;
+      return builder;
+    }
+
     static final Builder getOTFBuilder(FontFactory factory) {
       return new Builder(factory);
     }
 
+    /**
+     * Gets builders for fonts of a collection read from a stream. The stream
+     * is read forward only: first the offset tables of the fonts and then the
+     * data of their tables in offset order. Only the tables of the fonts asked
+     * for are kept and any overlapping tables are read as a single block.
+     * The bytes passed while reading the offset tables are kept, since a
+     * collection may put the offset table of a font after the tables of the
+     * fonts before it and those tables may then be needed.
+     *
+     * @param factory the factory loading the fonts
+     * @param is the stream, positioned no further than the first offset table
+     * @param offsetTableOffsets the offsets in the stream to the offset tables
+     *        of the fonts to load
+     * @param sharedTables the tables shared between the fonts
+     * @return a builder for each offset table in the same order
+     * @throws IOException if the stream couldn't be read or a table overlaps
+     *         the collection header
+     */
+    static final Builder[] getOTFBuilders(FontFactory factory, FontInputStream is,
+        int[] offsetTableOffsets, SharedTables sharedTables) throws IOException {
+      // read the offset tables in the order they are found in the stream
+      SortedMap<Integer, Integer> fontsByOffset = new TreeMap<Integer, Integer>();
+      for (int i = 0; i < offsetTableOffsets.length; i++) {
+        fontsByOffset.put(offsetTableOffsets[i], i);
+      }
+      Builder[] builders = new Builder[offsetTableOffsets.length];
+      List<SortedSet<Header>> records = new ArrayList<SortedSet<Header>>(builders.length);
+      for (int i = 0; i < builders.length; i++) {
+        records.add(null);
+      }
+      StreamPrefix prefix = new StreamPrefix((int) is.position());
+      for (Map.Entry<Integer, Integer> entry : fontsByOffset.entrySet()) {
+        int offsetTable = entry.getKey();
+        if (offsetTable < prefix.start) {
+          throw new IOException("Offset table overlaps the collection header.");
+        }
+        prefix.readTo(is, offsetTable + Offset.tableRecordBegin.offset);
+        int numTables = prefix.data().readUShort(
+            offsetTable - prefix.start + Offset.numTables.offset);
+        prefix.readTo(is, offsetTable + Offset.tableRecordBegin.offset
+            + numTables * Offset.tableRecordSize.offset);
+        Builder builder = new Builder(factory);
+        records.set(entry.getValue(),
+            builder.readHeader(prefix.data(), offsetTable - prefix.start));
+        builders[entry.getValue()] = builder;
+      }
+      // more than one font may use the same offset table
+      for (int i = 0; i < builders.length; i++) {
+        if (builders[i] == null) {
+          int first = fontsByOffset.get(offsetTableOffsets[i]);
+          builders[i] = new Builder(factory);
+          builders[i].sfntVersion = builders[first].sfntVersion;
+          builders[i].numTables = builders[first].numTables;
+          records.set(i, records.get(first));
+        }
+      }
+
+      // merge the table ranges into blocks that don't overlap
+      SortedMap<Integer, Integer> ranges = new TreeMap<Integer, Integer>();
+      for (SortedSet<Header> headers : records) {
+        for (Header header : headers) {
+          if (header.length() <= 0) {
+            continue;
+          }
+          Integer end = ranges.get(header.offset());
+          if (end == null || end < header.offset() + header.length()) {
+            ranges.put(header.offset(), header.offset() + header.length());
+          }
+        }
+      }
+      TreeMap<Integer, WritableFontData> blocks = new TreeMap<Integer, WritableFontData>();
+      int blockStart = -1;
+      int blockEnd = -1;
+      for (Map.Entry<Integer, Integer> range : ranges.entrySet()) {
+        if (range.getKey() > blockEnd) {
+          if (blockStart >= 0) {
+            blocks.put(blockStart, readBlock(is, prefix, blockStart, blockEnd));
+          }
+          blockStart = range.getKey();
+        }
+        blockEnd = Math.max(blockEnd, range.getValue());
+      }
+      if (blockStart >= 0) {
+        blocks.put(blockStart, readBlock(is, prefix, blockStart, blockEnd));
+      }
+
+      for (int i = 0; i < builders.length; i++) {
+        SortedSet<Header> headers = records.get(i);
+        Map<Header, WritableFontData> tableData =
+            new HashMap<Header, WritableFontData>(headers.size());
+        for (Header header : headers) {
+          if (header.length() <= 0) {
+            continue;
+          }
+          Map.Entry<Integer, WritableFontData> block = blocks.floorEntry(header.offset());
+          tableData.put(header,
+              block.getValue().slice(header.offset() - block.getKey(), header.length()));
+        }
+        builders[i].dataBlocks = tableData;
+        builders[i].tableBuilders = null;
+        builders[i].sharedTables = sharedTables;
+      }
+      return builders;
+    }
+
+    private static void skipTo(FontInputStream is, long position) throws IOException {
+      while (is.position() < position) {
+        if (is.skip(position - is.position()) <= 0 && is.read() < 0) {
+          throw new IOException("Unexpected end of font data.");
+        }
+      }
+    }
+
+    /**
+     * Reads a block of table data. Any part of the block that was passed while
+     * reading the offset tables is copied from the prefix and the rest is read
+     * from the stream.
+     */
+    private static WritableFontData readBlock(
+        FontInputStream is, StreamPrefix prefix, int start, int end) throws IOException {
+      if (start < prefix.start) {
+        throw new IOException("Table data overlaps the collection header.");
+      }
+      byte[] block = new byte[end - start];
+      int buffered = Math.max(0, Math.min(end, prefix.end()) - start);
+      if (buffered > 0) {
+        prefix.copyTo(start, block, buffered);
+      } else {
+        skipTo(is, start);
+      }
+      readFully(is, block, buffered, block.length);
+      return WritableFontData.createWritableFontData(block);
+    }
+
+    private static void readFully(FontInputStream is, byte[] b, int offset, int end)
+        throws IOException {
+      while (offset < end) {
+        int read = is.read(b, offset, end - offset);
+        if (read < 0) {
+          throw new IOException("Unexpected end of font data.");
+        }
+        offset += read;
+      }
+    }
+
+    /**
+     * The bytes of a collection stream from the first offset table read up to
+     * the end of the last one.
+     */
+    private static final class StreamPrefix {
+      final int start;
+      private byte[] bytes = new byte[1024];
+      private int length;
+
+      StreamPrefix(int start) {
+        this.start = start;
+      }
+
+      int end() {
+        return this.start + this.length;
+      }
+
+      /**
+       * Reads from the stream, which must be at the end of the prefix, up to a
+       * position.
+       */
+      void readTo(FontInputStream is, int position) throws IOException {
+        if (position <= this.end()) {
+          return;
+        }
+        int length = position - this.start;
+        if (length > this.bytes.length) {
+          this.bytes = Arrays.copyOf(this.bytes, Math.max(length, 2 * this.bytes.length));
+        }
+        readFully(is, this.bytes, this.length, length);
+        this.length = length;
+      }
+
+      /**
+       * Gets the bytes read so far, indexed from the start of the prefix.
+       */
+      ReadableFontData data() {
+        return ReadableFontData.createReadableFontData(this.bytes);
+      }
+
+      void copyTo(int position, byte[] b, int count) {
+        System.arraycopy(this.bytes, position - this.start, b, 0, count);
+      }
+    }
+
+    /**
+     * Gets a builder for a font whose tables are decoded from a compressed
+     * font container such as WOFF. When the factory loads tables lazily each
+     * table is decoded the first time it is used; otherwise all of the tables
+     * are decoded when the table builders are first needed.
+     */
+    static final Builder getOTFBuilder(
+        FontFactory factory, int sfntVersion, List<DeferredTableData> tables) {
+      Builder builder = new Builder(factory);
+      builder.sfntVersion = sfntVersion;
+      builder.numTables = tables.size();
+      builder.dataBlocks = new HashMap<Header, WritableFontData>();
+      builder.deferredTables = tables;
+      builder.tableBuilders = null;
+      return builder;
+    }
+
     /**
      * Get the font factory that created this font builder.
      *
@@ -679,11 +1334,12 @@ public class Font {
      */
     public boolean readyToBuild() {
       // just read in data with no manipulation
-      if (this.tableBuilders == null && this.dataBlocks != null && this.dataBlocks.size() > 0) {
+      if (this.tableBuilders == null && ((this.dataBlocks != null && this.dataBlocks.size() > 0)
+          || (this.deferredTables != null && this.deferredTables.size() > 0))) {
         return true;
       }
 
-      for (Table.Builder<? extends Table> tableBuilder : this.tableBuilders.values()) {
+      for (Table.Builder<? extends Table> tableBuilder : this.tableBuilders().values()) {
         if (tableBuilder.readyToBuild() == false) {
           return false;
         }
@@ -702,12 +1358,20 @@ public class Font {
 
       Font font = new Font(this.sfntVersion, this.digest);
 
-      if (this.tableBuilders.size() > 0) {
-        tables = buildTablesFromBuilders(font, this.tableBuilders);
+      // tables can only be shared when none of the table builders were touched
+      SharedTables sharedTables = this.tableBuilders == null ? this.sharedTables : null;
+      if (this.tableBuilders == null && this.factory.loadTablesLazily()) {
+        // just read in data with no manipulation so defer building the tables
+        tables = new LazyTableMap(this.dataBlocks, this.deferredTables, sharedTables);
+      } else if (this.tableBuilders().size() > 0) {
+        tables = buildTablesFromBuilders(
+            font, this.tableBuilders, this.factory.executor(), sharedTables);
       }
       font.tables = tables;
       this.tableBuilders = null;
       this.dataBlocks = null;
+      this.deferredTables = null;
+      this.sharedTables = null;
       return font;
     }
 
@@ -724,7 +1388,7 @@ public class Font {
      * Clear all table builders.
      */
     public void clearTableBuilders() {
-      this.tableBuilders.clear();
+      this.tableBuilders().clear();
     }
 
     /**
@@ -734,7 +1398,7 @@ public class Font {
      * @return true if there is a builder for that table; false otherwise
      */
     public boolean hasTableBuilder(int tag) {
-      return this.tableBuilders.containsKey(tag);
+      return this.tableBuilders().containsKey(tag);
     }
 
     /**
@@ -745,7 +1409,7 @@ public class Font {
      * @return the builder for the tag; null if there is no builder for that tag
      */
     public Table.Builder<? extends Table> getTableBuilder(int tag) {
-      Table.Builder<? extends Table> builder = this.tableBuilders.get(tag);
+      Table.Builder<? extends Table> builder = this.tableBuilders().get(tag);
       return builder;
     }
 
@@ -763,7 +1427,7 @@ public class Font {
     public Table.Builder<? extends Table> newTableBuilder(int tag) {
       Header header = new Header(tag);
       Table.Builder<? extends Table> builder = Table.Builder.getBuilder(header, null);
-      this.tableBuilders.put(header.tag(), builder);
+      this.tableBuilders().put(header.tag(), builder);
 
       return builder;
     }
@@ -789,7 +1453,31 @@ public class Font {
       Header header = new Header(tag, data.length());
       Table.Builder<? extends Table> builder = Table.Builder.getBuilder(header, data);
 
-      this.tableBuilders.put(tag, builder);
+      this.tableBuilders().put(tag, builder);
+
+      return builder;
+    }
+
+    /**
+     * Creates a new table builder for the table type given by the table id tag.
+     * Unlike {@link #newTableBuilder(int, ReadableFontData)} the builder uses
+     * the data provided directly rather than a copy of it, so that data must
+     * not be changed while the builder or the tables built from it are in use.
+     *
+     *  This new table has been added to the font and will replace any existing
+     * builder for that table.
+     *
+     * @param tag
+     * @param data the data to use for the table
+     * @return new table builder of the type specified by tag; if tag is not
+     *         known then a generic OpenTypeTable builder is returned
+     */
+    public Table.Builder<? extends Table> newTableBuilderSharingData(
+        int tag, WritableFontData data) {
+      Header header = new Header(tag, data.length());
+      Table.Builder<? extends Table> builder = Table.Builder.getBuilder(header, data);
+
+      this.tableBuilders().put(tag, builder);
 
       return builder;
     }
@@ -801,7 +1489,7 @@ public class Font {
      * @return an unmodifiable view of the table builders in this font builder
      */
     public Map<Integer, Table.Builder<? extends Table>> tableBuilderMap() {
-      return Collections.unmodifiableMap(this.tableBuilders);
+      return Collections.unmodifiableMap(this.tableBuilders());
     }
 
     /**
@@ -811,7 +1499,7 @@ public class Font {
      * @return the table builder removed
      */
     public Table.Builder<? extends Table> removeTableBuilder(int tag) {
-      return this.tableBuilders.remove(tag);
+      return this.tableBuilders().remove(tag);
     }
 
     /**
@@ -820,13 +1508,33 @@ public class Font {
      * @return the number of table builders
      */
     public int tableBuilderCount() {
-      return this.tableBuilders.size();
+      return this.tableBuilders().size();
     }
 
     @SuppressWarnings("unused")
     private int sfntWrapperSize() {
       return Offset.sfntHeaderSize.offset +
-      (Offset.tableRecordSize.offset * this.tableBuilders.size());
+      (Offset.tableRecordSize.offset * this.tableBuilders().size());
+    }
+
+    /**
+     * Gets the table builders, creating them from the loaded table data the
+     * first time that they are needed. Any tables still to be decoded are
+     * decoded first.
+     *
+     * @return the table builders
+     */
+    private Map<Integer, Table.Builder<? extends Table>> tableBuilders() {
+      if (this.tableBuilders == null) {
+        if (this.deferredTables != null) {
+          for (DeferredTableData deferred : this.deferredTables) {
+            this.dataBlocks.put(deferred.header(), deferred.data());
+          }
+          this.deferredTables = null;
+        }
+        this.tableBuilders = buildAllTableBuilders(this.dataBlocks);
+      }
+      return this.tableBuilders;
     }
 
     private Map<Integer, Table.Builder<? extends Table>> buildAllTableBuilders(
@@ -848,7 +1556,8 @@ public class Font {
     }
 
     private static Map<Integer, Table> buildTablesFromBuilders(Font font,
-        Map<Integer, Table.Builder<? extends Table>> builderMap) {
+        Map<Integer, Table.Builder<? extends Table>> builderMap, ExecutorService executor,
+        SharedTables sharedTables) {
       Map<Integer, Table> tableMap = new TreeMap<Integer, Table>();
 
       interRelateBuilders(builderMap);
@@ -856,23 +1565,64 @@ public class Font {
       long fontChecksum = 0;
       boolean tablesChanged = false;
       FontHeaderTable.Builder headerTableBuilder = null;
-      
-      // now build all the tables
+
+      Map<Integer, Header> headers = null;
+      List<List<Integer>> keys = null;
+      if (sharedTables != null) {
+        List<Header> builderHeaders = new ArrayList<Header>(builderMap.size());
+        for (Table.Builder<? extends Table> builder : builderMap.values()) {
+          builderHeaders.add(builder.header());
+        }
+        headers = SharedTables.headersByTag(builderHeaders);
+        keys = new ArrayList<List<Integer>>(builderMap.size());
+      }
+
+      // now build all the tables except those already built for another font
+      List<Table.Builder<? extends Table>> builders =
+          new ArrayList<Table.Builder<? extends Table>>(builderMap.size());
       for (Table.Builder<? extends Table> builder : builderMap.values()) {
-        Table table = null;
         if (Tag.isHeaderTable(builder.header().tag())) {
           headerTableBuilder = (FontHeaderTable.Builder) builder;
           continue;
         }
-        if (builder.readyToBuild()) {
-          tablesChanged |= builder.changed();
-          table = builder.build();
+        if (sharedTables != null) {
+          List<Integer> key = SharedTables.key(builder.header(), headers);
+          Table table = sharedTables.table(key);
+          if (table != null) {
+            fontChecksum += table.calculatedChecksum();
+            tableMap.put(table.header().tag(), table);
+            continue;
+          }
+          keys.add(key);
         }
-        if (table == null) {
-          throw new RuntimeException("Unable to build table - " + builder);
+        tablesChanged |= builder.readyToBuild() && builder.changed();
+        builders.add(builder);
+      }
+      List<Table> tables;
+      if (executor == null) {
+        tables = new ArrayList<Table>(builders.size());
+        for (Table.Builder<? extends Table> builder : builders) {
+          tables.add(buildTable(builder));
+        }
+      } else {
+        // each table is built and checksummed independently of the others
+        List<Callable<Table>> tasks = new ArrayList<Callable<Table>>(builders.size());
+        for (final Table.Builder<? extends Table> builder : builders) {
+          tasks.add(new Callable<Table>() {
+            @Override
+            public Table call() {
+              return buildTable(builder);
+            }
+          });
+        }
+        tables = Tasks.invokeAll(executor, tasks);
+      }
+      for (int i = 0; i < tables.size(); i++) {
+        Table table = tables.get(i);
+        if (sharedTables != null) {
+          table = sharedTables.share(keys.get(i), table);
         }
-        long tableChecksum = table.calculatedChecksum();
-        fontChecksum += tableChecksum;
+        fontChecksum += table.calculatedChecksum();
         tableMap.put(table.header().tag(), table);
       }
       
@@ -889,6 +1639,10 @@ public class Font {
         if (headerTable == null) {
           throw new RuntimeException("Unable to build table - " + headerTableBuilder);
         }
+        if (sharedTables != null && !tablesChanged) {
+          headerTable = sharedTables.share(
+              SharedTables.key(headerTableBuilder.header(), headers), headerTable);
+        }
         fontChecksum += headerTable.calculatedChecksum();
         tableMap.put(headerTable.header().tag(), headerTable);
       }
@@ -897,6 +1651,25 @@ public class Font {
       return tableMap;
     }
 
+    /**
+     * Builds a single table and calculates its checksum.
+     *
+     * @param builder the builder for the table
+     * @return the table built
+     * @throws RuntimeException if the table can't be built
+     */
+    private static Table buildTable(Table.Builder<? extends Table> builder) {
+      Table table = null;
+      if (builder.readyToBuild()) {
+        table = builder.build();
+      }
+      if (table == null) {
+        throw new RuntimeException("Unable to build table - " + builder);
+      }
+      table.calculatedChecksum();
+      return table;
+    }
+
     private static void
     interRelateBuilders(Map<Integer, Table.Builder<? extends Table>> builderMap) {
       FontHeaderTable.Builder headerTableBuilder =
@@ -921,10 +1694,13 @@ public class Font {
         if (headerTableBuilder != null) {
           locaTableBuilder.setFormatVersion(headerTableBuilder.indexToLocFormat());
         }
-        if (locaTableBuilder.formatVersion() == IndexToLocFormat.shortOffset) {
+        // only fall back to the loca size when there is no maxp to ask
+        if (maxProfileBuilder == null) {
+          if (locaTableBuilder.formatVersion() == IndexToLocFormat.shortOffset) {
             numGlyphs = locaTableBuilder.data().length() / 2 - 1;
-        } else {
+          } else {
             numGlyphs = locaTableBuilder.data().length() / 4 - 1;
+          }
         }
       }
       
@@ -0,0 +1,224 @@
+/*
+ * Copyright 2011 Google Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.typography.font.sfntly;
+
+import java.io.File;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+
+/**
+ * A cache of loaded fonts for use by a {@link FontFactory}. Since {@link Font}
+ * objects are immutable and thread safe the same font objects are shared
+ * between all users of the cache.
+ *
+ * <p>Fonts are keyed either by the SHA-1 digest of their data or by the path,
+ * modification time and length of the file they were loaded from. The cache is
+ * bounded by the total of the data lengths of the tables in the cached fonts
+ * and the least recently used fonts are evicted first when that bound is
+ * exceeded. A font that is larger than the bound by itself is never cached.
+ *
+ * <p>The cache is thread safe. Loading a font that is missing from the cache
+ * is done outside of any lock, so two threads missing on the same key at the
+ * same time may both load it and the last one to finish replaces the other.
+ *
+ * @see FontFactory#setFontCache(FontCache)
+ */
+public final class FontCache {
+
+  private final long maxSize;
+  private final LinkedHashMap<Object, Entry> entries;
+  private long size;
+
+  private long hitCount;
+  private long missCount;
+  private long evictionCount;
+
+  /**
+   * A cached set of fonts and their size.
+   */
+  private static final class Entry {
+    private final Font[] fonts;
+    private final long size;
+
+    private Entry(Font[] fonts, long size) {
+      this.fonts = fonts;
+      this.size = size;
+    }
+  }
+
+  /**
+   * Constructor.
+   *
+   * @param maxSize the maximum total size in bytes of the table data of all
+   *        the fonts held in the cache
+   */
+  public FontCache(long maxSize) {
+    if (maxSize < 0) {
+      throw new IllegalArgumentException("Cache size must not be negative.");
+    }
+    this.maxSize = maxSize;
+    this.entries = new LinkedHashMap<Object, Entry>(16, 0.75f, true /* access order */);
+  }
+
+  /**
+   * Gets the key for font data with the digest given.
+   *
+   * @param digest the digest of the font data
+   * @return the cache key
+   */
+  static Object digestKey(byte[] digest) {
+    StringBuilder sb = new StringBuilder("digest:");
+    for (byte b : digest) {
+      int d = 0xff & b;
+      if (d < 0x10) {
+        sb.append("0");
+      }
+      sb.append(Integer.toHexString(d));
+    }
+    return sb.toString();
+  }
+
+  /**
+   * Gets the key for font data loaded from the file given. The key changes
+   * whenever the file is modified.
+   *
+   * @param file the font file
+   * @return the cache key
+   */
+  static Object fileKey(File file) {
+    return "file:" + file.getAbsolutePath() + ":" + file.lastModified() + ":" + file.length();
+  }
+
+  /**
+   * Gets the fonts cached for a key.
+   *
+   * @param key the cache key
+   * @return the fonts; null if there are none cached for the key
+   */
+  synchronized Font[] get(Object key) {
+    Entry entry = this.entries.get(key);
+    if (entry == null) {
+      this.missCount++;
+      return null;
+    }
+    this.hitCount++;
+    return entry.fonts.clone();
+  }
+
+  /**
+   * Puts fonts into the cache, evicting the least recently used fonts as
+   * needed to keep within the maximum size.
+   *
+   * @param key the cache key
+   * @param fonts the fonts to cache
+   */
+  void put(Object key, Font[] fonts) {
+    long fontsSize = 0;
+    for (Font font : fonts) {
+      fontsSize += font.dataLength();
+    }
+    if (fontsSize > this.maxSize) {
+      return;
+    }
+    synchronized (this) {
+      Entry old = this.entries.put(key, new Entry(fonts.clone(), fontsSize));
+      if (old != null) {
+        this.size -= old.size;
+      }
+      this.size += fontsSize;
+
+      Iterator<Entry> iter = this.entries.values().iterator();
+      while (this.size > this.maxSize && iter.hasNext()) {
+        Entry eldest = iter.next();
+        iter.remove();
+        this.size -= eldest.size;
+        this.evictionCount++;
+      }
+    }
+  }
+
+  /**
+   * Removes all fonts from the cache. The statistics are not reset.
+   */
+  public synchronized void clear() {
+    this.entries.clear();
+    this.size = 0;
+  }
+
+  /**
+   * Gets the maximum total size in bytes of the fonts in the cache.
+   *
+   * @return the maximum size
+   */
+  public long maxSize() {
+    return this.maxSize;
+  }
+
+  /**
+   * Gets the current total size in bytes of the fonts in the cache.
+   *
+   * @return the current size
+   */
+  public synchronized long size() {
+    return this.size;
+  }
+
+  /**
+   * Gets the number of entries in the cache. A font collection is a single
+   * entry.
+   *
+   * @return the number of entries
+   */
+  public synchronized int entryCount() {
+    return this.entries.size();
+  }
+
+  /**
+   * Gets the number of lookups that found their fonts in the cache.
+   *
+   * @return the hit count
+   */
+  public synchronized long hitCount() {
+    return this.hitCount;
+  }
+
+  /**
+   * Gets the number of lookups that did not find their fonts in the cache.
+   *
+   * @return the miss count
+   */
+  public synchronized long missCount() {
+    return this.missCount;
+  }
+
+  /**
+   * Gets the number of entries that have been evicted to keep the cache within
+   * its maximum size.
+   *
+   * @return the eviction count
+   */
+  public synchronized long evictionCount() {
+    return this.evictionCount;
+  }
+
+  @Override
+  public synchronized String toString() {
+    return "FontCache[entries=" + this.entries.size() + ", size=" + this.size + "/" + this.maxSize
+        + ", hits=" + this.hitCount + ", misses=" + this.missCount + ", evictions="
+        + this.evictionCount + "]";
+  }
+}
@@ -18,22 +18,34 @@ package com.google.typography.font.sfntly;
 
 import com.google.typography.font.sfntly.Font.Builder;
 import com.google.typography.font.sfntly.data.FontData;
+import com.google.typography.font.sfntly.data.FontInputStream;
 import com.google.typography.font.sfntly.data.ReadableFontData;
 import com.google.typography.font.sfntly.data.WritableFontData;
 
 import java.io.BufferedInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.io.PushbackInputStream;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
 import java.security.DigestInputStream;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
 
 /**
  * The font factory. This is the root class for the creation and loading of fonts.
+ * Fonts may be loaded from OpenType and TrueType data, TrueType collections and
+ * the WOFF and WOFF 2.0 web font formats.
  *
  * @author Stuart Gill
  */
@@ -42,6 +54,9 @@ public final class FontFactory {
 
   // font building settings
   private boolean fingerprint = false;
+  private boolean lazyTables = false;
+  private FontCache fontCache;
+  private ExecutorService executor;
 
   // font serialization settings
   List<Integer> tableOrdering;
@@ -110,6 +125,85 @@ public final class FontFactory {
     return this.fingerprint;
   }
 
+  /**
+   * Toggle whether the tables of fonts that are loaded are built lazily. If
+   * lazy loading is turned on then the fonts returned from the loading methods
+   * only read the table directory when loaded. Each table is built and
+   * checksummed from its data the first time that it is requested from the
+   * font. This has no effect on fonts loaded for building. By default this is
+   * turned off.
+   *
+   * @param lazy whether lazy table loading should be turned on or off
+   * @see #loadTablesLazily()
+   * @see Font#getTable(int)
+   */
+  public void loadTablesLazily(boolean lazy) {
+    this.lazyTables = lazy;
+  }
+
+  /**
+   * Get the state of the lazy table loading option for fonts that are loaded.
+   *
+   * @return true if lazy table loading is turned on; false otherwise
+   * @see #loadTablesLazily(boolean)
+   */
+  public boolean loadTablesLazily() {
+    return this.lazyTables;
+  }
+
+  /**
+   * Set the cache to use for fonts that are loaded. Fonts loaded from byte
+   * arrays and input streams are looked up by the SHA-1 digest of their data
+   * and fonts loaded from files by the path, modification time and length of
+   * the file. Only the methods that load fonts are cached; the methods that
+   * load fonts for building always load new builders. Loading from a file
+   * channel is not cached since the file it came from is not known. By default
+   * there is no cache.
+   *
+   * @param fontCache the cache to use; null to turn off caching
+   * @see #fontCache()
+   */
+  public void setFontCache(FontCache fontCache) {
+    this.fontCache = fontCache;
+  }
+
+  /**
+   * Get the cache used for fonts that are loaded.
+   *
+   * @return the font cache; null if there is none
+   * @see #setFontCache(FontCache)
+   */
+  public FontCache fontCache() {
+    return this.fontCache;
+  }
+
+  /**
+   * Set the executor to use for building fonts and serializing them. If an
+   * executor is set then the tables of a font are built and checksummed in
+   * parallel on it when a font builder is built, and the table checksums are
+   * calculated in parallel when a font is serialized to a file channel. A
+   * {@link java.util.concurrent.ForkJoinPool} is a good choice. By default
+   * there is no executor and all of this work is done on the calling thread.
+   *
+   * @param executor the executor to use; null to do all work on the calling
+   *        thread
+   * @see #executor()
+   * @see #serializeFont(Font, FileChannel)
+   */
+  public void setExecutor(ExecutorService executor) {
+    this.executor = executor;
+  }
+
+  /**
+   * Get the executor used for building fonts and serializing them.
+   *
+   * @return the executor; null if there is none
+   * @see #setExecutor(ExecutorService)
+   */
+  public ExecutorService executor() {
+    return this.executor;
+  }
+
   // input stream font loading
 
   /**
@@ -125,11 +219,32 @@ public final class FontFactory {
    * @throws IOException
    */
   public Font[] loadFonts(InputStream is) throws IOException {
-    BufferedInputStream bis = new BufferedInputStream(is);
-    if (isCollection(bis)) {
-      return loadCollection(bis);
+    if (this.fontCache != null) {
+      // the whole stream is needed for the digest used as the cache key
+      return loadFonts(readFully(is));
+    }
+    return loadFonts(is, null);
+  }
+
+  /**
+   * Load the selected font(s) from the input stream. A collection is read
+   * from the stream in a single forward pass and only the table data for the
+   * fonts selected is kept, so the memory used depends on the fonts selected
+   * rather than the size of the collection. A font that isn't in a collection
+   * is treated as the font at index 0. The font cache isn't used.
+   *
+   * @param is the input stream font data
+   * @param fontIndices the indices of the fonts to load; null to load all
+   * @return the fonts selected in index order
+   * @throws IOException
+   */
+  public Font[] loadFonts(InputStream is, BitSet fontIndices) throws IOException {
+    Font.Builder[] builders = loadFontsForBuilding(is, fontIndices);
+    Font[] fonts = new Font[builders.length];
+    for (int i = 0; i < fonts.length; i++) {
+      fonts[i] = builders[i].build();
     }
-    return new Font[] {loadSingleOTF(bis) };
+    return fonts;
   }
 
   /**
@@ -145,24 +260,35 @@ public final class FontFactory {
    * @throws IOException
    */
   public Builder[] loadFontsForBuilding(InputStream is) throws IOException {
-    BufferedInputStream bis = new BufferedInputStream(is);
-    if (isCollection(bis)) {
-      return loadCollectionForBuilding(bis);
-    }
-    return new Builder[] {loadSingleOTFForBuilding(bis) };
+    return loadFontsForBuilding(is, null);
   }
 
-  private Font loadSingleOTF(InputStream is) throws IOException {
-    return loadSingleOTFForBuilding(is).build();
-  }
-
-  private Font[] loadCollection(InputStream is) throws IOException {
-    Font.Builder[] builders = loadCollectionForBuilding(is);
-    Font[] fonts = new Font[builders.length];
-    for (int i = 0; i < fonts.length; i++) {
-      fonts[i] = builders[i].build();
+  /**
+   * Load the selected font(s) from the input stream into font builders. A
+   * collection is read from the stream in a single forward pass and only the
+   * table data for the fonts selected is kept. A font that isn't in a
+   * collection is treated as the font at index 0.
+   *
+   * @param is the input stream font data
+   * @param fontIndices the indices of the fonts to load; null to load all
+   * @return the font builders for the fonts selected in index order
+   * @throws IOException
+   * @see #loadFonts(InputStream, BitSet)
+   */
+  public Builder[] loadFontsForBuilding(InputStream is, BitSet fontIndices) throws IOException {
+    BufferedInputStream bis = new BufferedInputStream(is);
+    int signature = signature(bis);
+    if (signature == Tag.ttcf) {
+      return loadCollectionForBuilding(bis, fontIndices);
     }
-    return fonts;
+    if (fontIndices != null && !fontIndices.get(0)) {
+      return new Builder[0];
+    }
+    if (isWebFont(signature)) {
+      // the web font table directory refers to data anywhere in the stream
+      return loadFontsForBuilding(readFully(bis));
+    }
+    return new Builder[] {loadSingleOTFForBuilding(bis) };
   }
 
   private Font.Builder loadSingleOTFForBuilding(InputStream is) throws IOException {
@@ -183,19 +309,52 @@ public final class FontFactory {
     return builder;
   }
 
-  private Font.Builder[] loadCollectionForBuilding(InputStream is) throws IOException {
-    WritableFontData wfd = WritableFontData.createWritableFontData(is.available());
-    wfd.copyFrom(is);
-    // TOOD(stuartg): add collection loading from a stream
-    return loadCollectionForBuilding(wfd);
+  private Font.Builder[] loadCollectionForBuilding(InputStream is, BitSet fontIndices)
+      throws IOException {
+    FontInputStream fis = new FontInputStream(is);
+    fis.readULongAsInt(); // TTC tag
+    fis.readFixed(); // version
+    int numFonts = fis.readULongAsInt();
+    if (numFonts < 0) {
+      throw new IOException("Invalid number of fonts in collection - " + numFonts);
+    }
+    // the number of fonts isn't trusted until their offsets have been read
+    int[] offsets = new int[Math.min(numFonts, 16)];
+    int selected = 0;
+    for (int fontNumber = 0; fontNumber < numFonts; fontNumber++) {
+      int offset = fis.readULongAsInt();
+      long end = Offset.OffsetTable.offset + (fontNumber + 1L) * FontData.DataSize.ULONG.size();
+      if (fis.position() != end) {
+        throw new IOException("Unexpected end of font data.");
+      }
+      if (fontIndices == null || fontIndices.get(fontNumber)) {
+        if (selected == offsets.length) {
+          offsets = Arrays.copyOf(offsets, offsets.length * 2);
+        }
+        offsets[selected++] = offset;
+      }
+    }
+    // faces commonly share tables so those are only read and built once
+    return Font.Builder.getOTFBuilders(
+        this, fis, Arrays.copyOf(offsets, selected), new Font.SharedTables());
   }
 
-  static private boolean isCollection(BufferedInputStream bis) throws IOException {
-    byte[] tag = new byte[4];
+  static private int signature(BufferedInputStream bis) throws IOException {
+    byte[] tag = new byte[LOOKAHEAD_SIZE];
     bis.mark(tag.length);
     bis.read(tag);
     bis.reset();
-    return Tag.ttcf == Tag.intValue(tag);
+    return Tag.intValue(tag);
+  }
+
+  private static byte[] readFully(InputStream is) throws IOException {
+    ByteArrayOutputStream bos = new ByteArrayOutputStream();
+    byte[] buffer = new byte[8192];
+    int bytesRead;
+    while ((bytesRead = is.read(buffer)) > 0) {
+      bos.write(buffer, 0, bytesRead);
+    }
+    return bos.toByteArray();
   }
 
   // ByteArray font loading
@@ -212,13 +371,34 @@ public final class FontFactory {
    * @throws IOException
    */
   public Font[] loadFonts(byte[] b) throws IOException {
+    Object key = null;
+    if (this.fontCache != null) {
+      key = FontCache.digestKey(digest(ByteBuffer.wrap(b)));
+      Font[] fonts = this.fontCache.get(key);
+      if (fonts != null) {
+        return fonts;
+      }
+    }
     // TODO(stuartg): make a ReadableFontData when block loading moved to
     // FontFactory
     WritableFontData rfd = WritableFontData.createWritableFontData(b);
-    if (isCollection(rfd)) {
-      return loadCollection(rfd);
+    int signature = signature(rfd);
+    Font[] fonts;
+    if (isWebFont(signature)) {
+      Font.Builder builder = loadWebFontForBuilding(rfd, signature);
+      if (this.fingerprintFont()) {
+        builder.setDigest(digest(ByteBuffer.wrap(b)));
+      }
+      fonts = new Font[] {builder.build()};
+    } else if (signature == Tag.ttcf) {
+      fonts = loadCollection(rfd);
+    } else {
+      fonts = new Font[] {loadSingleOTF(rfd)};
     }
-    return new Font[] {loadSingleOTF(rfd)};
+    if (key != null) {
+      this.fontCache.put(key, fonts);
+    }
+    return fonts;
   }
 
   /**
@@ -235,7 +415,15 @@ public final class FontFactory {
    */
   public Font.Builder[] loadFontsForBuilding(byte[] b) throws IOException {
     WritableFontData wfd = WritableFontData.createWritableFontData(b);
-    if (isCollection(wfd)) {
+    int signature = signature(wfd);
+    if (isWebFont(signature)) {
+      Font.Builder builder = loadWebFontForBuilding(wfd, signature);
+      if (this.fingerprintFont()) {
+        builder.setDigest(digest(ByteBuffer.wrap(b)));
+      }
+      return new Font.Builder[] {builder};
+    }
+    if (signature == Tag.ttcf) {
       return loadCollectionForBuilding(wfd);
     }
     return new Font.Builder[] {loadSingleOTFForBuilding(wfd, 0)};
@@ -270,19 +458,168 @@ public final class FontFactory {
     int numFonts = wfd.readULongAsInt(Offset.numFonts.offset);
 
     Font.Builder[] builders = new Font.Builder[numFonts];
+    // faces commonly share tables so those are only built once
+    Font.SharedTables sharedTables = new Font.SharedTables();
     int offsetTableOffset = Offset.OffsetTable.offset;
     for (int fontNumber = 0; fontNumber < numFonts; fontNumber++,
         offsetTableOffset += FontData.DataSize.ULONG.size()) {
       int offset = wfd.readULongAsInt(offsetTableOffset);
-      builders[fontNumber] = this.loadSingleOTFForBuilding(wfd, offset);
+      builders[fontNumber] = Font.Builder.getOTFBuilder(this, wfd, offset, sharedTables);
     }
     return builders;
   }
 
-  static private boolean isCollection(ReadableFontData rfd) {
-    byte[] tag = new byte[4];
+  static private int signature(ReadableFontData rfd) {
+    byte[] tag = new byte[LOOKAHEAD_SIZE];
     rfd.readBytes(0, tag, 0, tag.length);
-    return Tag.ttcf == Tag.intValue(tag);
+    return Tag.intValue(tag);
+  }
+
+  // web font loading
+
+  static private boolean isWebFont(int signature) {
+    return signature == Tag.wOFF || signature == Tag.wOF2;
+  }
+
+  /**
+   * Loads a WOFF or WOFF 2.0 font into a font builder. The tables are only
+   * decompressed when they are first used.
+   */
+  private Font.Builder loadWebFontForBuilding(WritableFontData wfd, int signature)
+      throws IOException {
+    if (signature == Tag.wOFF) {
+      return WoffDecoder.loadFont(this, wfd);
+    }
+    return Woff2Decoder.loadFont(this, wfd);
+  }
+
+  // memory mapped font loading
+
+  /**
+   * Load the font(s) from the file. The file is memory mapped and the tables
+   * of the fonts loaded read directly from the mapped file rather than being
+   * copied onto the heap. The current settings on the factory are used during
+   * the loading process. One or more fonts are returned if the file contains
+   * valid font data. Some font container formats may have more than one font
+   * and in this case multiple font objects will be returned.
+   *
+   * @param file the font file
+   * @return one or more fonts
+   * @throws IOException
+   * @see #loadFonts(FileChannel)
+   */
+  public Font[] loadFonts(File file) throws IOException {
+    Object key = null;
+    if (this.fontCache != null) {
+      key = FontCache.fileKey(file);
+      Font[] fonts = this.fontCache.get(key);
+      if (fonts != null) {
+        return fonts;
+      }
+    }
+    Font[] fonts;
+    RandomAccessFile raf = new RandomAccessFile(file, "r");
+    try {
+      fonts = loadFonts(raf.getChannel());
+    } finally {
+      raf.close();
+    }
+    if (key != null) {
+      this.fontCache.put(key, fonts);
+    }
+    return fonts;
+  }
+
+  /**
+   * Load the font(s) from the file into font builders. The file is memory
+   * mapped and the tables of the fonts loaded read directly from the mapped
+   * file rather than being copied onto the heap. The current settings on the
+   * factory are used during the loading process. One or more font builders are
+   * returned if the file contains valid font data. Some font container formats
+   * may have more than one font and in this case multiple font builder objects
+   * will be returned.
+   *
+   * @param file the font file
+   * @return one or more font builders
+   * @throws IOException
+   * @see #loadFontsForBuilding(FileChannel)
+   */
+  public Font.Builder[] loadFontsForBuilding(File file) throws IOException {
+    RandomAccessFile raf = new RandomAccessFile(file, "r");
+    try {
+      return loadFontsForBuilding(raf.getChannel());
+    } finally {
+      raf.close();
+    }
+  }
+
+  /**
+   * Load the font(s) from the file channel. The whole of the channel is memory
+   * mapped read only and the tables of the fonts loaded read directly from the
+   * mapped pages rather than being copied onto the heap. The mapping remains
+   * valid after the channel is closed. The current settings on the factory are
+   * used during the loading process. One or more fonts are returned if the
+   * channel contains valid font data. Some font container formats may have more
+   * than one font and in this case multiple font objects will be returned.
+   *
+   * @param fc the file channel to map the font data from
+   * @return one or more fonts
+   * @throws IOException
+   */
+  public Font[] loadFonts(FileChannel fc) throws IOException {
+    Font.Builder[] builders = loadFontsForBuilding(fc);
+    Font[] fonts = new Font[builders.length];
+    for (int i = 0; i < fonts.length; i++) {
+      fonts[i] = builders[i].build();
+    }
+    return fonts;
+  }
+
+  /**
+   * Load the font(s) from the file channel into font builders. The whole of the
+   * channel is memory mapped read only and the tables of the fonts loaded read
+   * directly from the mapped pages rather than being copied onto the heap. Any
+   * edits made to the table data through the builders are made to a private
+   * copy and the file is never modified. The current settings on the factory
+   * are used during the loading process. One or more font builders are
+   * returned if the channel contains valid font data. Some font container
+   * formats may have more than one font and in this case multiple font builder
+   * objects will be returned.
+   *
+   * @param fc the file channel to map the font data from
+   * @return one or more font builders
+   * @throws IOException
+   */
+  public Font.Builder[] loadFontsForBuilding(FileChannel fc) throws IOException {
+    long size = fc.size();
+    if (size > Integer.MAX_VALUE) {
+      throw new IOException("Font data too large to map: " + size + " bytes.");
+    }
+    MappedByteBuffer buffer = fc.map(FileChannel.MapMode.READ_ONLY, 0, size);
+    WritableFontData wfd = WritableFontData.createWritableFontData(buffer);
+    int signature = signature(wfd);
+    if (signature == Tag.ttcf) {
+      return loadCollectionForBuilding(wfd);
+    }
+    Font.Builder builder = isWebFont(signature)
+        ? loadWebFontForBuilding(wfd, signature) : loadSingleOTFForBuilding(wfd, 0);
+    if (this.fingerprintFont()) {
+      builder.setDigest(digest(buffer));
+    }
+    return new Font.Builder[] {builder};
+  }
+
+  private static byte[] digest(ByteBuffer buffer) throws IOException {
+    MessageDigest digest;
+    try {
+      digest = MessageDigest.getInstance("SHA-1");
+    } catch (NoSuchAlgorithmException e) {
+      throw new IOException("Unable to get requested message digest algorithm.", e);
+    }
+    ByteBuffer view = buffer.duplicate();
+    view.position(0);
+    digest.update(view);
+    return digest.digest();
   }
 
   // font serialization
@@ -299,6 +636,34 @@ public final class FontFactory {
     font.serialize(os, tableOrdering);
   }
 
+  /**
+   * Serialize the font to the file channel. The font is written at the
+   * channel's current position with a single gathering write of the table
+   * data. If the factory has an executor then the table checksums are
+   * calculated on it in parallel before the write.
+   *
+   * @param font the font to serialize
+   * @param fc the destination channel for the font
+   * @throws IOException
+   * @see #setExecutor(ExecutorService)
+   */
+  public void serializeFont(Font font, FileChannel fc) throws IOException {
+    font.serialize(fc, tableOrdering, this.executor);
+  }
+
+  /**
+   * Serialize the fonts to the output stream as a TrueType collection. A table
+   * that is shared between fonts, either as the same table object or as
+   * tables with identical content, is only written once.
+   *
+   * @param fonts the fonts to serialize
+   * @param os the destination stream for the collection
+   * @throws IOException
+   */
+  public void serializeCollection(Font[] fonts, OutputStream os) throws IOException {
+    Font.serializeCollection(fonts, os, tableOrdering);
+  }
+
   /**
    * Set the table ordering to be used in serializing a font. The table ordering
    * is an ordered list of table ids and tables will be serialized in the order
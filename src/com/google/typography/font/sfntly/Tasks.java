@@ -0,0 +1,65 @@
+/*
+ * Copyright 2011 Google Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.typography.font.sfntly;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+/**
+ * Utility for running the work of loading, building and writing fonts on a
+ * caller supplied executor.
+ */
+public final class Tasks {
+  private Tasks() {
+    // Prevent construction.
+  }
+
+  /**
+   * Runs the tasks on the executor and waits for them all to complete.
+   *
+   * @param executor the executor to run the tasks on
+   * @param tasks the tasks to run
+   * @return the results of the tasks in the same order as the tasks
+   * @throws RuntimeException if any of the tasks failed or the calling thread
+   *         was interrupted
+   */
+  public static <V> List<V> invokeAll(ExecutorService executor, List<Callable<V>> tasks) {
+    List<V> results = new ArrayList<V>(tasks.size());
+    try {
+      for (Future<V> future : executor.invokeAll(tasks)) {
+        results.add(future.get());
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new RuntimeException("Interrupted while waiting for tasks.", e);
+    } catch (ExecutionException e) {
+      Throwable cause = e.getCause();
+      if (cause instanceof RuntimeException) {
+        throw (RuntimeException) cause;
+      }
+      if (cause instanceof Error) {
+        throw (Error) cause;
+      }
+      throw new RuntimeException(cause);
+    }
+    return results;
+  }
+}
@@ -0,0 +1,733 @@
+/*
+ * Copyright 2011 Google Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.typography.font.sfntly;
+
+import com.google.typography.font.sfntly.data.FontData;
+import com.google.typography.font.sfntly.data.WritableFontData;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Loads a font from the WOFF 2.0 format. All of the tables of a WOFF 2.0 font
+ * are compressed together into a single Brotli stream, so the stream is
+ * decompressed once, the first time any table is used, and the tables that
+ * aren't transformed are slices of the decompressed data. The transformed glyf
+ * and loca tables are reconstructed together the first time either is used,
+ * and a transformed hmtx table is reconstructed from them.
+ */
+final class Woff2Decoder {
+
+  private enum Offset {
+    // header
+    signature(0),
+    flavor(4),
+    length(8),
+    numTables(12),
+    totalCompressedSize(20),
+    headerSize(48),
+
+    // transformed glyf table header
+    glyfOptionFlags(2),
+    glyfNumGlyphs(4),
+    glyfIndexFormat(6),
+    glyfStreamSizes(8),
+    glyfHeaderSize(36),
+
+    // other tables
+    hheaNumberOfHMetrics(34),
+    maxpNumGlyphs(4);
+
+    private final int offset;
+
+    private Offset(int offset) {
+      this.offset = offset;
+    }
+  }
+
+  private static final int ARBITRARY_TAG_INDEX = 0x3f;
+  private static final int NULL_TRANSFORM = 0;
+  private static final int GLYF_TRANSFORM = 0;
+  private static final int GLYF_NULL_TRANSFORM = 3;
+  private static final int HMTX_TRANSFORM = 1;
+
+  private static final int GLYF_OVERLAP_SIMPLE_BITMAP = 1;
+  private static final int NUM_GLYF_STREAMS = 7;
+
+  private static final int HMTX_NO_PROPORTIONAL_LSBS = 1;
+  private static final int HMTX_NO_MONOSPACE_LSBS = 1 << 1;
+
+  // simple glyph flags
+  private static final int ON_CURVE = 1;
+  private static final int X_SHORT = 1 << 1;
+  private static final int Y_SHORT = 1 << 2;
+  private static final int REPEAT = 1 << 3;
+  private static final int X_SAME_OR_POSITIVE = 1 << 4;
+  private static final int Y_SAME_OR_POSITIVE = 1 << 5;
+  private static final int OVERLAP_SIMPLE = 1 << 6;
+
+  // composite glyph flags
+  private static final int ARG_1_AND_2_ARE_WORDS = 1;
+  private static final int WE_HAVE_A_SCALE = 1 << 3;
+  private static final int MORE_COMPONENTS = 1 << 5;
+  private static final int WE_HAVE_AN_X_AND_Y_SCALE = 1 << 6;
+  private static final int WE_HAVE_A_TWO_BY_TWO = 1 << 7;
+  private static final int WE_HAVE_INSTRUCTIONS = 1 << 8;
+
+  // tags with a short index in the table directory, in index order
+  private static final int[] KNOWN_TAGS;
+  static {
+    String[] tags = {
+      "cmap", "head", "hhea", "hmtx", "maxp", "name", "OS/2", "post", "cvt ", "fpgm", "glyf",
+      "loca", "prep", "CFF ", "VORG", "EBDT", "EBLC", "gasp", "hdmx", "kern", "LTSH", "PCLT",
+      "VDMX", "vhea", "vmtx", "BASE", "GDEF", "GPOS", "GSUB", "EBSC", "JSTF", "MATH", "CBDT",
+      "CBLC", "COLR", "CPAL", "SVG ", "sbix", "acnt", "avar", "bdat", "bloc", "bsln", "cvar",
+      "fdsc", "feat", "fmtx", "fvar", "gvar", "hsty", "just", "lcar", "mort", "morx", "opbd",
+      "prop", "trak", "Zapf", "Silf", "Glat", "Gloc", "Feat", "Sill"};
+    KNOWN_TAGS = new int[tags.length];
+    for (int i = 0; i < tags.length; i++) {
+      KNOWN_TAGS[i] = Tag.intValue(tags[i]);
+    }
+  }
+
+  /**
+   * An entry of the table directory.
+   */
+  private static final class Entry {
+    private final int tag;
+    private final boolean transformed;
+    private final int transformVersion;
+    private final int origLength;
+    private final int offset;
+    private final int length;
+
+    private Entry(int tag, boolean transformed, int transformVersion, int origLength,
+        int offset, int length) {
+      this.tag = tag;
+      this.transformed = transformed;
+      this.transformVersion = transformVersion;
+      this.origLength = origLength;
+      this.offset = offset;
+      this.length = length;
+    }
+  }
+
+  /**
+   * The reconstructed glyf and loca tables.
+   */
+  private static final class GlyphData {
+    private final WritableFontData glyf;
+    private final WritableFontData loca;
+    private final int[] xMins;
+
+    private GlyphData(WritableFontData glyf, WritableFontData loca, int[] xMins) {
+      this.glyf = glyf;
+      this.loca = loca;
+      this.xMins = xMins;
+    }
+  }
+
+  private final WritableFontData compressed;
+  private final int decompressedLength;
+  private final Map<Integer, Entry> entries = new HashMap<Integer, Entry>();
+  private volatile byte[] tableData;
+  private volatile GlyphData glyphData;
+
+  private Woff2Decoder(WritableFontData compressed, int decompressedLength) {
+    this.compressed = compressed;
+    this.decompressedLength = decompressedLength;
+  }
+
+  /**
+   * Loads the font from the WOFF 2.0 data into a font builder.
+   *
+   * @param factory the factory loading the font
+   * @param data the WOFF 2.0 data
+   * @return the font builder
+   * @throws IOException if the data isn't a valid WOFF 2.0 font or is a
+   *         WOFF 2.0 font collection
+   */
+  static Font.Builder loadFont(FontFactory factory, WritableFontData data) throws IOException {
+    if (data.length() < Offset.headerSize.offset
+        || data.readULongAsInt(Offset.signature.offset) != Tag.wOF2) {
+      throw new IOException("Not a WOFF 2.0 font.");
+    }
+    int flavor = data.readULongAsInt(Offset.flavor.offset);
+    if (flavor == Tag.ttcf) {
+      throw new IOException("WOFF 2.0 font collections are not supported.");
+    }
+    int length = data.readULongAsInt(Offset.length.offset);
+    if (length < 0 || length > data.length()) {
+      throw new IOException("WOFF 2.0 data is truncated.");
+    }
+    int numTables = data.readUShort(Offset.numTables.offset);
+    int compressedLength = data.readULongAsInt(Offset.totalCompressedSize.offset);
+
+    // the directory entries are at most a flags byte, a tag and two UIntBase128
+    int directoryLength = Math.min(length - Offset.headerSize.offset, numTables * 15);
+    byte[] directoryData = new byte[Math.max(0, directoryLength)];
+    data.readBytes(Offset.headerSize.offset, directoryData, 0, directoryData.length);
+    Stream directory = new Stream(directoryData, 0, directoryData.length);
+    List<Entry> entries = new ArrayList<Entry>(numTables);
+    long offset = 0;
+    for (int i = 0; i < numTables; i++) {
+      int flags = directory.readUByte();
+      int tag;
+      if ((flags & ARBITRARY_TAG_INDEX) == ARBITRARY_TAG_INDEX) {
+        tag = directory.readULongAsInt();
+      } else {
+        tag = KNOWN_TAGS[flags & ARBITRARY_TAG_INDEX];
+      }
+      int version = flags >> 6;
+      int origLength = directory.readUIntBase128();
+      boolean transformed;
+      if (tag == Tag.glyf || tag == Tag.loca) {
+        if (version != GLYF_TRANSFORM && version != GLYF_NULL_TRANSFORM) {
+          throw new IOException("Unsupported WOFF 2.0 table transform - " + Tag.stringValue(tag));
+        }
+        transformed = version == GLYF_TRANSFORM;
+      } else {
+        transformed = version != NULL_TRANSFORM;
+      }
+      int tableLength = transformed ? directory.readUIntBase128() : origLength;
+      entries.add(new Entry(tag, transformed, version, origLength, (int) offset, tableLength));
+      offset += tableLength;
+      if (offset > Integer.MAX_VALUE) {
+        throw new IOException("WOFF 2.0 tables are too large.");
+      }
+    }
+    int compressedOffset = Offset.headerSize.offset + directory.position();
+    if (compressedLength < 0 || compressedOffset > length - compressedLength) {
+      throw new IOException("WOFF 2.0 compressed data is truncated.");
+    }
+
+    Woff2Decoder decoder =
+        new Woff2Decoder(data.slice(compressedOffset, compressedLength), (int) offset);
+    List<DeferredTableData> tables = new ArrayList<DeferredTableData>(numTables);
+    for (Entry entry : entries) {
+      if (decoder.entries.put(entry.tag, entry) != null) {
+        throw new IOException("Duplicate WOFF 2.0 table - " + Tag.stringValue(entry.tag));
+      }
+      tables.add(decoder.new Woff2TableData(entry));
+    }
+    Entry glyf = decoder.entries.get(Tag.glyf);
+    Entry loca = decoder.entries.get(Tag.loca);
+    if ((glyf == null) != (loca == null)
+        || (glyf != null && glyf.transformed != loca.transformed)) {
+      throw new IOException("WOFF 2.0 glyf and loca tables must be transformed together.");
+    }
+    if (loca != null && loca.transformed && loca.length != 0) {
+      throw new IOException("WOFF 2.0 transformed loca table must be empty.");
+    }
+    return Font.Builder.getOTFBuilder(factory, flavor, tables);
+  }
+
+  private final class Woff2TableData extends DeferredTableData {
+    private final Entry entry;
+
+    private Woff2TableData(Entry entry) {
+      super(entry.tag);
+      this.entry = entry;
+    }
+
+    @Override
+    protected WritableFontData decode() throws IOException {
+      if (!this.entry.transformed) {
+        return WritableFontData.createWritableFontData(tableData())
+            .slice(this.entry.offset, this.entry.length);
+      }
+      if (this.entry.tag == Tag.glyf) {
+        return glyphData().glyf;
+      }
+      if (this.entry.tag == Tag.loca) {
+        return glyphData().loca;
+      }
+      if (this.entry.tag == Tag.hmtx && this.entry.transformVersion == HMTX_TRANSFORM) {
+        return reconstructHmtx(this.entry);
+      }
+      throw new IOException(
+          "Unsupported WOFF 2.0 table transform - " + Tag.stringValue(this.entry.tag));
+    }
+  }
+
+  /**
+   * Gets the decompressed table data, decompressing it the first time that it
+   * is needed.
+   */
+  private byte[] tableData() throws IOException {
+    byte[] data = this.tableData;
+    if (data == null) {
+      synchronized (this) {
+        data = this.tableData;
+        if (data == null) {
+          byte[] input = new byte[this.compressed.length()];
+          this.compressed.readBytes(0, input, 0, input.length);
+          data = BrotliDecoder.decompress(input, 0, input.length, this.decompressedLength);
+          this.tableData = data;
+        }
+      }
+    }
+    return data;
+  }
+
+  /**
+   * Gets the reconstructed glyf and loca tables, reconstructing them the first
+   * time that they are needed.
+   */
+  private GlyphData glyphData() throws IOException {
+    GlyphData glyphData = this.glyphData;
+    if (glyphData == null) {
+      synchronized (this) {
+        glyphData = this.glyphData;
+        if (glyphData == null) {
+          glyphData = reconstructGlyf(this.entries.get(Tag.glyf), this.entries.get(Tag.loca));
+          this.glyphData = glyphData;
+        }
+      }
+    }
+    return glyphData;
+  }
+
+  /**
+   * Reconstructs the glyf and loca tables from the transformed glyf table as
+   * per section 5.1 of the spec.
+   */
+  private GlyphData reconstructGlyf(Entry glyfEntry, Entry locaEntry) throws IOException {
+    byte[] data = tableData();
+    WritableFontData header = WritableFontData.createWritableFontData(data)
+        .slice(glyfEntry.offset, glyfEntry.length);
+    if (header.length() < Offset.glyfHeaderSize.offset) {
+      throw new IOException("WOFF 2.0 transformed glyf table is truncated.");
+    }
+    int optionFlags = header.readUShort(Offset.glyfOptionFlags.offset);
+    int numGlyphs = header.readUShort(Offset.glyfNumGlyphs.offset);
+    int indexFormat = header.readUShort(Offset.glyfIndexFormat.offset);
+    int locaEntrySize = indexFormat == 0
+        ? FontData.DataSize.USHORT.size() : FontData.DataSize.ULONG.size();
+    if (locaEntry.origLength != (numGlyphs + 1) * locaEntrySize) {
+      throw new IOException("WOFF 2.0 loca table length doesn't match the glyph count.");
+    }
+
+    Stream[] streams = new Stream[NUM_GLYF_STREAMS];
+    int offset = glyfEntry.offset + Offset.glyfHeaderSize.offset;
+    int limit = glyfEntry.offset + glyfEntry.length;
+    for (int i = 0; i < NUM_GLYF_STREAMS; i++) {
+      int size = header.readULongAsInt(
+          Offset.glyfStreamSizes.offset + i * FontData.DataSize.ULONG.size());
+      if (size < 0 || size > limit - offset) {
+        throw new IOException("WOFF 2.0 transformed glyf table is truncated.");
+      }
+      streams[i] = new Stream(data, offset, offset + size);
+      offset += size;
+    }
+    Stream nContourStream = streams[0];
+    Stream nPointsStream = streams[1];
+    Stream flagStream = streams[2];
+    Stream glyphStream = streams[3];
+    Stream compositeStream = streams[4];
+    Stream bboxStream = streams[5];
+    Stream instructionStream = streams[6];
+    int bitmapSize = ((numGlyphs + 31) >> 5) << 2;
+    byte[] bboxBitmap = bboxStream.readBytes(bitmapSize);
+    byte[] overlapBitmap = null;
+    if ((optionFlags & GLYF_OVERLAP_SIMPLE_BITMAP) != 0) {
+      overlapBitmap = new Stream(data, offset, limit).readBytes(bitmapSize);
+    }
+
+    ByteArrayOutputStream glyf = new ByteArrayOutputStream(glyfEntry.origLength);
+    int[] locaOffsets = new int[numGlyphs + 1];
+    int[] xMins = new int[numGlyphs];
+    for (int glyphId = 0; glyphId < numGlyphs; glyphId++) {
+      int numContours = nContourStream.readShort();
+      boolean haveBbox = bitSet(bboxBitmap, glyphId);
+      if (numContours == 0) {
+        if (haveBbox) {
+          throw new IOException("WOFF 2.0 empty glyph has a bounding box.");
+        }
+      } else if (numContours > 0) {
+        xMins[glyphId] = writeSimpleGlyph(glyf, numContours, haveBbox,
+            overlapBitmap != null && bitSet(overlapBitmap, glyphId),
+            nPointsStream, flagStream, glyphStream, bboxStream, instructionStream);
+      } else if (numContours == -1) {
+        if (!haveBbox) {
+          throw new IOException("WOFF 2.0 composite glyph has no bounding box.");
+        }
+        xMins[glyphId] = writeCompositeGlyph(
+            glyf, glyphStream, compositeStream, bboxStream, instructionStream);
+      } else {
+        throw new IOException("Invalid WOFF 2.0 glyph contour count.");
+      }
+      // pad each glyph to keep the offsets aligned for the loca format
+      while (glyf.size() % locaEntrySize != 0) {
+        glyf.write(0);
+      }
+      locaOffsets[glyphId + 1] = glyf.size();
+    }
+
+    WritableFontData loca = WritableFontData.createWritableFontData(locaEntry.origLength);
+    for (int i = 0, index = 0; i <= numGlyphs; i++) {
+      if (indexFormat == 0) {
+        if (locaOffsets[i] / 2 > 0xffff) {
+          throw new IOException("WOFF 2.0 glyphs are too large for a short loca table.");
+        }
+        index += loca.writeUShort(index, locaOffsets[i] / 2);
+      } else {
+        index += loca.writeULong(index, locaOffsets[i]);
+      }
+    }
+    return new GlyphData(
+        WritableFontData.createWritableFontData(glyf.toByteArray()), loca, xMins);
+  }
+
+  /**
+   * Writes a simple glyph in the standard TrueType encoding.
+   *
+   * @return the xMin of the glyph
+   */
+  private static int writeSimpleGlyph(ByteArrayOutputStream glyf, int numContours,
+      boolean haveBbox, boolean overlap, Stream nPointsStream, Stream flagStream,
+      Stream glyphStream, Stream bboxStream, Stream instructionStream) throws IOException {
+    int[] endPoints = new int[numContours];
+    int numPoints = 0;
+    for (int i = 0; i < numContours; i++) {
+      numPoints += nPointsStream.read255UShort();
+      endPoints[i] = numPoints - 1;
+    }
+    // every point has a flag byte so this bounds the allocation
+    if (numPoints > flagStream.remaining()) {
+      throw new IOException("WOFF 2.0 flag stream is truncated.");
+    }
+
+    int[] flags = new int[numPoints];
+    ByteArrayOutputStream xCoordinates = new ByteArrayOutputStream();
+    ByteArrayOutputStream yCoordinates = new ByteArrayOutputStream();
+    int x = 0;
+    int y = 0;
+    int xMin = 0;
+    int yMin = 0;
+    int xMax = 0;
+    int yMax = 0;
+    for (int i = 0; i < numPoints; i++) {
+      int flag = flagStream.readUByte();
+      int triplet = flag & 0x7f;
+      int dx;
+      int dy;
+      if (triplet < 10) {
+        dx = 0;
+        dy = withSign(flag, ((triplet & 14) << 7) + glyphStream.readUByte());
+      } else if (triplet < 20) {
+        dx = withSign(flag, (((triplet - 10) & 14) << 7) + glyphStream.readUByte());
+        dy = 0;
+      } else if (triplet < 84) {
+        int b0 = triplet - 20;
+        int b1 = glyphStream.readUByte();
+        dx = withSign(flag, 1 + (b0 & 0x30) + (b1 >> 4));
+        dy = withSign(flag >> 1, 1 + ((b0 & 0x0c) << 2) + (b1 & 0x0f));
+      } else if (triplet < 120) {
+        int b0 = triplet - 84;
+        dx = withSign(flag, 1 + ((b0 / 12) << 8) + glyphStream.readUByte());
+        dy = withSign(flag >> 1, 1 + (((b0 % 12) >> 2) << 8) + glyphStream.readUByte());
+      } else if (triplet < 124) {
+        int b1 = glyphStream.readUByte();
+        int b2 = glyphStream.readUByte();
+        dx = withSign(flag, (b1 << 4) + (b2 >> 4));
+        dy = withSign(flag >> 1, ((b2 & 0x0f) << 8) + glyphStream.readUByte());
+      } else {
+        dx = withSign(flag, glyphStream.readUShort());
+        dy = withSign(flag >> 1, glyphStream.readUShort());
+      }
+      x += dx;
+      y += dy;
+      if (i == 0) {
+        xMin = xMax = x;
+        yMin = yMax = y;
+      } else {
+        xMin = Math.min(xMin, x);
+        xMax = Math.max(xMax, x);
+        yMin = Math.min(yMin, y);
+        yMax = Math.max(yMax, y);
+      }
+
+      int glyphFlag = (flag & 0x80) == 0 ? ON_CURVE : 0;
+      if (i == 0 && overlap) {
+        glyphFlag |= OVERLAP_SIMPLE;
+      }
+      glyphFlag |= writeCoordinate(xCoordinates, dx, X_SHORT, X_SAME_OR_POSITIVE);
+      glyphFlag |= writeCoordinate(yCoordinates, dy, Y_SHORT, Y_SAME_OR_POSITIVE);
+      flags[i] = glyphFlag;
+    }
+    int instructionLength = glyphStream.read255UShort();
+    if (haveBbox) {
+      xMin = bboxStream.readShort();
+      yMin = bboxStream.readShort();
+      xMax = bboxStream.readShort();
+      yMax = bboxStream.readShort();
+    }
+
+    writeUShort(glyf, numContours);
+    writeUShort(glyf, xMin);
+    writeUShort(glyf, yMin);
+    writeUShort(glyf, xMax);
+    writeUShort(glyf, yMax);
+    for (int endPoint : endPoints) {
+      writeUShort(glyf, endPoint);
+    }
+    writeUShort(glyf, instructionLength);
+    glyf.write(instructionStream.readBytes(instructionLength), 0, instructionLength);
+    for (int i = 0; i < numPoints; ) {
+      int flag = flags[i];
+      int run = 1;
+      while (i + run < numPoints && flags[i + run] == flag && run <= 0xff) {
+        run++;
+      }
+      if (run > 1) {
+        glyf.write(flag | REPEAT);
+        glyf.write(run - 1);
+      } else {
+        glyf.write(flag);
+      }
+      i += run;
+    }
+    xCoordinates.writeTo(glyf);
+    yCoordinates.writeTo(glyf);
+    return xMin;
+  }
+
+  private static int writeCoordinate(
+      ByteArrayOutputStream os, int delta, int shortFlag, int sameOrPositiveFlag) {
+    if (delta == 0) {
+      return sameOrPositiveFlag;
+    }
+    if (delta >= -0xff && delta <= 0xff) {
+      os.write(Math.abs(delta));
+      return delta > 0 ? shortFlag | sameOrPositiveFlag : shortFlag;
+    }
+    writeUShort(os, delta);
+    return 0;
+  }
+
+  /**
+   * Writes a composite glyph.
+   *
+   * @return the xMin of the glyph
+   */
+  private static int writeCompositeGlyph(ByteArrayOutputStream glyf, Stream glyphStream,
+      Stream compositeStream, Stream bboxStream, Stream instructionStream) throws IOException {
+    int start = compositeStream.position();
+    boolean haveInstructions = false;
+    int flags;
+    do {
+      flags = compositeStream.readUShort();
+      haveInstructions |= (flags & WE_HAVE_INSTRUCTIONS) != 0;
+      int size = FontData.DataSize.USHORT.size();
+      size += (flags & ARG_1_AND_2_ARE_WORDS) != 0
+          ? 2 * FontData.DataSize.SHORT.size() : 2 * FontData.DataSize.BYTE.size();
+      if ((flags & WE_HAVE_A_SCALE) != 0) {
+        size += FontData.DataSize.F2DOT14.size();
+      } else if ((flags & WE_HAVE_AN_X_AND_Y_SCALE) != 0) {
+        size += 2 * FontData.DataSize.F2DOT14.size();
+      } else if ((flags & WE_HAVE_A_TWO_BY_TWO) != 0) {
+        size += 4 * FontData.DataSize.F2DOT14.size();
+      }
+      compositeStream.skip(size);
+    } while ((flags & MORE_COMPONENTS) != 0);
+    int end = compositeStream.position();
+
+    int xMin = bboxStream.readShort();
+    writeUShort(glyf, -1);
+    writeUShort(glyf, xMin);
+    for (int i = 0; i < 3; i++) {
+      writeUShort(glyf, bboxStream.readShort());
+    }
+    compositeStream.writeTo(glyf, start, end - start);
+    if (haveInstructions) {
+      int instructionLength = glyphStream.read255UShort();
+      writeUShort(glyf, instructionLength);
+      glyf.write(instructionStream.readBytes(instructionLength), 0, instructionLength);
+    }
+    return xMin;
+  }
+
+  /**
+   * Reconstructs the hmtx table from the transformed hmtx table as per section
+   * 5.4 of the spec, using the xMin of each glyph for the left side bearings
+   * that were removed.
+   */
+  private WritableFontData reconstructHmtx(Entry hmtxEntry) throws IOException {
+    Entry glyf = this.entries.get(Tag.glyf);
+    Entry hhea = this.entries.get(Tag.hhea);
+    Entry maxp = this.entries.get(Tag.maxp);
+    if (glyf == null || !glyf.transformed || hhea == null || maxp == null
+        || hhea.length < Offset.hheaNumberOfHMetrics.offset + FontData.DataSize.USHORT.size()
+        || maxp.length < Offset.maxpNumGlyphs.offset + FontData.DataSize.USHORT.size()) {
+      throw new IOException("WOFF 2.0 transformed hmtx table needs glyf, hhea and maxp.");
+    }
+    WritableFontData data = WritableFontData.createWritableFontData(tableData());
+    int numHMetrics = data.readUShort(hhea.offset + Offset.hheaNumberOfHMetrics.offset);
+    int numGlyphs = data.readUShort(maxp.offset + Offset.maxpNumGlyphs.offset);
+    if (numHMetrics < 1 || numHMetrics > numGlyphs) {
+      throw new IOException("Invalid WOFF 2.0 horizontal metrics count.");
+    }
+    int[] xMins = glyphData().xMins;
+
+    Stream hmtx =
+        new Stream(tableData(), hmtxEntry.offset, hmtxEntry.offset + hmtxEntry.length);
+    int flags = hmtx.readUByte();
+    if ((flags & ~(HMTX_NO_PROPORTIONAL_LSBS | HMTX_NO_MONOSPACE_LSBS)) != 0) {
+      throw new IOException("Invalid WOFF 2.0 hmtx transform flags.");
+    }
+    int[] advanceWidths = new int[numHMetrics];
+    for (int i = 0; i < numHMetrics; i++) {
+      advanceWidths[i] = hmtx.readUShort();
+    }
+    WritableFontData table = WritableFontData.createWritableFontData(
+        2 * numHMetrics * FontData.DataSize.USHORT.size()
+        + (numGlyphs - numHMetrics) * FontData.DataSize.SHORT.size());
+    int index = 0;
+    for (int i = 0; i < numGlyphs; i++) {
+      if (i < numHMetrics) {
+        index += table.writeUShort(index, advanceWidths[i]);
+      }
+      int lsbFlag = i < numHMetrics ? HMTX_NO_PROPORTIONAL_LSBS : HMTX_NO_MONOSPACE_LSBS;
+      int lsb;
+      if ((flags & lsbFlag) == 0) {
+        lsb = hmtx.readShort();
+      } else {
+        lsb = i < xMins.length ? xMins[i] : 0;
+      }
+      index += table.writeShort(index, lsb);
+    }
+    return table;
+  }
+
+  private static boolean bitSet(byte[] bitmap, int index) {
+    return (bitmap[index >> 3] & (0x80 >> (index & 7))) != 0;
+  }
+
+  private static int withSign(int flag, int value) {
+    // the sign bit set means positive
+    return (flag & 1) != 0 ? value : -value;
+  }
+
+  private static void writeUShort(ByteArrayOutputStream os, int value) {
+    os.write(value >> 8);
+    os.write(value);
+  }
+
+  /**
+   * A bounds checked reader over part of the decompressed data.
+   */
+  private static final class Stream {
+    private final byte[] data;
+    private final int limit;
+    private int position;
+
+    private Stream(byte[] data, int offset, int limit) {
+      this.data = data;
+      this.position = offset;
+      this.limit = limit;
+    }
+
+    private int position() {
+      return this.position;
+    }
+
+    private int remaining() {
+      return this.limit - this.position;
+    }
+
+    private void require(int length) throws IOException {
+      if (length > this.limit - this.position) {
+        throw new IOException("WOFF 2.0 data is truncated.");
+      }
+    }
+
+    private void skip(int length) throws IOException {
+      require(length);
+      this.position += length;
+    }
+
+    private int readUByte() throws IOException {
+      require(1);
+      return this.data[this.position++] & 0xff;
+    }
+
+    private int readUShort() throws IOException {
+      require(2);
+      int value = ((this.data[this.position] & 0xff) << 8) | (this.data[this.position + 1] & 0xff);
+      this.position += 2;
+      return value;
+    }
+
+    private int readShort() throws IOException {
+      return (short) readUShort();
+    }
+
+    private int readULongAsInt() throws IOException {
+      int value = readUShort() << 16;
+      return value | readUShort();
+    }
+
+    // 255UInt16 as per section 4.1 of the spec
+    private int read255UShort() throws IOException {
+      int code = readUByte();
+      if (code == 253) {
+        return readUShort();
+      } else if (code == 255) {
+        return 253 + readUByte();
+      } else if (code == 254) {
+        return 506 + readUByte();
+      }
+      return code;
+    }
+
+    // UIntBase128 as per section 4.2 of the spec
+    private int readUIntBase128() throws IOException {
+      int value = 0;
+      for (int i = 0; i < 5; i++) {
+        int b = readUByte();
+        if (i == 0 && b == 0x80) {
+          throw new IOException("WOFF 2.0 UIntBase128 has a leading zero.");
+        }
+        if ((value & 0xfe000000) != 0) {
+          throw new IOException("WOFF 2.0 UIntBase128 overflows.");
+        }
+        value = (value << 7) | (b & 0x7f);
+        if ((b & 0x80) == 0) {
+          return value;
+        }
+      }
+      throw new IOException("WOFF 2.0 UIntBase128 is too long.");
+    }
+
+    private byte[] readBytes(int length) throws IOException {
+      require(length);
+      byte[] b = new byte[length];
+      System.arraycopy(this.data, this.position, b, 0, length);
+      this.position += length;
+      return b;
+    }
+
+    private void writeTo(ByteArrayOutputStream os, int offset, int length) {
+      os.write(this.data, offset, length);
+    }
+  }
+}
@@ -0,0 +1,154 @@
+/*
+ * Copyright 2011 Google Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.typography.font.sfntly;
+
+import com.google.typography.font.sfntly.data.WritableFontData;
+import com.google.typography.font.sfntly.table.Header;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
+
+/**
+ * Loads a font from the WOFF 1.0 format. Tables stored uncompressed are slices
+ * of the WOFF data and compressed tables are inflated the first time that
+ * they are used.
+ */
+final class WoffDecoder {
+
+  private enum Offset {
+    // header
+    signature(0),
+    flavor(4),
+    length(8),
+    numTables(12),
+    headerSize(44),
+
+    // table directory entry
+    tableTag(0),
+    tableOffset(4),
+    tableCompLength(8),
+    tableOrigLength(12),
+    tableOrigChecksum(16),
+    tableDirectoryEntrySize(20);
+
+    private final int offset;
+
+    private Offset(int offset) {
+      this.offset = offset;
+    }
+  }
+
+  private WoffDecoder() {
+    // prevent instantiation
+  }
+
+  /**
+   * Loads the font from the WOFF data into a font builder.
+   *
+   * @param factory the factory loading the font
+   * @param data the WOFF data
+   * @return the font builder
+   * @throws IOException if the data isn't a valid WOFF font
+   */
+  static Font.Builder loadFont(FontFactory factory, WritableFontData data) throws IOException {
+    if (data.length() < Offset.headerSize.offset
+        || data.readULongAsInt(Offset.signature.offset) != Tag.wOFF) {
+      throw new IOException("Not a WOFF font.");
+    }
+    int length = data.readULongAsInt(Offset.length.offset);
+    if (length < 0 || length > data.length()) {
+      throw new IOException("WOFF data is truncated.");
+    }
+    int numTables = data.readUShort(Offset.numTables.offset);
+    if (Offset.headerSize.offset + numTables * Offset.tableDirectoryEntrySize.offset > length) {
+      throw new IOException("WOFF table directory is truncated.");
+    }
+
+    List<DeferredTableData> tables = new ArrayList<DeferredTableData>(numTables);
+    for (int i = 0, entry = Offset.headerSize.offset;
+        i < numTables; i++, entry += Offset.tableDirectoryEntrySize.offset) {
+      int tag = data.readULongAsInt(entry + Offset.tableTag.offset);
+      int offset = data.readULongAsInt(entry + Offset.tableOffset.offset);
+      int compLength = data.readULongAsInt(entry + Offset.tableCompLength.offset);
+      int origLength = data.readULongAsInt(entry + Offset.tableOrigLength.offset);
+      long checksum = data.readULong(entry + Offset.tableOrigChecksum.offset);
+      if (offset < 0 || compLength < 0 || origLength < compLength
+          || offset > length - compLength) {
+        throw new IOException("Invalid WOFF table directory entry - " + Tag.stringValue(tag));
+      }
+      tables.add(new WoffTableData(tag, checksum, offset, origLength,
+          data.slice(offset, compLength)));
+    }
+    return Font.Builder.getOTFBuilder(
+        factory, data.readFixed(Offset.flavor.offset), tables);
+  }
+
+  private static final class WoffTableData extends DeferredTableData {
+    private final long checksum;
+    private final int offset;
+    private final int origLength;
+    private final WritableFontData compressed;
+
+    private WoffTableData(
+        int tag, long checksum, int offset, int origLength, WritableFontData compressed) {
+      super(tag);
+      this.checksum = checksum;
+      this.offset = offset;
+      this.origLength = origLength;
+      this.compressed = compressed;
+    }
+
+    @Override
+    protected WritableFontData decode() throws IOException {
+      if (this.compressed.length() == this.origLength) {
+        // stored as is
+        return this.compressed;
+      }
+      byte[] input = new byte[this.compressed.length()];
+      this.compressed.readBytes(0, input, 0, input.length);
+      byte[] output = new byte[this.origLength];
+      Inflater inflater = new Inflater();
+      try {
+        inflater.setInput(input);
+        int length = 0;
+        while (length < output.length && !inflater.finished()) {
+          int n = inflater.inflate(output, length, output.length - length);
+          if (n == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+            break;
+          }
+          length += n;
+        }
+        if (length != output.length) {
+          throw new IOException("WOFF table doesn't inflate to its original length.");
+        }
+      } catch (DataFormatException e) {
+        throw new IOException("WOFF table data is corrupt.", e);
+      } finally {
+        inflater.end();
+      }
+      return WritableFontData.createWritableFontData(output);
+    }
+
+    @Override
+    protected Header createHeader(int length) {
+      return new Header(tag(), this.checksum, this.offset, length);
+    }
+  }
+}
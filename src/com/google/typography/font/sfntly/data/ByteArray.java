@@ -19,6 +19,7 @@ package com.google.typography.font.sfntly.data;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.nio.ByteBuffer;
 
 /**
  * An abstraction to a contiguous array of bytes.
@@ -273,6 +274,21 @@ abstract class ByteArray<T extends ByteArray<T>> {
     return index;
   }
 
+  /**
+   * Gets a read only view of a segment of this ByteArray as a ByteBuffer. If
+   * the underlying storage can't be viewed directly then the view is of a copy
+   * of the segment.
+   *
+   * @param offset the offset in this ByteArray to start the view from
+   * @param length the maximum length in bytes of the view
+   * @return a read only buffer
+   */
+  public ByteBuffer byteBuffer(int offset, int length) {
+    byte[] b = new byte[Math.max(0, Math.min(length, this.length() - offset))];
+    this.get(offset, b, 0, b.length);
+    return ByteBuffer.wrap(b).asReadOnlyBuffer();
+  }
+
   /**
    * Copies from the InputStream into this ByteArray.
    *
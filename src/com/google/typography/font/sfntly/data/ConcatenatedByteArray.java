@@ -0,0 +1,181 @@
+/*
+ * Copyright 2011 Google Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.typography.font.sfntly.data;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * A fixed size implementation of the ByteArray interface that presents a
+ * sequence of font data objects as one contiguous array. None of the data is
+ * copied; reads go to the font data that holds the byte being read.
+ *
+ * <p>The source font data are treated as read only. The first write to the
+ * array copies all of the data onto the heap and all subsequent reads and
+ * writes use that copy, so the sources are never modified.
+ */
+final class ConcatenatedByteArray extends ByteArray<ConcatenatedByteArray> {
+  private ReadableFontData[] pieces;
+  // the index in this array of the first byte of each piece
+  private int[] starts;
+  private byte[] b;
+
+  /**
+   * Construct a new ConcatenatedByteArray over the pieces given.
+   *
+   * @param pieces the font data to concatenate in order
+   */
+  public ConcatenatedByteArray(List<? extends ReadableFontData> pieces) {
+    this(pieces.toArray(new ReadableFontData[pieces.size()]), starts(pieces));
+  }
+
+  private ConcatenatedByteArray(ReadableFontData[] pieces, int[] starts) {
+    super(starts[starts.length - 1], starts[starts.length - 1]);
+    this.pieces = pieces;
+    this.starts = starts;
+  }
+
+  /**
+   * Gets the start index of each piece followed by the total length.
+   */
+  private static int[] starts(List<? extends ReadableFontData> pieces) {
+    int[] starts = new int[pieces.size() + 1];
+    long total = 0;
+    for (int i = 0; i < pieces.size(); i++) {
+      starts[i] = (int) total;
+      total += pieces.get(i).length();
+      if (total > Integer.MAX_VALUE) {
+        throw new IndexOutOfBoundsException("Concatenated data too large.");
+      }
+    }
+    starts[pieces.size()] = (int) total;
+    return starts;
+  }
+
+  /**
+   * Finds the piece that holds the byte at an index.
+   *
+   * @param index the index into this array
+   * @return the index of the piece
+   */
+  private int piece(int index) {
+    int piece = Arrays.binarySearch(this.starts, 0, this.pieces.length, index);
+    if (piece < 0) {
+      return -piece - 2;
+    }
+    // skip over any empty pieces that start at the same index
+    while (piece + 1 < this.pieces.length && this.starts[piece + 1] == index) {
+      piece++;
+    }
+    return piece;
+  }
+
+  @Override
+  protected void internalPut(int index, byte b) {
+    this.ensureCopied();
+    this.b[index] = b;
+  }
+
+  @Override
+  protected int internalPut(int index, byte[] b, int offset, int length) {
+    this.ensureCopied();
+    System.arraycopy(b, offset, this.b, index, length);
+    return length;
+  }
+
+  @Override
+  protected int internalGet(int index) {
+    if (this.b != null) {
+      return this.b[index];
+    }
+    int piece = this.piece(index);
+    return this.pieces[piece].readByte(index - this.starts[piece]);
+  }
+
+  @Override
+  protected int internalGet(int index, byte[] b, int offset, int length) {
+    if (this.b != null) {
+      System.arraycopy(this.b, index, b, offset, length);
+      return length;
+    }
+    int read = 0;
+    for (int piece = this.piece(index); read < length; piece++) {
+      int pieceOffset = index + read - this.starts[piece];
+      int pieceLength = Math.min(length - read, this.pieces[piece].length() - pieceOffset);
+      if (pieceLength > 0) {
+        this.pieces[piece].readBytes(pieceOffset, b, offset + read, pieceLength);
+        read += pieceLength;
+      }
+    }
+    return read;
+  }
+
+  @Override
+  public void close() {
+    this.pieces = null;
+    this.starts = null;
+    this.b = null;
+  }
+
+  @Override
+  public int copyTo(OutputStream os, int offset, int length) throws IOException {
+    if (this.b != null) {
+      os.write(this.b, offset, length);
+      return length;
+    }
+    length = Math.max(0, Math.min(length, this.length() - offset));
+    int copied = 0;
+    for (int piece = this.piece(offset); copied < length; piece++) {
+      int pieceOffset = offset + copied - this.starts[piece];
+      int pieceLength = Math.min(length - copied, this.pieces[piece].length() - pieceOffset);
+      if (pieceLength > 0) {
+        this.pieces[piece].slice(pieceOffset, pieceLength).copyTo(os);
+        copied += pieceLength;
+      }
+    }
+    return copied;
+  }
+
+  @Override
+  public ByteBuffer byteBuffer(int offset, int length) {
+    if (this.b != null) {
+      return ByteBuffer.wrap(this.b, offset, length).slice().asReadOnlyBuffer();
+    }
+    int piece = this.piece(offset);
+    if (piece < this.pieces.length
+        && offset + length <= this.starts[piece] + this.pieces[piece].length()) {
+      // wholly inside one piece so a view of that piece will do
+      return this.pieces[piece].slice(offset - this.starts[piece], length).asByteBuffer();
+    }
+    return super.byteBuffer(offset, length);
+  }
+
+  /**
+   * Copies the concatenated data onto the heap so that it can be written to.
+   */
+  private void ensureCopied() {
+    if (this.b != null) {
+      return;
+    }
+    byte[] copy = new byte[this.size()];
+    this.internalGet(0, copy, 0, copy.length);
+    this.b = copy;
+  }
+}
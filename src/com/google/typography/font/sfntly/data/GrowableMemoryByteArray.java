@@ -18,6 +18,7 @@ package com.google.typography.font.sfntly.data;
 
 import java.io.IOException;
 import java.io.OutputStream;
+import java.nio.ByteBuffer;
 
 /**
  * A growable memory implementation of the ByteArray interface.
@@ -64,6 +65,11 @@ final class GrowableMemoryByteArray extends ByteArray<GrowableMemoryByteArray> {
     this.b = null;
   }
   
+  @Override
+  public ByteBuffer byteBuffer(int offset, int length) {
+    return ByteBuffer.wrap(this.b, offset, length).slice().asReadOnlyBuffer();
+  }
+
   @Override
   public int copyTo(OutputStream os, int offset, int length) throws IOException {
     os.write(b, offset, length);
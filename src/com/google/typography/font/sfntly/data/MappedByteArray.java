@@ -0,0 +1,122 @@
+/*
+ * Copyright 2011 Google Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.typography.font.sfntly.data;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+
+/**
+ * A fixed size implementation of the ByteArray interface that is backed by a
+ * memory mapped file. Reads go directly to the mapped pages so no copy of the
+ * file is made on the heap.
+ *
+ * <p>The mapping is treated as read only. The first write to the array copies
+ * the mapped data onto the heap and all subsequent reads and writes use that
+ * copy, so the underlying file is never modified.
+ */
+final class MappedByteArray extends ByteArray<MappedByteArray> {
+  private ByteBuffer buffer;
+  private byte[] b;
+
+  /**
+   * Construct a new MappedByteArray to wrap the buffer given. The buffer is
+   * read from its position zero to its limit and it is assumed that all of
+   * that range is filled and readable. The buffer's position and limit are not
+   * modified.
+   *
+   * @param buffer the buffer that provides the actual storage
+   */
+  public MappedByteArray(ByteBuffer buffer) {
+    super(buffer.limit(), buffer.limit());
+    this.buffer = buffer;
+  }
+
+  @Override
+  protected void internalPut(int index, byte b) {
+    this.ensureCopied();
+    this.b[index] = b;
+  }
+
+  @Override
+  protected int internalPut(int index, byte[] b, int offset, int length) {
+    this.ensureCopied();
+    System.arraycopy(b, offset, this.b, index, length);
+    return length;
+  }
+
+  @Override
+  protected int internalGet(int index) {
+    if (this.b != null) {
+      return this.b[index];
+    }
+    return this.buffer.get(index);
+  }
+
+  @Override
+  protected int internalGet(int index, byte[] b, int offset, int length) {
+    if (this.b != null) {
+      System.arraycopy(this.b, index, b, offset, length);
+      return length;
+    }
+    // use a duplicate so that concurrent readers don't share a position
+    ByteBuffer view = this.buffer.duplicate();
+    view.position(index);
+    view.get(b, offset, length);
+    return length;
+  }
+
+  @Override
+  public void close() {
+    this.buffer = null;
+    this.b = null;
+  }
+
+  @Override
+  public int copyTo(OutputStream os, int offset, int length) throws IOException {
+    if (this.b != null) {
+      os.write(this.b, offset, length);
+      return length;
+    }
+    return super.copyTo(os, offset, length);
+  }
+
+  @Override
+  public ByteBuffer byteBuffer(int offset, int length) {
+    if (this.b != null) {
+      return ByteBuffer.wrap(this.b, offset, length).slice().asReadOnlyBuffer();
+    }
+    ByteBuffer view = this.buffer.duplicate();
+    view.position(offset);
+    view.limit(offset + length);
+    return view.slice().asReadOnlyBuffer();
+  }
+
+  /**
+   * Copies the mapped data onto the heap so that it can be written to.
+   */
+  private void ensureCopied() {
+    if (this.b != null) {
+      return;
+    }
+    byte[] copy = new byte[this.size()];
+    ByteBuffer view = this.buffer.duplicate();
+    view.position(0);
+    view.get(copy);
+    this.b = copy;
+  }
+}
@@ -18,6 +18,7 @@ package com.google.typography.font.sfntly.data;
 
 import java.io.IOException;
 import java.io.OutputStream;
+import java.nio.ByteBuffer;
 
 /**
  * A fixed size memory implementation of the ByteArray interface.
@@ -92,6 +93,11 @@ final class MemoryByteArray extends ByteArray<MemoryByteArray> {
     this.b = null;
   }
   
+  @Override
+  public ByteBuffer byteBuffer(int offset, int length) {
+    return ByteBuffer.wrap(this.b, offset, length).slice().asReadOnlyBuffer();
+  }
+
   @Override
   public int copyTo(OutputStream os, int offset, int length) throws IOException {
     os.write(b, offset, length);
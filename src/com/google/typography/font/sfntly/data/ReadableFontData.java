@@ -19,6 +19,8 @@ package com.google.typography.font.sfntly.data;
 import java.io.IOException;
 import java.io.OutputStream;
 import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
 import java.util.Arrays;
 import java.util.Date;
 
@@ -97,6 +99,12 @@ public class ReadableFontData extends FontData {
   }
 
 
+  /**
+   * The most bytes checksummed from a single view of the data. Must be a
+   * multiple of 4.
+   */
+  private static final int CHECKSUM_CHUNK_SIZE = 64 * 1024;
+
   /**
    * Flag on whether the checksum has been set.
    */
@@ -252,8 +260,23 @@ public class ReadableFontData extends FontData {
   private long computeCheckSum(int lowBound, int highBound) {
     long sum = 0;
     // checksum all whole 4-byte chunks
-    for (int i = lowBound; i <= highBound - 4; i += 4) {
-      sum += this.readULong(i);
+    int wordCount = (highBound - lowBound) >= 4 ? (highBound - lowBound) / 4 : 0;
+    if (wordCount > 0 && lowBound >= 0 && highBound <= this.length()) {
+      // read whole words straight from views of the backing array; the views
+      // are taken a chunk at a time so that arrays which have to copy to make
+      // a view never copy more than one chunk
+      for (int start = 0; start < wordCount * 4; start += CHECKSUM_CHUNK_SIZE) {
+        int chunkLength = Math.min(CHECKSUM_CHUNK_SIZE, wordCount * 4 - start);
+        ByteBuffer words = this.array.byteBuffer(this.boundOffset(lowBound + start), chunkLength)
+            .order(ByteOrder.BIG_ENDIAN);
+        for (int i = 0; i < chunkLength; i += 4) {
+          sum += words.getInt(i) & 0xffffffffL;
+        }
+      }
+    } else {
+      for (int i = lowBound; i <= highBound - 4; i += 4) {
+        sum += this.readULong(i);
+      }
     }
     // add last fragment if not 4-byte multiple
     int off = highBound & -4;
@@ -550,6 +573,17 @@ public class ReadableFontData extends FontData {
     return this.array.copyTo(os, this.boundOffset(0), this.length());
   }
 
+  /**
+   * Gets a read only view of the FontData as a ByteBuffer. Where possible the
+   * buffer shares the underlying storage rather than copying it so it should
+   * be used before any further writes to the data.
+   *
+   * @return a read only buffer holding the data
+   */
+  public ByteBuffer asByteBuffer() {
+    return this.array.byteBuffer(this.boundOffset(0), this.length());
+  }
+
   /**
    * Copies the FontData to a WritableFontData.
    *
@@ -18,6 +18,8 @@ package com.google.typography.font.sfntly.data;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.util.List;
 import java.util.logging.Logger;
 
 /**
@@ -66,6 +68,40 @@ public final class WritableFontData extends ReadableFontData {
     return wfd;
   }
   
+  /**
+   * Constructs a writable font data object. The new font data object will wrap
+   * the buffer passed in to the factory and read it directly without making a
+   * copy. This is intended for use with a memory mapped file. The buffer is
+   * treated as read only; the first write to the font data will copy the
+   * contents of the buffer onto the heap and leave the buffer unchanged.
+   *
+   * @param buffer the buffer to wrap
+   * @return a new writable font data
+   */
+  public static final WritableFontData createWritableFontData(ByteBuffer buffer) {
+    ByteArray<?> ba = new MappedByteArray(buffer);
+    WritableFontData wfd = new WritableFontData(ba);
+    return wfd;
+  }
+
+  /**
+   * Constructs a writable font data object that presents the font data passed
+   * in as one contiguous block in the order given. None of the data is copied
+   * so the font data passed in should not be changed while the new font data
+   * object is in use. The pieces are treated as read only; the first write to
+   * the new font data will copy all of the pieces onto the heap and leave the
+   * originals unchanged.
+   *
+   * @param pieces the font data to concatenate
+   * @return a new writable font data
+   */
+  public static final WritableFontData createWritableFontData(
+      List<? extends ReadableFontData> pieces) {
+    ByteArray<?> ba = new ConcatenatedByteArray(pieces);
+    WritableFontData wfd = new WritableFontData(ba);
+    return wfd;
+  }
+
   /**
    * Constructs a writable font data object. The new font data object will wrap
    * a copy of the the data used by the original writable font data object passed in.
@@ -9,6 +9,7 @@ import com.google.typography.font.sfntly.data.WritableFontData;
 import com.google.typography.font.sfntly.table.SubTable;
 import com.google.typography.font.sfntly.table.core.CMapTable.CMapId;
 
+import java.util.Arrays;
 import java.util.Iterator;
 import java.util.NoSuchElementException;
 
@@ -35,6 +36,7 @@ import java.util.NoSuchElementException;
 public abstract class CMap extends SubTable implements Iterable<Integer> {
   protected final int format;
   protected final CMapId cmapId;
+  private volatile Index index;
 
   /**
    * CMap subtable formats.
@@ -205,6 +207,184 @@ public abstract class CMap extends SubTable implements Iterable<Integer> {
    */
   public abstract int glyphId(int character);
 
+  /**
+   * Gets the glyph ids for the character codes provided.
+   *
+   * The result is the same as calling {@link #glyphId(int)} for each character
+   * but some cmap formats can look up many characters at once much faster,
+   * especially when the characters are in increasing order.
+   *
+   * @param characters character values using the encoding of the cmap table
+   * @return the glyph ids for the character codes in the same order
+   */
+  public int[] glyphIds(int[] characters) {
+    int[] glyphIds = new int[characters.length];
+    this.glyphIds(characters, characters.length, glyphIds);
+    return glyphIds;
+  }
+
+  /**
+   * Gets the glyph ids for the Unicode code points in the text provided.
+   * Surrogate pairs in the text are combined into a single code point and
+   * unpaired surrogates are looked up as they are.
+   *
+   * The cmap table should be a Unicode cmap for the results to be meaningful.
+   *
+   * @param text the text to look up
+   * @param glyphIds the array to put the glyph ids into, one for each code
+   *        point in the text in the same order; it must be at least as long as
+   *        the number of code points in the text
+   * @return the number of glyph ids put into the array
+   * @throws IndexOutOfBoundsException if the array is too short
+   */
+  public int glyphIds(CharSequence text, int[] glyphIds) {
+    int[] characters = new int[text.length()];
+    int count = 0;
+    for (int i = 0; i < text.length(); count++) {
+      char c = text.charAt(i++);
+      if (Character.isHighSurrogate(c) && i < text.length()
+          && Character.isLowSurrogate(text.charAt(i))) {
+        characters[count] = Character.toCodePoint(c, text.charAt(i++));
+      } else {
+        characters[count] = c;
+      }
+    }
+    if (count > glyphIds.length) {
+      throw new IndexOutOfBoundsException(
+          "Glyph id array too short - " + glyphIds.length + " < " + count);
+    }
+    this.glyphIds(characters, count, glyphIds);
+    return count;
+  }
+
+  /**
+   * Gets the glyph ids for the first count character codes provided. Subclasses
+   * that can do better than one {@link #glyphId(int)} lookup per character
+   * should override this.
+   *
+   * @param characters character values using the encoding of the cmap table
+   * @param count the number of characters to look up
+   * @param glyphIds the array to put the glyph ids into at the same indexes
+   */
+  protected void glyphIds(int[] characters, int count, int[] glyphIds) {
+    for (int i = 0; i < count; i++) {
+      glyphIds[i] = this.glyphId(characters[i]);
+    }
+  }
+
+  /**
+   * A precomputed lookup structure for the mappings of a cmap. An index gives
+   * the same glyph ids as the cmap it was built from but without reading and
+   * searching the cmap data on every lookup. Indexes are immutable and may be
+   * shared between threads.
+   *
+   * @see CMap#index()
+   */
+  public abstract static class Index {
+
+    /**
+     * Constructor.
+     */
+    protected Index() {
+      // nothing to do
+    }
+
+    /**
+     * Gets the glyph id for the character code provided.
+     *
+     * @param character character value using the encoding of the cmap table
+     * @return glyph id for the character code
+     * @see CMap#glyphId(int)
+     */
+    public abstract int glyphId(int character);
+
+    /**
+     * Gets the glyph ids for the character codes provided.
+     *
+     * @param characters character values using the encoding of the cmap table
+     * @return the glyph ids for the character codes in the same order
+     * @see CMap#glyphIds(int[])
+     */
+    public int[] glyphIds(int[] characters) {
+      int[] glyphIds = new int[characters.length];
+      for (int i = 0; i < characters.length; i++) {
+        glyphIds[i] = this.glyphId(characters[i]);
+      }
+      return glyphIds;
+    }
+  }
+
+  /**
+   * Gets the lookup index for this cmap. The index is built on the first call
+   * and the same index is returned by all later calls on this cmap object, so
+   * callers doing many lookups should hold on to the cmap rather than getting
+   * it again from the cmap table.
+   *
+   * Cmap formats that don't have a specialized index get one that looks up
+   * each character in the cmap itself.
+   *
+   * @return the index
+   */
+  public Index index() {
+    Index index = this.index;
+    if (index == null) {
+      synchronized (this) {
+        index = this.index;
+        if (index == null) {
+          index = this.createIndex();
+          this.index = index;
+        }
+      }
+    }
+    return index;
+  }
+
+  /**
+   * Creates the lookup index for this cmap. Subclasses that can precompute
+   * their mappings into a faster structure should override this.
+   *
+   * @return the new index
+   */
+  protected Index createIndex() {
+    return new Index() {
+      @Override
+      public int glyphId(int character) {
+        return CMap.this.glyphId(character);
+      }
+
+      @Override
+      public int[] glyphIds(int[] characters) {
+        return CMap.this.glyphIds(characters);
+      }
+    };
+  }
+
+  /**
+   * Gets the order in which to visit the first count characters so that they
+   * are visited in increasing order. Each entry of the order has the character
+   * in the high 32 bits and its index in the low 32 bits.
+   *
+   * @param characters the characters
+   * @param count the number of characters to order
+   * @return the order to visit the characters in; null if the characters are
+   *         already in increasing order
+   */
+  protected static long[] characterOrder(int[] characters, int count) {
+    int i = 1;
+    while (i < count && characters[i - 1] <= characters[i]) {
+      i++;
+    }
+    if (i >= count) {
+      return null;
+    }
+    long[] order = new long[count];
+    for (i = 0; i < count; i++) {
+      order[i] = ((long) characters[i] << 32) | i;
+    }
+    Arrays.sort(order);
+    return order;
+  }
+
   @Override
   public String toString() {
     StringBuilder builder = new StringBuilder();
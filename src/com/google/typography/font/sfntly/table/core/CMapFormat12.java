@@ -14,6 +14,7 @@ import java.util.NoSuchElementException;
  */
 public final class CMapFormat12 extends CMap {
   private final int numberOfGroups;
+  private volatile Boolean groupsOrdered;
 
   protected CMapFormat12(ReadableFontData data, CMapId cmapId) {
     super(data, CMapFormat.Format12.value, cmapId);
@@ -53,6 +54,139 @@ public final class CMapFormat12 extends CMap {
     return groupStartGlyph(group) + (character - groupStartChar(group));
   }
 
+  /**
+   * {@inheritDoc}
+   *
+   * The characters are visited in increasing order in a single pass over the
+   * groups rather than being searched for one at a time.
+   */
+  @Override
+  protected void glyphIds(int[] characters, int count, int[] glyphIds) {
+    if (!this.groupsOrdered()) {
+      // the per character binary search defines the result for malformed tables
+      super.glyphIds(characters, count, glyphIds);
+      return;
+    }
+    long[] order = CMap.characterOrder(characters, count);
+    int group = -1;
+    int startChar = 0;
+    int endChar = -1;
+    int startGlyph = -1;
+    for (int i = 0; i < count; i++) {
+      int index = (order == null) ? i : (int) order[i];
+      int character = characters[index];
+      while (character > endChar && group + 1 < this.numberOfGroups) {
+        group++;
+        startChar = groupStartChar(group);
+        endChar = groupEndChar(group);
+        startGlyph = -1;
+      }
+      if (character > endChar || character < startChar) {
+        glyphIds[index] = CMapTable.NOTDEF;
+      } else {
+        if (startGlyph < 0) {
+          // only read for groups that are used, as the single lookup does
+          startGlyph = groupStartGlyph(group);
+        }
+        glyphIds[index] = startGlyph + (character - startChar);
+      }
+    }
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * The index holds the groups in sorted arrays that are binary searched.
+   */
+  @Override
+  protected CMap.Index createIndex() {
+    if (!this.groupsOrdered()) {
+      return super.createIndex();
+    }
+    int[] startChars = new int[this.numberOfGroups];
+    int[] endChars = new int[this.numberOfGroups];
+    int[] startGlyphs = new int[this.numberOfGroups];
+    try {
+      for (int group = 0; group < this.numberOfGroups; group++) {
+        startChars[group] = groupStartChar(group);
+        endChars[group] = groupEndChar(group);
+        startGlyphs[group] = groupStartGlyph(group);
+      }
+    } catch (ArithmeticException e) {
+      // glyph ids too large for an int; keep whatever the cmap itself gives
+      return super.createIndex();
+    }
+    return new RangeIndex(startChars, endChars, startGlyphs);
+  }
+
+  /**
+   * A lookup index holding the groups in sorted arrays.
+   */
+  private static final class RangeIndex extends CMap.Index {
+    private final int[] startChars;
+    private final int[] endChars;
+    private final int[] startGlyphs;
+
+    private RangeIndex(int[] startChars, int[] endChars, int[] startGlyphs) {
+      this.startChars = startChars;
+      this.endChars = endChars;
+      this.startGlyphs = startGlyphs;
+    }
+
+    @Override
+    public int glyphId(int character) {
+      int[] startChars = this.startChars;
+      if (startChars.length == 0 || character < startChars[0]) {
+        return CMapTable.NOTDEF;
+      }
+      // find the last group starting at or before the character
+      int bottom = 0;
+      int top = startChars.length - 1;
+      while (bottom < top) {
+        int location = (bottom + top + 1) >>> 1;
+        if (startChars[location] <= character) {
+          bottom = location;
+        } else {
+          top = location - 1;
+        }
+      }
+      if (character > this.endChars[bottom]) {
+        return CMapTable.NOTDEF;
+      }
+      return this.startGlyphs[bottom] + (character - startChars[bottom]);
+    }
+  }
+
+  /**
+   * Checks that the groups are in increasing order and don't overlap so that
+   * they can be walked in a single pass. The result is computed on first use.
+   *
+   * @return true if the groups are ordered; false otherwise
+   */
+  private boolean groupsOrdered() {
+    Boolean ordered = this.groupsOrdered;
+    if (ordered == null) {
+      ordered = Boolean.TRUE;
+      try {
+        int previousEnd = -1;
+        for (int group = 0; group < this.numberOfGroups; group++) {
+          int startChar = groupStartChar(group);
+          int endChar = groupEndChar(group);
+          if (startChar <= previousEnd || endChar < startChar) {
+            ordered = Boolean.FALSE;
+            break;
+          }
+          previousEnd = endChar;
+        }
+      } catch (ArithmeticException e) {
+        // character codes too large for an int
+        ordered = Boolean.FALSE;
+      }
+      this.groupsOrdered = ordered;
+    }
+    return ordered.booleanValue();
+  }
+
   @Override
   public int language() {
     return this.data.readULongAsInt(Offset.format12Language.offset);
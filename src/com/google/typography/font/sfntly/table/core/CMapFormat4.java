@@ -8,6 +8,7 @@ import com.google.typography.font.sfntly.table.core.CMapTable.CMapId;
 import com.google.typography.font.sfntly.table.core.CMapTable.Offset;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Iterator;
 import java.util.List;
 import java.util.NoSuchElementException;
@@ -24,6 +25,7 @@ public final class CMapFormat4 extends CMap {
   
   private final int segCount;
   private final int glyphIdArrayOffset;
+  private volatile Boolean segmentsOrdered;
 
   protected CMapFormat4(ReadableFontData data, CMapId cmapId) {
     super(data, CMapFormat.Format4.value, cmapId);
@@ -51,6 +53,135 @@ public final class CMapFormat4 extends CMap {
     return retrieveGlyphId(segment, startCode, character);
   }
 
+  /**
+   * {@inheritDoc}
+   *
+   * The characters are visited in increasing order in a single pass over the
+   * segments rather than being searched for one at a time.
+   */
+  @Override
+  protected void glyphIds(int[] characters, int count, int[] glyphIds) {
+    if (!this.segmentsOrdered()) {
+      // the per character binary search defines the result for malformed tables
+      super.glyphIds(characters, count, glyphIds);
+      return;
+    }
+    long[] order = CMap.characterOrder(characters, count);
+    int segment = -1;
+    int startCode = 0;
+    int endCode = -1;
+    int idDelta = 0;
+    int idRangeOffset = 0;
+    for (int i = 0; i < count; i++) {
+      int index = (order == null) ? i : (int) order[i];
+      int character = characters[index];
+      if (character >= 0xFFFF) { //Unicode BMP for cmap format 4
+        glyphIds[index] = CMapTable.NOTDEF;
+        continue;
+      }
+      while (character > endCode && segment + 1 < this.segCount) {
+        segment++;
+        startCode = startCode(this.data, this.segCount, segment);
+        endCode = endCode(this.data, this.segCount, segment);
+        idDelta = idDelta(this.data, this.segCount, segment);
+        idRangeOffset = idRangeOffset(this.data, this.segCount, segment);
+      }
+      if (character > endCode || character < startCode) {
+        glyphIds[index] = CMapTable.NOTDEF;
+      } else if (idRangeOffset == 0) {
+        glyphIds[index] = (character + idDelta) % 65536;
+      } else {
+        glyphIds[index] = this.retrieveGlyphId(segment, startCode, character);
+      }
+    }
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * The index is a two level page table holding the glyph id of every
+   * character in the BMP.
+   */
+  @Override
+  protected CMap.Index createIndex() {
+    int[] characters = new int[0xFFFF];
+    for (int c = 0; c < characters.length; c++) {
+      characters[c] = c;
+    }
+    int[] glyphIds = new int[characters.length];
+    this.glyphIds(characters, characters.length, glyphIds);
+
+    char[][] pages = new char[PageIndex.PAGE_COUNT][];
+    Arrays.fill(pages, PageIndex.EMPTY_PAGE);
+    for (int c = 0; c < glyphIds.length; c++) {
+      int glyphId = glyphIds[c];
+      if (glyphId == CMapTable.NOTDEF) {
+        continue;
+      }
+      if (glyphId < 0 || glyphId > 0xFFFF) {
+        // a broken delta; keep whatever the cmap itself gives
+        return super.createIndex();
+      }
+      int page = c >>> PageIndex.PAGE_SHIFT;
+      if (pages[page] == PageIndex.EMPTY_PAGE) {
+        pages[page] = new char[PageIndex.PAGE_SIZE];
+      }
+      pages[page][c & PageIndex.PAGE_MASK] = (char) glyphId;
+    }
+    return new PageIndex(pages);
+  }
+
+  /**
+   * A lookup index for the BMP held as pages of glyph ids. Pages with no
+   * mapped characters all share the same empty page.
+   */
+  private static final class PageIndex extends CMap.Index {
+    private static final int PAGE_SHIFT = 8;
+    private static final int PAGE_SIZE = 1 << PAGE_SHIFT;
+    private static final int PAGE_MASK = PAGE_SIZE - 1;
+    private static final int PAGE_COUNT = 0x10000 >> PAGE_SHIFT;
+    private static final char[] EMPTY_PAGE = new char[PAGE_SIZE];
+
+    private final char[][] pages;
+
+    private PageIndex(char[][] pages) {
+      this.pages = pages;
+    }
+
+    @Override
+    public int glyphId(int character) {
+      if (character < 0 || character >= 0xFFFF) { //Unicode BMP for cmap format 4
+        return CMapTable.NOTDEF;
+      }
+      return this.pages[character >>> PAGE_SHIFT][character & PAGE_MASK];
+    }
+  }
+
+  /**
+   * Checks that the segments are in increasing order and don't overlap so that
+   * they can be walked in a single pass. The result is computed on first use.
+   *
+   * @return true if the segments are ordered; false otherwise
+   */
+  private boolean segmentsOrdered() {
+    Boolean ordered = this.segmentsOrdered;
+    if (ordered == null) {
+      // all of the segment arrays must be readable as every segment is visited
+      ordered = Boolean.valueOf(this.glyphIdArrayOffset <= this.data.length());
+      int previousEnd = -1;
+      for (int segment = 0; ordered.booleanValue() && segment < this.segCount; segment++) {
+        int startCode = startCode(this.data, this.segCount, segment);
+        int endCode = endCode(this.data, this.segCount, segment);
+        if (startCode <= previousEnd || endCode < startCode) {
+          ordered = Boolean.FALSE;
+        }
+        previousEnd = endCode;
+      }
+      this.segmentsOrdered = ordered;
+    }
+    return ordered.booleanValue();
+  }
+
   /**
    * Lower level glyph code retrieval that requires processing the Format 4 segments to use.
    *
@@ -20,6 +20,7 @@ import com.google.typography.font.sfntly.data.ReadableFontData;
 import com.google.typography.font.sfntly.data.WritableFontData;
 import com.google.typography.font.sfntly.table.Header;
 import com.google.typography.font.sfntly.table.Table;
+import com.google.typography.font.sfntly.table.opentype.component.RuleIndex;
 
 import java.util.concurrent.atomic.AtomicReference;
 
@@ -34,6 +35,7 @@ public class GSubTable extends Table {
       featureListTable = new AtomicReference<FeatureListTable>();
   private final AtomicReference<LookupListTable>
       lookupListTable = new AtomicReference<LookupListTable>();
+  private final AtomicReference<RuleIndex> ruleIndex = new AtomicReference<RuleIndex>();
 
   /**
    * Constructor.
@@ -84,6 +86,19 @@ public class GSubTable extends Table {
     return lookupListTable.get();
   }
 
+  /**
+   * Return the rules extracted from the lookups in this GSUB table. The rules
+   * are extracted the first time this is called and then shared.
+   *
+   * @return the RuleIndex
+   */
+  public RuleIndex ruleIndex() {
+    if (ruleIndex.get() == null) {
+      ruleIndex.compareAndSet(null, RuleIndex.createIndex(this));
+    }
+    return ruleIndex.get();
+  }
+
   /**
    * GSUB Table Builder.
    */
@@ -10,7 +10,7 @@ import java.util.List;
 /**
  * @author dougfelt@google.com (Doug Felt)
  */
-enum LanguageTag {
+public enum LanguageTag {
   ABA("Abaza", "abq"),
   ABK("Abkhazian", "abk"),
   ADY("Adyghe", "ady"),
@@ -5,26 +5,21 @@ import com.google.typography.font.sfntly.Tag;
 import com.google.typography.font.sfntly.table.core.CMap;
 import com.google.typography.font.sfntly.table.core.CMapTable;
 import com.google.typography.font.sfntly.table.core.PostScriptTable;
-import com.google.typography.font.sfntly.table.opentype.FeatureListTable;
 import com.google.typography.font.sfntly.table.opentype.GSubTable;
-import com.google.typography.font.sfntly.table.opentype.LangSysTable;
-import com.google.typography.font.sfntly.table.opentype.LookupListTable;
-import com.google.typography.font.sfntly.table.opentype.ScriptListTable;
-import com.google.typography.font.sfntly.table.opentype.ScriptTable;
 
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedHashSet;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.TreeSet;
 
 public class Rule {
-  private final RuleSegment backtrack;
-  private final RuleSegment input;
-  private final RuleSegment lookAhead;
+  final RuleSegment backtrack;
+  final RuleSegment input;
+  final RuleSegment lookAhead;
   final RuleSegment subst;
   private final int hashCode;
 
@@ -41,9 +36,8 @@ public class Rule {
     CMapTable cmapTable = font.getTable(Tag.cmap);
     GlyphGroup glyphGroup = glyphGroupForText(txt, cmapTable);
 
-    Set<Rule> featuredRules = featuredRules(font);
-    Map<Integer, Set<Rule>> glyphRuleMap = createGlyphRuleMap(featuredRules);
-    GlyphGroup ruleClosure = closure(glyphRuleMap, glyphGroup);
+    GSubTable gsub = font.getTable(Tag.GSUB);
+    GlyphGroup ruleClosure = gsub.ruleIndex().ruleClosure().closure(glyphGroup);
     return ruleClosure;
   }
 
@@ -75,26 +69,18 @@ public class Rule {
     }
   }
 
+  /**
+   * Gets the rules of the featured lookups of the font's GSUB table indexed by
+   * the first glyph of their input. The map is shared by all callers.
+   *
+   * @see RuleIndex#glyphRulesMap()
+   */
   public static Map<Integer, Set<Rule>> glyphRulesMap(Font font) {
-    Set<Rule> featuredRules = Rule.featuredRules(font);
-    if (featuredRules == null) {
+    GSubTable gsub = font.getTable(Tag.GSUB);
+    if (gsub == null) {
       return null;
     }
-    return createGlyphRuleMap(featuredRules);
-  }
-
-  private static Map<Integer, Set<Rule>> createGlyphRuleMap(Set<Rule> lookupRules) {
-    Map<Integer, Set<Rule>> map = new HashMap<Integer, Set<Rule>>();
-
-    for (Rule rule : lookupRules) {
-      for (int glyph : rule.input.get(0)) {
-        if (!map.containsKey(glyph)) {
-          map.put(glyph, new HashSet<Rule>());
-        }
-        map.get(glyph).add(rule);
-      }
-    }
-    return map;
+    return gsub.ruleIndex().glyphRulesMap();
   }
 
   private static Set<Rule> rulesForGlyph(Map<Integer, Set<Rule>> glyphRuleMap, GlyphGroup glyphs) {
@@ -107,80 +93,19 @@ public class Rule {
     return set;
   }
 
-  private static Set<Rule> featuredRules(
-      Set<Integer> lookupIds, Map<Integer, Set<Rule>> ruleMap) {
-    Set<Rule> rules = new LinkedHashSet<Rule>();
-    for (int lookupId : lookupIds) {
-      Set<Rule> ruleForLookup = ruleMap.get(lookupId);
-      if (ruleForLookup == null) {
-        System.err.printf("Lookup ID %d is used in features but not defined.\n", lookupId);
-        continue;
-      }
-      rules.addAll(ruleForLookup);
-    }
-    return rules;
-  }
-
-  private static Set<Integer> featuredLookups(Font font) {
-    GSubTable gsub = font.getTable(Tag.GSUB);
-    if (gsub == null) {
-      return null;
-    }
-
-    ScriptListTable scripts = gsub.scriptList();
-    FeatureListTable featureList = gsub.featureList();
-    LookupListTable lookupList = gsub.lookupList();
-    Map<Integer, Set<Rule>> ruleMap = RuleExtractor.extract(lookupList);
-
-    Set<Integer> features = new HashSet<Integer>();
-    Set<Integer> lookupIds = new HashSet<Integer>();
-
-    for (ScriptTable script : scripts.map().values()) {
-      for (LangSysTable langSys : script.map().values()) {
-        // We are assuming if required feature exists, it will be in the list
-        // of features as well.
-        for (NumRecord feature : langSys) {
-          if (!features.contains(feature.value)) {
-            features.add(feature.value);
-            for (NumRecord lookup : featureList.subTableAt(feature.value)) {
-              lookupIds.add(lookup.value);
-            }
-          }
-        }
-      }
-    }
-    return lookupIds;
-  }
-
-  private static Set<Rule> featuredRules(Font font) {
-    GSubTable gsub = font.getTable(Tag.GSUB);
-    if (gsub == null) {
-      return null;
-    }
-
-    LookupListTable lookupList = gsub.lookupList();
-    Map<Integer, Set<Rule>> ruleMap = RuleExtractor.extract(lookupList);
-    Set<Integer> lookupIds = featuredLookups(font);
-    Set<Rule> featuredRules = Rule.featuredRules(lookupIds, ruleMap);
-    return featuredRules;
-  }
-
   // Utility method for glyphs for text
 
   public static GlyphGroup glyphGroupForText(String str, CMapTable cmapTable) {
     GlyphGroup glyphGroup = new GlyphGroup();
-    Set<Integer> codes = codepointsFromStr(str);
-    for (int code : codes) {
-      for (CMap cmap : cmapTable) {
-        if (cmap.platformId() == 3 && cmap.encodingId() == 1 || // Unicode BMP
-            cmap.platformId() == 3 && cmap.encodingId() == 10 || // UCS2
-            cmap.platformId() == 0 && cmap.encodingId() == 5) { // Variation
-          int glyph = cmap.glyphId(code);
+    int[] codes = codepointsFromStr(str);
+    for (CMap cmap : cmapTable) {
+      if (cmap.platformId() == 3 && cmap.encodingId() == 1 || // Unicode BMP
+          cmap.platformId() == 3 && cmap.encodingId() == 10 || // UCS2
+          cmap.platformId() == 0 && cmap.encodingId() == 5) { // Variation
+        for (int glyph : cmap.glyphIds(codes)) {
           if (glyph != CMapTable.NOTDEF) {
             glyphGroup.add(glyph);
           }
-          // System.out.println("code: " + code + " glyph: " + glyph + " platform: " + cmap.platformId() + " encodingId: " + cmap.encodingId() + " format: " + cmap.format());
-
         }
       }
     }
@@ -414,13 +339,18 @@ public class Rule {
   }
 
   // Dump routines
-  private static Set<Integer> codepointsFromStr(String s) {
-    Set<Integer> list = new HashSet<Integer>();
+  private static int[] codepointsFromStr(String s) {
+    Set<Integer> set = new TreeSet<Integer>();
     for (int cp, i = 0; i < s.length(); i += Character.charCount(cp)) {
       cp = s.codePointAt(i);
-      list.add(cp);
+      set.add(cp);
+    }
+    int[] codes = new int[set.size()];
+    int i = 0;
+    for (int cp : set) {
+      codes[i++] = cp;
     }
-    return list;
+    return codes;
   }
 
   private static void dumpRuleMap(Map<Integer, Set<Rule>> rulesList, PostScriptTable post) {
@@ -436,10 +366,10 @@ public class Rule {
 
   public static void dumpLookups(Font font) {
     GSubTable gsub = font.getTable(Tag.GSUB);
-    Map<Integer, Set<Rule>> ruleMap = RuleExtractor.extract(gsub.lookupList());
+    RuleIndex ruleIndex = gsub.ruleIndex();
     PostScriptTable post = font.getTable(Tag.post);
-    dumpRuleMap(ruleMap, post);
-    System.out.println("\nFeatured Lookup IDs: " + Rule.featuredLookups(font));
+    dumpRuleMap(ruleIndex.lookupRules(), post);
+    System.out.println("\nFeatured Lookup IDs: " + ruleIndex.featuredLookups());
   }
 
   private String toString(PostScriptTable post) {
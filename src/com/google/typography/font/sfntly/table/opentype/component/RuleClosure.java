@@ -0,0 +1,206 @@
+package com.google.typography.font.sfntly.table.opentype.component;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * A compiled form of a set of rules for computing glyph closures. The glyph
+ * groups of the rules' input, backtrack and lookahead segments are flattened
+ * into arrays indexed by glyph id so that the closure is computed from a
+ * worklist of newly added glyphs: each group is checked off once, when the
+ * first of its glyphs is added, and each rule fires once, when the last of its
+ * groups is checked off. The result is the same as that of
+ * {@link Rule#closure(Map, GlyphGroup)}.
+ *
+ * <p>A compiled closure is immutable and may be shared between threads.
+ */
+public final class RuleClosure {
+  private final int numGlyphs;
+
+  // the context groups that glyph g is in are
+  // glyphGroups[glyphGroupStart[g] .. glyphGroupStart[g + 1])
+  private final int[] glyphGroupStart;
+  private final int[] glyphGroups;
+
+  // the rules that use group i are groupRules[groupRuleStart[i] .. groupRuleStart[i + 1])
+  private final int[] groupRuleStart;
+  private final int[] groupRules;
+
+  // the number of distinct context groups of each rule
+  private final int[] ruleGroupCount;
+
+  // the glyphs that rule r substitutes are substGlyphs[substStart[r] .. substStart[r + 1])
+  private final int[] substStart;
+  private final int[] substGlyphs;
+
+  private RuleClosure(Set<Rule> rules) {
+    Map<GlyphGroup, Integer> groupIds = new HashMap<GlyphGroup, Integer>();
+    int[][] ruleGroups = new int[rules.size()][];
+    this.ruleGroupCount = new int[rules.size()];
+    this.substStart = new int[rules.size() + 1];
+    int[] substGlyphs = new int[16];
+    int substCount = 0;
+    int maxGlyph = -1;
+
+    int ruleId = 0;
+    for (Rule rule : rules) {
+      Set<Integer> distinctGroups = new LinkedHashSet<Integer>();
+      for (RuleSegment segment : new RuleSegment[] {rule.input, rule.backtrack, rule.lookAhead}) {
+        if (segment == null) {
+          continue;
+        }
+        for (GlyphGroup group : segment) {
+          Integer groupId = groupIds.get(group);
+          if (groupId == null) {
+            groupId = groupIds.size();
+            groupIds.put(group, groupId);
+            maxGlyph = Math.max(maxGlyph, group.length() - 1);
+          }
+          distinctGroups.add(groupId);
+        }
+      }
+      ruleGroups[ruleId] = toArray(distinctGroups);
+      this.ruleGroupCount[ruleId] = ruleGroups[ruleId].length;
+
+      this.substStart[ruleId] = substCount;
+      BitSet subst = new BitSet();
+      for (GlyphGroup group : rule.subst) {
+        subst.or(group);
+      }
+      for (int glyph = subst.nextSetBit(0); glyph >= 0; glyph = subst.nextSetBit(glyph + 1)) {
+        if (substCount == substGlyphs.length) {
+          substGlyphs = Arrays.copyOf(substGlyphs, substCount * 2);
+        }
+        substGlyphs[substCount++] = glyph;
+      }
+      ruleId++;
+    }
+    this.substStart[rules.size()] = substCount;
+    this.substGlyphs = Arrays.copyOf(substGlyphs, substCount);
+
+    // group -> rules
+    int numGroups = groupIds.size();
+    this.groupRuleStart = new int[numGroups + 1];
+    for (int[] groups : ruleGroups) {
+      for (int group : groups) {
+        this.groupRuleStart[group + 1]++;
+      }
+    }
+    for (int group = 0; group < numGroups; group++) {
+      this.groupRuleStart[group + 1] += this.groupRuleStart[group];
+    }
+    this.groupRules = new int[this.groupRuleStart[numGroups]];
+    int[] fill = Arrays.copyOf(this.groupRuleStart, numGroups);
+    for (ruleId = 0; ruleId < ruleGroups.length; ruleId++) {
+      for (int group : ruleGroups[ruleId]) {
+        this.groupRules[fill[group]++] = ruleId;
+      }
+    }
+
+    // glyph -> groups
+    this.numGlyphs = maxGlyph + 1;
+    this.glyphGroupStart = new int[this.numGlyphs + 1];
+    for (GlyphGroup group : groupIds.keySet()) {
+      for (int glyph = group.nextSetBit(0); glyph >= 0; glyph = group.nextSetBit(glyph + 1)) {
+        this.glyphGroupStart[glyph + 1]++;
+      }
+    }
+    for (int glyph = 0; glyph < this.numGlyphs; glyph++) {
+      this.glyphGroupStart[glyph + 1] += this.glyphGroupStart[glyph];
+    }
+    this.glyphGroups = new int[this.glyphGroupStart[this.numGlyphs]];
+    fill = Arrays.copyOf(this.glyphGroupStart, this.numGlyphs);
+    for (Map.Entry<GlyphGroup, Integer> entry : groupIds.entrySet()) {
+      GlyphGroup group = entry.getKey();
+      for (int glyph = group.nextSetBit(0); glyph >= 0; glyph = group.nextSetBit(glyph + 1)) {
+        this.glyphGroups[fill[glyph]++] = entry.getValue();
+      }
+    }
+  }
+
+  private static int[] toArray(Set<Integer> values) {
+    int[] result = new int[values.size()];
+    int i = 0;
+    for (int value : values) {
+      result[i++] = value;
+    }
+    return result;
+  }
+
+  /**
+   * Compiles the rules in a glyph to rule map such as the one returned by
+   * {@link Rule#glyphRulesMap(com.google.typography.font.sfntly.Font)}.
+   *
+   * @param glyphRuleMap the map from the first input glyph of each rule to the
+   *        rules
+   * @return the compiled closure
+   */
+  public static RuleClosure compile(Map<Integer, Set<Rule>> glyphRuleMap) {
+    Set<Rule> rules = new LinkedHashSet<Rule>();
+    for (Set<Rule> glyphRules : glyphRuleMap.values()) {
+      rules.addAll(glyphRules);
+    }
+    return new RuleClosure(rules);
+  }
+
+  /**
+   * Adds all of the glyphs that the rules can substitute for the glyphs in
+   * the group to the group.
+   *
+   * @param glyphs the glyphs to close over
+   * @return the same group holding the closure
+   */
+  public GlyphGroup closure(GlyphGroup glyphs) {
+    int[] remaining = this.ruleGroupCount.clone();
+    boolean[] groupMatched = new boolean[this.groupRuleStart.length - 1];
+
+    int[] worklist = new int[Math.max(16, glyphs.cardinality())];
+    int top = 0;
+    for (int glyph = glyphs.nextSetBit(0); glyph >= 0; glyph = glyphs.nextSetBit(glyph + 1)) {
+      if (glyph >= this.numGlyphs) {
+        break;
+      }
+      if (top == worklist.length) {
+        worklist = Arrays.copyOf(worklist, top * 2);
+      }
+      worklist[top++] = glyph;
+    }
+
+    while (top > 0) {
+      int glyph = worklist[--top];
+      for (int i = this.glyphGroupStart[glyph]; i < this.glyphGroupStart[glyph + 1]; i++) {
+        int group = this.glyphGroups[i];
+        if (groupMatched[group]) {
+          continue;
+        }
+        groupMatched[group] = true;
+        for (int j = this.groupRuleStart[group]; j < this.groupRuleStart[group + 1]; j++) {
+          int rule = this.groupRules[j];
+          if (--remaining[rule] != 0) {
+            continue;
+          }
+          for (int k = this.substStart[rule]; k < this.substStart[rule + 1]; k++) {
+            int substGlyph = this.substGlyphs[k];
+            if (glyphs.get(substGlyph)) {
+              continue;
+            }
+            glyphs.set(substGlyph);
+            if (substGlyph >= this.numGlyphs) {
+              // not used in any context so it can't make another rule match
+              continue;
+            }
+            if (top == worklist.length) {
+              worklist = Arrays.copyOf(worklist, top * 2);
+            }
+            worklist[top++] = substGlyph;
+          }
+        }
+      }
+    }
+    return glyphs;
+  }
+}
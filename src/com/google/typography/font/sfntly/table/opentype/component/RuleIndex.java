@@ -0,0 +1,241 @@
+package com.google.typography.font.sfntly.table.opentype.component;
+
+import com.google.typography.font.sfntly.table.opentype.FeatureListTable;
+import com.google.typography.font.sfntly.table.opentype.GSubTable;
+import com.google.typography.font.sfntly.table.opentype.LangSysTable;
+import com.google.typography.font.sfntly.table.opentype.LanguageTag;
+import com.google.typography.font.sfntly.table.opentype.ScriptTable;
+import com.google.typography.font.sfntly.table.opentype.ScriptTag;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * The rules extracted from a GSUB table along with the features and lookups
+ * that the table's scripts and languages use. Everything is extracted once
+ * when the index is created and the index is immutable so it may be shared
+ * between threads.
+ *
+ * @see GSubTable#ruleIndex()
+ */
+public final class RuleIndex {
+  private final Map<Integer, Set<Rule>> lookupRules;
+
+  // the feature tag and lookup ids of each feature in the feature list
+  private final int[] featureTags;
+  private final int[][] featureLookups;
+
+  // the feature indices used by each language of each script
+  private final Map<ScriptTag, Map<LanguageTag, int[]>> langSysFeatures;
+
+  private final Set<Integer> featuredLookups;
+  private final Map<Integer, Set<Rule>> glyphRulesMap;
+
+  private volatile RuleClosure ruleClosure;
+  private final Object ruleClosureLock = new Object();
+
+  private RuleIndex(GSubTable gsub) {
+    Map<Integer, Set<Rule>> lookupRules = RuleExtractor.extract(gsub.lookupList());
+    for (Map.Entry<Integer, Set<Rule>> entry : lookupRules.entrySet()) {
+      entry.setValue(Collections.unmodifiableSet(entry.getValue()));
+    }
+    this.lookupRules = Collections.unmodifiableMap(lookupRules);
+
+    FeatureListTable featureList = gsub.featureList();
+    this.featureTags = new int[featureList.count()];
+    this.featureLookups = new int[featureList.count()][];
+    for (int feature = 0; feature < featureList.count(); feature++) {
+      this.featureTags[feature] = featureList.tagAt(feature);
+      Set<Integer> lookups = new LinkedHashSet<Integer>();
+      for (NumRecord lookup : featureList.subTableAt(feature)) {
+        lookups.add(lookup.value);
+      }
+      this.featureLookups[feature] = toArray(lookups);
+    }
+
+    Map<ScriptTag, Map<LanguageTag, int[]>> langSysFeatures =
+        new HashMap<ScriptTag, Map<LanguageTag, int[]>>();
+    for (Map.Entry<ScriptTag, ScriptTable> script : gsub.scriptList().map().entrySet()) {
+      Map<LanguageTag, int[]> languages = new HashMap<LanguageTag, int[]>();
+      for (Map.Entry<LanguageTag, LangSysTable> langSys : script.getValue().map().entrySet()) {
+        // We are assuming if required feature exists, it will be in the list
+        // of features as well.
+        Set<Integer> features = new LinkedHashSet<Integer>();
+        for (NumRecord feature : langSys.getValue()) {
+          if (feature.value < this.featureTags.length) {
+            features.add(feature.value);
+          }
+        }
+        languages.put(langSys.getKey(), toArray(features));
+      }
+      langSysFeatures.put(script.getKey(), Collections.unmodifiableMap(languages));
+    }
+    this.langSysFeatures = Collections.unmodifiableMap(langSysFeatures);
+
+    this.featuredLookups = Collections.unmodifiableSet(this.lookups(null, null, null));
+    this.glyphRulesMap = this.glyphRulesMap(this.featuredLookups);
+  }
+
+  /**
+   * Extracts the rules of a GSUB table. Use {@link GSubTable#ruleIndex()} to
+   * get the index shared by all users of the table.
+   *
+   * @param gsub the GSUB table
+   * @return the index
+   */
+  public static RuleIndex createIndex(GSubTable gsub) {
+    return new RuleIndex(gsub);
+  }
+
+  private static int[] toArray(Set<Integer> values) {
+    int[] result = new int[values.size()];
+    int i = 0;
+    for (int value : values) {
+      result[i++] = value;
+    }
+    return result;
+  }
+
+  /**
+   * Gets the rules of each lookup in the lookup list.
+   *
+   * @return an unmodifiable map from lookup id to the lookup's rules
+   */
+  public Map<Integer, Set<Rule>> lookupRules() {
+    return this.lookupRules;
+  }
+
+  /**
+   * Gets the ids of the lookups used by any feature of any script and
+   * language.
+   *
+   * @return an unmodifiable set of lookup ids
+   */
+  public Set<Integer> featuredLookups() {
+    return this.featuredLookups;
+  }
+
+  /**
+   * Gets the ids of the lookups used by the features of a script and language.
+   *
+   * @param script the script or null for all scripts
+   * @param language the language or null for all languages of the scripts
+   * @param featureTags the tags of the features to use or null for all
+   *        features
+   * @return the lookup ids in ascending order
+   */
+  public Set<Integer> lookups(
+      ScriptTag script, LanguageTag language, Set<Integer> featureTags) {
+    boolean[] used = new boolean[this.featureTags.length];
+    for (Map.Entry<ScriptTag, Map<LanguageTag, int[]>> scriptEntry :
+        this.langSysFeatures.entrySet()) {
+      if (script != null && script != scriptEntry.getKey()) {
+        continue;
+      }
+      for (Map.Entry<LanguageTag, int[]> languageEntry : scriptEntry.getValue().entrySet()) {
+        if (language != null && language != languageEntry.getKey()) {
+          continue;
+        }
+        for (int feature : languageEntry.getValue()) {
+          used[feature] = true;
+        }
+      }
+    }
+
+    Set<Integer> lookups = new TreeSet<Integer>();
+    for (int feature = 0; feature < used.length; feature++) {
+      if (!used[feature]
+          || (featureTags != null && !featureTags.contains(this.featureTags[feature]))) {
+        continue;
+      }
+      for (int lookup : this.featureLookups[feature]) {
+        lookups.add(lookup);
+      }
+    }
+    return lookups;
+  }
+
+  /**
+   * Gets the rules of all of the featured lookups indexed by the first glyph
+   * of their input. This is the same map as
+   * {@link Rule#glyphRulesMap(com.google.typography.font.sfntly.Font)}.
+   *
+   * @return an unmodifiable map from glyph id to rules
+   */
+  public Map<Integer, Set<Rule>> glyphRulesMap() {
+    return this.glyphRulesMap;
+  }
+
+  /**
+   * Gets the rules of the lookups used by the features of a script and
+   * language indexed by the first glyph of their input.
+   *
+   * @param script the script or null for all scripts
+   * @param language the language or null for all languages of the scripts
+   * @param featureTags the tags of the features to use or null for all
+   *        features
+   * @return an unmodifiable map from glyph id to rules
+   * @see #lookups(ScriptTag, LanguageTag, Set)
+   */
+  public Map<Integer, Set<Rule>> glyphRulesMap(
+      ScriptTag script, LanguageTag language, Set<Integer> featureTags) {
+    if (script == null && language == null && featureTags == null) {
+      return this.glyphRulesMap;
+    }
+    return this.glyphRulesMap(this.lookups(script, language, featureTags));
+  }
+
+  /**
+   * Gets the rules of some of the lookups indexed by the first glyph of their
+   * input.
+   *
+   * @param lookupIds the ids of the lookups
+   * @return an unmodifiable map from glyph id to rules
+   */
+  public Map<Integer, Set<Rule>> glyphRulesMap(Set<Integer> lookupIds) {
+    Map<Integer, Set<Rule>> map = new HashMap<Integer, Set<Rule>>();
+    for (int lookupId : lookupIds) {
+      Set<Rule> rules = this.lookupRules.get(lookupId);
+      if (rules == null) {
+        System.err.printf("Lookup ID %d is used in features but not defined.\n", lookupId);
+        continue;
+      }
+      for (Rule rule : rules) {
+        for (int glyph : rule.input.get(0)) {
+          Set<Rule> glyphRules = map.get(glyph);
+          if (glyphRules == null) {
+            glyphRules = new HashSet<Rule>();
+            map.put(glyph, glyphRules);
+          }
+          glyphRules.add(rule);
+        }
+      }
+    }
+    for (Map.Entry<Integer, Set<Rule>> entry : map.entrySet()) {
+      entry.setValue(Collections.unmodifiableSet(entry.getValue()));
+    }
+    return Collections.unmodifiableMap(map);
+  }
+
+  /**
+   * Gets the compiled closure of the rules of all of the featured lookups.
+   * The closure is compiled the first time it is asked for.
+   *
+   * @return the compiled closure
+   */
+  public RuleClosure ruleClosure() {
+    if (this.ruleClosure == null) {
+      synchronized (this.ruleClosureLock) {
+        if (this.ruleClosure == null) {
+          this.ruleClosure = RuleClosure.compile(this.glyphRulesMap);
+        }
+      }
+    }
+    return this.ruleClosure;
+  }
+}
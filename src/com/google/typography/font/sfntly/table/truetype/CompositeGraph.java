@@ -0,0 +1,339 @@
+/*
+ * Copyright 2011 Google Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.typography.font.sfntly.table.truetype;
+
+import com.google.typography.font.sfntly.data.FontData;
+import com.google.typography.font.sfntly.data.ReadableFontData;
+
+import java.util.Arrays;
+import java.util.BitSet;
+
+/**
+ * An index of the components of the composite glyphs in a glyph table. The
+ * component references are read once and stored as compressed adjacency
+ * arrays along with the transitive closure of each glyph's components, the
+ * nesting depth of each glyph, the total number of contours and points that
+ * each glyph is drawn with and the size of each glyph's instructions. These
+ * are all that is needed for the maxp table of any subset of the glyphs so
+ * no glyph outline has to be parsed again. Graphs are immutable and may be
+ * shared between threads.
+ *
+ * <p>Component references to glyphs outside of the glyph table are ignored.
+ * In a malformed font where components refer back to a glyph that uses them
+ * the reference closing the cycle doesn't count towards depths or totals.
+ *
+ * @see GlyphTable#compositeGraph(LocaTable)
+ */
+public final class CompositeGraph {
+  private static final byte UNVISITED = 0;
+  private static final byte VISITING = 1;
+  private static final byte VISITED = 2;
+
+  private final LocaTable loca;
+  private final int numGlyphs;
+
+  // the direct components of glyph i are components[componentStart[i] ..
+  // componentStart[i + 1]) in the order of the composite glyph
+  private final int[] componentStart;
+  private final int[] components;
+
+  // every glyph that glyph i is drawn with, each listed once
+  private final int[] closureStart;
+  private final int[] closure;
+
+  private final int[] depth;
+  private final int[] contours;
+  private final int[] points;
+  private final int[] instructionSizes;
+
+  private CompositeGraph(GlyphTable glyf, LocaTable loca) {
+    this.loca = loca;
+    this.numGlyphs = loca.numGlyphs();
+    this.componentStart = new int[this.numGlyphs + 1];
+    this.depth = new int[this.numGlyphs];
+    this.contours = new int[this.numGlyphs];
+    this.points = new int[this.numGlyphs];
+    this.instructionSizes = new int[this.numGlyphs];
+
+    ReadableFontData data = glyf.readFontData();
+    int[] references = new int[16];
+    int count = 0;
+    for (int glyphId = 0; glyphId < this.numGlyphs; glyphId++) {
+      this.componentStart[glyphId] = count;
+      int offset = loca.glyphOffset(glyphId);
+      int length = loca.glyphLength(glyphId);
+      if (length <= 0) {
+        continue;
+      }
+      int numberOfContours = data.readShort(offset + GlyphTable.Offset.numberOfContours.offset);
+      if (numberOfContours >= 0) {
+        // the end points and instruction length are read without decoding the outline
+        int endPoints = GlyphTable.Offset.simpleEndPtsOfCountours.offset;
+        int instructionLength = endPoints + numberOfContours * FontData.DataSize.USHORT.size();
+        if (instructionLength + FontData.DataSize.USHORT.size() > length) {
+          continue;
+        }
+        this.contours[glyphId] = numberOfContours;
+        if (numberOfContours > 0) {
+          this.points[glyphId] = 1 + data.readUShort(
+              offset + instructionLength - FontData.DataSize.USHORT.size());
+        }
+        this.instructionSizes[glyphId] = data.readUShort(offset + instructionLength);
+        continue;
+      }
+      CompositeGlyph composite = (CompositeGlyph) glyf.glyph(offset, length);
+      this.instructionSizes[glyphId] = composite.instructionSize();
+      for (int i = 0; i < composite.numGlyphs(); i++) {
+        int component = composite.glyphIndex(i);
+        if (component >= this.numGlyphs || component == glyphId) {
+          continue;
+        }
+        if (count == references.length) {
+          references = Arrays.copyOf(references, count * 2);
+        }
+        references[count++] = component;
+      }
+    }
+    this.componentStart[this.numGlyphs] = count;
+    this.components = Arrays.copyOf(references, count);
+
+    this.closureStart = new int[this.numGlyphs + 1];
+    this.closure = computeClosures();
+  }
+
+  /**
+   * Creates the graph for the glyph table and the loca table that locates its
+   * glyphs.
+   *
+   * @param glyf the glyph table
+   * @param loca the loca table
+   * @return the graph
+   */
+  static CompositeGraph createGraph(GlyphTable glyf, LocaTable loca) {
+    return new CompositeGraph(glyf, loca);
+  }
+
+  /**
+   * Computes the depths, totals and closures of the composite glyphs. The
+   * glyphs are visited with an explicit stack so that deep or malformed
+   * component chains can't overflow the call stack and each glyph's totals are
+   * computed after those of all of its components.
+   *
+   * @return the closure array to go with {@link #closureStart}
+   */
+  private int[] computeClosures() {
+    byte[] state = new byte[this.numGlyphs];
+    int[] stack = new int[this.numGlyphs];
+    int[] next = new int[this.numGlyphs];
+
+    for (int root = 0; root < this.numGlyphs; root++) {
+      if (state[root] != UNVISITED) {
+        continue;
+      }
+      int top = 0;
+      stack[top++] = root;
+      state[root] = VISITING;
+      next[root] = this.componentStart[root];
+      while (top > 0) {
+        int glyphId = stack[top - 1];
+        if (next[glyphId] < this.componentStart[glyphId + 1]) {
+          int component = this.components[next[glyphId]++];
+          if (state[component] == UNVISITED) {
+            state[component] = VISITING;
+            next[component] = this.componentStart[component];
+            stack[top++] = component;
+          }
+          continue;
+        }
+        top--;
+        state[glyphId] = VISITED;
+        if (this.componentStart[glyphId] == this.componentStart[glyphId + 1]) {
+          continue;
+        }
+        int maxDepth = 0;
+        int totalContours = 0;
+        int totalPoints = 0;
+        for (int i = this.componentStart[glyphId]; i < this.componentStart[glyphId + 1]; i++) {
+          int component = this.components[i];
+          if (state[component] != VISITED) {
+            // a reference back to a glyph still being visited closes a cycle
+            continue;
+          }
+          maxDepth = Math.max(maxDepth, this.depth[component]);
+          totalContours += this.contours[component];
+          totalPoints += this.points[component];
+        }
+        this.depth[glyphId] = maxDepth + 1;
+        this.contours[glyphId] = totalContours;
+        this.points[glyphId] = totalPoints;
+      }
+    }
+
+    // every glyph reachable from each composite glyph, each glyph marked as
+    // seen when it is found so that it is only stacked once
+    boolean[] seen = new boolean[this.numGlyphs];
+    int[] result = new int[this.components.length];
+    int count = 0;
+    for (int glyphId = 0; glyphId < this.numGlyphs; glyphId++) {
+      this.closureStart[glyphId] = count;
+      if (!this.isComposite(glyphId)) {
+        continue;
+      }
+      int top = 0;
+      stack[top++] = glyphId;
+      seen[glyphId] = true;
+      while (top > 0) {
+        int current = stack[--top];
+        for (int i = this.componentStart[current]; i < this.componentStart[current + 1]; i++) {
+          int component = this.components[i];
+          if (seen[component]) {
+            continue;
+          }
+          seen[component] = true;
+          stack[top++] = component;
+          if (count == result.length) {
+            result = Arrays.copyOf(result, Math.max(16, count * 2));
+          }
+          result[count++] = component;
+        }
+      }
+      seen[glyphId] = false;
+      for (int i = this.closureStart[glyphId]; i < count; i++) {
+        seen[result[i]] = false;
+      }
+    }
+    this.closureStart[this.numGlyphs] = count;
+    return Arrays.copyOf(result, count);
+  }
+
+  /**
+   * Gets the loca table that the graph was created with.
+   *
+   * @return the loca table
+   */
+  LocaTable loca() {
+    return this.loca;
+  }
+
+  /**
+   * Gets the number of glyphs in the graph.
+   *
+   * @return the number of glyphs
+   */
+  public int numGlyphs() {
+    return this.numGlyphs;
+  }
+
+  /**
+   * Gets whether the glyph is made from other glyphs.
+   *
+   * @param glyphId the glyph id
+   * @return true if the glyph has components; false otherwise
+   */
+  public boolean isComposite(int glyphId) {
+    return this.componentStart[glyphId] != this.componentStart[glyphId + 1];
+  }
+
+  /**
+   * Gets the number of direct components of the glyph.
+   *
+   * @param glyphId the glyph id
+   * @return the number of components; 0 for a glyph that isn't a composite
+   */
+  public int numComponents(int glyphId) {
+    return this.componentStart[glyphId + 1] - this.componentStart[glyphId];
+  }
+
+  /**
+   * Gets a direct component of the glyph.
+   *
+   * @param glyphId the glyph id
+   * @param index the index of the component
+   * @return the glyph id of the component
+   */
+  public int component(int glyphId, int index) {
+    if (index < 0 || index >= this.numComponents(glyphId)) {
+      throw new IndexOutOfBoundsException("Component index out of range - " + index);
+    }
+    return this.components[this.componentStart[glyphId] + index];
+  }
+
+  /**
+   * Gets the depth of nesting of the glyph's components. This is the value
+   * that the maxp table's maxComponentDepth is the maximum of.
+   *
+   * @param glyphId the glyph id
+   * @return 0 for a glyph that isn't a composite; 1 for a composite of simple
+   *         glyphs; one more than the deepest component otherwise
+   */
+  public int depth(int glyphId) {
+    return this.depth[glyphId];
+  }
+
+  /**
+   * Gets the number of contours the glyph is drawn with. For a composite glyph
+   * this is the total over all of its components, counting a component once
+   * for every time it is used.
+   *
+   * @param glyphId the glyph id
+   * @return the number of contours
+   */
+  public int totalContours(int glyphId) {
+    return this.contours[glyphId];
+  }
+
+  /**
+   * Gets the number of points the glyph is drawn with. For a composite glyph
+   * this is the total over all of its components, counting a component once
+   * for every time it is used.
+   *
+   * @param glyphId the glyph id
+   * @return the number of points
+   */
+  public int totalPoints(int glyphId) {
+    return this.points[glyphId];
+  }
+
+  /**
+   * Gets the size of the glyph's own instructions. For a composite glyph this
+   * doesn't include the instructions of its components.
+   *
+   * @param glyphId the glyph id
+   * @return the size of the instructions in bytes
+   */
+  public int instructionSize(int glyphId) {
+    return this.instructionSizes[glyphId];
+  }
+
+  /**
+   * Adds all of the glyphs that the glyphs in the set are drawn with to the
+   * set. The time taken is proportional to the size of the result and no
+   * objects are created.
+   *
+   * @param glyphIds the set of glyph ids to close over
+   * @return the same set holding the closure
+   */
+  public BitSet closure(BitSet glyphIds) {
+    for (int glyphId = glyphIds.nextSetBit(0); glyphId >= 0 && glyphId < this.numGlyphs;
+        glyphId = glyphIds.nextSetBit(glyphId + 1)) {
+      for (int i = this.closureStart[glyphId]; i < this.closureStart[glyphId + 1]; i++) {
+        glyphIds.set(this.closure[i]);
+      }
+    }
+    return glyphIds;
+  }
+}
@@ -64,6 +64,8 @@ public final class GlyphTable extends SubTableContainerTable {
     }
   }
 
+  private volatile CompositeGraph compositeGraph;
+
   private GlyphTable(Header header, ReadableFontData data) {
     super(header, data);
   }
@@ -72,6 +74,28 @@ public final class GlyphTable extends SubTableContainerTable {
     return Glyph.getGlyph(this, this.data, offset, length);
   }
 
+  /**
+   * Gets the index of the composite glyphs in this table. The index is
+   * created the first time it is asked for and then kept with the table so
+   * that it is only created again if a different loca table is given.
+   *
+   * @param loca the loca table for this table's glyphs
+   * @return the composite glyph index
+   */
+  public CompositeGraph compositeGraph(LocaTable loca) {
+    CompositeGraph graph = this.compositeGraph;
+    if (graph == null || graph.loca() != loca) {
+      synchronized (this) {
+        graph = this.compositeGraph;
+        if (graph == null || graph.loca() != loca) {
+          graph = CompositeGraph.createGraph(this, loca);
+          this.compositeGraph = graph;
+        }
+      }
+    }
+    return graph;
+  }
+
   public static class Builder extends SubTableContainerTable.Builder<GlyphTable> {
 
     private List<Glyph.Builder<? extends Glyph>> glyphBuilders;
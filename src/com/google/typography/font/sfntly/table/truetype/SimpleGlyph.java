@@ -26,10 +26,13 @@ public final class SimpleGlyph extends Glyph {
   private int xByteCount;
   private int yByteCount;
 
+  private int[] contourIndex;
+
+  // the outline is only decoded when a coordinate is asked for
+  private volatile boolean coordinatesDecoded = false;
   private int[] xCoordinates;
   private int[] yCoordinates;
   private boolean[] onCurve;
-  private int[] contourIndex;
 
   public static final class SimpleContour extends Glyph.Contour {
     protected SimpleContour() {
@@ -45,6 +48,11 @@ public final class SimpleGlyph extends Glyph {
     super(data, GlyphType.Simple);
   }
 
+  /**
+   * Finds the structure of the glyph: the size and location of the
+   * instructions, flags and coordinates. Runs of repeated flags are measured
+   * as a whole and no coordinates are read.
+   */
   @Override
   protected void initialize() {
     if (this.initialized) {
@@ -62,6 +70,8 @@ public final class SimpleGlyph extends Glyph {
         this.flagsOffset = 0;
         this.xCoordinatesOffset = 0;
         this.yCoordinatesOffset = 0;
+        this.contourIndex = new int[1];
+        this.initialized = true;
         return;
       }
       this.instructionSize =
@@ -72,21 +82,34 @@ public final class SimpleGlyph extends Glyph {
               * FontData.DataSize.USHORT.size();
       this.flagsOffset =
           this.instructionsOffset + this.instructionSize * FontData.DataSize.BYTE.size();
-      this.numberOfPoints = this.contourEndPoint(this.numberOfContours() - 1) + 1;
-      this.xCoordinates = new int[this.numberOfPoints];
-      this.yCoordinates = new int[this.numberOfPoints];
-      this.onCurve = new boolean[this.numberOfPoints];
-      parseData(false);
+      this.contourIndex = new int[this.numberOfContours() + 1];
+      for (int contour = 0; contour < this.contourIndex.length - 1; contour++) {
+        this.contourIndex[contour + 1] = this.contourEndPoint(contour) + 1;
+      }
+      this.numberOfPoints = this.contourIndex[this.numberOfContours()];
+
+      int flagIndex = 0;
+      int xByteCount = 0;
+      int yByteCount = 0;
+      for (int pointIndex = 0; pointIndex < this.numberOfPoints;) {
+        int flag = this.flagAsInt(flagIndex++);
+        int count = 1;
+        if ((flag & FLAG_REPEAT) == FLAG_REPEAT) {
+          count += this.flagAsInt(flagIndex++);
+        }
+        count = Math.min(count, this.numberOfPoints - pointIndex);
+        xByteCount += count * coordinateSize(flag, FLAG_XSHORT, FLAG_XREPEATSIGN);
+        yByteCount += count * coordinateSize(flag, FLAG_YSHORT, FLAG_YREPEATSIGN);
+        pointIndex += count;
+      }
+      this.flagByteCount = flagIndex;
+      this.xByteCount = xByteCount;
+      this.yByteCount = yByteCount;
       this.xCoordinatesOffset =
           this.flagsOffset + this.flagByteCount * FontData.DataSize.BYTE.size();
       this.yCoordinatesOffset =
           this.xCoordinatesOffset + this.xByteCount * FontData.DataSize.BYTE.size();
-      this.contourIndex = new int[this.numberOfContours() + 1];
-      contourIndex[0] = 0;
-      for (int contour = 0; contour < this.contourIndex.length - 1; contour++) {
-        contourIndex[contour + 1] = this.contourEndPoint(contour) + 1;
-      }
-      parseData(true);
+
       int nonPaddedDataLength =
           5 * FontData.DataSize.SHORT.size()
               + (this.numberOfContours() * FontData.DataSize.USHORT.size())
@@ -100,78 +123,80 @@ public final class SimpleGlyph extends Glyph {
     }
   }
 
-  // TODO(stuartg): think about replacing double parsing with ArrayList
-  private void parseData(boolean fillArrays) {
-    int flag = 0;
-    int flagRepeat = 0;
-    int flagIndex = 0;
-    int xByteIndex = 0;
-    int yByteIndex = 0;
+  /**
+   * Gets the number of bytes that a coordinate with the given flag takes.
+   */
+  private static int coordinateSize(int flag, int shortFlag, int repeatSignFlag) {
+    if ((flag & shortFlag) == shortFlag) {
+      return 1;
+    }
+    return ((flag & repeatSignFlag) == repeatSignFlag) ? 0 : 2;
+  }
 
-    for (int pointIndex = 0; pointIndex < this.numberOfPoints; pointIndex++) {
-      // get the flag for the current point
-      if (flagRepeat == 0) {
-        flag = this.flagAsInt(flagIndex++);
-        if ((flag & FLAG_REPEAT) == FLAG_REPEAT) {
-          flagRepeat = flagAsInt(flagIndex++);
-        }
-      } else {
-        flagRepeat--;
+  /**
+   * Decodes the points of the outline. The flags and coordinates are copied
+   * out in one block and the three streams are then walked together.
+   */
+  private void decodeCoordinates() {
+    this.initialize();
+    if (this.coordinatesDecoded) {
+      return;
+    }
+    synchronized (this.initializationLock) {
+      if (this.coordinatesDecoded) {
+        return;
       }
+      int[] xCoordinates = new int[this.numberOfPoints];
+      int[] yCoordinates = new int[this.numberOfPoints];
+      boolean[] onCurve = new boolean[this.numberOfPoints];
 
-      // on the curve?
-      if (fillArrays) {
-        this.onCurve[pointIndex] = ((flag & FLAG_ONCURVE) == FLAG_ONCURVE) ? true : false;
+      byte[] bytes = new byte[this.flagByteCount + this.xByteCount + this.yByteCount];
+      if (bytes.length > 0
+          && this.data.readBytes(this.flagsOffset, bytes, 0, bytes.length) < bytes.length) {
+        throw new IndexOutOfBoundsException("Glyph outline extends past the end of the data.");
       }
-      // get the x coordinate
-      if ((flag & FLAG_XSHORT) == FLAG_XSHORT) {
-        // single byte x coord value
-        if (fillArrays) {
-          this.xCoordinates[pointIndex] =
-              this.data.readUByte(this.xCoordinatesOffset + xByteIndex);
-          this.xCoordinates[pointIndex] *=
-              ((flag & FLAG_XREPEATSIGN) == FLAG_XREPEATSIGN) ? 1 : -1;
-        }
-        xByteIndex++;
-      } else {
-        // double byte coord value
-        if (!((flag & FLAG_XREPEATSIGN) == FLAG_XREPEATSIGN)) {
-          if (fillArrays) {
-            this.xCoordinates[pointIndex] =
-                this.data.readShort(this.xCoordinatesOffset + xByteIndex);
+      int flagIndex = 0;
+      int xIndex = this.flagByteCount;
+      int yIndex = xIndex + this.xByteCount;
+      int flag = 0;
+      int flagRepeat = 0;
+      int x = 0;
+      int y = 0;
+      for (int pointIndex = 0; pointIndex < this.numberOfPoints; pointIndex++) {
+        // get the flag for the current point
+        if (flagRepeat == 0) {
+          flag = bytes[flagIndex++] & 0xff;
+          if ((flag & FLAG_REPEAT) == FLAG_REPEAT) {
+            flagRepeat = bytes[flagIndex++] & 0xff;
           }
-          xByteIndex += 2;
+        } else {
+          flagRepeat--;
         }
-      }
-      if (fillArrays && pointIndex > 0) {
-        this.xCoordinates[pointIndex] += this.xCoordinates[pointIndex - 1];
-      }
+        onCurve[pointIndex] = (flag & FLAG_ONCURVE) == FLAG_ONCURVE;
 
-      // get the y coordinate
-      if ((flag & FLAG_YSHORT) == FLAG_YSHORT) {
-        if (fillArrays) {
-          this.yCoordinates[pointIndex] =
-              this.data.readUByte(this.yCoordinatesOffset + yByteIndex);
-          this.yCoordinates[pointIndex] *=
-              ((flag & FLAG_YREPEATSIGN) == FLAG_YREPEATSIGN) ? 1 : -1;
+        if ((flag & FLAG_XSHORT) == FLAG_XSHORT) {
+          int dx = bytes[xIndex++] & 0xff;
+          x += ((flag & FLAG_XREPEATSIGN) == FLAG_XREPEATSIGN) ? dx : -dx;
+        } else if ((flag & FLAG_XREPEATSIGN) != FLAG_XREPEATSIGN) {
+          x += (short) ((bytes[xIndex] << 8) | (bytes[xIndex + 1] & 0xff));
+          xIndex += 2;
         }
-        yByteIndex++;
-      } else {
-        if (!((flag & FLAG_YREPEATSIGN) == FLAG_YREPEATSIGN)) {
-          if (fillArrays) {
-            this.yCoordinates[pointIndex] =
-                this.data.readShort(this.yCoordinatesOffset + yByteIndex);
-          }
-          yByteIndex += 2;
+        xCoordinates[pointIndex] = x;
+
+        if ((flag & FLAG_YSHORT) == FLAG_YSHORT) {
+          int dy = bytes[yIndex++] & 0xff;
+          y += ((flag & FLAG_YREPEATSIGN) == FLAG_YREPEATSIGN) ? dy : -dy;
+        } else if ((flag & FLAG_YREPEATSIGN) != FLAG_YREPEATSIGN) {
+          y += (short) ((bytes[yIndex] << 8) | (bytes[yIndex + 1] & 0xff));
+          yIndex += 2;
         }
+        yCoordinates[pointIndex] = y;
       }
-      if (fillArrays && pointIndex > 0) {
-        this.yCoordinates[pointIndex] += this.yCoordinates[pointIndex - 1];
-      }
+      this.xCoordinates = xCoordinates;
+      this.yCoordinates = yCoordinates;
+      this.onCurve = onCurve;
+      this.coordinatesDecoded = true;
     }
-    this.flagByteCount = flagIndex;
-    this.xByteCount = xByteIndex;
-    this.yByteCount = yByteIndex;
   }
 
   private int flagAsInt(int index) {
@@ -204,17 +229,17 @@ public final class SimpleGlyph extends Glyph {
   }
 
   public int xCoordinate(int contour, int point) {
-    this.initialize();
+    this.decodeCoordinates();
     return this.xCoordinates[this.contourIndex[contour] + point];
   }
 
   public int yCoordinate(int contour, int point) {
-    this.initialize();
+    this.decodeCoordinates();
     return this.yCoordinates[this.contourIndex[contour] + point];
   }
 
   public boolean onCurve(int contour, int point) {
-    this.initialize();
+    this.decodeCoordinates();
     return this.onCurve[this.contourIndex[contour] + point];
   }
 
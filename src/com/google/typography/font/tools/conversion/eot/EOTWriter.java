@@ -27,6 +27,7 @@ import com.google.typography.font.sfntly.table.core.OS2Table;
 
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.util.concurrent.ExecutorService;
 
 /**
  * @author Jeremie Lenfant-Engelmann
@@ -34,6 +35,7 @@ import java.io.IOException;
 public class EOTWriter {
 
   private final boolean compressed;
+  private final ExecutorService executor;
   
   private final FontFactory factory = FontFactory.getInstance();
 
@@ -47,11 +49,24 @@ public class EOTWriter {
   private final static long CS_XORKEY = 0x50475342;
 
   public EOTWriter() {
-    compressed = false;
+    this(false);
   }
   
   public EOTWriter(boolean compressed) {
+    this(compressed, null);
+  }
+
+  /**
+   * Constructor.
+   *
+   * @param compressed whether to compress the font data with MTX
+   * @param executor the executor to do the MTX compression on; null to do it
+   *        on the calling thread
+   * @see MtxWriter#MtxWriter(ExecutorService)
+   */
+  public EOTWriter(boolean compressed, ExecutorService executor) {
     this.compressed = compressed;
+    this.executor = executor;
   }
 
   public WritableFontData convert(Font font) throws IOException {
@@ -67,7 +82,7 @@ public class EOTWriter {
     
     if (compressed) {
       flags |= FLAGS_TT_COMPRESSED;
-      MtxWriter mtxWriter = new MtxWriter();
+      MtxWriter mtxWriter = new MtxWriter(executor);
       fontData = mtxWriter.compress(font);
     }
     
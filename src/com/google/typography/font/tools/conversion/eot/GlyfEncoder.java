@@ -57,10 +57,23 @@ public class GlyfEncoder {
 
   public void encode(Font sourceFont) {
     LocaTable loca = sourceFont.getTable(Tag.loca);
-    int nGlyphs = loca.numGlyphs();
+    this.encode(sourceFont, 0, loca.numGlyphs());
+  }
+
+  /**
+   * Encodes a range of the glyphs. Each glyph is encoded independently of the
+   * others so the streams for consecutive ranges encoded by different encoders
+   * may be concatenated to give the streams for the whole range.
+   *
+   * @param sourceFont the font to encode the glyphs of
+   * @param startGlyph the first glyph id to encode
+   * @param endGlyph the glyph id after the last one to encode
+   */
+  public void encode(Font sourceFont, int startGlyph, int endGlyph) {
+    LocaTable loca = sourceFont.getTable(Tag.loca);
     GlyphTable glyf = sourceFont.getTable(Tag.glyf);
 
-    for (int glyphId = 0; glyphId < nGlyphs; glyphId++) {
+    for (int glyphId = startGlyph; glyphId < endGlyph; glyphId++) {
       int sourceOffset = loca.glyphOffset(glyphId);
       int length = loca.glyphLength(glyphId);
       Glyph glyph = glyf.glyph(sourceOffset, length);
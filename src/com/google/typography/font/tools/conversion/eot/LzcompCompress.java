@@ -16,12 +16,21 @@
 
 package com.google.typography.font.tools.conversion.eot;
 
+import java.util.Arrays;
+
 /**
  * Implement LZCOMP compression algorithm as defined in MicroType Express, part of the EOT
  * draft spec at {@link "http://www.w3.org/Submission/MTX/"}
  * 
  * Java implementation based on http://www.w3.org/Submission/MTX/ reference code
  *
+ * <p>Earlier occurrences of each pair of bytes are kept as hash chains in
+ * primitive arrays: {@code head} holds the most recent position for each pair
+ * and {@code prev} links each position to the previous one with the same
+ * pair. The model for the fixed preload is built once and copied for each
+ * compression. With the default settings the output is the same as the
+ * reference code.
+ *
  * @author Raph Levien
  */
 public class LzcompCompress {
@@ -35,6 +44,48 @@ public class LzcompCompress {
   private static final int BIT_RANGE = LEN_WIDTH - 1;
   private static final int PRELOAD_SIZE = 2 * 32 * 96 + 4 * 256;
   private static final int DEFAULT_MAX_COPY_DIST = 0x7fffffff;
+  private static final int HASH_SIZE = 0x10000;
+  private static final int NIL = -1;
+  private static final int MAX_COST_CACHE_LENGTH = 32;
+
+  /**
+   * The default maximum number of earlier positions examined for each match.
+   */
+  public static final int DEFAULT_MAX_CHAIN_LENGTH = 256;
+
+  /**
+   * Lazy matching level where the longest match at each position is taken.
+   */
+  public static final int LAZY_MATCH_NONE = 0;
+
+  /**
+   * Lazy matching level where a match is dropped for a literal if a better
+   * match starts at the next position.
+   */
+  public static final int LAZY_MATCH_NEXT = 1;
+
+  /**
+   * Lazy matching level that also considers shortening a match by one byte
+   * when a better match would follow it. This is the reference behavior.
+   */
+  public static final int LAZY_MATCH_FULL = 2;
+
+  // the preload data and the hash chains for it, shared by all compressors
+  private static final byte[] PRELOAD;
+  private static final int[] PRELOAD_HEAD;
+  private static final int[] PRELOAD_PREV;
+
+  static {
+    LzcompCompress preload = new LzcompCompress(DEFAULT_MAX_CHAIN_LENGTH, LAZY_MATCH_FULL);
+    preload.buf = new byte[PRELOAD_SIZE];
+    preload.head = new int[HASH_SIZE];
+    Arrays.fill(preload.head, NIL);
+    preload.prev = new int[PRELOAD_SIZE];
+    preload.initializeModel();
+    PRELOAD = preload.buf;
+    PRELOAD_HEAD = preload.head;
+    PRELOAD_PREV = preload.prev;
+  }
 
   private BitIOWriter bits;
   private boolean usingRunLength;
@@ -50,16 +101,32 @@ public class LzcompCompress {
   private int dup6;
   private int numSyms;
   private byte[] buf;
-  private HashNode[] hashTable;
+  private int[] head;
+  private int[] prev;
+  private final int maxChainLength;
+  private final int lazyMatchLevel;
+
+  // reused between calls to findMatch()
+  private final int[] literalCostCache = new int[MAX_COST_CACHE_LENGTH + 1];
+  private final Match match1 = new Match();
+  private final Match match2 = new Match();
+  private final Match match3 = new Match();
 
-  private static class HashNode {
-    int index;
-    HashNode next;
+  /**
+   * The best match found at a position.
+   */
+  private static final class Match {
+    int length;
+    int dist;
+    int gain;
+    int costPerByte;
   }
-  
-  private LzcompCompress() {
+
+  private LzcompCompress(int maxChainLength, int lazyMatchLevel) {
     bits = new BitIOWriter();
     usingRunLength = false;
+    this.maxChainLength = maxChainLength;
+    this.lazyMatchLevel = lazyMatchLevel;
   }
   
   private void write(byte[] dataIn) {
@@ -71,7 +138,12 @@ public class LzcompCompress {
     lenEncoder = new HuffmanEncoder(bits, 1 << LEN_WIDTH);
     symEncoder = new HuffmanEncoder(bits, numSyms);
     buf = new byte[PRELOAD_SIZE + length1];
+    System.arraycopy(PRELOAD, 0, buf, 0, PRELOAD_SIZE);
     System.arraycopy(dataIn, 0, buf, PRELOAD_SIZE, length1);
+    // the chains may be cut short while matching so they're copied
+    head = PRELOAD_HEAD.clone();
+    prev = new int[buf.length];
+    System.arraycopy(PRELOAD_PREV, 0, prev, 0, PRELOAD_SIZE);
     encode();
     bits.flush();
   }
@@ -90,18 +162,16 @@ public class LzcompCompress {
   }
   
   private void encode() {
-    int maxIndex = length1 + PRELOAD_SIZE;
-    initializeModel();
     bits.writeValue(length1, 24);
     int limit = length1 + PRELOAD_SIZE;
-    int[] dist = new int[1];
     for (int i = PRELOAD_SIZE; i < limit; ) {
       int here = i;
-      int len = makeCopyDecision(i++, dist);
+      int len = makeCopyDecision(i++);
       if (len > 0) {
-        int distRanges = getNumDistRanges(dist[0]);
-        encodeLength(len, dist[0], distRanges);
-        encodeDistance2(dist[0], distRanges);
+        int dist = match1.dist;
+        int distRanges = getNumDistRanges(dist);
+        encodeLength(len, dist, distRanges);
+        encodeDistance2(dist, distRanges);
         for (int j = 1; j < len; j++) {
           updateModel(i++);
         }
@@ -119,8 +189,7 @@ public class LzcompCompress {
       }
     }
   }
-  void initializeModel() {
-    hashTable = new HashNode[0x10000];
+  private void initializeModel() {
     int i = 0;
     for (int k = 0; k < 32; k++) {
       for (int j = 0; j < 96; j++) {
@@ -142,38 +211,40 @@ public class LzcompCompress {
     }
   }
 
-  private int makeCopyDecision(int index, int[] bestDist) {
-    int[] dist1 = new int[1];
-    int[] gain1 = new int[1];
-    int[] costPerByte1 = new int[1];
+  /**
+   * Decides whether to copy a match at the index. On return {@code match1}
+   * holds the distance of the copy.
+   *
+   * @return the length to copy; 0 to write a literal
+   */
+  private int makeCopyDecision(int index) {
+    Match m1 = match1;
+    Match m2 = match2;
     int here = index;
-    int len1 = findMatch(index, dist1, gain1, costPerByte1);
+    int len1 = findMatch(index, m1);
     updateModel(index++);
-    if (gain1[0] > 0) {
-      int[] dist2 = new int[1];
-      int[] gain2 = new int[1];
-      int[] costPerByte2 = new int[1];
-      int len2 = findMatch(index, dist2, gain2, costPerByte2);
+    if (m1.gain > 0) {
       int symbolCost = symEncoder.writeSymbolCost(buf[here] & 0xff);
-      if (gain2[0] >= gain1[0] && costPerByte1[0] > (costPerByte2[0] * len2 + symbolCost) /
-          (len2 + 1)) {
-        len1 = 0;
-      } else if (len1 > 3) {
-        len2 = findMatch(here + len1, dist2, gain2, costPerByte2);
-        if (len2 >= 2) {
-          int[] dist3 = new int[1];
-          int[] gain3 = new int[1];
-          int[] costPerByte3 = new int[1];
-          int len3 = findMatch(here + len1 - 1, dist3, gain3, costPerByte3);
-          if (len3 > len2 && costPerByte3[0] < costPerByte2[0]) {
-            int distRanges = getNumDistRanges(dist1[0] + 1);
-            int lenBitCount = encodeLengthCost(len1 - 1, dist1[0] + 1, distRanges);
-            int distBitCount = encodeDistance2Cost(dist1[0] + 1, distRanges);
-            int cost1B = lenBitCount + distBitCount + costPerByte3[0] * len3;
-            int cost1A = costPerByte1[0] * len1 + costPerByte2[0] * len2;
-            if ((cost1A / (len1 + len2)) > (cost1B / (len1 - 1 + len3))) {
-              len1--;
-              dist1[0]++;
+      if (lazyMatchLevel >= LAZY_MATCH_NEXT) {
+        int len2 = findMatch(index, m2);
+        if (m2.gain >= m1.gain && m1.costPerByte > (m2.costPerByte * len2 + symbolCost) /
+            (len2 + 1)) {
+          len1 = 0;
+        } else if (len1 > 3 && lazyMatchLevel >= LAZY_MATCH_FULL) {
+          len2 = findMatch(here + len1, m2);
+          if (len2 >= 2) {
+            Match m3 = match3;
+            int len3 = findMatch(here + len1 - 1, m3);
+            if (len3 > len2 && m3.costPerByte < m2.costPerByte) {
+              int distRanges = getNumDistRanges(m1.dist + 1);
+              int lenBitCount = encodeLengthCost(len1 - 1, m1.dist + 1, distRanges);
+              int distBitCount = encodeDistance2Cost(m1.dist + 1, distRanges);
+              int cost1B = lenBitCount + distBitCount + m3.costPerByte * len3;
+              int cost1A = m1.costPerByte * len1 + m2.costPerByte * len2;
+              if ((cost1A / (len1 + len2)) > (cost1B / (len1 - 1 + len3))) {
+                len1--;
+                m1.dist++;
+              }
             }
           }
         }
@@ -181,25 +252,32 @@ public class LzcompCompress {
       if (len1 == 2) {
         if (here >= 2 && buf[here] == buf[here - 2]) {
           int dup2Cost = symEncoder.writeSymbolCost(dup2);
-          if (costPerByte1[0] * 2 > dup2Cost + symEncoder.writeSymbolCost(buf[here + 1] & 0xff)) {
+          if (m1.costPerByte * 2 > dup2Cost + symEncoder.writeSymbolCost(buf[here + 1] & 0xff)) {
             len1 = 0;
           }
         } else if (here >= 1 && here + 1 < buf.length && buf[here + 1] == buf[here - 1]) {
           int dup2Cost = symEncoder.writeSymbolCost(dup2);
-          if (costPerByte1[0] * 2 > symbolCost + dup2Cost) {
+          if (m1.costPerByte * 2 > symbolCost + dup2Cost) {
             len1 = 0;
           }
         }
       }
     }
-    bestDist[0] = dist1[0];
     return len1;
   }
 
-  // consider refactoring signature to return PotentialMatch object with fields set...
-  int findMatch(int index, int[] distOut, int[] gainOut, int[] costPerByteOut) {
-    final int maxCostCacheLength = 32;
-    int[] literalCostCache = new int[maxCostCacheLength + 1];
+  /**
+   * Finds the match with the best gain over writing literals at the index.
+   *
+   * @param index the position to match at
+   * @param match receives the match found
+   * @return the length of the match; 0 if there is none
+   */
+  private int findMatch(int index, Match match) {
+    final int maxCostCacheLength = MAX_COST_CACHE_LENGTH;
+    final byte[] buf = this.buf;
+    final int[] prev = this.prev;
+    int[] literalCostCache = this.literalCostCache;
     int maxIndexMinusIndex = buf.length - index;
     int bestLength = 0;
     int bestDist = 0;
@@ -208,17 +286,18 @@ public class LzcompCompress {
     int maxComputedLength = 0;
     if (maxIndexMinusIndex > 1) {
       int pos = ((buf[index] & 0xff) << 8) | (buf[index + 1] & 0xff);
-      HashNode prevNode = null;
+      int prevNode = NIL;
       int hNodeCount = 0;
-      for (HashNode hNode = hashTable[pos]; hNode != null; prevNode = hNode, hNode = hNode.next) {
-        int i = hNode.index;
+      for (int hNode = head[pos]; hNode != NIL; prevNode = hNode, hNode = prev[hNode]) {
+        int i = hNode;
         int dist = index - i;
         hNodeCount++;
-        if (hNodeCount > 256 || dist > maxCopyDist) {
-          if (hashTable[pos] == hNode) {
-            hashTable[pos] = null;
+        if (hNodeCount > maxChainLength || dist > maxCopyDist) {
+          // the rest of the chain is never used again
+          if (head[pos] == hNode) {
+            head[pos] = NIL;
           } else {
-            prevNode.next = null;
+            prev[prevNode] = NIL;
           }
           break;
         }
@@ -285,9 +364,10 @@ public class LzcompCompress {
         }
       }
     }
-    costPerByteOut[0] = bestLength > 0 ? bestCopyCost / bestLength : 0;
-    distOut[0] = bestDist;
-    gainOut[0] = bestGain;
+    match.length = bestLength;
+    match.costPerByte = bestLength > 0 ? bestCopyCost / bestLength : 0;
+    match.dist = bestDist;
+    match.gain = bestGain;
     return bestLength;
   }
 
@@ -395,12 +475,10 @@ public class LzcompCompress {
   private void updateModel(int index) {
     byte c = buf[index];
     if (index > 0) {
-      HashNode hNode = new HashNode();
       byte prevC = buf[index - 1];
       int pos = ((prevC & 0xff) << 8) | (c & 0xff);
-      hNode.index = index - 1;
-      hNode.next = hashTable[pos];
-      hashTable[pos] = hNode;
+      prev[index - 1] = head[pos];
+      head[pos] = index - 1;
     }
   }
 
@@ -409,7 +487,28 @@ public class LzcompCompress {
   }
   
   public static byte[] compress(byte[] dataIn) {
-    LzcompCompress compressor = new LzcompCompress();
+    return compress(dataIn, DEFAULT_MAX_CHAIN_LENGTH, LAZY_MATCH_FULL);
+  }
+
+  /**
+   * Compresses the data with the match finding effort given. Shorter chains
+   * and lower lazy matching levels are faster but compress less well.
+   *
+   * @param dataIn the data to compress
+   * @param maxChainLength the maximum number of earlier positions to examine
+   *        for each match
+   * @param lazyMatchLevel one of {@link #LAZY_MATCH_NONE},
+   *        {@link #LAZY_MATCH_NEXT} or {@link #LAZY_MATCH_FULL}
+   * @return the compressed data
+   */
+  public static byte[] compress(byte[] dataIn, int maxChainLength, int lazyMatchLevel) {
+    if (maxChainLength < 1) {
+      throw new IllegalArgumentException("Chain length must be at least 1.");
+    }
+    if (lazyMatchLevel < LAZY_MATCH_NONE || lazyMatchLevel > LAZY_MATCH_FULL) {
+      throw new IllegalArgumentException("Unknown lazy matching level " + lazyMatchLevel + ".");
+    }
+    LzcompCompress compressor = new LzcompCompress(maxChainLength, lazyMatchLevel);
     compressor.write(dataIn);
     return compressor.toByteArray();
   }
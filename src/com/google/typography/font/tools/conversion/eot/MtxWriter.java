@@ -18,15 +18,22 @@ package com.google.typography.font.tools.conversion.eot;
 
 import com.google.typography.font.sfntly.Font;
 import com.google.typography.font.sfntly.Tag;
+import com.google.typography.font.sfntly.Tasks;
 import com.google.typography.font.sfntly.table.Table;
 import com.google.typography.font.sfntly.table.core.FontHeaderTable;
 import com.google.typography.font.sfntly.table.core.HorizontalDeviceMetricsTable;
 import com.google.typography.font.sfntly.table.truetype.ControlValueTable;
+import com.google.typography.font.sfntly.table.truetype.LocaTable;
 
+import java.io.ByteArrayOutputStream;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
 
 /**
  * @author Raph Levien
@@ -34,6 +41,27 @@ import java.util.Set;
 public class MtxWriter {
   
   private static final Set<Integer> REMOVE_TABLES = createRemoveTables();
+
+  // number of glyphs encoded by each task when encoding on an executor
+  private static final int GLYPH_RANGE_SIZE = 256;
+
+  private final ExecutorService executor;
+
+  public MtxWriter() {
+    this(null);
+  }
+
+  /**
+   * Constructor. The glyphs are encoded in ranges and the three MTX blocks are
+   * compressed as separate tasks on the executor given. The result is the same
+   * as when all the work is done on the calling thread.
+   *
+   * @param executor the executor to use; null to do all work on the calling
+   *        thread
+   */
+  public MtxWriter(ExecutorService executor) {
+    this.executor = executor;
+  }
   
   private static Set<Integer> createRemoveTables() {
     Set<Integer> result = new HashSet<Integer>();
@@ -57,9 +85,8 @@ public class MtxWriter {
     FontHeaderTable srcHead = sfntlyFont.getTable(Tag.head);
     fontBuilder.getHeadBuilder().initFrom(srcHead);
 
-    GlyfEncoder glyfEncoder = new GlyfEncoder();
-    glyfEncoder.encode(sfntlyFont);
-    fontBuilder.addTableBytes(Tag.glyf, glyfEncoder.getGlyfBytes());
+    byte[][] glyfStreams = this.encodeGlyphs(sfntlyFont);
+    fontBuilder.addTableBytes(Tag.glyf, glyfStreams[0]);
     fontBuilder.addTable(Tag.loca, null);
 
     ControlValueTable cvtTable = sfntlyFont.getTable(Tag.cvt);
@@ -75,9 +102,53 @@ public class MtxWriter {
     }
     
     byte[] block1 = fontBuilder.build();
-    byte[] block2 = glyfEncoder.getPushBytes();
-    byte[] block3 = glyfEncoder.getCodeBytes();
-    return packMtx(block1, block2, block3);
+    byte[] block2 = glyfStreams[1];
+    byte[] block3 = glyfStreams[2];
+    return this.packMtx(block1, block2, block3);
+  }
+
+  /**
+   * Encodes the glyphs of the font, splitting them into ranges that are
+   * encoded concurrently if there is an executor.
+   *
+   * @return the glyf, push and code streams
+   */
+  private byte[][] encodeGlyphs(final Font sfntlyFont) {
+    if (this.executor == null) {
+      GlyfEncoder glyfEncoder = new GlyfEncoder();
+      glyfEncoder.encode(sfntlyFont);
+      return new byte[][] {
+          glyfEncoder.getGlyfBytes(), glyfEncoder.getPushBytes(), glyfEncoder.getCodeBytes()};
+    }
+    LocaTable loca = sfntlyFont.getTable(Tag.loca);
+    int numGlyphs = loca.numGlyphs();
+    List<Callable<GlyfEncoder>> tasks = new ArrayList<Callable<GlyfEncoder>>();
+    for (int start = 0; start < numGlyphs; start += GLYPH_RANGE_SIZE) {
+      final int startGlyph = start;
+      final int endGlyph = Math.min(start + GLYPH_RANGE_SIZE, numGlyphs);
+      tasks.add(new Callable<GlyfEncoder>() {
+        @Override
+        public GlyfEncoder call() {
+          GlyfEncoder glyfEncoder = new GlyfEncoder();
+          glyfEncoder.encode(sfntlyFont, startGlyph, endGlyph);
+          return glyfEncoder;
+        }
+      });
+    }
+    // the ranges are concatenated in glyph order
+    ByteArrayOutputStream glyfStream = new ByteArrayOutputStream();
+    ByteArrayOutputStream pushStream = new ByteArrayOutputStream();
+    ByteArrayOutputStream codeStream = new ByteArrayOutputStream();
+    for (GlyfEncoder glyfEncoder : Tasks.invokeAll(this.executor, tasks)) {
+      byte[] glyfBytes = glyfEncoder.getGlyfBytes();
+      glyfStream.write(glyfBytes, 0, glyfBytes.length);
+      byte[] pushBytes = glyfEncoder.getPushBytes();
+      pushStream.write(pushBytes, 0, pushBytes.length);
+      byte[] codeBytes = glyfEncoder.getCodeBytes();
+      codeStream.write(codeBytes, 0, codeBytes.length);
+    }
+    return new byte[][] {
+        glyfStream.toByteArray(), pushStream.toByteArray(), codeStream.toByteArray()};
   }
 
   private static void writeBE24(byte[] data, int value, int off) {
@@ -89,12 +160,32 @@ public class MtxWriter {
   /**
    * Compress the blocks and pack them into the final container, as per section 2 of the spec.
    */
-  private static byte[] packMtx(byte[] block1, byte[] block2, byte[] block3) {
+  private byte[] packMtx(byte[] block1, byte[] block2, byte[] block3) {
     int copyDist = Math.max(block1.length, Math.max(block2.length, block3.length)) +
         LzcompCompress.getPreloadSize();
-    byte[] compressed1 = LzcompCompress.compress(block1);
-    byte[] compressed2 = LzcompCompress.compress(block2);
-    byte[] compressed3 = LzcompCompress.compress(block3);
+    byte[] compressed1;
+    byte[] compressed2;
+    byte[] compressed3;
+    if (this.executor == null) {
+      compressed1 = LzcompCompress.compress(block1);
+      compressed2 = LzcompCompress.compress(block2);
+      compressed3 = LzcompCompress.compress(block3);
+    } else {
+      // the blocks are compressed independently of each other
+      List<Callable<byte[]>> tasks = new ArrayList<Callable<byte[]>>(3);
+      for (final byte[] block : new byte[][] {block1, block2, block3}) {
+        tasks.add(new Callable<byte[]>() {
+          @Override
+          public byte[] call() {
+            return LzcompCompress.compress(block);
+          }
+        });
+      }
+      List<byte[]> compressed = Tasks.invokeAll(this.executor, tasks);
+      compressed1 = compressed.get(0);
+      compressed2 = compressed.get(1);
+      compressed3 = compressed.get(2);
+    }
     int resultSize = 10 + compressed1.length + compressed2.length + compressed3.length;
     byte[] result = new byte[resultSize];
     result[0] = 3;
@@ -0,0 +1,34 @@
+/*
+ * Copyright 2011 Google Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.typography.font.tools.conversion.woff;
+
+/**
+ * A compressor that produces a Brotli compressed data stream as defined in
+ * RFC 7932. This allows a native or otherwise more thorough Brotli
+ * implementation to be used by {@link Woff2Writer} in place of the pure Java
+ * {@link BrotliEncoder}.
+ */
+public interface BrotliCompressor {
+
+  /**
+   * Compresses the data into a complete Brotli stream.
+   *
+   * @param data the data to compress
+   * @return the compressed stream
+   */
+  byte[] compress(byte[] data);
+}
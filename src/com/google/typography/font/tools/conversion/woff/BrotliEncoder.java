@@ -0,0 +1,642 @@
+/*
+ * Copyright 2011 Google Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.typography.font.tools.conversion.woff;
+
+import java.util.Arrays;
+import java.util.PriorityQueue;
+
+/**
+ * A pure Java Brotli compressor producing streams as defined in RFC 7932.
+ *
+ * <p>The data is split into meta-blocks which are LZ77 compressed with a hash
+ * chain match finder and then coded with a single prefix code each for the
+ * literals, the insert and copy lengths and the distances. The static
+ * dictionary, context modeling and block switching are not used so the output
+ * is larger than that of the reference encoder but it can be read by any
+ * conforming decoder. Meta-blocks that don't compress are stored.
+ *
+ * <p>An encoder holds no state between calls and may be shared between
+ * threads.
+ */
+public final class BrotliEncoder implements BrotliCompressor {
+
+  /**
+   * The default maximum number of earlier positions examined when looking for
+   * a match.
+   */
+  public static final int DEFAULT_MAX_CHAIN_LENGTH = 64;
+
+  private static final int WINDOW_BITS = 22;
+  private static final int MAX_DISTANCE = (1 << WINDOW_BITS) - 16;
+  private static final int META_BLOCK_SIZE = 1 << 20;
+
+  private static final int MIN_MATCH = 4;
+  private static final int MAX_MATCH = 1 << 16;
+  private static final int LAZY_MATCH_LIMIT = 32;
+  private static final int HASH_BITS = 16;
+  private static final int NIL = -1;
+
+  private static final int NUM_LITERAL_SYMBOLS = 256;
+  private static final int NUM_COMMAND_SYMBOLS = 704;
+  private static final int NUM_DISTANCE_SYMBOLS = 64;
+  private static final int NUM_CODE_LENGTH_SYMBOLS = 18;
+  private static final int MAX_CODE_LENGTH = 15;
+  private static final int MAX_CODE_LENGTH_CODE_LENGTH = 5;
+  private static final int REPEAT_ZERO_CODE_LENGTH = 17;
+
+  private static final int[] INSERT_BASE = {
+    0, 1, 2, 3, 4, 5, 6, 8, 10, 14, 18, 26, 34, 50, 66, 98,
+    130, 194, 322, 578, 1090, 2114, 6210, 22594};
+  private static final int[] INSERT_EXTRA = {
+    0, 0, 0, 0, 0, 0, 1, 1, 2, 2, 3, 3, 4, 4, 5, 5,
+    6, 7, 8, 9, 10, 12, 14, 24};
+  private static final int[] COPY_BASE = {
+    2, 3, 4, 5, 6, 7, 8, 9, 10, 12, 14, 18, 22, 30, 38, 54,
+    70, 102, 134, 198, 326, 582, 1094, 2118};
+  private static final int[] COPY_EXTRA = {
+    0, 0, 0, 0, 0, 0, 0, 0, 1, 1, 2, 2, 3, 3, 4, 4,
+    5, 5, 6, 7, 8, 9, 10, 24};
+
+  // first command symbol for each insert range and copy range pair when the
+  // distance is coded explicitly
+  private static final int[][] COMMAND_CELL = {
+    {128, 192, 384},
+    {256, 320, 512},
+    {448, 576, 640}};
+
+  private static final int[] CODE_LENGTH_ORDER = {
+    1, 2, 3, 4, 0, 5, 17, 6, 16, 7, 8, 9, 10, 11, 12, 13, 14, 15};
+  // the static prefix code for the code length code lengths as
+  // (bits, bit count) pairs indexed by the code length
+  private static final int[][] CODE_LENGTH_CODE_LENGTH_CODE = {
+    {0, 2}, {7, 4}, {3, 3}, {2, 2}, {1, 2}, {15, 4}};
+
+  private final int maxChainLength;
+
+  /**
+   * Constructor using the default maximum chain length.
+   */
+  public BrotliEncoder() {
+    this(DEFAULT_MAX_CHAIN_LENGTH);
+  }
+
+  /**
+   * Constructor.
+   *
+   * @param maxChainLength the maximum number of earlier positions examined when
+   *        looking for a match; longer chains find better matches but take
+   *        longer
+   * @throws IllegalArgumentException if the chain length is less than one
+   */
+  public BrotliEncoder(int maxChainLength) {
+    if (maxChainLength < 1) {
+      throw new IllegalArgumentException("Invalid chain length " + maxChainLength + ".");
+    }
+    this.maxChainLength = maxChainLength;
+  }
+
+  @Override
+  public byte[] compress(byte[] data) {
+    BitWriter out = new BitWriter(data.length / 2 + 16);
+    // WBITS: 1 followed by WINDOW_BITS - 17
+    out.writeBits(1, 1);
+    out.writeBits(WINDOW_BITS - 17, 3);
+
+    int[] head = new int[1 << HASH_BITS];
+    Arrays.fill(head, NIL);
+    int[] prev = new int[data.length];
+    for (int start = 0; start < data.length; start += META_BLOCK_SIZE) {
+      int end = Math.min(data.length, start + META_BLOCK_SIZE);
+      Commands commands = findCommands(data, start, end, head, prev);
+      writeMetaBlock(out, data, start, end, commands);
+    }
+    // ISLAST and ISLASTEMPTY
+    out.writeBits(1, 1);
+    out.writeBits(1, 1);
+    return out.toByteArray();
+  }
+
+  private static int hash(byte[] data, int pos) {
+    int v = (data[pos] & 0xff) | (data[pos + 1] & 0xff) << 8 | (data[pos + 2] & 0xff) << 16
+        | (data[pos + 3] & 0xff) << 24;
+    return (v * 0x1e35a7bd) >>> (32 - HASH_BITS);
+  }
+
+  /**
+   * Finds the commands for the meta-block covering the data from start to
+   * end. Matches may refer back into earlier meta-blocks but never extend
+   * beyond the end of this one. A match is deferred by a byte while the next
+   * position has a longer one.
+   */
+  private Commands findCommands(byte[] data, int start, int end, int[] head, int[] prev) {
+    Commands commands = new Commands();
+    int literalStart = start;
+    int pos = start;
+    while (pos < end) {
+      long match = findMatch(data, pos, end, head, prev);
+      int length = (int) (match >>> 32);
+      if (length < MIN_MATCH) {
+        pos++;
+        continue;
+      }
+      int inserted = pos;
+      while (length < LAZY_MATCH_LIMIT && pos + 1 < end) {
+        long next = findMatch(data, pos + 1, end, head, prev);
+        inserted = pos + 1;
+        if ((int) (next >>> 32) <= length) {
+          break;
+        }
+        pos++;
+        match = next;
+        length = (int) (match >>> 32);
+      }
+      commands.add(pos - literalStart, length, (int) match);
+      int matchEnd = pos + length;
+      int hashEnd = Math.min(matchEnd, data.length - MIN_MATCH + 1);
+      for (int i = inserted + 1; i < hashEnd; i++) {
+        insert(data, i, head, prev);
+      }
+      pos = matchEnd;
+      literalStart = pos;
+    }
+    if (literalStart < end) {
+      commands.add(end - literalStart, 0, 0);
+    }
+    return commands;
+  }
+
+  /**
+   * Finds the longest match for the data at the position and adds the
+   * position to the hash chains.
+   *
+   * @return the match length in the high 32 bits and the distance in the low
+   *         32 bits; a length of zero if there is no match
+   */
+  private long findMatch(byte[] data, int pos, int end, int[] head, int[] prev) {
+    if (pos > data.length - MIN_MATCH) {
+      return 0;
+    }
+    int h = hash(data, pos);
+    int maxLength = Math.min(MAX_MATCH, end - pos);
+    int bestLength = 0;
+    int bestDistance = 0;
+    if (maxLength >= MIN_MATCH) {
+      int candidate = head[h];
+      for (int chain = this.maxChainLength; candidate != NIL && chain > 0; chain--) {
+        int distance = pos - candidate;
+        if (distance > MAX_DISTANCE) {
+          break;
+        }
+        if (data[candidate + bestLength] == data[pos + bestLength]) {
+          int length = 0;
+          while (length < maxLength && data[candidate + length] == data[pos + length]) {
+            length++;
+          }
+          if (length > bestLength) {
+            bestLength = length;
+            bestDistance = distance;
+            if (length == maxLength) {
+              break;
+            }
+          }
+        }
+        candidate = prev[candidate];
+      }
+    }
+    prev[pos] = head[h];
+    head[h] = pos;
+    return ((long) bestLength << 32) | bestDistance;
+  }
+
+  private static void insert(byte[] data, int pos, int[] head, int[] prev) {
+    int h = hash(data, pos);
+    prev[pos] = head[h];
+    head[h] = pos;
+  }
+
+  private static int insertCode(int length) {
+    int code = INSERT_BASE.length - 1;
+    while (INSERT_BASE[code] > length) {
+      code--;
+    }
+    return code;
+  }
+
+  private static int copyCode(int length) {
+    int code = COPY_BASE.length - 1;
+    while (COPY_BASE[code] > length) {
+      code--;
+    }
+    return code;
+  }
+
+  private static int commandSymbol(int insertCode, int copyCode) {
+    return COMMAND_CELL[insertCode >> 3][copyCode >> 3] + ((insertCode & 7) << 3)
+        + (copyCode & 7);
+  }
+
+  /**
+   * The number of extra bits for a distance. The distance symbol is 16 plus
+   * twice the result less one plus the low bit of the distance prefix.
+   */
+  private static int distanceBits(int distance) {
+    return 31 - Integer.numberOfLeadingZeros(distance + 3) - 1;
+  }
+
+  private static int distanceSymbol(int distance) {
+    int d = distance + 3;
+    int bits = distanceBits(distance);
+    int prefix = (d >> bits) & 1;
+    return 16 + 2 * (bits - 1) + prefix;
+  }
+
+  private static int distanceExtra(int distance) {
+    int d = distance + 3;
+    int bits = distanceBits(distance);
+    int prefix = (d >> bits) & 1;
+    return d - ((2 + prefix) << bits);
+  }
+
+  private static void writeMetaBlock(
+      BitWriter out, byte[] data, int start, int end, Commands commands) {
+    int[] literalHistogram = new int[NUM_LITERAL_SYMBOLS];
+    int[] commandHistogram = new int[NUM_COMMAND_SYMBOLS];
+    int[] distanceHistogram = new int[NUM_DISTANCE_SYMBOLS];
+    long extraBits = 0;
+    int pos = start;
+    for (int i = 0; i < commands.size; i++) {
+      int insertLength = commands.insertLengths[i];
+      int copyLength = commands.copyLengths[i];
+      int insertCode = insertCode(insertLength);
+      int copyCode = copyLength == 0 ? 0 : copyCode(copyLength);
+      commandHistogram[commandSymbol(insertCode, copyCode)]++;
+      extraBits += INSERT_EXTRA[insertCode] + COPY_EXTRA[copyCode];
+      for (int j = 0; j < insertLength; j++) {
+        literalHistogram[data[pos + j] & 0xff]++;
+      }
+      pos += insertLength + copyLength;
+      if (copyLength != 0) {
+        int distance = commands.distances[i];
+        distanceHistogram[distanceSymbol(distance)]++;
+        extraBits += distanceBits(distance);
+      }
+    }
+
+    int[] literalLengths = codeLengths(literalHistogram, MAX_CODE_LENGTH);
+    int[] commandLengths = codeLengths(commandHistogram, MAX_CODE_LENGTH);
+    int[] distanceLengths = codeLengths(distanceHistogram, MAX_CODE_LENGTH);
+    long bits = extraBits + codedSize(literalHistogram, literalLengths)
+        + codedSize(commandHistogram, commandLengths)
+        + codedSize(distanceHistogram, distanceLengths);
+    int length = end - start;
+    // allow for the prefix code definitions which are small in comparison
+    if (bits / 8 + 3 * 128 >= length) {
+      writeMetaBlockHeader(out, length, true);
+      out.alignToByte();
+      out.writeBytes(data, start, length);
+      return;
+    }
+
+    writeMetaBlockHeader(out, length, false);
+    out.writeBits(0, 1); // NBLTYPESL = 1
+    out.writeBits(0, 1); // NBLTYPESI = 1
+    out.writeBits(0, 1); // NBLTYPESD = 1
+    out.writeBits(0, 2); // NPOSTFIX
+    out.writeBits(0, 4); // NDIRECT
+    out.writeBits(0, 2); // context mode for the one literal block type
+    out.writeBits(0, 1); // NTREESL = 1
+    out.writeBits(0, 1); // NTREESD = 1
+    writePrefixCode(out, literalHistogram, literalLengths, 8);
+    writePrefixCode(out, commandHistogram, commandLengths, 10);
+    writePrefixCode(out, distanceHistogram, distanceLengths, 6);
+
+    int[] literalCodes = canonicalCodes(literalLengths);
+    int[] commandCodes = canonicalCodes(commandLengths);
+    int[] distanceCodes = canonicalCodes(distanceLengths);
+    pos = start;
+    for (int i = 0; i < commands.size; i++) {
+      int insertLength = commands.insertLengths[i];
+      int copyLength = commands.copyLengths[i];
+      int insertCode = insertCode(insertLength);
+      int copyCode = copyLength == 0 ? 0 : copyCode(copyLength);
+      int symbol = commandSymbol(insertCode, copyCode);
+      out.writeBits(commandCodes[symbol], commandLengths[symbol]);
+      out.writeBits(insertLength - INSERT_BASE[insertCode], INSERT_EXTRA[insertCode]);
+      if (copyLength != 0) {
+        out.writeBits(copyLength - COPY_BASE[copyCode], COPY_EXTRA[copyCode]);
+      }
+      for (int j = 0; j < insertLength; j++) {
+        int literal = data[pos + j] & 0xff;
+        out.writeBits(literalCodes[literal], literalLengths[literal]);
+      }
+      pos += insertLength + copyLength;
+      if (copyLength != 0) {
+        int distance = commands.distances[i];
+        symbol = distanceSymbol(distance);
+        out.writeBits(distanceCodes[symbol], distanceLengths[symbol]);
+        out.writeBits(distanceExtra(distance), distanceBits(distance));
+      }
+    }
+  }
+
+  private static void writeMetaBlockHeader(BitWriter out, int length, boolean uncompressed) {
+    out.writeBits(0, 1); // ISLAST
+    int nibbles = Math.max(4, (32 - Integer.numberOfLeadingZeros(length - 1) + 3) / 4);
+    out.writeBits(nibbles - 4, 2);
+    out.writeBits(length - 1, nibbles * 4);
+    out.writeBits(uncompressed ? 1 : 0, 1);
+  }
+
+  private static long codedSize(int[] histogram, int[] lengths) {
+    long size = 0;
+    for (int i = 0; i < histogram.length; i++) {
+      size += (long) histogram[i] * lengths[i];
+    }
+    return size;
+  }
+
+  /**
+   * Writes the definition of a prefix code.
+   *
+   * @param out the writer
+   * @param histogram the symbol counts the code was built from
+   * @param lengths the code lengths for the alphabet; either all zero when at
+   *        most one symbol is used or a complete code
+   * @param symbolBits the number of bits used for a symbol in a simple prefix
+   *        code of the alphabet
+   */
+  private static void writePrefixCode(
+      BitWriter out, int[] histogram, int[] lengths, int symbolBits) {
+    int last = -1;
+    int used = 0;
+    for (int i = 0; i < lengths.length; i++) {
+      if (lengths[i] != 0) {
+        last = i;
+        used++;
+      }
+    }
+    if (used == 0) {
+      // a simple prefix code with one symbol which is coded with zero bits
+      out.writeBits(1, 2); // simple
+      out.writeBits(0, 2); // NSYM - 1
+      out.writeBits(singleSymbol(histogram), symbolBits);
+      return;
+    }
+
+    // run length code the code lengths with literal lengths and zero runs
+    int[] symbols = new int[last + 1];
+    int[] extras = new int[last + 1];
+    int count = 0;
+    int[] codeLengthHistogram = new int[NUM_CODE_LENGTH_SYMBOLS];
+    boolean previousRepeat = false;
+    for (int i = 0; i <= last;) {
+      int run = 0;
+      if (lengths[i] == 0) {
+        while (i + run <= last && lengths[i + run] == 0) {
+          run++;
+        }
+      }
+      if (run >= 3 && !previousRepeat) {
+        run = Math.min(run, 10);
+        symbols[count] = REPEAT_ZERO_CODE_LENGTH;
+        extras[count++] = run - 3;
+        previousRepeat = true;
+        i += run;
+      } else {
+        symbols[count++] = lengths[i];
+        previousRepeat = false;
+        i++;
+      }
+      codeLengthHistogram[symbols[count - 1]]++;
+    }
+
+    int[] codeLengthLengths = codeLengths(codeLengthHistogram, MAX_CODE_LENGTH_CODE_LENGTH);
+    int codeLengthsUsed = 0;
+    for (int i = 0; i < codeLengthLengths.length; i++) {
+      if (codeLengthHistogram[i] != 0) {
+        codeLengthsUsed++;
+      }
+    }
+    int lastOrdered = NUM_CODE_LENGTH_SYMBOLS - 1;
+    if (codeLengthsUsed == 1) {
+      // a lone code length symbol takes no bits but has to be given a length
+      // and the decoder then expects all of the code length code lengths
+      codeLengthLengths[singleSymbol(codeLengthHistogram)] = 1;
+    } else {
+      while (codeLengthLengths[CODE_LENGTH_ORDER[lastOrdered]] == 0) {
+        lastOrdered--;
+      }
+    }
+
+    out.writeBits(0, 2); // HSKIP
+    for (int i = 0; i <= lastOrdered; i++) {
+      int[] code = CODE_LENGTH_CODE_LENGTH_CODE[codeLengthLengths[CODE_LENGTH_ORDER[i]]];
+      out.writeBits(code[0], code[1]);
+    }
+    if (codeLengthsUsed == 1) {
+      Arrays.fill(codeLengthLengths, 0);
+    }
+    int[] codeLengthCodes = canonicalCodes(codeLengthLengths);
+    for (int i = 0; i < count; i++) {
+      int symbol = symbols[i];
+      out.writeBits(codeLengthCodes[symbol], codeLengthLengths[symbol]);
+      if (symbol == REPEAT_ZERO_CODE_LENGTH) {
+        out.writeBits(extras[i], 3);
+      }
+    }
+  }
+
+  private static int singleSymbol(int[] histogram) {
+    for (int i = 0; i < histogram.length; i++) {
+      if (histogram[i] != 0) {
+        return i;
+      }
+    }
+    return 0;
+  }
+
+  /**
+   * Computes the code lengths of a prefix code for the histogram. If fewer
+   * than two symbols are used all of the lengths are zero, otherwise the code
+   * is complete and no longer than the maximum length.
+   */
+  static int[] codeLengths(int[] histogram, int maxLength) {
+    int[] lengths = new int[histogram.length];
+    int used = 0;
+    for (int count : histogram) {
+      if (count != 0) {
+        used++;
+      }
+    }
+    if (used < 2) {
+      return lengths;
+    }
+    int[] counts = histogram.clone();
+    while (!huffmanLengths(counts, lengths, maxLength)) {
+      // flatten the distribution until the tree is shallow enough
+      for (int i = 0; i < counts.length; i++) {
+        if (counts[i] != 0) {
+          counts[i] = (counts[i] + 1) >> 1;
+        }
+      }
+    }
+    return lengths;
+  }
+
+  private static boolean huffmanLengths(int[] counts, int[] lengths, int maxLength) {
+    int n = counts.length;
+    // nodes 0 to n - 1 are the leaves and the internal nodes follow
+    int[] parent = new int[2 * n];
+    PriorityQueue<Long> queue = new PriorityQueue<Long>();
+    for (int i = 0; i < n; i++) {
+      if (counts[i] != 0) {
+        queue.add(((long) counts[i] << 32) | i);
+      }
+    }
+    int next = n;
+    while (queue.size() > 1) {
+      long a = queue.poll();
+      long b = queue.poll();
+      parent[(int) a] = next;
+      parent[(int) b] = next;
+      queue.add(((a >>> 32) + (b >>> 32) << 32) | next);
+      next++;
+    }
+    int root = next - 1;
+    int[] depth = new int[2 * n];
+    for (int node = root - 1; node >= n; node--) {
+      depth[node] = depth[parent[node]] + 1;
+    }
+    for (int i = 0; i < n; i++) {
+      if (counts[i] != 0) {
+        int length = depth[parent[i]] + 1;
+        if (length > maxLength) {
+          return false;
+        }
+        lengths[i] = length;
+      } else {
+        lengths[i] = 0;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Computes the canonical codes for the code lengths with the bits reversed
+   * so that they can be written least significant bit first.
+   */
+  private static int[] canonicalCodes(int[] lengths) {
+    int[] lengthCounts = new int[MAX_CODE_LENGTH + 1];
+    for (int length : lengths) {
+      lengthCounts[length]++;
+    }
+    lengthCounts[0] = 0;
+    int[] nextCode = new int[MAX_CODE_LENGTH + 1];
+    int code = 0;
+    for (int bits = 1; bits <= MAX_CODE_LENGTH; bits++) {
+      code = (code + lengthCounts[bits - 1]) << 1;
+      nextCode[bits] = code;
+    }
+    int[] codes = new int[lengths.length];
+    for (int i = 0; i < lengths.length; i++) {
+      int length = lengths[i];
+      if (length != 0) {
+        codes[i] = Integer.reverse(nextCode[length]++) >>> (32 - length);
+      }
+    }
+    return codes;
+  }
+
+  /**
+   * The insert lengths, copy lengths and distances of the commands for a
+   * meta-block. A copy length of zero marks the final insert only command.
+   */
+  private static final class Commands {
+    int size;
+    int[] insertLengths = new int[64];
+    int[] copyLengths = new int[64];
+    int[] distances = new int[64];
+
+    void add(int insertLength, int copyLength, int distance) {
+      if (this.size == this.insertLengths.length) {
+        int capacity = this.size * 2;
+        this.insertLengths = Arrays.copyOf(this.insertLengths, capacity);
+        this.copyLengths = Arrays.copyOf(this.copyLengths, capacity);
+        this.distances = Arrays.copyOf(this.distances, capacity);
+      }
+      this.insertLengths[this.size] = insertLength;
+      this.copyLengths[this.size] = copyLength;
+      this.distances[this.size] = distance;
+      this.size++;
+    }
+  }
+
+  /**
+   * Writes bits least significant bit first into a growable byte array.
+   */
+  private static final class BitWriter {
+    private byte[] buffer;
+    private int length;
+    private long bits;
+    private int bitCount;
+
+    BitWriter(int capacity) {
+      this.buffer = new byte[Math.max(16, capacity)];
+    }
+
+    void writeBits(int value, int count) {
+      this.bits |= (value & 0xffffffffL) << this.bitCount;
+      this.bitCount += count;
+      while (this.bitCount >= 8) {
+        writeByte((int) this.bits);
+        this.bits >>>= 8;
+        this.bitCount -= 8;
+      }
+    }
+
+    void alignToByte() {
+      if (this.bitCount > 0) {
+        writeByte((int) this.bits);
+        this.bits = 0;
+        this.bitCount = 0;
+      }
+    }
+
+    void writeBytes(byte[] b, int offset, int count) {
+      ensureCapacity(count);
+      System.arraycopy(b, offset, this.buffer, this.length, count);
+      this.length += count;
+    }
+
+    private void writeByte(int b) {
+      ensureCapacity(1);
+      this.buffer[this.length++] = (byte) b;
+    }
+
+    private void ensureCapacity(int count) {
+      if (this.length + count > this.buffer.length) {
+        this.buffer = Arrays.copyOf(
+            this.buffer, Math.max(this.buffer.length * 2, this.length + count));
+      }
+    }
+
+    byte[] toByteArray() {
+      alignToByte();
+      return Arrays.copyOf(this.buffer, this.length);
+    }
+  }
+}
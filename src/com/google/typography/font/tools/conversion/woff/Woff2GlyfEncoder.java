@@ -0,0 +1,269 @@
+/*
+ * Copyright 2011 Google Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.typography.font.tools.conversion.woff;
+
+import com.google.typography.font.sfntly.data.FontData;
+import com.google.typography.font.sfntly.data.ReadableFontData;
+import com.google.typography.font.sfntly.table.truetype.CompositeGlyph;
+import com.google.typography.font.sfntly.table.truetype.Glyph;
+import com.google.typography.font.sfntly.table.truetype.GlyphTable;
+import com.google.typography.font.sfntly.table.truetype.LocaTable;
+import com.google.typography.font.sfntly.table.truetype.SimpleGlyph;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+
+/**
+ * Encodes the glyf and loca tables into the transformed glyf table of WOFF 2.0
+ * as per section 5.1 of the spec. The glyph data is split into separate
+ * streams for the contour counts, point counts, point flags, coordinates,
+ * composite glyph records, bounding boxes and instructions. The loca table is
+ * rebuilt by the decoder and so has no data of its own.
+ */
+final class Woff2GlyfEncoder {
+
+  private static final int HEADER_SIZE = 4 * FontData.DataSize.USHORT.size()
+      + 7 * FontData.DataSize.ULONG.size();
+  private static final int COMPOSITE_RECORDS_START = 5 * FontData.DataSize.SHORT.size();
+
+  private final ByteArrayOutputStream nContourStream = new ByteArrayOutputStream();
+  private final ByteArrayOutputStream nPointsStream = new ByteArrayOutputStream();
+  private final ByteArrayOutputStream flagStream = new ByteArrayOutputStream();
+  private final ByteArrayOutputStream glyphStream = new ByteArrayOutputStream();
+  private final ByteArrayOutputStream compositeStream = new ByteArrayOutputStream();
+  private final ByteArrayOutputStream bboxStream = new ByteArrayOutputStream();
+  private final ByteArrayOutputStream instructionStream = new ByteArrayOutputStream();
+
+  private byte[] bboxBitmap;
+  private int[] xMins;
+
+  /**
+   * Encodes the glyphs.
+   *
+   * @param glyf the glyph table
+   * @param loca the loca table for the glyph table
+   * @param indexFormat the index to loc format from the head table
+   * @return the transformed glyf table
+   */
+  byte[] encode(GlyphTable glyf, LocaTable loca, int indexFormat) {
+    int numGlyphs = loca.numGlyphs();
+    this.bboxBitmap = new byte[((numGlyphs + 31) >> 5) << 2];
+    this.xMins = new int[numGlyphs];
+    try {
+      for (int glyphId = 0; glyphId < numGlyphs; glyphId++) {
+        int length = loca.glyphLength(glyphId);
+        Glyph glyph = length == 0 ? null : glyf.glyph(loca.glyphOffset(glyphId), length);
+        writeGlyph(glyphId, glyph);
+      }
+
+      ByteArrayOutputStream os = new ByteArrayOutputStream(HEADER_SIZE
+          + this.nContourStream.size() + this.nPointsStream.size() + this.flagStream.size()
+          + this.glyphStream.size() + this.compositeStream.size() + this.bboxBitmap.length
+          + this.bboxStream.size() + this.instructionStream.size());
+      writeUShort(os, 0); // reserved
+      writeUShort(os, 0); // option flags
+      writeUShort(os, numGlyphs);
+      writeUShort(os, indexFormat);
+      writeULong(os, this.nContourStream.size());
+      writeULong(os, this.nPointsStream.size());
+      writeULong(os, this.flagStream.size());
+      writeULong(os, this.glyphStream.size());
+      writeULong(os, this.compositeStream.size());
+      writeULong(os, this.bboxBitmap.length + this.bboxStream.size());
+      writeULong(os, this.instructionStream.size());
+      this.nContourStream.writeTo(os);
+      this.nPointsStream.writeTo(os);
+      this.flagStream.writeTo(os);
+      this.glyphStream.writeTo(os);
+      this.compositeStream.writeTo(os);
+      os.write(this.bboxBitmap, 0, this.bboxBitmap.length);
+      this.bboxStream.writeTo(os);
+      this.instructionStream.writeTo(os);
+      return os.toByteArray();
+    } catch (IOException e) {
+      throw new RuntimeException("Unexpected IOException writing glyph data.", e);
+    }
+  }
+
+  /**
+   * Gets the xMin of a glyph as the decoder will see it. This is zero for an
+   * empty glyph. Only valid after the glyphs have been encoded.
+   *
+   * @param glyphId the glyph id
+   * @return the xMin
+   */
+  int xMin(int glyphId) {
+    return this.xMins[glyphId];
+  }
+
+  private void writeGlyph(int glyphId, Glyph glyph) throws IOException {
+    if (glyph == null || glyph.dataLength() == 0 || glyph.numberOfContours() == 0) {
+      writeUShort(this.nContourStream, 0);
+    } else if (glyph instanceof SimpleGlyph) {
+      writeSimpleGlyph(glyphId, (SimpleGlyph) glyph);
+    } else if (glyph instanceof CompositeGlyph) {
+      writeCompositeGlyph(glyphId, (CompositeGlyph) glyph);
+    }
+  }
+
+  private void writeSimpleGlyph(int glyphId, SimpleGlyph glyph) throws IOException {
+    int numContours = glyph.numberOfContours();
+    writeUShort(this.nContourStream, numContours);
+    int xMin = Integer.MAX_VALUE;
+    int yMin = Integer.MAX_VALUE;
+    int xMax = Integer.MIN_VALUE;
+    int yMax = Integer.MIN_VALUE;
+    int lastX = 0;
+    int lastY = 0;
+    for (int i = 0; i < numContours; i++) {
+      int numPoints = glyph.numberOfPoints(i);
+      write255UShort(this.nPointsStream, numPoints);
+      for (int j = 0; j < numPoints; j++) {
+        int x = glyph.xCoordinate(i, j);
+        int y = glyph.yCoordinate(i, j);
+        writeTriplet(glyph.onCurve(i, j), x - lastX, y - lastY);
+        xMin = Math.min(xMin, x);
+        yMin = Math.min(yMin, y);
+        xMax = Math.max(xMax, x);
+        yMax = Math.max(yMax, y);
+        lastX = x;
+        lastY = y;
+      }
+    }
+    // the bounding box is only stored when it can't be calculated from the
+    // points
+    if (xMin != glyph.xMin() || yMin != glyph.yMin() || xMax != glyph.xMax()
+        || yMax != glyph.yMax()) {
+      writeBoundingBox(glyphId, glyph);
+    }
+    this.xMins[glyphId] = glyph.xMin();
+    writeInstructions(glyph);
+  }
+
+  private void writeCompositeGlyph(int glyphId, CompositeGlyph glyph) throws IOException {
+    writeUShort(this.nContourStream, -1);
+    writeBoundingBox(glyphId, glyph);
+    this.xMins[glyphId] = glyph.xMin();
+
+    boolean haveInstructions = false;
+    int end = COMPOSITE_RECORDS_START;
+    for (int i = 0; i < glyph.numGlyphs(); i++) {
+      int flags = glyph.flags(i);
+      haveInstructions |= (flags & CompositeGlyph.FLAG_WE_HAVE_INSTRUCTIONS) != 0;
+      end += 2 * FontData.DataSize.USHORT.size();
+      if ((flags & CompositeGlyph.FLAG_ARG_1_AND_2_ARE_WORDS) != 0) {
+        end += 2 * FontData.DataSize.SHORT.size();
+      } else {
+        end += 2 * FontData.DataSize.BYTE.size();
+      }
+      end += glyph.transformationSize(i);
+    }
+    ReadableFontData data = glyph.readFontData();
+    data.slice(COMPOSITE_RECORDS_START, end - COMPOSITE_RECORDS_START)
+        .copyTo(this.compositeStream);
+    if (haveInstructions) {
+      writeInstructions(glyph);
+    }
+  }
+
+  private void writeInstructions(Glyph glyph) throws IOException {
+    int size = glyph.instructionSize();
+    write255UShort(this.glyphStream, size);
+    if (size > 0) {
+      glyph.instructions().copyTo(this.instructionStream);
+    }
+  }
+
+  private void writeBoundingBox(int glyphId, Glyph glyph) {
+    this.bboxBitmap[glyphId >> 3] |= 0x80 >> (glyphId & 7);
+    writeUShort(this.bboxStream, glyph.xMin());
+    writeUShort(this.bboxStream, glyph.yMin());
+    writeUShort(this.bboxStream, glyph.xMax());
+    writeUShort(this.bboxStream, glyph.yMax());
+  }
+
+  // the same triplet encoding as MicroType Express, section 5.2 of the spec
+  private void writeTriplet(boolean onCurve, int x, int y) {
+    int absX = Math.abs(x);
+    int absY = Math.abs(y);
+    int onCurveBit = onCurve ? 0 : 128;
+    int xSignBit = (x < 0) ? 0 : 1;
+    int ySignBit = (y < 0) ? 0 : 1;
+    int xySignBits = xSignBit + 2 * ySignBit;
+    ByteArrayOutputStream os = this.glyphStream;
+
+    if (x == 0 && absY < 1280) {
+      this.flagStream.write(onCurveBit + ((absY & 0xf00) >> 7) + ySignBit);
+      os.write(absY & 0xff);
+    } else if (y == 0 && absX < 1280) {
+      this.flagStream.write(onCurveBit + 10 + ((absX & 0xf00) >> 7) + xSignBit);
+      os.write(absX & 0xff);
+    } else if (absX < 65 && absY < 65) {
+      this.flagStream.write(onCurveBit + 20 + ((absX - 1) & 0x30) + (((absY - 1) & 0x30) >> 2)
+          + xySignBits);
+      os.write((((absX - 1) & 0xf) << 4) | ((absY - 1) & 0xf));
+    } else if (absX < 769 && absY < 769) {
+      this.flagStream.write(onCurveBit + 84 + 12 * (((absX - 1) & 0x300) >> 8)
+          + (((absY - 1) & 0x300) >> 6) + xySignBits);
+      os.write((absX - 1) & 0xff);
+      os.write((absY - 1) & 0xff);
+    } else if (absX < 4096 && absY < 4096) {
+      this.flagStream.write(onCurveBit + 120 + xySignBits);
+      os.write(absX >> 4);
+      os.write(((absX & 0xf) << 4) | (absY >> 8));
+      os.write(absY & 0xff);
+    } else {
+      this.flagStream.write(onCurveBit + 124 + xySignBits);
+      os.write(absX >> 8);
+      os.write(absX & 0xff);
+      os.write(absY >> 8);
+      os.write(absY & 0xff);
+    }
+  }
+
+  private static void writeUShort(ByteArrayOutputStream os, int value) {
+    os.write(value >> 8);
+    os.write(value);
+  }
+
+  private static void writeULong(ByteArrayOutputStream os, int value) {
+    os.write(value >> 24);
+    os.write(value >> 16);
+    os.write(value >> 8);
+    os.write(value);
+  }
+
+  // 255UInt16 as per section 4.1 of the spec
+  static void write255UShort(ByteArrayOutputStream os, int value) {
+    if (value < 0) {
+      throw new IllegalArgumentException();
+    }
+    if (value < 253) {
+      os.write(value);
+    } else if (value < 506) {
+      os.write(255);
+      os.write(value - 253);
+    } else if (value < 762) {
+      os.write(254);
+      os.write(value - 506);
+    } else {
+      os.write(253);
+      os.write(value >> 8);
+      os.write(value & 0xff);
+    }
+  }
+}
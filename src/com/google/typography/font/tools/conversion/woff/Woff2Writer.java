@@ -0,0 +1,395 @@
+/*
+ * Copyright 2011 Google Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.typography.font.tools.conversion.woff;
+
+import com.google.typography.font.sfntly.Font;
+import com.google.typography.font.sfntly.Tag;
+import com.google.typography.font.sfntly.data.FontData;
+import com.google.typography.font.sfntly.data.ReadableFontData;
+import com.google.typography.font.sfntly.data.WritableFontData;
+import com.google.typography.font.sfntly.table.Table;
+import com.google.typography.font.sfntly.table.core.FontHeaderTable;
+import com.google.typography.font.sfntly.table.core.HorizontalMetricsTable;
+import com.google.typography.font.sfntly.table.truetype.GlyphTable;
+import com.google.typography.font.sfntly.table.truetype.LocaTable;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.TreeSet;
+
+/**
+ * Writes a font as WOFF 2.0. The glyf and loca tables are transformed into
+ * separate streams for the different kinds of glyph data and the hmtx table
+ * has the left side bearings removed where they match the glyph bounding
+ * boxes. All of the tables are then compressed together as one Brotli stream.
+ */
+public class Woff2Writer {
+
+  private static final long SIGNATURE = 0x774F4632;
+  private static final int WOFF2_HEADER_SIZE =
+      (10 * FontData.DataSize.ULONG.size()) + (4 * FontData.DataSize.USHORT.size());
+  private static final int SFNT_HEADER_SIZE =
+      FontData.DataSize.ULONG.size() + (4 * FontData.DataSize.USHORT.size());
+  private static final int SFNT_TABLE_RECORD_SIZE = 4 * FontData.DataSize.ULONG.size();
+
+  // offset and bit of the head table flag marking the font as having been
+  // through a lossless but not byte for byte preserving transform
+  private static final int HEAD_FLAGS_OFFSET = 16;
+  private static final int HEAD_FLAG_TRANSFORMED = 1 << 11;
+
+  private static final int ARBITRARY_TAG_INDEX = 0x3f;
+  private static final int NULL_TRANSFORM = 0;
+  private static final int GLYF_TRANSFORM = 0;
+  private static final int GLYF_NULL_TRANSFORM = 3;
+  private static final int HMTX_TRANSFORM = 1;
+
+  private static final int HMTX_NO_PROPORTIONAL_LSBS = 1;
+  private static final int HMTX_NO_MONOSPACE_LSBS = 1 << 1;
+
+  // tags with a short index in the table directory, in index order
+  private static final int[] KNOWN_TAGS;
+  static {
+    String[] tags = {
+      "cmap", "head", "hhea", "hmtx", "maxp", "name", "OS/2", "post", "cvt ", "fpgm", "glyf",
+      "loca", "prep", "CFF ", "VORG", "EBDT", "EBLC", "gasp", "hdmx", "kern", "LTSH", "PCLT",
+      "VDMX", "vhea", "vmtx", "BASE", "GDEF", "GPOS", "GSUB", "EBSC", "JSTF", "MATH", "CBDT",
+      "CBLC", "COLR", "CPAL", "SVG ", "sbix", "acnt", "avar", "bdat", "bloc", "bsln", "cvar",
+      "fdsc", "feat", "fmtx", "fvar", "gvar", "hsty", "just", "lcar", "mort", "morx", "opbd",
+      "prop", "trak", "Zapf", "Silf", "Glat", "Gloc", "Feat", "Sill"};
+    KNOWN_TAGS = new int[tags.length];
+    for (int i = 0; i < tags.length; i++) {
+      KNOWN_TAGS[i] = Tag.intValue(tags[i]);
+    }
+  }
+
+  private BrotliCompressor compressor = new BrotliEncoder();
+  private boolean transformGlyf = true;
+  private boolean transformHmtx = true;
+
+  /**
+   * Sets the compressor for the table data. By default the pure Java
+   * {@link BrotliEncoder} is used.
+   *
+   * @param compressor the compressor
+   */
+  public void setCompressor(BrotliCompressor compressor) {
+    if (compressor == null) {
+      throw new IllegalArgumentException("The compressor must not be null.");
+    }
+    this.compressor = compressor;
+  }
+
+  /**
+   * Sets whether the glyf and loca tables are transformed. They are by
+   * default.
+   *
+   * @param transform true to transform the tables; false to store them as
+   *        they are
+   */
+  public void setTransformGlyf(boolean transform) {
+    this.transformGlyf = transform;
+  }
+
+  /**
+   * Sets whether the hmtx table is transformed when the left side bearings
+   * can be recovered from the transformed glyf table. It is by default.
+   *
+   * @param transform true to transform the table when possible; false to store
+   *        it as it is
+   */
+  public void setTransformHmtx(boolean transform) {
+    this.transformHmtx = transform;
+  }
+
+  public WritableFontData convert(Font font) {
+    List<TableDirectoryEntry> entries = createTableDirectoryEntries(font);
+
+    int streamLength = 0;
+    for (TableDirectoryEntry entry : entries) {
+      streamLength += entry.getData().length;
+    }
+    byte[] stream = new byte[streamLength];
+    int offset = 0;
+    for (TableDirectoryEntry entry : entries) {
+      byte[] data = entry.getData();
+      System.arraycopy(data, 0, stream, offset, data.length);
+      offset += data.length;
+    }
+    byte[] compressed = this.compressor.compress(stream);
+
+    int directoryLength = 0;
+    for (TableDirectoryEntry entry : entries) {
+      directoryLength += entry.getEntryLength();
+    }
+    int length = align4(WOFF2_HEADER_SIZE + directoryLength + compressed.length);
+    WritableFontData writableFontData = WritableFontData.createWritableFontData(length);
+    int index = 0;
+    index += writeWoff2Header(writableFontData, index, entries, font, length, compressed.length);
+    for (TableDirectoryEntry entry : entries) {
+      index += entry.writeEntry(writableFontData, index);
+    }
+    writableFontData.writeBytes(index, compressed, 0, compressed.length);
+    return writableFontData;
+  }
+
+  private static int align4(int value) {
+    return (value + 3) & -4;
+  }
+
+  private int writeWoff2Header(WritableFontData writableFontData,
+      int start,
+      List<TableDirectoryEntry> entries,
+      Font font,
+      int length,
+      int compressedLength) {
+    FontHeaderTable head = font.getTable(Tag.head);
+    int revision = head == null ? 0 : head.fontRevision();
+    int totalSfntSize = SFNT_HEADER_SIZE + SFNT_TABLE_RECORD_SIZE * entries.size();
+    for (TableDirectoryEntry entry : entries) {
+      totalSfntSize += align4(entry.getOrigLength());
+    }
+
+    int index = start;
+    index += writableFontData.writeULong(index, SIGNATURE); // signature
+    index += writableFontData.writeULong(index, font.sfntVersion()); // flavor
+    index += writableFontData.writeULong(index, length); // length
+    index += writableFontData.writeUShort(index, entries.size()); // numTables
+    index += writableFontData.writeUShort(index, 0); // reserved
+    index += writableFontData.writeULong(index, totalSfntSize); // totalSfntSize
+    index += writableFontData.writeULong(index, compressedLength); // totalCompressedSize
+    index += writableFontData.writeUShort(index, (revision >> 16) & 0xffff); // majorVersion
+    index += writableFontData.writeUShort(index, revision & 0xffff); // minorVersion
+    index += writableFontData.writeULong(index, 0); // metaOffset
+    index += writableFontData.writeULong(index, 0); // metaLength
+    index += writableFontData.writeULong(index, 0); // metaOrigLength
+    index += writableFontData.writeULong(index, 0); // privOffset
+    index += writableFontData.writeULong(index, 0); // privLength
+    return WOFF2_HEADER_SIZE;
+  }
+
+  private List<TableDirectoryEntry> createTableDirectoryEntries(Font font) {
+    TreeSet<Integer> tags = new TreeSet<Integer>(font.tableMap().keySet());
+    tags.remove(Tag.DSIG);
+    List<Integer> order = new ArrayList<Integer>(tags);
+    // the decoder needs the loca table immediately after the glyf table
+    if (tags.contains(Tag.glyf) && tags.contains(Tag.loca)) {
+      order.remove(Integer.valueOf(Tag.loca));
+      order.add(order.indexOf(Tag.glyf) + 1, Tag.loca);
+    }
+
+    FontHeaderTable head = font.getTable(Tag.head);
+    GlyphTable glyf = font.getTable(Tag.glyf);
+    LocaTable loca = font.getTable(Tag.loca);
+    Woff2GlyfEncoder glyfEncoder = null;
+    byte[] transformedGlyf = null;
+    if (this.transformGlyf && head != null && glyf != null && loca != null) {
+      glyfEncoder = new Woff2GlyfEncoder();
+      transformedGlyf = glyfEncoder.encode(glyf, loca, head.indexToLocFormatAsInt());
+    }
+
+    List<TableDirectoryEntry> entries = new ArrayList<TableDirectoryEntry>(order.size());
+    for (int tag : order) {
+      Table table = font.getTable(tag);
+      TableDirectoryEntry entry = new TableDirectoryEntry();
+      entry.setTag(tag);
+      entry.setOrigLength(table.dataLength());
+      if (tag == Tag.glyf || tag == Tag.loca) {
+        if (glyfEncoder == null) {
+          entry.setTransformVersion(GLYF_NULL_TRANSFORM);
+          entry.setData(tableBytes(table));
+        } else {
+          entry.setTransformVersion(GLYF_TRANSFORM);
+          entry.setTransformedData(tag == Tag.glyf ? transformedGlyf : new byte[0]);
+        }
+      } else {
+        entry.setTransformVersion(NULL_TRANSFORM);
+        byte[] data = tableBytes(table);
+        if (tag == Tag.head && glyfEncoder != null) {
+          int flags = head.flagsAsInt() | HEAD_FLAG_TRANSFORMED;
+          data[HEAD_FLAGS_OFFSET] = (byte) (flags >> 8);
+          data[HEAD_FLAGS_OFFSET + 1] = (byte) flags;
+        }
+        entry.setData(data);
+        if (tag == Tag.hmtx && glyfEncoder != null && this.transformHmtx) {
+          byte[] transformed = transformHmtx((HorizontalMetricsTable) table, glyfEncoder,
+              loca.numGlyphs());
+          if (transformed != null) {
+            entry.setTransformVersion(HMTX_TRANSFORM);
+            entry.setTransformedData(transformed);
+          }
+        }
+      }
+      entries.add(entry);
+    }
+    return entries;
+  }
+
+  private static byte[] tableBytes(Table table) {
+    ReadableFontData data = table.readFontData();
+    byte[] b = new byte[table.dataLength()];
+    data.readBytes(0, b, 0, b.length);
+    return b;
+  }
+
+  /**
+   * Transforms the hmtx table by removing the left side bearings that are the
+   * same as the xMin of their glyph.
+   *
+   * @return the transformed table; null if no left side bearings can be
+   *         removed or the table doesn't have the expected size
+   */
+  private static byte[] transformHmtx(
+      HorizontalMetricsTable hmtx, Woff2GlyfEncoder glyfEncoder, int numGlyphs) {
+    int numHMetrics = hmtx.numberOfHMetrics();
+    if (numHMetrics < 1 || numHMetrics > numGlyphs
+        || hmtx.dataLength() != 4 * numHMetrics + 2 * (numGlyphs - numHMetrics)) {
+      return null;
+    }
+    boolean proportional = true;
+    for (int i = 0; i < numHMetrics && proportional; i++) {
+      proportional = hmtx.hMetricLSB(i) == glyfEncoder.xMin(i);
+    }
+    boolean monospace = true;
+    for (int i = numHMetrics; i < numGlyphs && monospace; i++) {
+      monospace = hmtx.lsbTableEntry(i - numHMetrics) == glyfEncoder.xMin(i);
+    }
+    // with no monospace bearings there is nothing to gain from dropping them
+    monospace &= numGlyphs > numHMetrics;
+    if (!proportional && !monospace) {
+      return null;
+    }
+
+    int flags = (proportional ? HMTX_NO_PROPORTIONAL_LSBS : 0)
+        | (monospace ? HMTX_NO_MONOSPACE_LSBS : 0);
+    int length = 1 + 2 * numHMetrics + (proportional ? 0 : 2 * numHMetrics)
+        + (monospace ? 0 : 2 * (numGlyphs - numHMetrics));
+    WritableFontData data = WritableFontData.createWritableFontData(length);
+    int index = data.writeByte(0, (byte) flags);
+    for (int i = 0; i < numHMetrics; i++) {
+      index += data.writeUShort(index, hmtx.hMetricAdvanceWidth(i));
+    }
+    if (!proportional) {
+      for (int i = 0; i < numHMetrics; i++) {
+        index += data.writeShort(index, hmtx.hMetricLSB(i));
+      }
+    }
+    if (!monospace) {
+      for (int i = numHMetrics; i < numGlyphs; i++) {
+        index += data.writeShort(index, hmtx.lsbTableEntry(i - numHMetrics));
+      }
+    }
+    byte[] b = new byte[length];
+    data.readBytes(0, b, 0, length);
+    return b;
+  }
+
+  private static class TableDirectoryEntry {
+
+    private int tag;
+    private int origLength;
+    private int transformVersion;
+    // the transformed length; negative when the table isn't transformed
+    private int transformLength = -1;
+    private byte[] data;
+
+    public void setTag(int tag) {
+      this.tag = tag;
+    }
+
+    public void setOrigLength(int origLength) {
+      this.origLength = origLength;
+    }
+
+    public void setTransformVersion(int transformVersion) {
+      this.transformVersion = transformVersion;
+    }
+
+    public void setData(byte[] data) {
+      this.data = data;
+      this.transformLength = -1;
+    }
+
+    public void setTransformedData(byte[] data) {
+      this.data = data;
+      this.transformLength = data.length;
+    }
+
+    public int getOrigLength() {
+      return origLength;
+    }
+
+    public byte[] getData() {
+      return data;
+    }
+
+    private int knownTagIndex() {
+      for (int i = 0; i < KNOWN_TAGS.length; i++) {
+        if (KNOWN_TAGS[i] == tag) {
+          return i;
+        }
+      }
+      return ARBITRARY_TAG_INDEX;
+    }
+
+    public int getEntryLength() {
+      int length = 1;
+      if (knownTagIndex() == ARBITRARY_TAG_INDEX) {
+        length += FontData.DataSize.ULONG.size();
+      }
+      length += base128Size(origLength);
+      if (transformLength >= 0) {
+        length += base128Size(transformLength);
+      }
+      return length;
+    }
+
+    public int writeEntry(WritableFontData writableFontData, int start) {
+      int index = start;
+      int tagIndex = knownTagIndex();
+      index += writableFontData.writeByte(index, (byte) (tagIndex | (transformVersion << 6)));
+      if (tagIndex == ARBITRARY_TAG_INDEX) {
+        index += writableFontData.writeULong(index, tag);
+      }
+      index += writeBase128(writableFontData, index, origLength);
+      if (transformLength >= 0) {
+        index += writeBase128(writableFontData, index, transformLength);
+      }
+      return index - start;
+    }
+  }
+
+  // UIntBase128 as per section 4.1 of the spec
+  private static int base128Size(int value) {
+    int size = 1;
+    while ((value >>>= 7) != 0) {
+      size++;
+    }
+    return size;
+  }
+
+  private static int writeBase128(WritableFontData writableFontData, int index, int value) {
+    int size = base128Size(value);
+    for (int i = 0; i < size; i++) {
+      int b = (value >>> (7 * (size - 1 - i))) & 0x7f;
+      if (i < size - 1) {
+        b |= 0x80;
+      }
+      writableFontData.writeByte(index + i, (byte) b);
+    }
+    return size;
+  }
+}
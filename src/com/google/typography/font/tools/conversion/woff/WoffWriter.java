@@ -18,7 +18,9 @@ package com.google.typography.font.tools.conversion.woff;
 
 import com.google.typography.font.sfntly.Font;
 import com.google.typography.font.sfntly.Tag;
+import com.google.typography.font.sfntly.Tasks;
 import com.google.typography.font.sfntly.data.FontData;
+import com.google.typography.font.sfntly.data.ReadableFontData;
 import com.google.typography.font.sfntly.data.WritableFontData;
 import com.google.typography.font.sfntly.table.Table;
 import com.google.typography.font.sfntly.table.core.FontHeaderTable;
@@ -26,7 +28,11 @@ import com.google.typography.font.sfntly.table.core.FontHeaderTable;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Queue;
 import java.util.TreeSet;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
 import java.util.zip.Deflater;
 
 /**
@@ -36,10 +42,55 @@ public class WoffWriter {
 
   protected boolean woff_compression_faster = false;
 
+  private int compressionLevel = Deflater.DEFAULT_COMPRESSION;
+  private int compressionStrategy = Deflater.DEFAULT_STRATEGY;
+  private ExecutorService executor;
+
   private static final long SIGNATURE = 0x774F4646;
   private static final int WOFF_HEADER_SIZE =
       (9 * FontData.DataSize.ULONG.size()) + (4 * FontData.DataSize.USHORT.size());
 
+  /**
+   * Sets the deflate compression level used for the tables.
+   *
+   * @param level the compression level, from 0 to 9 or
+   *        {@link Deflater#DEFAULT_COMPRESSION}
+   * @see Deflater#setLevel(int)
+   */
+  public void setCompressionLevel(int level) {
+    if ((level < 0 || level > 9) && level != Deflater.DEFAULT_COMPRESSION) {
+      throw new IllegalArgumentException("Invalid compression level " + level + ".");
+    }
+    this.compressionLevel = level;
+  }
+
+  /**
+   * Sets the deflate compression strategy used for the tables.
+   *
+   * @param strategy one of {@link Deflater#DEFAULT_STRATEGY},
+   *        {@link Deflater#FILTERED} or {@link Deflater#HUFFMAN_ONLY}
+   * @see Deflater#setStrategy(int)
+   */
+  public void setCompressionStrategy(int strategy) {
+    if (strategy != Deflater.DEFAULT_STRATEGY && strategy != Deflater.FILTERED
+        && strategy != Deflater.HUFFMAN_ONLY) {
+      throw new IllegalArgumentException("Invalid compression strategy " + strategy + ".");
+    }
+    this.compressionStrategy = strategy;
+  }
+
+  /**
+   * Sets the executor to compress the tables on. Each table is compressed as
+   * a separate task. By default there is no executor and the tables are
+   * compressed one after another on the calling thread.
+   *
+   * @param executor the executor to use; null to compress on the calling
+   *        thread
+   */
+  public void setExecutor(ExecutorService executor) {
+    this.executor = executor;
+  }
+
   public WritableFontData convert(Font font) {
     List<TableDirectoryEntry> tableDirectoryEntries = createTableDirectoryEntries(font);
     int length =
@@ -154,37 +205,123 @@ public class WoffWriter {
   }
 
   private List<TableDirectoryEntry> createTableDirectoryEntries(Font font) {
-    List<TableDirectoryEntry> tableDirectoryEntries = new ArrayList<TableDirectoryEntry>();
+    final List<TableDirectoryEntry> tableDirectoryEntries = new ArrayList<TableDirectoryEntry>();
     TreeSet<Integer> tags = new TreeSet<Integer>(font.tableMap().keySet());
     tags.remove(Tag.DSIG);
 
+    // deflaters and their buffers reused between the tables of this font
+    final Queue<TableCompressor> compressors = new ConcurrentLinkedQueue<TableCompressor>();
+    List<Callable<Void>> tasks = new ArrayList<Callable<Void>>(tags.size());
     for (int tag : tags) {
-      Table table = font.getTable(tag);
-      TableDirectoryEntry tableDirectoryEntry = new TableDirectoryEntry();
+      final Table table = font.getTable(tag);
+      final TableDirectoryEntry tableDirectoryEntry = new TableDirectoryEntry();
       tableDirectoryEntry.setTag(tag);
       tableDirectoryEntry.setOrigLength(table.dataLength());
-      tableDirectoryEntry.setOrigChecksum(table.calculatedChecksum());
-      setCompressedTableData(tableDirectoryEntry, table);
       tableDirectoryEntries.add(tableDirectoryEntry);
+      tasks.add(new Callable<Void>() {
+        @Override
+        public Void call() {
+          tableDirectoryEntry.setOrigChecksum(table.calculatedChecksum());
+          setCompressedTableData(tableDirectoryEntry, table, compressors);
+          return null;
+        }
+      });
+    }
+    try {
+      if (this.executor == null) {
+        for (Callable<Void> task : tasks) {
+          try {
+            task.call();
+          } catch (Exception e) {
+            // the tasks throw no checked exceptions
+            throw new RuntimeException(e);
+          }
+        }
+      } else {
+        Tasks.invokeAll(this.executor, tasks);
+      }
+    } finally {
+      // the deflaters hold native memory until they are ended
+      for (TableCompressor compressor : compressors) {
+        compressor.end();
+      }
     }
     return tableDirectoryEntries;
   }
 
-  private void setCompressedTableData(TableDirectoryEntry tableDirectoryEntry, Table table) {
+  private void setCompressedTableData(TableDirectoryEntry tableDirectoryEntry, Table table,
+      Queue<TableCompressor> compressors) {
     int length = table.dataLength();
-    byte[] input = new byte[length];
-    table.readFontData().readBytes(0, input, 0, length);
+    ReadableFontData data = table.readFontData();
     if (woff_compression_faster && (length < 100 || table.headerTag() == Tag.loca)) {
-      tableDirectoryEntry.setCompTable(input);
-    } else {
-      byte[] output = new byte[length];
-      Deflater compresser = new Deflater();
-      compresser.setInput(input);
-      compresser.finish();
-      int compLength = compresser.deflate(output);
-      tableDirectoryEntry.setCompTable(
-          compLength == length || !compresser.finished() ? input : Arrays.copyOfRange(
-              output, 0, compLength));
+      tableDirectoryEntry.setTableData(data);
+      return;
+    }
+    TableCompressor compressor = compressors.poll();
+    if (compressor == null) {
+      compressor = new TableCompressor();
+    }
+    try {
+      byte[] compressed = compressor.compress(
+          data, this.compressionLevel, this.compressionStrategy);
+      if (compressed == null) {
+        tableDirectoryEntry.setTableData(data);
+      } else {
+        tableDirectoryEntry.setCompTable(compressed);
+      }
+    } finally {
+      compressors.offer(compressor);
+    }
+  }
+
+  /**
+   * A deflater with input and output buffers that grow to fit the largest
+   * table compressed so far, up to a limit. Larger tables get buffers of
+   * their own that aren't kept. A compressor is used by one table at a time.
+   */
+  private static final class TableCompressor {
+    private static final int MAX_BUFFER_SIZE = 1 << 20;
+
+    private final Deflater deflater = new Deflater();
+    private byte[] input = new byte[0];
+    private byte[] output = new byte[0];
+
+    /**
+     * Compresses the data.
+     *
+     * @return the compressed data; null if it doesn't compress to less than
+     *         the length of the data
+     */
+    byte[] compress(ReadableFontData data, int level, int strategy) {
+      int length = data.length();
+      byte[] input = this.input;
+      byte[] output = this.output;
+      if (input.length < length) {
+        input = new byte[length];
+        output = new byte[length];
+        if (length <= MAX_BUFFER_SIZE) {
+          this.input = input;
+          this.output = output;
+        }
+      }
+      data.readBytes(0, input, 0, length);
+      this.deflater.reset();
+      this.deflater.setLevel(level);
+      this.deflater.setStrategy(strategy);
+      this.deflater.setInput(input, 0, length);
+      this.deflater.finish();
+      int compLength = this.deflater.deflate(output, 0, length);
+      if (compLength == length || !this.deflater.finished()) {
+        return null;
+      }
+      return Arrays.copyOf(output, compLength);
+    }
+
+    /**
+     * Releases the deflater. The compressor can't be used afterwards.
+     */
+    void end() {
+      this.deflater.end();
     }
   }
 
@@ -195,7 +332,9 @@ public class WoffWriter {
     private long tag;
     private long origLength;
     private long origChecksum;
+    // either the compressed table or the original data when it doesn't compress
     private byte[] compTable;
+    private ReadableFontData tableData;
 
     public void setTag(int tag) {
       this.tag = tag;
@@ -213,8 +352,12 @@ public class WoffWriter {
       this.compTable = compTable;
     }
 
+    public void setTableData(ReadableFontData tableData) {
+      this.tableData = tableData;
+    }
+
     public int getCompressedTableLength() {
-      return compTable.length;
+      return compTable != null ? compTable.length : tableData.length();
     }
 
     public long getUncompressedTableLength() {
@@ -225,14 +368,18 @@ public class WoffWriter {
       int index = start;
       index += writableFontData.writeULong(index, tag);
       index += writableFontData.writeULong(index, tableOffset);
-      index += writableFontData.writeULong(index, compTable.length);
+      index += writableFontData.writeULong(index, getCompressedTableLength());
       index += writableFontData.writeULong(index, origLength);
       index += writableFontData.writeULong(index, origChecksum);
       return ENTRY_SIZE;
     }
 
     public int writeTable(WritableFontData writableFontData, int index) {
-      writableFontData.writeBytes(index, compTable, 0, compTable.length);
+      if (compTable != null) {
+        writableFontData.writeBytes(index, compTable, 0, compTable.length);
+      } else {
+        tableData.copyTo(writableFontData.slice(index, tableData.length()));
+      }
       return getCompressedTableLength();
     }
   }
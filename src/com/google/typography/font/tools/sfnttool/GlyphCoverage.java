@@ -21,17 +21,12 @@ import com.google.typography.font.sfntly.Tag;
 import com.google.typography.font.sfntly.table.core.CMap;
 import com.google.typography.font.sfntly.table.core.CMap.CMapFormat;
 import com.google.typography.font.sfntly.table.core.CMapTable;
-import com.google.typography.font.sfntly.table.truetype.CompositeGlyph;
-import com.google.typography.font.sfntly.table.truetype.Glyph;
-import com.google.typography.font.sfntly.table.truetype.Glyph.GlyphType;
 import com.google.typography.font.sfntly.table.truetype.GlyphTable;
 import com.google.typography.font.sfntly.table.truetype.LocaTable;
 
 import java.util.ArrayList;
-import java.util.Collections;
-import java.util.HashSet;
+import java.util.BitSet;
 import java.util.List;
-import java.util.Set;
 
 /**
  * A class for computing which glyphs are needed to render a given string. Currently
@@ -45,30 +40,27 @@ public class GlyphCoverage {
   public static List<Integer> getGlyphCoverage(Font font, String string) {
     CMapTable cmapTable = font.getTable(Tag.cmap);
     CMap cmap = getBestCMap(cmapTable);
-    Set<Integer> coverage = new HashSet<Integer>();
-    coverage.add(0);  // Always include notdef
+    BitSet coverage = new BitSet();
+    coverage.set(0);  // Always include notdef
     // TODO: doesn't support non-BMP scripts, should use StringCharacterIterator instead
+    int[] chars = new int[string.length()];
     for (int i = 0; i < string.length(); i++) {
-      int c = (string.charAt(i)) & 0xffff;
-      int glyphId = cmap.glyphId(c);
-      touchGlyph(font, coverage, glyphId);
+      chars[i] = (string.charAt(i)) & 0xffff;
     }
-    List<Integer> sortedCoverage = new ArrayList<Integer>(coverage);
-    Collections.sort(sortedCoverage);
-    return sortedCoverage;
-  }
-  
-  private static void touchGlyph(Font font, Set<Integer> coverage, int glyphId) {
-    if (!coverage.contains(glyphId)) {
-      coverage.add(glyphId);
-      Glyph glyph = getGlyph(font, glyphId);
-      if (glyph != null && glyph.glyphType() == GlyphType.Composite) {
-        CompositeGlyph composite = (CompositeGlyph) glyph;
-        for (int i = 0; i < composite.numGlyphs(); i++) {
-          touchGlyph(font, coverage, composite.glyphIndex(i));
-        }
-      }
+    for (int glyphId : cmap.glyphIds(chars)) {
+      coverage.set(glyphId);
+    }
+    LocaTable locaTable = font.getTable(Tag.loca);
+    GlyphTable glyfTable = font.getTable(Tag.glyf);
+    if (locaTable != null && glyfTable != null) {
+      glyfTable.compositeGraph(locaTable).closure(coverage);
     }
+    List<Integer> sortedCoverage = new ArrayList<Integer>(coverage.cardinality());
+    for (int glyphId = coverage.nextSetBit(0); glyphId >= 0;
+        glyphId = coverage.nextSetBit(glyphId + 1)) {
+      sortedCoverage.add(glyphId);
+    }
+    return sortedCoverage;
   }
   
   private static CMap getBestCMap(CMapTable cmapTable) {
@@ -84,12 +76,4 @@ public class GlyphCoverage {
     }
     return null;
   }
-
-  private static Glyph getGlyph(Font font, int glyphId) {
-    LocaTable locaTable = font.getTable(Tag.loca);
-    GlyphTable glyfTable = font.getTable(Tag.glyf);
-    int offset = locaTable.glyphOffset(glyphId);
-    int length = locaTable.glyphLength(glyphId);
-    return glyfTable.glyph(offset, length);
-  }
 }
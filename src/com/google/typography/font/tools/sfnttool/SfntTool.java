@@ -41,6 +41,7 @@ import java.util.Set;
  */
 public class SfntTool {
   private boolean strip = false;
+  private boolean layout = false;
   private String subsetString = null;
   private boolean woff = false;
   private boolean eot = false;
@@ -65,6 +66,8 @@ public class SfntTool {
           System.exit(0);
         } else if (option.equals("b") || option.equals("bench")) {
           nIters = 10000;
+        } else if (option.equals("l") || option.equals("layout")) {
+          tool.layout = true;
         } else if (option.equals("h") || option.equals("hints")) {
           tool.strip = true;
         } else if (option.equals("s") || option.equals("string")) {
@@ -109,6 +112,7 @@ public class SfntTool {
     System.out.println("\t-s,-string\t String to subset");
     System.out.println("\t-b,-bench\t Benchmark (run 10000 iterations)");
     System.out.println("\t-h,-hints\t Strip hints");
+    System.out.println("\t-l,-layout\t Keep the GSUB substitutions of the subset");
     System.out.println("\t-w,-woff\t Output WOFF format");
     System.out.println("\t-e,-eot\t Output EOT format");
     System.out.println("\t-x,-mtx\t Enable Microtype Express compression for EOT format");
@@ -139,9 +143,13 @@ public class SfntTool {
           subsetter.setGlyphs(glyphs);
           Set<Integer> removeTables = new HashSet<Integer>();
           // Most of the following are valid tables, but we don't renumber them yet, so strip
-          removeTables.add(Tag.GDEF);
+          if (layout) {
+            subsetter.setLayoutClosure(null, null);
+          } else {
+            removeTables.add(Tag.GDEF);
+            removeTables.add(Tag.GSUB);
+          }
           removeTables.add(Tag.GPOS);
-          removeTables.add(Tag.GSUB);
           removeTables.add(Tag.kern);
           removeTables.add(Tag.hdmx);
           removeTables.add(Tag.vmtx);
@@ -0,0 +1,195 @@
+/*
+ * Copyright 2011 Google Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.typography.font.tools.subsetter;
+
+import com.google.typography.font.sfntly.Font;
+import com.google.typography.font.sfntly.Tag;
+import com.google.typography.font.sfntly.data.ReadableFontData;
+import com.google.typography.font.sfntly.table.Table;
+
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Subsets and renumbers the GDEF table along with the GSUB table. The glyph
+ * class definitions and mark attachment classes, the attachment points, the
+ * ligature carets and the mark glyph sets are rewritten for the glyphs kept.
+ * Caret values that are adjusted by a device table become plain coordinates
+ * and the item variation store is dropped.
+ *
+ * <p>The table is only subset when the subsetter has layout closure turned on;
+ * otherwise it is left to be passed through or removed as before.
+ */
+public class GDefTableSubsetter extends TableSubsetterImpl {
+  private static final int VERSION_1_0 = 0x00010000;
+  private static final int VERSION_1_2 = 0x00010002;
+
+  protected GDefTableSubsetter() {
+    super(Tag.GDEF);
+  }
+
+  @Override
+  public boolean subset(Subsetter subsetter, Font font, Font.Builder fontBuilder) {
+    if (!subsetter.layoutClosure() || subsetter.newToOldGlyphs() == null) {
+      return false;
+    }
+    Table gdef = font.getTable(Tag.GDEF);
+    if (gdef == null) {
+      return false;
+    }
+    ReadableFontData data = gdef.readFontData();
+    LayoutGlyphs glyphs = new LayoutGlyphs(subsetter);
+    int version = data.readULongAsInt(0);
+    int markGlyphSets = version >= VERSION_1_2 ? data.readUShort(12) : 0;
+
+    LayoutBuffer table = new LayoutBuffer();
+    table.writeULong(markGlyphSets != 0 ? VERSION_1_2 : VERSION_1_0);
+    int glyphClassDefPosition = table.writeUShort(0);
+    int attachListPosition = table.writeUShort(0);
+    int ligCaretListPosition = table.writeUShort(0);
+    int markAttachClassDefPosition = table.writeUShort(0);
+    int markGlyphSetsPosition = markGlyphSets != 0 ? table.writeUShort(0) : 0;
+
+    table.appendSubTable(glyphClassDefPosition,
+        glyphs.subsetClassDef(data, data.readUShort(4)));
+    table.appendSubTable(attachListPosition, subsetAttachList(data, data.readUShort(6), glyphs));
+    table.appendSubTable(ligCaretListPosition,
+        subsetLigCaretList(data, data.readUShort(8), glyphs));
+    table.appendSubTable(markAttachClassDefPosition,
+        glyphs.subsetClassDef(data, data.readUShort(10)));
+    if (markGlyphSets != 0) {
+      table.appendSubTable(markGlyphSetsPosition,
+          subsetMarkGlyphSets(data, markGlyphSets, glyphs));
+    }
+    fontBuilder.newTableBuilder(Tag.GDEF, table.toFontData());
+    return true;
+  }
+
+  private static LayoutBuffer subsetAttachList(
+      ReadableFontData data, int attachList, LayoutGlyphs glyphs) {
+    if (attachList == 0) {
+      return null;
+    }
+    int[] coverage = LayoutGlyphs.readCoverage(data, attachList + data.readUShort(attachList));
+    Map<Integer, LayoutBuffer> attachPoints = new TreeMap<Integer, LayoutBuffer>();
+    for (int i = 0; i < coverage.length && i < data.readUShort(attachList + 2); i++) {
+      int newGlyph = glyphs.newGlyph(coverage[i]);
+      if (newGlyph < 0) {
+        continue;
+      }
+      // the point indices are unchanged since the glyph outlines are
+      int attachPoint = attachList + data.readUShort(attachList + 4 + 2 * i);
+      LayoutBuffer attachPointTable = new LayoutBuffer();
+      int pointCount = data.readUShort(attachPoint);
+      attachPointTable.writeUShort(pointCount);
+      for (int j = 0; j < pointCount; j++) {
+        attachPointTable.writeUShort(data.readUShort(attachPoint + 2 + 2 * j));
+      }
+      attachPoints.put(newGlyph, attachPointTable);
+    }
+    return writeCoverageFirst(attachPoints);
+  }
+
+  private static LayoutBuffer subsetLigCaretList(
+      ReadableFontData data, int ligCaretList, LayoutGlyphs glyphs) {
+    if (ligCaretList == 0) {
+      return null;
+    }
+    int[] coverage =
+        LayoutGlyphs.readCoverage(data, ligCaretList + data.readUShort(ligCaretList));
+    Map<Integer, LayoutBuffer> ligGlyphs = new TreeMap<Integer, LayoutBuffer>();
+    for (int i = 0; i < coverage.length && i < data.readUShort(ligCaretList + 2); i++) {
+      int newGlyph = glyphs.newGlyph(coverage[i]);
+      if (newGlyph < 0) {
+        continue;
+      }
+      int ligGlyph = ligCaretList + data.readUShort(ligCaretList + 4 + 2 * i);
+      int caretCount = data.readUShort(ligGlyph);
+      LayoutBuffer ligGlyphTable = new LayoutBuffer();
+      ligGlyphTable.writeUShort(caretCount);
+      int[] positions = new int[caretCount];
+      for (int j = 0; j < caretCount; j++) {
+        positions[j] = ligGlyphTable.writeUShort(0);
+      }
+      for (int j = 0; j < caretCount; j++) {
+        int caretValue = ligGlyph + data.readUShort(ligGlyph + 2 + 2 * j);
+        int format = data.readUShort(caretValue);
+        LayoutBuffer caretValueTable = new LayoutBuffer();
+        // format 3 is a coordinate with a device table which is left out
+        caretValueTable.writeUShort(format == 2 ? 2 : 1);
+        caretValueTable.writeUShort(data.readUShort(caretValue + 2));
+        ligGlyphTable.appendSubTable(positions[j], caretValueTable);
+      }
+      ligGlyphs.put(newGlyph, ligGlyphTable);
+    }
+    return writeCoverageFirst(ligGlyphs);
+  }
+
+  /**
+   * Writes a table of a coverage table and an array of subtables, one for each
+   * covered glyph, as the attachment list and ligature caret list are laid out.
+   *
+   * @param subTables the subtable for each new glyph id
+   * @return the table; null if there are no subtables
+   */
+  private static LayoutBuffer writeCoverageFirst(Map<Integer, LayoutBuffer> subTables) {
+    if (subTables.isEmpty()) {
+      return null;
+    }
+    LayoutBuffer table = new LayoutBuffer();
+    int coveragePosition = table.writeUShort(0);
+    table.writeUShort(subTables.size());
+    int[] positions = new int[subTables.size()];
+    for (int i = 0; i < positions.length; i++) {
+      positions[i] = table.writeUShort(0);
+    }
+    int[] coverage = new int[subTables.size()];
+    int i = 0;
+    for (Map.Entry<Integer, LayoutBuffer> entry : subTables.entrySet()) {
+      coverage[i] = entry.getKey();
+      table.appendSubTable(positions[i], entry.getValue());
+      i++;
+    }
+    table.appendSubTable(coveragePosition, LayoutGlyphs.coverage(coverage));
+    return table;
+  }
+
+  /**
+   * Subsets the mark glyph sets. Every set is kept, even if it is left empty,
+   * since lookups refer to the sets by index.
+   */
+  private static LayoutBuffer subsetMarkGlyphSets(
+      ReadableFontData data, int markGlyphSets, LayoutGlyphs glyphs) {
+    int count = data.readUShort(markGlyphSets + 2);
+    LayoutBuffer table = new LayoutBuffer();
+    table.writeUShort(1);
+    table.writeUShort(count);
+    int[] positions = new int[count];
+    for (int i = 0; i < count; i++) {
+      positions[i] = table.writeULong(0);
+    }
+    for (int i = 0; i < count; i++) {
+      LayoutBuffer coverage = glyphs.subsetCoverage(
+          data, markGlyphSets + data.readULongAsInt(markGlyphSets + 4 + 4 * i));
+      if (coverage == null) {
+        coverage = LayoutGlyphs.coverage(new int[0]);
+      }
+      table.setULong(positions[i], table.append(coverage));
+    }
+    return table;
+  }
+}
@@ -0,0 +1,978 @@
+/*
+ * Copyright 2011 Google Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.typography.font.tools.subsetter;
+
+import com.google.typography.font.sfntly.Font;
+import com.google.typography.font.sfntly.Tag;
+import com.google.typography.font.sfntly.data.ReadableFontData;
+import com.google.typography.font.sfntly.table.opentype.GSubTable;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * Subsets and renumbers the GSUB table. The scripts and features are filtered
+ * by the subsetter's layout settings, the lookups are those that the remaining
+ * features use, directly or from contextual lookups, and every coverage, class
+ * definition and substitution is rewritten for the glyphs kept. Rules that use
+ * a glyph that isn't kept can never apply and are left out.
+ *
+ * <p>The table is only subset when the subsetter has layout closure turned on;
+ * otherwise it is left to be passed through or removed as before.
+ */
+public class GSubTableSubsetter extends TableSubsetterImpl {
+
+  protected GSubTableSubsetter() {
+    super(Tag.GSUB);
+  }
+
+  @Override
+  public boolean subset(Subsetter subsetter, Font font, Font.Builder fontBuilder) {
+    if (!subsetter.layoutClosure() || subsetter.newToOldGlyphs() == null) {
+      return false;
+    }
+    GSubTable gsub = font.getTable(Tag.GSUB);
+    if (gsub == null) {
+      return false;
+    }
+    GSubWriter writer = new GSubWriter(gsub.readFontData(), new LayoutGlyphs(subsetter),
+        subsetter.layoutScriptTags(), subsetter.layoutFeatureTags());
+    fontBuilder.newTableBuilder(Tag.GSUB, writer.write().toFontData());
+    return true;
+  }
+
+  /**
+   * Writes the subset of one GSUB table.
+   */
+  private static final class GSubWriter {
+    private static final int SINGLE = 1;
+    private static final int MULTIPLE = 2;
+    private static final int ALTERNATE = 3;
+    private static final int LIGATURE = 4;
+    private static final int CONTEXT = 5;
+    private static final int CHAINING_CONTEXT = 6;
+    private static final int EXTENSION = 7;
+    private static final int REVERSE_CHAINING = 8;
+
+    private static final int VERSION_1_0 = 0x00010000;
+    private static final int NO_REQUIRED_FEATURE = 0xffff;
+    private static final int USE_MARK_FILTERING_SET = 0x0010;
+    private static final int EXTENSION_SUBTABLE_SIZE = 8;
+
+    private final ReadableFontData data;
+    private final LayoutGlyphs glyphs;
+    private final Set<Integer> scriptTags;
+    private final Set<Integer> featureTags;
+
+    private final int scriptList;
+    private final int featureList;
+    private final int lookupList;
+
+    // new index of each old feature and lookup; -1 if it isn't kept
+    private int[] newFeatures;
+    private int[] newLookups;
+
+    GSubWriter(ReadableFontData data, LayoutGlyphs glyphs, Set<Integer> scriptTags,
+        Set<Integer> featureTags) {
+      this.data = data;
+      this.glyphs = glyphs;
+      this.scriptTags = scriptTags;
+      this.featureTags = featureTags;
+      this.scriptList = data.readUShort(4);
+      this.featureList = data.readUShort(6);
+      this.lookupList = data.readUShort(8);
+    }
+
+    private int readUShort(int offset) {
+      return this.data.readUShort(offset);
+    }
+
+    LayoutBuffer write() {
+      List<Integer> scripts = new ArrayList<Integer>();
+      for (int i = 0; i < this.readUShort(this.scriptList); i++) {
+        int tag = this.data.readULongAsInt(this.scriptList + 2 + 6 * i);
+        if (this.scriptTags == null || this.scriptTags.contains(tag)) {
+          scripts.add(i);
+        }
+      }
+      this.selectFeatures(scripts);
+      this.selectLookups();
+
+      // feature variations are dropped so the header is always version 1.0
+      LayoutBuffer table = new LayoutBuffer();
+      table.writeULong(VERSION_1_0);
+      int scriptListPosition = table.writeUShort(0);
+      int featureListPosition = table.writeUShort(0);
+      int lookupListPosition = table.writeUShort(0);
+      table.appendSubTable(scriptListPosition, this.writeScriptList(scripts));
+      table.appendSubTable(featureListPosition, this.writeFeatureList());
+      table.appendSubTable(lookupListPosition, this.writeLookupList());
+      return table;
+    }
+
+    // Selecting the features and lookups
+
+    private void selectFeatures(List<Integer> scripts) {
+      int featureCount = this.readUShort(this.featureList);
+      boolean[] used = new boolean[featureCount];
+      for (int script : scripts) {
+        int scriptOffset = this.scriptList + this.readUShort(this.scriptList + 6 + 6 * script);
+        int defaultLangSys = this.readUShort(scriptOffset);
+        if (defaultLangSys != 0) {
+          this.markFeatures(scriptOffset + defaultLangSys, used);
+        }
+        for (int i = 0; i < this.readUShort(scriptOffset + 2); i++) {
+          this.markFeatures(scriptOffset + this.readUShort(scriptOffset + 8 + 6 * i), used);
+        }
+      }
+      this.newFeatures = new int[featureCount];
+      int kept = 0;
+      for (int feature = 0; feature < featureCount; feature++) {
+        int tag = this.data.readULongAsInt(this.featureList + 2 + 6 * feature);
+        if (used[feature] && (this.featureTags == null || this.featureTags.contains(tag))) {
+          this.newFeatures[feature] = kept++;
+        } else {
+          this.newFeatures[feature] = -1;
+        }
+      }
+    }
+
+    private void markFeatures(int langSys, boolean[] used) {
+      int required = this.readUShort(langSys + 2);
+      if (required < used.length) {
+        used[required] = true;
+      }
+      for (int i = 0; i < this.readUShort(langSys + 4); i++) {
+        int feature = this.readUShort(langSys + 6 + 2 * i);
+        if (feature < used.length) {
+          used[feature] = true;
+        }
+      }
+    }
+
+    private void selectLookups() {
+      int lookupCount = this.readUShort(this.lookupList);
+      boolean[] used = new boolean[lookupCount];
+      int[] worklist = new int[lookupCount];
+      int top = 0;
+      for (int feature = 0; feature < this.newFeatures.length; feature++) {
+        if (this.newFeatures[feature] < 0) {
+          continue;
+        }
+        int featureOffset = this.featureOffset(feature);
+        for (int i = 0; i < this.readUShort(featureOffset + 2); i++) {
+          int lookup = this.readUShort(featureOffset + 4 + 2 * i);
+          if (lookup < lookupCount && !used[lookup]) {
+            used[lookup] = true;
+            worklist[top++] = lookup;
+          }
+        }
+      }
+      // contextual lookups apply other lookups which must be kept too
+      List<Integer> nested = new ArrayList<Integer>();
+      while (top > 0) {
+        int lookup = this.lookupOffset(worklist[--top]);
+        int lookupType = this.readUShort(lookup);
+        for (int i = 0; i < this.readUShort(lookup + 4); i++) {
+          this.nestedLookups(lookupType, lookup + this.readUShort(lookup + 6 + 2 * i), nested);
+        }
+        for (int nestedLookup : nested) {
+          if (nestedLookup < lookupCount && !used[nestedLookup]) {
+            used[nestedLookup] = true;
+            worklist[top++] = nestedLookup;
+          }
+        }
+        nested.clear();
+      }
+      this.newLookups = new int[lookupCount];
+      int kept = 0;
+      for (int lookup = 0; lookup < lookupCount; lookup++) {
+        this.newLookups[lookup] = used[lookup] ? kept++ : -1;
+      }
+    }
+
+    private int featureOffset(int feature) {
+      return this.featureList + this.readUShort(this.featureList + 6 + 6 * feature);
+    }
+
+    private int lookupOffset(int lookup) {
+      return this.lookupList + this.readUShort(this.lookupList + 2 + 2 * lookup);
+    }
+
+    private void nestedLookups(int lookupType, int subTable, List<Integer> lookups) {
+      if (lookupType == EXTENSION) {
+        this.nestedLookups(this.readUShort(subTable + 2),
+            subTable + this.data.readULongAsInt(subTable + 4), lookups);
+        return;
+      }
+      if (lookupType != CONTEXT && lookupType != CHAINING_CONTEXT) {
+        return;
+      }
+      boolean chain = lookupType == CHAINING_CONTEXT;
+      int format = this.readUShort(subTable);
+      if (format == 3) {
+        int records = this.format3Records(subTable, chain);
+        for (int i = 0; i < this.format3RecordCount(subTable, chain); i++) {
+          lookups.add(this.readUShort(records + 4 * i + 2));
+        }
+        return;
+      }
+      int sets = this.ruleSetsOffset(subTable, chain, format);
+      for (int set = 0; set < this.readUShort(sets); set++) {
+        int setOffset = this.readUShort(sets + 2 + 2 * set);
+        if (setOffset == 0) {
+          continue;
+        }
+        int ruleSet = subTable + setOffset;
+        for (int i = 0; i < this.readUShort(ruleSet); i++) {
+          int rule = ruleSet + this.readUShort(ruleSet + 2 + 2 * i);
+          int records = this.ruleRecords(rule, chain);
+          for (int j = 0; j < this.ruleRecordCount(rule, chain); j++) {
+            lookups.add(this.readUShort(records + 4 * j + 2));
+          }
+        }
+      }
+    }
+
+    /**
+     * Gets the offset of the rule set count of a format 1 or 2 contextual
+     * subtable.
+     */
+    private int ruleSetsOffset(int subTable, boolean chain, int format) {
+      if (format == 1) {
+        return subTable + 4;
+      }
+      return subTable + (chain ? 10 : 6);
+    }
+
+    /**
+     * Gets the offset of the lookup records of a contextual rule.
+     */
+    private int ruleRecords(int rule, boolean chain) {
+      if (!chain) {
+        return rule + 4 + 2 * Math.max(this.readUShort(rule) - 1, 0);
+      }
+      int position = rule + 2 + 2 * this.readUShort(rule);
+      position += 2 + 2 * Math.max(this.readUShort(position) - 1, 0);
+      position += 2 + 2 * this.readUShort(position);
+      return position + 2;
+    }
+
+    /**
+     * Gets the number of lookup records of a contextual rule. A chaining rule
+     * has the count just before the records while a plain one has it after the
+     * glyph count.
+     */
+    private int ruleRecordCount(int rule, boolean chain) {
+      return this.readUShort(chain ? this.ruleRecords(rule, chain) - 2 : rule + 2);
+    }
+
+    /**
+     * Gets the offset of the lookup records of a format 3 contextual subtable.
+     */
+    private int format3Records(int subTable, boolean chain) {
+      if (!chain) {
+        return subTable + 6 + 2 * this.readUShort(subTable + 2);
+      }
+      int position = subTable + 2;
+      for (int i = 0; i < 3; i++) {
+        position += 2 + 2 * this.readUShort(position);
+      }
+      return position + 2;
+    }
+
+    /**
+     * Gets the number of lookup records of a format 3 contextual subtable.
+     */
+    private int format3RecordCount(int subTable, boolean chain) {
+      return this.readUShort(
+          chain ? this.format3Records(subTable, chain) - 2 : subTable + 4);
+    }
+
+    // Scripts and features
+
+    private LayoutBuffer writeScriptList(List<Integer> scripts) {
+      LayoutBuffer scriptListTable = new LayoutBuffer();
+      scriptListTable.writeUShort(scripts.size());
+      int[] positions = new int[scripts.size()];
+      for (int i = 0; i < scripts.size(); i++) {
+        scriptListTable.writeULong(
+            this.data.readULongAsInt(this.scriptList + 2 + 6 * scripts.get(i)));
+        positions[i] = scriptListTable.writeUShort(0);
+      }
+      for (int i = 0; i < scripts.size(); i++) {
+        int script =
+            this.scriptList + this.readUShort(this.scriptList + 6 + 6 * scripts.get(i));
+        scriptListTable.appendSubTable(positions[i], this.writeScript(script));
+      }
+      return scriptListTable;
+    }
+
+    private LayoutBuffer writeScript(int script) {
+      LayoutBuffer scriptTable = new LayoutBuffer();
+      int defaultLangSysPosition = scriptTable.writeUShort(0);
+      int langSysCount = this.readUShort(script + 2);
+      scriptTable.writeUShort(langSysCount);
+      int[] positions = new int[langSysCount];
+      for (int i = 0; i < langSysCount; i++) {
+        scriptTable.writeULong(this.data.readULongAsInt(script + 4 + 6 * i));
+        positions[i] = scriptTable.writeUShort(0);
+      }
+      int defaultLangSys = this.readUShort(script);
+      if (defaultLangSys != 0) {
+        scriptTable.appendSubTable(defaultLangSysPosition,
+            this.writeLangSys(script + defaultLangSys));
+      }
+      for (int i = 0; i < langSysCount; i++) {
+        scriptTable.appendSubTable(positions[i],
+            this.writeLangSys(script + this.readUShort(script + 8 + 6 * i)));
+      }
+      return scriptTable;
+    }
+
+    private LayoutBuffer writeLangSys(int langSys) {
+      LayoutBuffer langSysTable = new LayoutBuffer();
+      langSysTable.writeUShort(0);
+      int required = this.readUShort(langSys + 2);
+      langSysTable.writeUShort(required < this.newFeatures.length
+          && this.newFeatures[required] >= 0 ? this.newFeatures[required] : NO_REQUIRED_FEATURE);
+      int countPosition = langSysTable.writeUShort(0);
+      int count = 0;
+      for (int i = 0; i < this.readUShort(langSys + 4); i++) {
+        int feature = this.readUShort(langSys + 6 + 2 * i);
+        if (feature < this.newFeatures.length && this.newFeatures[feature] >= 0) {
+          langSysTable.writeUShort(this.newFeatures[feature]);
+          count++;
+        }
+      }
+      langSysTable.setUShort(countPosition, count);
+      return langSysTable;
+    }
+
+    private LayoutBuffer writeFeatureList() {
+      LayoutBuffer featureListTable = new LayoutBuffer();
+      int countPosition = featureListTable.writeUShort(0);
+      List<Integer> features = new ArrayList<Integer>();
+      List<Integer> positions = new ArrayList<Integer>();
+      for (int feature = 0; feature < this.newFeatures.length; feature++) {
+        if (this.newFeatures[feature] >= 0) {
+          featureListTable.writeULong(this.data.readULongAsInt(this.featureList + 2 + 6 * feature));
+          positions.add(featureListTable.writeUShort(0));
+          features.add(feature);
+        }
+      }
+      featureListTable.setUShort(countPosition, features.size());
+      for (int i = 0; i < features.size(); i++) {
+        // feature parameters are dropped
+        int feature = this.featureOffset(features.get(i));
+        LayoutBuffer featureTable = new LayoutBuffer();
+        featureTable.writeUShort(0);
+        int lookupCountPosition = featureTable.writeUShort(0);
+        int lookupCount = 0;
+        for (int j = 0; j < this.readUShort(feature + 2); j++) {
+          int lookup = this.readUShort(feature + 4 + 2 * j);
+          if (lookup < this.newLookups.length && this.newLookups[lookup] >= 0) {
+            featureTable.writeUShort(this.newLookups[lookup]);
+            lookupCount++;
+          }
+        }
+        featureTable.setUShort(lookupCountPosition, lookupCount);
+        featureListTable.appendSubTable(positions.get(i), featureTable);
+      }
+      return featureListTable;
+    }
+
+    // Lookups
+
+    private LayoutBuffer writeLookupList() {
+      List<Integer> lookupTypes = new ArrayList<Integer>();
+      List<List<LayoutBuffer>> lookupSubTables = new ArrayList<List<LayoutBuffer>>();
+      List<Integer> lookups = new ArrayList<Integer>();
+      int size = 0;
+      for (int lookup = 0; lookup < this.newLookups.length; lookup++) {
+        if (this.newLookups[lookup] < 0) {
+          continue;
+        }
+        int lookupOffset = this.lookupOffset(lookup);
+        int originalType = this.readUShort(lookupOffset);
+        // the subtables are written without the extension subtables; those
+        // all share the type of the subtables they wrap
+        int lookupType = originalType;
+        List<LayoutBuffer> subTables = new ArrayList<LayoutBuffer>();
+        for (int i = 0; i < this.readUShort(lookupOffset + 4); i++) {
+          int subTable = lookupOffset + this.readUShort(lookupOffset + 6 + 2 * i);
+          if (originalType == EXTENSION) {
+            lookupType = this.readUShort(subTable + 2);
+            subTable += this.data.readULongAsInt(subTable + 4);
+          }
+          LayoutBuffer subset = this.subsetSubTable(lookupType, subTable);
+          if (subset != null) {
+            subTables.add(subset);
+            size += subset.size();
+          }
+        }
+        lookups.add(lookup);
+        lookupTypes.add(lookupType);
+        lookupSubTables.add(subTables);
+        size += 8 + 2 * subTables.size();
+      }
+
+      // the subtables are reached through extension subtables if they are
+      // too far away for the 16 bit offsets of the lookup tables
+      boolean extend = size + 2 + 2 * lookups.size() > 0xffff;
+      LayoutBuffer lookupListTable = new LayoutBuffer();
+      lookupListTable.writeUShort(lookups.size());
+      int[] positions = new int[lookups.size()];
+      for (int i = 0; i < lookups.size(); i++) {
+        positions[i] = lookupListTable.writeUShort(0);
+      }
+      List<Integer> extensionPositions = new ArrayList<Integer>();
+      for (int i = 0; i < lookups.size(); i++) {
+        int lookup = this.lookupOffset(lookups.get(i));
+        int lookupFlag = this.readUShort(lookup + 2);
+        int oldSubTableCount = this.readUShort(lookup + 4);
+        List<LayoutBuffer> subTables = lookupSubTables.get(i);
+
+        LayoutBuffer lookupTable = new LayoutBuffer();
+        lookupTable.writeUShort(extend ? EXTENSION : lookupTypes.get(i));
+        lookupTable.writeUShort(lookupFlag);
+        lookupTable.writeUShort(subTables.size());
+        int[] subTablePositions = new int[subTables.size()];
+        for (int j = 0; j < subTables.size(); j++) {
+          subTablePositions[j] = lookupTable.writeUShort(0);
+        }
+        if ((lookupFlag & USE_MARK_FILTERING_SET) != 0) {
+          lookupTable.writeUShort(this.readUShort(lookup + 6 + 2 * oldSubTableCount));
+        }
+        int extensionStart = 0;
+        for (int j = 0; j < subTables.size(); j++) {
+          if (extend) {
+            LayoutBuffer extension = new LayoutBuffer();
+            extension.writeUShort(1);
+            extension.writeUShort(lookupTypes.get(i));
+            extension.writeULong(0);
+            lookupTable.appendSubTable(subTablePositions[j], extension);
+            if (j == 0) {
+              extensionStart = lookupTable.readOffset(subTablePositions[j]);
+            }
+          } else {
+            lookupTable.appendSubTable(subTablePositions[j], subTables.get(j));
+          }
+        }
+        lookupListTable.appendSubTable(positions[i], lookupTable);
+        if (extend) {
+          int start = lookupListTable.readOffset(positions[i]) + extensionStart;
+          for (int j = 0; j < subTables.size(); j++) {
+            extensionPositions.add(start + j * EXTENSION_SUBTABLE_SIZE);
+          }
+        }
+      }
+      if (extend) {
+        int extension = 0;
+        for (List<LayoutBuffer> subTables : lookupSubTables) {
+          for (LayoutBuffer subTable : subTables) {
+            int extensionPosition = extensionPositions.get(extension++);
+            int position = lookupListTable.append(subTable);
+            lookupListTable.setULong(extensionPosition + 4, position - extensionPosition);
+          }
+        }
+      }
+      return lookupListTable;
+    }
+
+    /**
+     * Reads the coverage table whose offset follows the format of a subtable.
+     */
+    private int[] coverageGlyphs(int subTable) {
+      return LayoutGlyphs.readCoverage(this.data, subTable + this.readUShort(subTable + 2));
+    }
+
+    private LayoutBuffer subsetSubTable(int lookupType, int subTable) {
+      int format = this.readUShort(subTable);
+      switch (lookupType) {
+        case SINGLE:
+          return this.subsetSingle(subTable, format);
+        case MULTIPLE:
+          return this.subsetSequences(subTable, false);
+        case ALTERNATE:
+          return this.subsetSequences(subTable, true);
+        case LIGATURE:
+          return this.subsetLigatures(subTable);
+        case CONTEXT:
+        case CHAINING_CONTEXT:
+          boolean chain = lookupType == CHAINING_CONTEXT;
+          if (format == 1) {
+            return this.subsetGlyphContext(subTable, chain);
+          } else if (format == 2) {
+            return this.subsetClassContext(subTable, chain);
+          } else if (format == 3) {
+            return this.subsetCoverageContext(subTable, chain);
+          }
+          throw new IllegalArgumentException("Unknown contextual subtable format " + format);
+        case REVERSE_CHAINING:
+          return this.subsetReverseChaining(subTable);
+        default:
+          throw new IllegalArgumentException("Unknown GSUB lookup type " + lookupType);
+      }
+    }
+
+    private LayoutBuffer subsetSingle(int subTable, int format) {
+      int[] coverage = this.coverageGlyphs(subTable);
+      long[] pairs = new long[coverage.length];
+      int count = 0;
+      for (int i = 0; i < coverage.length; i++) {
+        int substitute;
+        if (format == 1) {
+          substitute = (coverage[i] + this.data.readShort(subTable + 4)) & 0xffff;
+        } else {
+          substitute = this.readUShort(subTable + 6 + 2 * i);
+        }
+        int newGlyph = this.glyphs.newGlyph(coverage[i]);
+        int newSubstitute = this.glyphs.newGlyph(substitute);
+        if (newGlyph >= 0 && newSubstitute >= 0) {
+          pairs[count++] = ((long) newGlyph << 16) | newSubstitute;
+        }
+      }
+      if (count == 0) {
+        return null;
+      }
+      pairs = Arrays.copyOf(pairs, count);
+      Arrays.sort(pairs);
+      int[] newCoverage = new int[count];
+      int[] substitutes = new int[count];
+      boolean sameDelta = true;
+      for (int i = 0; i < count; i++) {
+        newCoverage[i] = (int) (pairs[i] >> 16);
+        substitutes[i] = (int) (pairs[i] & 0xffff);
+        sameDelta &= substitutes[i] - newCoverage[i] == substitutes[0] - newCoverage[0];
+      }
+
+      LayoutBuffer single = new LayoutBuffer();
+      single.writeUShort(sameDelta ? 1 : 2);
+      int coveragePosition = single.writeUShort(0);
+      if (sameDelta) {
+        single.writeUShort((substitutes[0] - newCoverage[0]) & 0xffff);
+      } else {
+        single.writeUShort(count);
+        for (int substitute : substitutes) {
+          single.writeUShort(substitute);
+        }
+      }
+      single.appendSubTable(coveragePosition, LayoutGlyphs.coverage(newCoverage));
+      return single;
+    }
+
+    /**
+     * Subsets a multiple or alternate substitution. Both map each covered glyph
+     * to an array of glyphs. A multiple substitution is left out if any of its
+     * glyphs isn't kept while an alternate set just loses those alternates.
+     */
+    private LayoutBuffer subsetSequences(int subTable, boolean alternates) {
+      int[] coverage = this.coverageGlyphs(subTable);
+      Map<Integer, LayoutBuffer> sequences = new TreeMap<Integer, LayoutBuffer>();
+      for (int i = 0; i < coverage.length && i < this.readUShort(subTable + 4); i++) {
+        int newGlyph = this.glyphs.newGlyph(coverage[i]);
+        if (newGlyph < 0) {
+          continue;
+        }
+        int sequence = subTable + this.readUShort(subTable + 6 + 2 * i);
+        LayoutBuffer sequenceTable = new LayoutBuffer();
+        int countPosition = sequenceTable.writeUShort(0);
+        int count = 0;
+        boolean complete = true;
+        for (int j = 0; j < this.readUShort(sequence); j++) {
+          int substitute = this.glyphs.newGlyph(this.readUShort(sequence + 2 + 2 * j));
+          if (substitute >= 0) {
+            sequenceTable.writeUShort(substitute);
+            count++;
+          } else {
+            complete = false;
+          }
+        }
+        if (alternates ? count > 0 : complete) {
+          sequenceTable.setUShort(countPosition, count);
+          sequences.put(newGlyph, sequenceTable);
+        }
+      }
+      return this.writeCoverageIndexed(sequences);
+    }
+
+    private LayoutBuffer subsetLigatures(int subTable) {
+      int[] coverage = this.coverageGlyphs(subTable);
+      Map<Integer, LayoutBuffer> ligatureSets = new TreeMap<Integer, LayoutBuffer>();
+      for (int i = 0; i < coverage.length && i < this.readUShort(subTable + 4); i++) {
+        int newGlyph = this.glyphs.newGlyph(coverage[i]);
+        if (newGlyph < 0) {
+          continue;
+        }
+        int ligatureSet = subTable + this.readUShort(subTable + 6 + 2 * i);
+        List<LayoutBuffer> ligatures = new ArrayList<LayoutBuffer>();
+        for (int j = 0; j < this.readUShort(ligatureSet); j++) {
+          int ligature = ligatureSet + this.readUShort(ligatureSet + 2 + 2 * j);
+          int ligatureGlyph = this.glyphs.newGlyph(this.readUShort(ligature));
+          int componentCount = this.readUShort(ligature + 2);
+          if (ligatureGlyph < 0 || componentCount == 0
+              || !this.glyphs.allKept(this.data, ligature + 4, componentCount - 1)) {
+            continue;
+          }
+          LayoutBuffer ligatureTable = new LayoutBuffer();
+          ligatureTable.writeUShort(ligatureGlyph);
+          ligatureTable.writeUShort(componentCount);
+          this.copyGlyphs(ligatureTable, ligature + 4, componentCount - 1, null);
+          ligatures.add(ligatureTable);
+        }
+        if (!ligatures.isEmpty()) {
+          ligatureSets.put(newGlyph, writeOffsetArray(ligatures));
+        }
+      }
+      return this.writeCoverageIndexed(ligatureSets);
+    }
+
+    /**
+     * Writes a format 1 subtable of a coverage table and an array of
+     * subtables, one for each covered glyph.
+     *
+     * @param subTables the subtable for each new glyph id
+     * @return the subtable; null if there are no subtables
+     */
+    private LayoutBuffer writeCoverageIndexed(Map<Integer, LayoutBuffer> subTables) {
+      if (subTables.isEmpty()) {
+        return null;
+      }
+      LayoutBuffer table = new LayoutBuffer();
+      table.writeUShort(1);
+      int coveragePosition = table.writeUShort(0);
+      table.writeUShort(subTables.size());
+      int[] positions = new int[subTables.size()];
+      for (int i = 0; i < positions.length; i++) {
+        positions[i] = table.writeUShort(0);
+      }
+      int[] coverage = new int[subTables.size()];
+      int i = 0;
+      for (Map.Entry<Integer, LayoutBuffer> entry : subTables.entrySet()) {
+        coverage[i] = entry.getKey();
+        table.appendSubTable(positions[i], entry.getValue());
+        i++;
+      }
+      table.appendSubTable(coveragePosition, LayoutGlyphs.coverage(coverage));
+      return table;
+    }
+
+    private static LayoutBuffer writeOffsetArray(List<LayoutBuffer> subTables) {
+      LayoutBuffer table = new LayoutBuffer();
+      table.writeUShort(subTables.size());
+      int[] positions = new int[subTables.size()];
+      for (int i = 0; i < positions.length; i++) {
+        positions[i] = table.writeUShort(0);
+      }
+      for (int i = 0; i < positions.length; i++) {
+        table.appendSubTable(positions[i], subTables.get(i));
+      }
+      return table;
+    }
+
+    // Contextual substitutions
+
+    private LayoutBuffer subsetGlyphContext(int subTable, boolean chain) {
+      int[] coverage = this.coverageGlyphs(subTable);
+      int sets = this.ruleSetsOffset(subTable, chain, 1);
+      Map<Integer, LayoutBuffer> ruleSets = new TreeMap<Integer, LayoutBuffer>();
+      for (int i = 0; i < coverage.length && i < this.readUShort(sets); i++) {
+        int newGlyph = this.glyphs.newGlyph(coverage[i]);
+        int setOffset = this.readUShort(sets + 2 + 2 * i);
+        if (newGlyph < 0 || setOffset == 0) {
+          continue;
+        }
+        LayoutBuffer ruleSet = this.subsetRuleSet(subTable + setOffset, chain, null);
+        if (ruleSet != null) {
+          ruleSets.put(newGlyph, ruleSet);
+        }
+      }
+      return this.writeCoverageIndexed(ruleSets);
+    }
+
+    private LayoutBuffer subsetClassContext(int subTable, boolean chain) {
+      int[] coverage = this.coverageGlyphs(subTable);
+      int classDefCount = chain ? 3 : 1;
+      int[][] classes = new int[classDefCount][];
+      BitSet[] usedClasses = new BitSet[classDefCount];
+      for (int i = 0; i < classDefCount; i++) {
+        int classDef = this.readUShort(subTable + 4 + 2 * i);
+        classes[i] = this.glyphs.readClasses(this.data, classDef == 0 ? 0 : subTable + classDef);
+        // class 0 holds every glyph without a class so it is always in use
+        usedClasses[i] = new BitSet();
+        usedClasses[i].set(0);
+        for (int classValue : classes[i]) {
+          usedClasses[i].set(classValue);
+        }
+      }
+      // a rule set only applies to the covered glyphs of its input class
+      int[] inputClasses = classes[chain ? 1 : 0];
+      List<Integer> newCoverage = new ArrayList<Integer>();
+      BitSet coveredClasses = new BitSet();
+      for (int glyph : coverage) {
+        int newGlyph = this.glyphs.newGlyph(glyph);
+        if (newGlyph >= 0) {
+          newCoverage.add(newGlyph);
+          coveredClasses.set(inputClasses[newGlyph]);
+        }
+      }
+      if (newCoverage.isEmpty()) {
+        return null;
+      }
+      int sets = this.ruleSetsOffset(subTable, chain, 2);
+      int setCount = this.readUShort(sets);
+
+      LayoutBuffer table = new LayoutBuffer();
+      table.writeUShort(2);
+      int coveragePosition = table.writeUShort(0);
+      int[] classDefPositions = new int[classDefCount];
+      for (int i = 0; i < classDefCount; i++) {
+        classDefPositions[i] = table.writeUShort(0);
+      }
+      table.writeUShort(setCount);
+      int[] setPositions = new int[setCount];
+      for (int i = 0; i < setCount; i++) {
+        setPositions[i] = table.writeUShort(0);
+      }
+      table.appendSubTable(coveragePosition, LayoutGlyphs.coverage(toSortedArray(newCoverage)));
+      for (int i = 0; i < classDefCount; i++) {
+        if (this.readUShort(subTable + 4 + 2 * i) != 0) {
+          table.appendSubTable(classDefPositions[i], LayoutGlyphs.classDef(classes[i]));
+        }
+      }
+      for (int i = 0; i < setCount; i++) {
+        int setOffset = this.readUShort(sets + 2 + 2 * i);
+        if (setOffset != 0 && coveredClasses.get(i)) {
+          table.appendSubTable(setPositions[i],
+              this.subsetRuleSet(subTable + setOffset, chain, usedClasses));
+        }
+      }
+      return table;
+    }
+
+    private static int[] toSortedArray(List<Integer> values) {
+      int[] array = new int[values.size()];
+      for (int i = 0; i < array.length; i++) {
+        array[i] = values.get(i);
+      }
+      Arrays.sort(array);
+      return array;
+    }
+
+    private LayoutBuffer subsetCoverageContext(int subTable, boolean chain) {
+      // the coverage arrays as the position of their count and of their first
+      // offset; one array without chaining and backtrack, input and lookahead
+      // arrays with it
+      int arrayCount = chain ? 3 : 1;
+      int[] counts = new int[arrayCount];
+      int[] firsts = new int[arrayCount];
+      if (chain) {
+        int position = subTable + 2;
+        for (int i = 0; i < arrayCount; i++) {
+          counts[i] = position;
+          firsts[i] = position + 2;
+          position += 2 + 2 * this.readUShort(position);
+        }
+      } else {
+        // the lookup record count sits between the glyph count and the offsets
+        counts[0] = subTable + 2;
+        firsts[0] = subTable + 6;
+      }
+      List<LayoutBuffer> coverages = new ArrayList<LayoutBuffer>();
+      for (int array = 0; array < arrayCount; array++) {
+        for (int i = 0; i < this.readUShort(counts[array]); i++) {
+          LayoutBuffer coverage = this.glyphs.subsetCoverage(
+              this.data, subTable + this.readUShort(firsts[array] + 2 * i));
+          if (coverage == null) {
+            return null;
+          }
+          coverages.add(coverage);
+        }
+      }
+
+      LayoutBuffer table = new LayoutBuffer();
+      table.writeUShort(3);
+      List<Integer> coveragePositions = new ArrayList<Integer>();
+      int substCountPosition = 0;
+      for (int array = 0; array < arrayCount; array++) {
+        table.writeUShort(this.readUShort(counts[array]));
+        if (!chain) {
+          substCountPosition = table.writeUShort(0);
+        }
+        for (int i = 0; i < this.readUShort(counts[array]); i++) {
+          coveragePositions.add(table.writeUShort(0));
+        }
+      }
+      if (chain) {
+        substCountPosition = table.writeUShort(0);
+      }
+      this.copyLookupRecords(table, substCountPosition, this.format3Records(subTable, chain),
+          this.format3RecordCount(subTable, chain));
+      for (int i = 0; i < coverages.size(); i++) {
+        table.appendSubTable(coveragePositions.get(i), coverages.get(i));
+      }
+      return table;
+    }
+
+    private LayoutBuffer subsetRuleSet(int ruleSet, boolean chain, BitSet[] usedClasses) {
+      List<LayoutBuffer> rules = new ArrayList<LayoutBuffer>();
+      for (int i = 0; i < this.readUShort(ruleSet); i++) {
+        LayoutBuffer rule =
+            this.subsetRule(ruleSet + this.readUShort(ruleSet + 2 + 2 * i), chain, usedClasses);
+        if (rule != null) {
+          rules.add(rule);
+        }
+      }
+      return rules.isEmpty() ? null : writeOffsetArray(rules);
+    }
+
+    /**
+     * Subsets a contextual rule. The sequences of a glyph based rule are
+     * renumbered while those of a class based rule are copied.
+     *
+     * @param usedClasses the classes that kept glyphs have in the backtrack,
+     *        input and lookahead class definitions; null for a glyph based rule
+     * @return the rule; null if the rule uses a glyph or class that no kept
+     *         glyph has
+     */
+    private LayoutBuffer subsetRule(int rule, boolean chain, BitSet[] usedClasses) {
+      LayoutBuffer ruleTable = new LayoutBuffer();
+      int substCountPosition;
+      if (!chain) {
+        int glyphCount = this.readUShort(rule);
+        ruleTable.writeUShort(glyphCount);
+        substCountPosition = ruleTable.writeUShort(0);
+        if (!this.copyGlyphs(ruleTable, rule + 4, Math.max(glyphCount - 1, 0),
+            usedClasses == null ? null : usedClasses[0])) {
+          return null;
+        }
+      } else {
+        int position = rule;
+        for (int i = 0; i < 3; i++) {
+          // the input sequence leaves out the first glyph
+          int count = this.readUShort(position);
+          int length = i == 1 ? Math.max(count - 1, 0) : count;
+          ruleTable.writeUShort(count);
+          if (!this.copyGlyphs(ruleTable, position + 2, length,
+              usedClasses == null ? null : usedClasses[i])) {
+            return null;
+          }
+          position += 2 + 2 * length;
+        }
+        substCountPosition = ruleTable.writeUShort(0);
+      }
+      this.copyLookupRecords(ruleTable, substCountPosition, this.ruleRecords(rule, chain),
+          this.ruleRecordCount(rule, chain));
+      return ruleTable;
+    }
+
+    /**
+     * Copies a sequence of glyphs, renumbering them, or of classes.
+     *
+     * @param usedClasses the classes in use; null if the sequence is of glyphs
+     * @return false if a glyph isn't kept or a class isn't in use
+     */
+    private boolean copyGlyphs(LayoutBuffer table, int offset, int count, BitSet usedClasses) {
+      for (int i = 0; i < count; i++) {
+        int value = this.readUShort(offset + 2 * i);
+        if (usedClasses == null) {
+          value = this.glyphs.newGlyph(value);
+          if (value < 0) {
+            return false;
+          }
+        } else if (!usedClasses.get(value)) {
+          return false;
+        }
+        table.writeUShort(value);
+      }
+      return true;
+    }
+
+    private void copyLookupRecords(LayoutBuffer table, int countPosition, int records,
+        int count) {
+      int kept = 0;
+      for (int i = 0; i < count; i++) {
+        int lookup = this.readUShort(records + 4 * i + 2);
+        if (lookup < this.newLookups.length && this.newLookups[lookup] >= 0) {
+          table.writeUShort(this.readUShort(records + 4 * i));
+          table.writeUShort(this.newLookups[lookup]);
+          kept++;
+        }
+      }
+      table.setUShort(countPosition, kept);
+    }
+
+    private LayoutBuffer subsetReverseChaining(int subTable) {
+      int[] coverage = this.coverageGlyphs(subTable);
+      int backtrack = subTable + 4;
+      int lookahead = backtrack + 2 + 2 * this.readUShort(backtrack);
+      int substitutes = lookahead + 2 + 2 * this.readUShort(lookahead);
+
+      Map<Integer, Integer> pairs = new TreeMap<Integer, Integer>();
+      for (int i = 0; i < coverage.length && i < this.readUShort(substitutes); i++) {
+        int newGlyph = this.glyphs.newGlyph(coverage[i]);
+        int substitute = this.glyphs.newGlyph(this.readUShort(substitutes + 2 + 2 * i));
+        if (newGlyph >= 0 && substitute >= 0) {
+          pairs.put(newGlyph, substitute);
+        }
+      }
+      if (pairs.isEmpty()) {
+        return null;
+      }
+      List<LayoutBuffer> contextCoverages = new ArrayList<LayoutBuffer>();
+      for (int array : new int[] {backtrack, lookahead}) {
+        for (int i = 0; i < this.readUShort(array); i++) {
+          LayoutBuffer context = this.glyphs.subsetCoverage(
+              this.data, subTable + this.readUShort(array + 2 + 2 * i));
+          if (context == null) {
+            return null;
+          }
+          contextCoverages.add(context);
+        }
+      }
+
+      LayoutBuffer table = new LayoutBuffer();
+      table.writeUShort(1);
+      int coveragePosition = table.writeUShort(0);
+      List<Integer> contextPositions = new ArrayList<Integer>();
+      for (int array : new int[] {backtrack, lookahead}) {
+        table.writeUShort(this.readUShort(array));
+        for (int i = 0; i < this.readUShort(array); i++) {
+          contextPositions.add(table.writeUShort(0));
+        }
+      }
+      table.writeUShort(pairs.size());
+      int[] newCoverage = new int[pairs.size()];
+      int i = 0;
+      for (Map.Entry<Integer, Integer> pair : pairs.entrySet()) {
+        newCoverage[i++] = pair.getKey();
+        table.writeUShort(pair.getValue());
+      }
+      table.appendSubTable(coveragePosition, LayoutGlyphs.coverage(newCoverage));
+      for (i = 0; i < contextCoverages.size(); i++) {
+        table.appendSubTable(contextPositions.get(i), contextCoverages.get(i));
+      }
+      return table;
+    }
+  }
+}
@@ -0,0 +1,345 @@
+/*
+ * Copyright 2011 Google Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.typography.font.tools.subsetter;
+
+import com.google.typography.font.sfntly.Font;
+import com.google.typography.font.sfntly.FontFactory;
+import com.google.typography.font.sfntly.Tag;
+import com.google.typography.font.sfntly.data.ReadableFontData;
+import com.google.typography.font.sfntly.data.WritableFontData;
+import com.google.typography.font.sfntly.table.Table;
+import com.google.typography.font.sfntly.table.core.CMap;
+import com.google.typography.font.sfntly.table.core.CMapTable;
+import com.google.typography.font.sfntly.table.core.FontHeaderTable;
+import com.google.typography.font.sfntly.table.core.HorizontalMetricsTable;
+import com.google.typography.font.sfntly.table.core.MaximumProfileTable;
+import com.google.typography.font.sfntly.table.truetype.LocaTable;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedMap;
+
+/**
+ * A patch that appends glyphs to a renumbered subset that has already been
+ * delivered. The glyphs already delivered keep their glyph ids and the new
+ * glyphs follow them, so a patch only holds the data for the new glyphs:
+ *
+ * <pre>
+ * Fixed    version               0x00010000
+ * USHORT   firstGlyph            the number of glyphs already delivered
+ * USHORT   glyphCount            the number of glyphs added
+ * USHORT   maxp[7]               maxPoints through maxComponentDepth for all
+ *                                of the glyphs once the patch is applied
+ * ULONG    cmapCount             the number of new character mappings
+ * {ULONG character, USHORT glyphId}[cmapCount]
+ * USHORT   sourceGlyphs[glyphCount]  the glyph ids in the source font
+ * {USHORT advanceWidth, SHORT lsb}[glyphCount]
+ * ULONG    glyphOffsets[glyphCount + 1]  from the start of the glyph data
+ * BYTE     glyph data            the renumbered glyf entries
+ * </pre>
+ *
+ * <p>Patches are made by a {@link GlyphPatcher} and applied with
+ * {@link #applyTo(Font, FontFactory)}.
+ */
+public final class GlyphPatch {
+  private static final int VERSION = 0x00010000;
+
+  private static final int FIRST_GLYPH = 4;
+  private static final int GLYPH_COUNT = 6;
+  private static final int MAX_PROFILE = 8;
+  private static final int CMAP_COUNT = MAX_PROFILE + GlyphTableSubsetter.MaxProfile.SIZE;
+  private static final int CMAP = CMAP_COUNT + 4;
+  private static final int CMAP_RECORD_SIZE = 6;
+  private static final int METRIC_SIZE = 4;
+
+  private final ReadableFontData data;
+  private final int sourceGlyphs;
+  private final int metrics;
+  private final int glyphOffsets;
+  private final int glyphData;
+
+  private GlyphPatch(ReadableFontData data) {
+    if (data.readFixed(0) != VERSION) {
+      throw new IllegalArgumentException("Unknown glyph patch version.");
+    }
+    this.data = data;
+    this.sourceGlyphs = CMAP + CMAP_RECORD_SIZE * data.readULongAsInt(CMAP_COUNT);
+    this.metrics = this.sourceGlyphs + 2 * this.glyphCount();
+    this.glyphOffsets = this.metrics + METRIC_SIZE * this.glyphCount();
+    this.glyphData = this.glyphOffsets + 4 * (this.glyphCount() + 1);
+  }
+
+  /**
+   * Reads a patch written by {@link #writeTo(OutputStream)}.
+   *
+   * @param data the patch data
+   * @return the patch
+   * @throws IllegalArgumentException if the data isn't a glyph patch
+   */
+  public static GlyphPatch read(ReadableFontData data) {
+    return new GlyphPatch(data);
+  }
+
+  /**
+   * Writes a patch.
+   *
+   * @param firstGlyph the number of glyphs already delivered
+   * @param glyphs the source glyph id of each new glyph
+   * @param maxProfile the maxp values of all of the glyphs
+   * @param cmap the new mappings from character to new glyph id
+   * @param advanceWidths the advance width of each new glyph
+   * @param leftSideBearings the left side bearing of each new glyph
+   * @param glyphData the renumbered data of each new glyph
+   * @return the patch
+   */
+  static GlyphPatch create(int firstGlyph, List<Integer> glyphs,
+      GlyphTableSubsetter.MaxProfile maxProfile, SortedMap<Integer, Integer> cmap,
+      int[] advanceWidths, int[] leftSideBearings, List<ReadableFontData> glyphData) {
+    int glyphDataSize = 0;
+    for (ReadableFontData glyph : glyphData) {
+      glyphDataSize += glyph.length();
+    }
+    int size = CMAP + CMAP_RECORD_SIZE * cmap.size()
+        + (2 + METRIC_SIZE + 4) * glyphs.size() + 4 + glyphDataSize;
+    WritableFontData data = WritableFontData.createWritableFontData(size);
+    int index = data.writeFixed(0, VERSION);
+    index += data.writeUShort(index, firstGlyph);
+    index += data.writeUShort(index, glyphs.size());
+    index += maxProfile.write(data, index);
+    index += data.writeULong(index, cmap.size());
+    for (Map.Entry<Integer, Integer> mapping : cmap.entrySet()) {
+      index += data.writeULong(index, mapping.getKey());
+      index += data.writeUShort(index, mapping.getValue());
+    }
+    for (int glyph : glyphs) {
+      index += data.writeUShort(index, glyph);
+    }
+    for (int i = 0; i < glyphs.size(); i++) {
+      index += data.writeUShort(index, advanceWidths[i]);
+      index += data.writeShort(index, leftSideBearings[i]);
+    }
+    int offset = 0;
+    index += data.writeULong(index, offset);
+    for (ReadableFontData glyph : glyphData) {
+      offset += glyph.length();
+      index += data.writeULong(index, offset);
+    }
+    for (ReadableFontData glyph : glyphData) {
+      index += glyph.copyTo(data.slice(index, glyph.length()));
+    }
+    return new GlyphPatch(data);
+  }
+
+  /**
+   * Gets the number of glyphs that the patch is applied to.
+   *
+   * @return the glyph id of the first glyph added
+   */
+  public int firstGlyph() {
+    return this.data.readUShort(FIRST_GLYPH);
+  }
+
+  /**
+   * Gets the number of glyphs added by the patch.
+   *
+   * @return the number of glyphs
+   */
+  public int glyphCount() {
+    return this.data.readUShort(GLYPH_COUNT);
+  }
+
+  /**
+   * Gets the glyph ids in the source font of the glyphs added. These follow
+   * the glyphs already delivered to make the glyphs to give to the
+   * {@link GlyphPatcher} for the next patch.
+   *
+   * @return the source glyph id of each new glyph
+   */
+  public List<Integer> sourceGlyphs() {
+    List<Integer> glyphs = new ArrayList<Integer>(this.glyphCount());
+    for (int i = 0; i < this.glyphCount(); i++) {
+      glyphs.add(this.data.readUShort(this.sourceGlyphs + 2 * i));
+    }
+    return glyphs;
+  }
+
+  /**
+   * Gets the new character mappings.
+   *
+   * @return the map from character to new glyph id
+   */
+  public Map<Integer, Integer> cmap() {
+    int count = this.data.readULongAsInt(CMAP_COUNT);
+    Map<Integer, Integer> cmap = new HashMap<Integer, Integer>(count);
+    for (int i = 0; i < count; i++) {
+      int record = CMAP + CMAP_RECORD_SIZE * i;
+      cmap.put(this.data.readULongAsInt(record), this.data.readUShort(record + 4));
+    }
+    return cmap;
+  }
+
+  /**
+   * Gets the size of the patch.
+   *
+   * @return the size in bytes
+   */
+  public int length() {
+    return this.data.length();
+  }
+
+  public void writeTo(OutputStream os) throws IOException {
+    this.data.copyTo(os);
+  }
+
+  /**
+   * Applies the patch to a font. The glyf, loca, hmtx and cmap tables get the
+   * new glyphs, and the hhea and head values computed from the glyphs and the
+   * maxp values are updated. The other tables are copied unchanged, so the
+   * post glyph names and the OS/2 character summary stay those of the font.
+   *
+   * @param font the font that the patch was made for
+   * @param fontFactory the factory to build the new font with
+   * @return the builder for the patched font
+   * @throws IllegalArgumentException if the font doesn't have the number of
+   *         glyphs that the patch follows
+   */
+  public Font.Builder applyTo(Font font, FontFactory fontFactory) {
+    MaximumProfileTable maxp = font.getTable(Tag.maxp);
+    LocaTable loca = font.getTable(Tag.loca);
+    HorizontalMetricsTable hmtx = font.getTable(Tag.hmtx);
+    CMapTable cmapTable = font.getTable(Tag.cmap);
+    int firstGlyph = this.firstGlyph();
+    if (maxp == null || loca == null || hmtx == null || cmapTable == null
+        || maxp.numGlyphs() != firstGlyph) {
+      throw new IllegalArgumentException("Font doesn't match the glyph patch.");
+    }
+    int numGlyphs = firstGlyph + this.glyphCount();
+
+    Font.Builder fontBuilder = fontFactory.newFontBuilder();
+    for (Map.Entry<Integer, ? extends Table> entry : font.tableMap().entrySet()) {
+      int tag = entry.getKey();
+      if (tag != Tag.glyf && tag != Tag.loca && tag != Tag.hmtx && tag != Tag.cmap) {
+        fontBuilder.newTableBuilder(tag, entry.getValue().readFontData());
+      }
+    }
+
+    // the new glyph data follows the old
+    int glyfEnd = loca.loca(firstGlyph);
+    List<ReadableFontData> pieces = new ArrayList<ReadableFontData>(2);
+    pieces.add(font.getTable(Tag.glyf).readFontData().slice(0, glyfEnd));
+    pieces.add(this.data.slice(this.glyphData));
+    WritableFontData glyf = WritableFontData.createWritableFontData(pieces);
+    fontBuilder.newTableBuilderSharingData(Tag.glyf, glyf);
+    List<Integer> locaList = new ArrayList<Integer>(numGlyphs + 1);
+    for (int glyph = 0; glyph < firstGlyph; glyph++) {
+      locaList.add(loca.loca(glyph));
+    }
+    for (int i = 0; i <= this.glyphCount(); i++) {
+      locaList.add(glyfEnd + this.data.readULongAsInt(this.glyphOffsets + 4 * i));
+    }
+    ((LocaTable.Builder) fontBuilder.newTableBuilder(Tag.loca)).setLocaList(locaList);
+
+    MaximumProfileTable.Builder maxpBuilder =
+        (MaximumProfileTable.Builder) fontBuilder.getTableBuilder(Tag.maxp);
+    maxpBuilder.setNumGlyphs(numGlyphs);
+    GlyphTableSubsetter.MaxProfile.read(this.data, MAX_PROFILE, maxpBuilder);
+
+    this.applyMetrics(fontBuilder, hmtx, glyf, locaList);
+    this.applyCMap(fontBuilder, cmapTable);
+    return fontBuilder;
+  }
+
+  /**
+   * Builds the hmtx table for all of the glyphs and sets the hhea values and
+   * the head bounding box from the glyph headers.
+   */
+  private void applyMetrics(Font.Builder fontBuilder, HorizontalMetricsTable hmtx,
+      ReadableFontData glyf, List<Integer> locaList) {
+    int firstGlyph = this.firstGlyph();
+    int numGlyphs = locaList.size() - 1;
+    List<HorizontalMetricsTableBuilder.LongHorMetric> metrics =
+        new ArrayList<HorizontalMetricsTableBuilder.LongHorMetric>(numGlyphs);
+    int[] bounds = null;
+    for (int glyph = 0; glyph < numGlyphs; glyph++) {
+      int advanceWidth;
+      int lsb;
+      if (glyph < firstGlyph) {
+        advanceWidth = hmtx.advanceWidth(glyph);
+        lsb = hmtx.leftSideBearing(glyph);
+      } else {
+        int metric = this.metrics + METRIC_SIZE * (glyph - firstGlyph);
+        advanceWidth = this.data.readUShort(metric);
+        lsb = this.data.readShort(metric + 2);
+      }
+      // numberOfContours, xMin, yMin, xMax and yMax start every glyph
+      int offset = locaList.get(glyph);
+      boolean empty = locaList.get(glyph + 1) - offset < 10;
+      int numberOfContours = empty ? 0 : glyf.readShort(offset);
+      int xMin = empty ? 0 : glyf.readShort(offset + 2);
+      int xMax = empty ? 0 : glyf.readShort(offset + 6);
+      metrics.add(new HorizontalMetricsTableBuilder.LongHorMetric(
+          advanceWidth, lsb, xMin, xMax, numberOfContours));
+      if (numberOfContours != 0) {
+        int yMin = glyf.readShort(offset + 4);
+        int yMax = glyf.readShort(offset + 8);
+        if (bounds == null) {
+          bounds = new int[] {xMin, xMax, yMin, yMax};
+        } else {
+          bounds[0] = Math.min(bounds[0], xMin);
+          bounds[1] = Math.max(bounds[1], xMax);
+          bounds[2] = Math.min(bounds[2], yMin);
+          bounds[3] = Math.max(bounds[3], yMax);
+        }
+      }
+    }
+    new HorizontalMetricsTableBuilder(fontBuilder, metrics).build();
+
+    FontHeaderTable.Builder head = (FontHeaderTable.Builder) fontBuilder.getTableBuilder(Tag.head);
+    if (head != null && bounds != null) {
+      head.setXMin(bounds[0]);
+      head.setXMax(bounds[1]);
+      head.setYMin(bounds[2]);
+      head.setYMax(bounds[3]);
+    }
+  }
+
+  private void applyCMap(Font.Builder fontBuilder, CMapTable cmapTable) {
+    CMap cmap = null;
+    for (CMap candidate : cmapTable) {
+      if (candidate.format() == CMap.CMapFormat.Format4.value()) {
+        cmap = candidate;
+        break;
+      }
+    }
+    if (cmap == null) {
+      throw new IllegalArgumentException("Font has no format 4 cmap to patch.");
+    }
+    Map<Integer, Integer> mapping = new HashMap<Integer, Integer>();
+    for (int character : cmap) {
+      int glyph = cmap.glyphId(character);
+      if (glyph != 0) {
+        mapping.put(character, glyph);
+      }
+    }
+    mapping.putAll(this.cmap());
+    new CMapTableBuilder(fontBuilder, mapping, cmap.cmapId()).build();
+  }
+}
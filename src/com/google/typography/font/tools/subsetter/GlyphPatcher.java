@@ -0,0 +1,147 @@
+/*
+ * Copyright 2011 Google Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.typography.font.tools.subsetter;
+
+import com.google.typography.font.sfntly.Font;
+import com.google.typography.font.sfntly.Tag;
+import com.google.typography.font.sfntly.data.ReadableFontData;
+import com.google.typography.font.sfntly.table.core.CMap;
+import com.google.typography.font.sfntly.table.core.CMapTable;
+import com.google.typography.font.sfntly.table.core.HorizontalMetricsTable;
+import com.google.typography.font.sfntly.table.truetype.CompositeGraph;
+import com.google.typography.font.sfntly.table.truetype.GlyphTable;
+import com.google.typography.font.sfntly.table.truetype.LocaTable;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.List;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+/**
+ * Makes patches for serving a font incrementally. A first subset is made by
+ * the {@link RenumberingSubsetter} and each patch then adds the glyphs for
+ * more characters to the glyphs already delivered, without sending those
+ * again. The glyphs of a patch are renumbered in the same way as the
+ * {@link RenumberingSubsetter} would renumber the glyphs delivered followed by
+ * the new ones, so applying the patches gives the same glyph tables as
+ * subsetting all of the glyphs at once.
+ *
+ * <p>A patcher holds no state for a client so a single patcher may be shared
+ * by any number of threads making patches from the same font.
+ */
+public final class GlyphPatcher {
+  private final CMap cmap;
+  private final GlyphTable glyphTable;
+  private final LocaTable locaTable;
+  private final HorizontalMetricsTable hmtx;
+  private final CompositeGraph compositeGraph;
+
+  /**
+   * Constructor.
+   *
+   * @param font the source font
+   * @param cmapId the cmap to take the characters from; must be format 4 as
+   *        that is the cmap that the subsetter builds
+   * @throws IllegalArgumentException if the font doesn't have the cmap or the
+   *         TrueType outline tables
+   */
+  public GlyphPatcher(Font font, CMapTable.CMapId cmapId) {
+    CMapTable cmapTable = font.getTable(Tag.cmap);
+    this.cmap = cmapTable == null ? null : cmapTable.cmap(cmapId);
+    if (this.cmap == null || this.cmap.format() != CMap.CMapFormat.Format4.value()) {
+      throw new IllegalArgumentException("Font has no format 4 cmap for " + cmapId + ".");
+    }
+    this.glyphTable = font.getTable(Tag.glyf);
+    this.locaTable = font.getTable(Tag.loca);
+    this.hmtx = font.getTable(Tag.hmtx);
+    if (this.glyphTable == null || this.locaTable == null || this.hmtx == null) {
+      throw new IllegalArgumentException("Font has no TrueType outlines to patch.");
+    }
+    this.compositeGraph = this.glyphTable.compositeGraph(this.locaTable);
+  }
+
+  /**
+   * Makes the patch that adds the glyphs for some characters, and the
+   * components of those glyphs, to the glyphs already delivered. Characters
+   * whose glyphs have been delivered add nothing.
+   *
+   * @param deliveredGlyphs the source glyph id of each glyph already delivered
+   *        in glyph id order
+   * @param characters the characters to add
+   * @return the patch; it adds no glyphs if the characters need none
+   */
+  public GlyphPatch patch(List<Integer> deliveredGlyphs, Collection<Integer> characters) {
+    int[] oldToNew = new int[this.locaTable.numGlyphs()];
+    Arrays.fill(oldToNew, -1);
+    for (int newGlyph = 0; newGlyph < deliveredGlyphs.size(); newGlyph++) {
+      oldToNew[deliveredGlyphs.get(newGlyph)] = newGlyph;
+    }
+    BitSet added = new BitSet();
+    for (int character : characters) {
+      int glyph = this.cmap.glyphId(character);
+      if (glyph != 0) {
+        added.set(glyph);
+      }
+    }
+    this.compositeGraph.closure(added);
+    for (int glyph : deliveredGlyphs) {
+      added.clear(glyph);
+    }
+
+    List<Integer> glyphs = new ArrayList<Integer>(added.cardinality());
+    for (int glyph = added.nextSetBit(0); glyph >= 0; glyph = added.nextSetBit(glyph + 1)) {
+      oldToNew[glyph] = deliveredGlyphs.size() + glyphs.size();
+      glyphs.add(glyph);
+    }
+
+    GlyphTableSubsetter.MaxProfile maxProfile =
+        new GlyphTableSubsetter.MaxProfile(this.compositeGraph);
+    for (int glyph : deliveredGlyphs) {
+      maxProfile.add(glyph);
+    }
+    ReadableFontData glyfData = this.glyphTable.readFontData();
+    List<ReadableFontData> glyphData = new ArrayList<ReadableFontData>(glyphs.size());
+    int[] advanceWidths = new int[glyphs.size()];
+    int[] leftSideBearings = new int[glyphs.size()];
+    for (int i = 0; i < glyphs.size(); i++) {
+      int glyph = glyphs.get(i);
+      maxProfile.add(glyph);
+      ReadableFontData data = glyfData.slice(
+          this.locaTable.glyphOffset(glyph), this.locaTable.glyphLength(glyph));
+      glyphData.add(GlyphRenumberer.renumberGlyph(data, oldToNew));
+      advanceWidths[i] = this.hmtx.advanceWidth(glyph);
+      leftSideBearings[i] = this.hmtx.leftSideBearing(glyph);
+    }
+
+    // every character of a new glyph is mapped, as the subsetter maps every
+    // character of the glyphs it keeps
+    SortedMap<Integer, Integer> cmapDelta = new TreeMap<Integer, Integer>();
+    if (!glyphs.isEmpty()) {
+      for (int character : this.cmap) {
+        int glyph = this.cmap.glyphId(character);
+        if (added.get(glyph)) {
+          cmapDelta.put(character, oldToNew[glyph]);
+        }
+      }
+    }
+    return GlyphPatch.create(deliveredGlyphs.size(), glyphs, maxProfile, cmapDelta,
+        advanceWidths, leftSideBearings, glyphData);
+  }
+}
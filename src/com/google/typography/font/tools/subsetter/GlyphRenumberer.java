@@ -64,7 +64,22 @@ public class GlyphRenumberer {
   public static ReadableFontData renumberGlyph(ReadableFontData glyph,
                                                Map<Integer, Integer> mapping) {
     return isCompositeGlyph(glyph)
-        ? renumberCompositeGlyph(glyph, mapping)
+        ? renumberCompositeGlyph(glyph, null, mapping)
+        : glyph;
+  }
+
+  /**
+   * Apply a renumbering referenced glyphs in TrueType glyph data, looking the new glyph ids up in
+   * an array rather than a map.
+   *
+   * @param glyph the glyph data
+   * @param oldToNew the new glyph id for each old glyph id; negative for glyphs not kept
+   * @return renumbered glyph data
+   * @throws IllegalArgumentException if a component of the glyph is not kept
+   */
+  public static ReadableFontData renumberGlyph(ReadableFontData glyph, int[] oldToNew) {
+    return isCompositeGlyph(glyph)
+        ? renumberCompositeGlyph(glyph, oldToNew, null)
         : glyph;
   }
 
@@ -75,11 +90,12 @@ public class GlyphRenumberer {
    * @param glyph
    * @return true if glyph is composite
    */
-  private static boolean isCompositeGlyph(ReadableFontData glyph) {
+  static boolean isCompositeGlyph(ReadableFontData glyph) {
     return glyph.length() > 0 && glyph.readShort(Offset.numberOfContours.offset) < 0;
   }
   
   private static ReadableFontData renumberCompositeGlyph(ReadableFontData glyph,
+                                                         int[] oldToNew,
                                                          Map<Integer, Integer> mapping) {
     WritableFontData result = WritableFontData.createWritableFontData(glyph.length());
     glyph.copyTo(result);
@@ -90,7 +106,16 @@ public class GlyphRenumberer {
     while ((flags & CompositeGlyph.FLAG_MORE_COMPONENTS) != 0) {
       flags = glyph.readUShort(index + Offset.compositeFlags.offset);
       int oldGlyphIndex = glyph.readUShort(index + Offset.compositeGlyphIndex.offset);
-      int newGlyphIndex = mapping.get(oldGlyphIndex);
+      int newGlyphIndex;
+      if (oldToNew != null) {
+        newGlyphIndex = oldGlyphIndex < oldToNew.length ? oldToNew[oldGlyphIndex] : -1;
+        if (newGlyphIndex < 0) {
+          throw new IllegalArgumentException(
+              "Component glyph " + oldGlyphIndex + " is not in the subset.");
+        }
+      } else {
+        newGlyphIndex = mapping.get(oldGlyphIndex);
+      }
       result.writeUShort(index + Offset.compositeGlyphIndex.offset, newGlyphIndex);
       index += compositeReferenceSize(flags);
     }
@@ -19,13 +19,13 @@ package com.google.typography.font.tools.subsetter;
 import com.google.typography.font.sfntly.Font;
 import com.google.typography.font.sfntly.Tag;
 import com.google.typography.font.sfntly.data.ReadableFontData;
+import com.google.typography.font.sfntly.data.WritableFontData;
 import com.google.typography.font.sfntly.table.core.MaximumProfileTable;
 import com.google.typography.font.sfntly.table.truetype.*;
-import com.google.typography.font.sfntly.table.truetype.Glyph.GlyphType;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.Map;
 
 /**
  * @author Stuart Gill
@@ -44,45 +44,35 @@ public class GlyphTableSubsetter extends TableSubsetterImpl {
   }
 
   /**
-   * Computes composite maxp values.
-   * @param glyphTable The glyf table
-   * @param locaTable The loca table
-   * @param glyph The current composite glyph to compute values for
-   * @param values An array that holds the computed values.
-   *               values[0]: maxComponentDepth
-   *               values[1]: maxCompositeContours
-   *               values[2]: maxCompositePoints;
+   * Generates the loca list for glyph data that will be concatenated in order.
+   * This matches {@link GlyphTable.Builder#generateLocaList()} for glyph
+   * builders of the same data.
+   *
+   * @param glyphData the data for each glyph
+   * @return the loca list
    */
-  private static void computeCompositeValues(GlyphTable glyphTable, LocaTable locaTable,
-                                 CompositeGlyph glyph, int[] values) {
-    
-    values[0]++;
-    
-    for (int i = 0; i < glyph.numGlyphs(); i++) {
-      int glyphId = glyph.glyphIndex(i);
-      int offset = locaTable.glyphOffset(glyphId);
-      int length = locaTable.glyphLength(glyphId);
-      Glyph cGlyph = glyphTable.glyph(offset, length);
-      
-      if (cGlyph.glyphType() == GlyphType.Composite) {
-        computeCompositeValues(glyphTable, locaTable, (CompositeGlyph) cGlyph, values);
-      } else {
-        SimpleGlyph sGlyph = (SimpleGlyph) cGlyph;
-        values[1] += sGlyph.numberOfContours();
-        for (int j = 0; j < sGlyph.numberOfContours(); j++) {
-          values[2] += sGlyph.numberOfPoints(j);
-        }
+  private static List<Integer> generateLocaList(List<ReadableFontData> glyphData) {
+    List<Integer> locas = new ArrayList<Integer>(glyphData.size() + 1);
+    locas.add(0);
+    if (glyphData.size() == 0) {
+      locas.add(0);
+    } else {
+      int total = 0;
+      for (ReadableFontData data : glyphData) {
+        total += data.length();
+        locas.add(total);
       }
     }
+    return locas;
   }
-  
+
   @Override
   public boolean subset(Subsetter subsetter, Font font, Font.Builder fontBuilder)
       throws IOException {
     if (DEBUG) {
       System.out.println("GlyphTableSubsetter.subset()");
     }
-    List<Integer> permutationTable = subsetter.glyphMappingTable();
+    int[] permutationTable = subsetter.newToOldGlyphs();
     if (permutationTable == null) {
       return false;
     }
@@ -99,51 +89,50 @@ public class GlyphTableSubsetter extends TableSubsetterImpl {
     if (glyphTableBuilder == null || locaTableBuilder == null) {
       throw new RuntimeException("Builder for subset is not valid.");
     }
-    Map<Integer, Integer> inverseMap = subsetter.getInverseMapping();
+    // when streaming the glyph data is kept as views and concatenated rather
+    // than copied into glyph builders
+    List<ReadableFontData> glyphData =
+        subsetter.streaming() ? new ArrayList<ReadableFontData>(permutationTable.length) : null;
+    int[] inverseMap = subsetter.oldToNewGlyphs();
+    // the maxp values come from the composite index so the glyphs are copied
+    // without being parsed
+    CompositeGraph compositeGraph = glyphTable.compositeGraph(locaTable);
+    ReadableFontData glyfData = glyphTable.readFontData();
 
-    int maxPoints = 0, maxContours = 0, maxCompositePoints = 0, maxCompositeContours = 0;
-    int maxComponentDepth = 0, maxComponentElements = 0;
-    int maxSizeOfInstructions = 0;
+    MaxProfile maxProfile = new MaxProfile(compositeGraph);
     List<Glyph.Builder<? extends Glyph>> glyphBuilders = glyphTableBuilder.glyphBuilders();
     for (int oldGlyphId : permutationTable) {
       // TODO(stuartg): add subsetting individual glyph data - remove hints etc.
 
       int oldOffset = locaTable.glyphOffset(oldGlyphId);
       int oldLength = locaTable.glyphLength(oldGlyphId);
-      Glyph glyph = glyphTable.glyph(oldOffset, oldLength);
-      ReadableFontData data = glyph.readFontData();
+      ReadableFontData data = glyfData.slice(oldOffset, oldLength);
       ReadableFontData renumberedData = GlyphRenumberer.renumberGlyph(data, inverseMap);
-      Glyph.Builder<? extends Glyph> glyphBuilder = glyphTableBuilder.glyphBuilder(renumberedData);
-      if (DEBUG) {
-        System.out.println("\toldGlyphId = " + oldGlyphId);
-        System.out.println("\toldOffset = " + oldOffset);
-        System.out.println("\toldLength = " + oldLength);
-        System.out.println("\told glyph = " + glyph);
-        System.out.println("\tnew glyph builder = " + glyphBuilder);
-      }
-      glyphBuilders.add(glyphBuilder);
-      
-      maxSizeOfInstructions = Math.max(glyph.instructionSize(), maxSizeOfInstructions);
-      if (glyph.glyphType() == GlyphType.Simple){
-        SimpleGlyph simple  = (SimpleGlyph) glyph;
-        int nPoints = 0;
-        
-        maxContours = Math.max(simple.numberOfContours(), maxContours);
-        for (int i = 0; i < simple.numberOfContours(); i++) {
-          nPoints += simple.numberOfPoints(i);
-        }
-        maxPoints = Math.max(nPoints, maxPoints);
+      if (glyphData != null) {
+        glyphData.add(renumberedData);
       } else {
-        CompositeGlyph composite = (CompositeGlyph) glyph;
-        int values[] = {0, 0, 0};
-        computeCompositeValues(glyphTable, locaTable, composite, values);
-        maxComponentElements = Math.max(composite.numGlyphs(), maxComponentElements);
-        maxComponentDepth = Math.max(values[0], maxComponentDepth);
-        maxCompositeContours = Math.max(values[1], maxCompositeContours);
-        maxCompositePoints = Math.max(values[2], maxCompositePoints);
+        Glyph.Builder<? extends Glyph> glyphBuilder =
+            glyphTableBuilder.glyphBuilder(renumberedData);
+        if (DEBUG) {
+          System.out.println("\toldGlyphId = " + oldGlyphId);
+          System.out.println("\toldOffset = " + oldOffset);
+          System.out.println("\toldLength = " + oldLength);
+          System.out.println("\told glyph = " + glyphTable.glyph(oldOffset, oldLength));
+          System.out.println("\tnew glyph builder = " + glyphBuilder);
+        }
+        glyphBuilders.add(glyphBuilder);
       }
+
+      maxProfile.add(oldGlyphId);
+    }
+    List<Integer> locaList;
+    if (glyphData != null) {
+      locaList = generateLocaList(glyphData);
+      fontBuilder.newTableBuilderSharingData(
+          Tag.glyf, WritableFontData.createWritableFontData(glyphData));
+    } else {
+      locaList = glyphTableBuilder.generateLocaList();
     }
-    List<Integer> locaList = glyphTableBuilder.generateLocaList();
     if (DEBUG) {
       System.out.println("\tlocaList = " + locaList);
     }
@@ -151,14 +140,98 @@ public class GlyphTableSubsetter extends TableSubsetterImpl {
     MaximumProfileTable.Builder maxpBuilder =
       (MaximumProfileTable.Builder) fontBuilder.getTableBuilder(Tag.maxp);
     maxpBuilder.setNumGlyphs(locaTableBuilder.numGlyphs());
-    maxpBuilder.maxPoints(maxPoints);
-    maxpBuilder.setMaxContours(maxContours);
-    maxpBuilder.setMaxSizeOfInstructions(maxSizeOfInstructions);
-    maxpBuilder.setMaxComponentElements(maxComponentElements);
-    maxpBuilder.setMaxComponentDepth(maxComponentDepth);
-    maxpBuilder.setMaxCompositeContours(maxCompositeContours);
-    maxpBuilder.setMaxCompositePoints(maxCompositePoints);
+    maxProfile.setTo(maxpBuilder);
     
     return true;
   }
+
+  /**
+   * The maxp values for a set of glyphs. The values come from the composite
+   * index so the glyphs are never parsed.
+   */
+  static final class MaxProfile {
+    // the number of bytes written by write()
+    static final int SIZE = 14;
+
+    private final CompositeGraph compositeGraph;
+    private int maxPoints;
+    private int maxContours;
+    private int maxCompositePoints;
+    private int maxCompositeContours;
+    private int maxSizeOfInstructions;
+    private int maxComponentElements;
+    private int maxComponentDepth;
+
+    MaxProfile(CompositeGraph compositeGraph) {
+      this.compositeGraph = compositeGraph;
+    }
+
+    /**
+     * Adds a glyph to the set.
+     *
+     * @param glyphId the glyph id in the font of the composite index
+     */
+    void add(int glyphId) {
+      CompositeGraph graph = this.compositeGraph;
+      this.maxSizeOfInstructions =
+          Math.max(graph.instructionSize(glyphId), this.maxSizeOfInstructions);
+      if (!graph.isComposite(glyphId)) {
+        this.maxContours = Math.max(graph.totalContours(glyphId), this.maxContours);
+        this.maxPoints = Math.max(graph.totalPoints(glyphId), this.maxPoints);
+      } else {
+        this.maxComponentElements =
+            Math.max(graph.numComponents(glyphId), this.maxComponentElements);
+        this.maxComponentDepth = Math.max(graph.depth(glyphId), this.maxComponentDepth);
+        this.maxCompositeContours =
+            Math.max(graph.totalContours(glyphId), this.maxCompositeContours);
+        this.maxCompositePoints =
+            Math.max(graph.totalPoints(glyphId), this.maxCompositePoints);
+      }
+    }
+
+    void setTo(MaximumProfileTable.Builder maxpBuilder) {
+      setTo(maxpBuilder, this.values());
+    }
+
+    private int[] values() {
+      return new int[] {this.maxPoints, this.maxContours, this.maxCompositePoints,
+          this.maxCompositeContours, this.maxSizeOfInstructions, this.maxComponentElements,
+          this.maxComponentDepth};
+    }
+
+    /**
+     * Writes the values as USHORTs in the order of the maxp table.
+     *
+     * @return the number of bytes written
+     */
+    int write(WritableFontData data, int offset) {
+      int index = offset;
+      for (int value : this.values()) {
+        index += data.writeUShort(index, value);
+      }
+      return index - offset;
+    }
+
+    /**
+     * Sets the maxp values written by {@link #write(WritableFontData, int)}.
+     */
+    static void read(ReadableFontData data, int offset,
+        MaximumProfileTable.Builder maxpBuilder) {
+      int[] values = new int[SIZE / 2];
+      for (int i = 0; i < values.length; i++) {
+        values[i] = data.readUShort(offset + 2 * i);
+      }
+      setTo(maxpBuilder, values);
+    }
+
+    private static void setTo(MaximumProfileTable.Builder maxpBuilder, int[] values) {
+      maxpBuilder.maxPoints(values[0]);
+      maxpBuilder.setMaxContours(values[1]);
+      maxpBuilder.setMaxCompositePoints(values[2]);
+      maxpBuilder.setMaxCompositeContours(values[3]);
+      maxpBuilder.setMaxSizeOfInstructions(values[4]);
+      maxpBuilder.setMaxComponentElements(values[5]);
+      maxpBuilder.setMaxComponentDepth(values[6]);
+    }
+  }
 }
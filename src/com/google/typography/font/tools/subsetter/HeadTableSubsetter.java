@@ -7,7 +7,6 @@ import com.google.typography.font.sfntly.table.truetype.Glyph;
 import com.google.typography.font.sfntly.table.truetype.GlyphTable;
 import com.google.typography.font.sfntly.table.truetype.LocaTable;
 import java.io.IOException;
-import java.util.List;
 
 /**
  *
@@ -28,19 +27,17 @@ public class HeadTableSubsetter extends TableSubsetterImpl {
       return glyphTable.glyph(offset, length);
   }
   
-  @Override
-  public boolean subset(Subsetter subsetter, Font font, Font.Builder fontBuilder) throws IOException {
-    LocaTable locaTable = font.getTable(Tag.loca);
-    GlyphTable glyphTable = font.getTable(Tag.glyf);
-    List<Integer> glyphIds = subsetter.glyphMappingTable();
-    if (glyphIds.isEmpty() || locaTable == null || glyphTable == null)
-      return false;
-    
+  /**
+   * Computes the bounding box of the glyphs with contours.
+   *
+   * @return xMin, xMax, yMin and yMax; null if no glyph has contours
+   */
+  private static int[] bounds(LocaTable locaTable, GlyphTable glyphTable, int[] glyphIds) {
     Glyph glyph;
     int xMin = 0, xMax = 0, yMin = 0, yMax = 0, i;
     
-    for (i = 0; i < glyphIds.size(); i++) {
-      glyph = getGlyph(locaTable, glyphTable, glyphIds.get(i));
+    for (i = 0; i < glyphIds.length; i++) {
+      glyph = getGlyph(locaTable, glyphTable, glyphIds[i]);
       if (glyph != null && glyph.numberOfContours() != 0) {
         xMin = glyph.xMin();
         xMax = glyph.xMax();
@@ -49,11 +46,11 @@ public class HeadTableSubsetter extends TableSubsetterImpl {
         break;
       }
     }
-    if (i == glyphIds.size())
-      return false;
+    if (i == glyphIds.length)
+      return null;
     
-    for (; i < glyphIds.size(); i++) {
-      glyph = getGlyph(locaTable, glyphTable, glyphIds.get(i));
+    for (; i < glyphIds.length; i++) {
+      glyph = getGlyph(locaTable, glyphTable, glyphIds[i]);
       if (glyph != null && glyph.numberOfContours() != 0) {
         if (xMin > glyph.xMin())
           xMin = glyph.xMin();
@@ -66,6 +63,49 @@ public class HeadTableSubsetter extends TableSubsetterImpl {
       }
     }
     
+    return new int[] {xMin, xMax, yMin, yMax};
+  }
+
+  /**
+   * Computes the bounding box of the glyphs with contours from the bounds
+   * precomputed by a plan.
+   *
+   * @return xMin, xMax, yMin and yMax; null if no glyph has contours
+   */
+  private static int[] bounds(SubsetPlan plan, int[] glyphIds) {
+    int[] bounds = null;
+    for (int glyphId : glyphIds) {
+      if (plan.numberOfContours(glyphId) == 0) {
+        continue;
+      }
+      if (bounds == null) {
+        bounds = new int[] {plan.xMin(glyphId), plan.xMax(glyphId),
+            plan.yMin(glyphId), plan.yMax(glyphId)};
+      } else {
+        bounds[0] = Math.min(bounds[0], plan.xMin(glyphId));
+        bounds[1] = Math.max(bounds[1], plan.xMax(glyphId));
+        bounds[2] = Math.min(bounds[2], plan.yMin(glyphId));
+        bounds[3] = Math.max(bounds[3], plan.yMax(glyphId));
+      }
+    }
+    return bounds;
+  }
+
+  @Override
+  public boolean subset(Subsetter subsetter, Font font, Font.Builder fontBuilder) throws IOException {
+    LocaTable locaTable = font.getTable(Tag.loca);
+    GlyphTable glyphTable = font.getTable(Tag.glyf);
+    int[] glyphIds = subsetter.newToOldGlyphs();
+    if (glyphIds.length == 0 || locaTable == null || glyphTable == null)
+      return false;
+    
+    int[] bounds = subsetter.plan() != null
+        ? bounds(subsetter.plan(), glyphIds)
+        : bounds(locaTable, glyphTable, glyphIds);
+    if (bounds == null)
+      return false;
+    int xMin = bounds[0], xMax = bounds[1], yMin = bounds[2], yMax = bounds[3];
+
     FontHeaderTable.Builder head = 
             (FontHeaderTable.Builder) fontBuilder.newTableBuilder(Tag.head, 
                 font.getTable(Tag.head).readFontData());
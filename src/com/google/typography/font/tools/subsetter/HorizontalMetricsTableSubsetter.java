@@ -57,7 +57,7 @@ public class HorizontalMetricsTableSubsetter extends TableSubsetterImpl {
    */
   @Override
   public boolean subset(Subsetter subsetter, Font font, Builder fontBuilder) {
-    List<Integer> permutationTable = subsetter.glyphMappingTable();
+    int[] permutationTable = subsetter.newToOldGlyphs();
     if (permutationTable == null) {
       return false;
     }
@@ -67,16 +67,24 @@ public class HorizontalMetricsTableSubsetter extends TableSubsetterImpl {
     GlyphTable glyphTable = font.getTable(Tag.glyf);
     LocaTable locaTable = font.getTable(Tag.loca);
     List<HorizontalMetricsTableBuilder.LongHorMetric> metrics =
-        new ArrayList<HorizontalMetricsTableBuilder.LongHorMetric>();
+        new ArrayList<HorizontalMetricsTableBuilder.LongHorMetric>(permutationTable.length);
     int nnz = 0, widthsum = 0;
     
-    for (int i = 0; i < permutationTable.size(); i++) {
-      int origGlyphId = permutationTable.get(i);
-      int advanceWidth = origMetrics.advanceWidth(origGlyphId);
-      int lsb = origMetrics.leftSideBearing(origGlyphId);
-      Glyph glyph = getGlyph(locaTable, glyphTable, origGlyphId);
-      //System.out.println(glyph);
-      metrics.add(new HorizontalMetricsTableBuilder.LongHorMetric(advanceWidth, lsb, glyph.xMin(), glyph.xMax(), glyph.numberOfContours()));
+    SubsetPlan plan = subsetter.plan();
+    for (int origGlyphId : permutationTable) {
+      int advanceWidth;
+      if (plan != null) {
+        advanceWidth = plan.advanceWidth(origGlyphId);
+        metrics.add(new HorizontalMetricsTableBuilder.LongHorMetric(advanceWidth,
+            plan.leftSideBearing(origGlyphId), plan.xMin(origGlyphId), plan.xMax(origGlyphId),
+            plan.numberOfContours(origGlyphId)));
+      } else {
+        advanceWidth = origMetrics.advanceWidth(origGlyphId);
+        int lsb = origMetrics.leftSideBearing(origGlyphId);
+        Glyph glyph = getGlyph(locaTable, glyphTable, origGlyphId);
+        //System.out.println(glyph);
+        metrics.add(new HorizontalMetricsTableBuilder.LongHorMetric(advanceWidth, lsb, glyph.xMin(), glyph.xMax(), glyph.numberOfContours()));
+      }
     
       if (advanceWidth > 0) {
         nnz++;
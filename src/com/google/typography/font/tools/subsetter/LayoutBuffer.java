@@ -0,0 +1,127 @@
+/*
+ * Copyright 2011 Google Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.typography.font.tools.subsetter;
+
+import com.google.typography.font.sfntly.data.WritableFontData;
+
+import java.util.Arrays;
+
+/**
+ * A growable buffer for writing OpenType layout tables. Layout tables are
+ * trees of subtables linked by offsets from the start of the parent, so a
+ * subtable is written into its own buffer and then appended to its parent,
+ * where the offset to it is filled in.
+ */
+final class LayoutBuffer {
+  private byte[] bytes = new byte[64];
+  private int size;
+
+  int size() {
+    return this.size;
+  }
+
+  private void ensureCapacity(int capacity) {
+    if (capacity > this.bytes.length) {
+      this.bytes = Arrays.copyOf(this.bytes, Math.max(capacity, this.bytes.length * 2));
+    }
+  }
+
+  /**
+   * Writes a USHORT at the end of the buffer.
+   *
+   * @param value the value
+   * @return the position the value was written at
+   */
+  int writeUShort(int value) {
+    this.ensureCapacity(this.size + 2);
+    int position = this.size;
+    this.setUShort(position, value);
+    this.size += 2;
+    return position;
+  }
+
+  /**
+   * Writes a ULONG at the end of the buffer.
+   *
+   * @param value the value
+   * @return the position the value was written at
+   */
+  int writeULong(int value) {
+    int position = this.writeUShort(value >>> 16);
+    this.writeUShort(value & 0xffff);
+    return position;
+  }
+
+  void setUShort(int position, int value) {
+    this.bytes[position] = (byte) (value >> 8);
+    this.bytes[position + 1] = (byte) value;
+  }
+
+  void setULong(int position, int value) {
+    this.setUShort(position, value >>> 16);
+    this.setUShort(position + 2, value & 0xffff);
+  }
+
+  /**
+   * Reads back an Offset field written earlier.
+   *
+   * @param position the position of the Offset field
+   * @return the offset
+   */
+  int readOffset(int position) {
+    return ((this.bytes[position] & 0xff) << 8) | (this.bytes[position + 1] & 0xff);
+  }
+
+  /**
+   * Appends another buffer to this one.
+   *
+   * @param other the buffer to append
+   * @return the position the other buffer starts at
+   */
+  int append(LayoutBuffer other) {
+    this.ensureCapacity(this.size + other.size);
+    int position = this.size;
+    System.arraycopy(other.bytes, 0, this.bytes, position, other.size);
+    this.size += other.size;
+    return position;
+  }
+
+  /**
+   * Appends a subtable and sets the Offset field at a position in this buffer
+   * to point to it. Offsets are from the start of this buffer.
+   *
+   * @param offsetPosition the position of the Offset field
+   * @param subTable the subtable to append; if null the offset is set to 0
+   * @throws IllegalStateException if the subtable is too far away for an
+   *         Offset
+   */
+  void appendSubTable(int offsetPosition, LayoutBuffer subTable) {
+    if (subTable == null) {
+      this.setUShort(offsetPosition, 0);
+      return;
+    }
+    int position = this.append(subTable);
+    if (position > 0xffff) {
+      throw new IllegalStateException("Layout subtable offset overflow.");
+    }
+    this.setUShort(offsetPosition, position);
+  }
+
+  WritableFontData toFontData() {
+    return WritableFontData.createWritableFontData(Arrays.copyOf(this.bytes, this.size));
+  }
+}
@@ -0,0 +1,258 @@
+/*
+ * Copyright 2011 Google Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.typography.font.tools.subsetter;
+
+import com.google.typography.font.sfntly.data.ReadableFontData;
+
+import java.util.Arrays;
+
+/**
+ * The renumbering of glyphs for subsetting OpenType layout tables along with
+ * the coverage and class definition tables that index layout data by glyph.
+ * Coverage and class definition tables are read in the old glyph ids and
+ * written in the new glyph ids, leaving out the glyphs that aren't kept.
+ */
+final class LayoutGlyphs {
+  private static final int NOT_KEPT = -1;
+
+  private final int[] oldToNew;
+  private final int numGlyphs;
+
+  /**
+   * Constructor.
+   *
+   * @param subsetter the subsetter with the glyphs to keep
+   */
+  LayoutGlyphs(Subsetter subsetter) {
+    this.oldToNew = subsetter.oldToNewGlyphs();
+    this.numGlyphs = subsetter.newToOldGlyphs().length;
+  }
+
+  /**
+   * Gets the new glyph id of a glyph.
+   *
+   * @param oldGlyph the old glyph id
+   * @return the new glyph id; -1 if the glyph isn't kept
+   */
+  int newGlyph(int oldGlyph) {
+    return oldGlyph < this.oldToNew.length ? this.oldToNew[oldGlyph] : NOT_KEPT;
+  }
+
+  /**
+   * Gets whether all of the glyphs in a glyph array are kept.
+   *
+   * @param data the data holding the array
+   * @param offset the offset of the first glyph id
+   * @param count the number of glyph ids
+   * @return true if every glyph is kept; false otherwise
+   */
+  boolean allKept(ReadableFontData data, int offset, int count) {
+    for (int i = 0; i < count; i++) {
+      if (this.newGlyph(data.readUShort(offset + 2 * i)) == NOT_KEPT) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Reads the glyphs of a coverage table in coverage index order.
+   *
+   * @param data the data holding the coverage table
+   * @param offset the offset of the coverage table
+   * @return the old glyph id for each coverage index
+   */
+  static int[] readCoverage(ReadableFontData data, int offset) {
+    int format = data.readUShort(offset);
+    int count = data.readUShort(offset + 2);
+    if (format == 1) {
+      int[] glyphs = new int[count];
+      for (int i = 0; i < count; i++) {
+        glyphs[i] = data.readUShort(offset + 4 + 2 * i);
+      }
+      return glyphs;
+    }
+    if (format != 2) {
+      throw new IllegalArgumentException("Unknown coverage format " + format);
+    }
+    int size = 0;
+    for (int i = 0; i < count; i++) {
+      int record = offset + 4 + 6 * i;
+      size = Math.max(size, data.readUShort(record + 4)
+          + data.readUShort(record + 2) - data.readUShort(record) + 1);
+    }
+    int[] glyphs = new int[size];
+    for (int i = 0; i < count; i++) {
+      int record = offset + 4 + 6 * i;
+      int start = data.readUShort(record);
+      int end = data.readUShort(record + 2);
+      int startIndex = data.readUShort(record + 4);
+      for (int glyph = start; glyph <= end; glyph++) {
+        glyphs[startIndex + glyph - start] = glyph;
+      }
+    }
+    return glyphs;
+  }
+
+  /**
+   * Reads a coverage table and writes it for the kept glyphs.
+   *
+   * @param data the data holding the coverage table
+   * @param offset the offset of the coverage table
+   * @return the new coverage table; null if none of its glyphs are kept
+   */
+  LayoutBuffer subsetCoverage(ReadableFontData data, int offset) {
+    int[] glyphs = readCoverage(data, offset);
+    int[] newGlyphs = new int[glyphs.length];
+    int count = 0;
+    for (int glyph : glyphs) {
+      int newGlyph = this.newGlyph(glyph);
+      if (newGlyph != NOT_KEPT) {
+        newGlyphs[count++] = newGlyph;
+      }
+    }
+    if (count == 0) {
+      return null;
+    }
+    newGlyphs = Arrays.copyOf(newGlyphs, count);
+    Arrays.sort(newGlyphs);
+    return coverage(newGlyphs);
+  }
+
+  /**
+   * Writes a coverage table in whichever format is smaller.
+   *
+   * @param glyphs the glyph ids in ascending order without duplicates
+   * @return the coverage table
+   */
+  static LayoutBuffer coverage(int[] glyphs) {
+    int ranges = 0;
+    for (int i = 0; i < glyphs.length; i++) {
+      if (i == 0 || glyphs[i] != glyphs[i - 1] + 1) {
+        ranges++;
+      }
+    }
+    LayoutBuffer buffer = new LayoutBuffer();
+    if (glyphs.length <= 3 * ranges) {
+      buffer.writeUShort(1);
+      buffer.writeUShort(glyphs.length);
+      for (int glyph : glyphs) {
+        buffer.writeUShort(glyph);
+      }
+      return buffer;
+    }
+    buffer.writeUShort(2);
+    buffer.writeUShort(ranges);
+    for (int i = 0; i < glyphs.length;) {
+      int start = i;
+      while (i + 1 < glyphs.length && glyphs[i + 1] == glyphs[i] + 1) {
+        i++;
+      }
+      buffer.writeUShort(glyphs[start]);
+      buffer.writeUShort(glyphs[i]);
+      buffer.writeUShort(start);
+      i++;
+    }
+    return buffer;
+  }
+
+  /**
+   * Reads a class definition table for the kept glyphs.
+   *
+   * @param data the data holding the class definition table
+   * @param offset the offset of the class definition table; 0 for none
+   * @return the class of each new glyph id
+   */
+  int[] readClasses(ReadableFontData data, int offset) {
+    int[] classes = new int[this.numGlyphs];
+    if (offset == 0) {
+      return classes;
+    }
+    int format = data.readUShort(offset);
+    if (format == 1) {
+      int startGlyph = data.readUShort(offset + 2);
+      int count = data.readUShort(offset + 4);
+      for (int i = 0; i < count; i++) {
+        this.setClass(classes, startGlyph + i, data.readUShort(offset + 6 + 2 * i));
+      }
+    } else if (format == 2) {
+      int count = data.readUShort(offset + 2);
+      for (int i = 0; i < count; i++) {
+        int record = offset + 4 + 6 * i;
+        int end = Math.min(data.readUShort(record + 2), this.oldToNew.length - 1);
+        int classValue = data.readUShort(record + 4);
+        for (int glyph = data.readUShort(record); glyph <= end; glyph++) {
+          this.setClass(classes, glyph, classValue);
+        }
+      }
+    } else {
+      throw new IllegalArgumentException("Unknown class definition format " + format);
+    }
+    return classes;
+  }
+
+  /**
+   * Reads a class definition table and writes it for the kept glyphs. Glyphs
+   * keep their class values.
+   *
+   * @param data the data holding the class definition table
+   * @param offset the offset of the class definition table; 0 for none
+   * @return the new class definition table; null if the offset is 0
+   */
+  LayoutBuffer subsetClassDef(ReadableFontData data, int offset) {
+    if (offset == 0) {
+      return null;
+    }
+    return classDef(this.readClasses(data, offset));
+  }
+
+  /**
+   * Writes a format 2 class definition table with a range for each run of
+   * glyphs in the same class.
+   *
+   * @param classes the class of each glyph id
+   * @return the class definition table
+   */
+  static LayoutBuffer classDef(int[] classes) {
+    LayoutBuffer buffer = new LayoutBuffer();
+    buffer.writeUShort(2);
+    int countPosition = buffer.writeUShort(0);
+    int ranges = 0;
+    for (int glyph = 0; glyph < classes.length;) {
+      int start = glyph;
+      while (glyph + 1 < classes.length && classes[glyph + 1] == classes[start]) {
+        glyph++;
+      }
+      if (classes[start] != 0) {
+        buffer.writeUShort(start);
+        buffer.writeUShort(glyph);
+        buffer.writeUShort(classes[start]);
+        ranges++;
+      }
+      glyph++;
+    }
+    buffer.setUShort(countPosition, ranges);
+    return buffer;
+  }
+
+  private void setClass(int[] classes, int oldGlyph, int classValue) {
+    int newGlyph = this.newGlyph(oldGlyph);
+    if (newGlyph != NOT_KEPT) {
+      classes[newGlyph] = classValue;
+    }
+  }
+}
@@ -35,7 +35,7 @@ public class PostScriptTableSubsetter extends TableSubsetterImpl {
   
   @Override
   public boolean subset(Subsetter subsetter, Font font, Font.Builder fontBuilder) {
-    List<Integer> permutationTable = subsetter.glyphMappingTable();
+    int[] permutationTable = subsetter.newToOldGlyphs();
     if (permutationTable == null) {
       return false;
     }
@@ -43,9 +43,9 @@ public class PostScriptTableSubsetter extends TableSubsetterImpl {
     PostScriptTable post = font.getTable(Tag.post);
     postBuilder.initV1From(post);
     if (post.version() == 0x10000 || post.version() == 0x20000) {
-      List<String> names = new ArrayList<String>();
-      for (int i = 0; i < permutationTable.size(); i++) {
-        names.add(post.glyphName(permutationTable.get(i)));
+      List<String> names = new ArrayList<String>(permutationTable.length);
+      for (int oldGlyph : permutationTable) {
+        names.add(post.glyphName(oldGlyph));
       }
       postBuilder.setNames(names);
     }
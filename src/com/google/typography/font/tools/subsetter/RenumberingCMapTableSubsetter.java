@@ -52,28 +52,49 @@ public class RenumberingCMapTableSubsetter extends TableSubsetterImpl {
   }
   
   Map<Integer, Integer> computeMapping(Subsetter subsetter, CMapFormat4 cmap4) {
-    Map<Integer, Integer> inverseMapping = subsetter.getInverseMapping();
+    int[] inverseMapping = subsetter.oldToNewGlyphs();
     Map<Integer, Integer> mapping = new HashMap<Integer, Integer>();
     Map<Integer, Integer> remap = subsetter.remappedGlyphs();
     
     for (Integer unicode : remap.keySet()) {
       int glyph = remap.get(unicode);
-      if (glyph != 0 && inverseMapping.containsKey(glyph)) {
-          mapping.put(unicode, inverseMapping.get(glyph));
+      if (glyph != 0 && isKept(inverseMapping, glyph)) {
+          mapping.put(unicode, inverseMapping[glyph]);
       }
     }
     
+    SubsetPlan plan = subsetter.plan();
+    if (plan != null) {
+      // walk the characters of each kept glyph rather than the whole cmap
+      int[] offsets = plan.cmapCharacterOffsets();
+      int[] characters = plan.cmapCharacters();
+      int[] glyphs = subsetter.newToOldGlyphs();
+      for (int newGlyph = 0; newGlyph < glyphs.length; newGlyph++) {
+        int glyph = glyphs[newGlyph];
+        for (int i = offsets[glyph]; i < offsets[glyph + 1]; i++) {
+          if (!remap.containsKey(characters[i])) {
+            mapping.put(characters[i], inverseMapping[glyph]);
+          }
+        }
+      }
+      return mapping;
+    }
+
     for (Integer unicode : cmap4) {
       if (!remap.containsKey(unicode)) {
         int glyph = cmap4.glyphId(unicode);
-        if (glyph != 0 && inverseMapping.containsKey(glyph)) {
-            mapping.put(unicode, inverseMapping.get(glyph));
+        if (glyph != 0 && isKept(inverseMapping, glyph)) {
+            mapping.put(unicode, inverseMapping[glyph]);
         }
       }
     }
     return mapping;
   }
     
+  private static boolean isKept(int[] inverseMapping, int glyph) {
+    return glyph >= 0 && glyph < inverseMapping.length && inverseMapping[glyph] >= 0;
+  }
+
   @Override
   public boolean subset(Subsetter subsetter, Font font, Builder fontBuilder) throws IOException {
     CMapFormat4 cmap4 = getCMapFormat4(subsetter, font);
@@ -22,6 +22,7 @@ import com.google.typography.font.sfntly.Tag;
 import com.google.typography.font.sfntly.data.WritableFontData;
 import com.google.typography.font.sfntly.table.core.MaximumProfileTable;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
 /**
@@ -29,7 +30,10 @@ import java.util.List;
  */
 public class RenumberingSubsetter extends Subsetter {
 
-  {
+  // The table subsetters hold no state of their own so one list serves every
+  // subsetter.
+  private static final List<TableSubsetter> TABLE_SUBSETTERS;
+  static {
     //There must be an order to the subsetting process.
     List<TableSubsetter> temp = new ArrayList<TableSubsetter>();//new HashSet<TableSubsetter>();
     temp.add(new GlyphTableSubsetter());
@@ -40,7 +44,13 @@ public class RenumberingSubsetter extends Subsetter {
     temp.add(new NameTableSubsetter());
     temp.add(new OS2TableSubsetter());
     temp.add(new HeadTableSubsetter());
-    tableSubsetters = temp;
+    temp.add(new GSubTableSubsetter());
+    temp.add(new GDefTableSubsetter());
+    TABLE_SUBSETTERS = Collections.unmodifiableList(temp);
+  }
+
+  {
+    tableSubsetters = TABLE_SUBSETTERS;
   }
 
   public RenumberingSubsetter(Font font, FontFactory fontFactory) {
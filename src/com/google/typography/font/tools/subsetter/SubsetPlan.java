@@ -0,0 +1,340 @@
+/*
+ * Copyright 2011 Google Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.typography.font.tools.subsetter;
+
+import com.google.typography.font.sfntly.Font;
+import com.google.typography.font.sfntly.FontFactory;
+import com.google.typography.font.sfntly.Tag;
+import com.google.typography.font.sfntly.table.core.CMap;
+import com.google.typography.font.sfntly.table.core.CMap.CMapFormat;
+import com.google.typography.font.sfntly.table.core.CMapTable;
+import com.google.typography.font.sfntly.table.core.HorizontalMetricsTable;
+import com.google.typography.font.sfntly.table.truetype.CompositeGraph;
+import com.google.typography.font.sfntly.table.truetype.Glyph;
+import com.google.typography.font.sfntly.table.truetype.GlyphTable;
+import com.google.typography.font.sfntly.table.truetype.LocaTable;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.security.InvalidParameterException;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * A reusable plan for renumbering subsets of one font.
+ *
+ * <p>The settings that don't change between subsets - the cmaps and the tables
+ * to remove - are fixed when the plan is created, along with the per glyph data
+ * that the {@link RenumberingSubsetter} would otherwise read from the font for
+ * every subset: the horizontal metrics and bounding boxes, and the reverse of
+ * the format 4 cmap from glyph to characters. Composite glyph components come
+ * from the font's {@link CompositeGraph}. Each call to
+ * {@link #subset(Collection)} then only does the work that depends on the
+ * glyphs requested.
+ *
+ * <p>A plan is immutable and thread safe so a single plan may be shared by any
+ * number of threads subsetting the same font at the same time.
+ */
+public final class SubsetPlan {
+  private static final int[] NO_CHARACTERS = {};
+
+  private final Font font;
+  private final FontFactory fontFactory;
+  private final List<CMapTable.CMapId> cmapIds;
+  private final Set<Integer> removeTables;
+
+  private final int numGlyphs;
+  private final CompositeGraph compositeGraph;
+  // horizontal metrics and bounding box of each glyph
+  private final int[] advanceWidths;
+  private final int[] leftSideBearings;
+  private final int[] numberOfContours;
+  private final int[] xMins;
+  private final int[] xMaxs;
+  private final int[] yMins;
+  private final int[] yMaxs;
+  // format 4 cmap characters grouped by glyph; those for glyph g are at
+  // cmapCharacters[cmapCharacterOffsets[g]] until cmapCharacterOffsets[g + 1]
+  private final int[] cmapCharacterOffsets;
+  private final int[] cmapCharacters;
+
+  /**
+   * Constructor. The font is read in full to build the plan so this is
+   * relatively expensive and should be done once per font.
+   *
+   * @param font the font to subset
+   * @param fontFactory the factory to build the subset fonts with
+   * @param cmapIds the cmap ids to look for in order of priority; the first
+   *        that the font has is placed in the subset fonts
+   * @param removeTables the tags of the tables to leave out of the subset
+   *        fonts; may be null
+   * @throws InvalidParameterException if the font doesn't have the tables
+   *         needed or none of the cmaps requested
+   */
+  public SubsetPlan(Font font, FontFactory fontFactory, List<CMapTable.CMapId> cmapIds,
+      Set<Integer> removeTables) {
+    this.font = font;
+    this.fontFactory = fontFactory;
+    this.removeTables = removeTables == null
+        ? Collections.<Integer>emptySet()
+        : Collections.unmodifiableSet(new HashSet<Integer>(removeTables));
+
+    CMapTable cmapTable = font.getTable(Tag.cmap);
+    GlyphTable glyphTable = font.getTable(Tag.glyf);
+    LocaTable locaTable = font.getTable(Tag.loca);
+    HorizontalMetricsTable hmtx = font.getTable(Tag.hmtx);
+    if (cmapTable == null || glyphTable == null || locaTable == null || hmtx == null) {
+      throw new InvalidParameterException("Font is missing tables needed for subsetting.");
+    }
+
+    CMap cmap = null;
+    for (CMapTable.CMapId cmapId : cmapIds) {
+      cmap = cmapTable.cmap(cmapId);
+      if (cmap != null) {
+        break;
+      }
+    }
+    if (cmap == null) {
+      throw new InvalidParameterException(
+          "CMap Id settings would generate font with no cmap sub-table.");
+    }
+    this.cmapIds = Collections.singletonList(cmap.cmapId());
+
+    this.numGlyphs = locaTable.numGlyphs();
+    this.compositeGraph = glyphTable.compositeGraph(locaTable);
+    this.advanceWidths = new int[this.numGlyphs];
+    this.leftSideBearings = new int[this.numGlyphs];
+    this.numberOfContours = new int[this.numGlyphs];
+    this.xMins = new int[this.numGlyphs];
+    this.xMaxs = new int[this.numGlyphs];
+    this.yMins = new int[this.numGlyphs];
+    this.yMaxs = new int[this.numGlyphs];
+    for (int glyphId = 0; glyphId < this.numGlyphs; glyphId++) {
+      Glyph glyph =
+          glyphTable.glyph(locaTable.glyphOffset(glyphId), locaTable.glyphLength(glyphId));
+      this.advanceWidths[glyphId] = hmtx.advanceWidth(glyphId);
+      this.leftSideBearings[glyphId] = hmtx.leftSideBearing(glyphId);
+      this.numberOfContours[glyphId] = glyph.numberOfContours();
+      this.xMins[glyphId] = glyph.xMin();
+      this.xMaxs[glyphId] = glyph.xMax();
+      this.yMins[glyphId] = glyph.yMin();
+      this.yMaxs[glyphId] = glyph.yMax();
+    }
+
+    this.cmapCharacterOffsets = new int[this.numGlyphs + 1];
+    if (cmap.format() == CMapFormat.Format4.value()) {
+      List<Integer> characterList = new ArrayList<Integer>();
+      for (int c : cmap) {
+        characterList.add(c);
+      }
+      int[] characters = new int[characterList.size()];
+      for (int i = 0; i < characters.length; i++) {
+        characters[i] = characterList.get(i);
+      }
+      int[] glyphIds = cmap.glyphIds(characters);
+      // count the characters for each glyph then place them
+      for (int glyphId : glyphIds) {
+        if (glyphId > 0 && glyphId < this.numGlyphs) {
+          this.cmapCharacterOffsets[glyphId + 1]++;
+        }
+      }
+      for (int glyphId = 0; glyphId < this.numGlyphs; glyphId++) {
+        this.cmapCharacterOffsets[glyphId + 1] += this.cmapCharacterOffsets[glyphId];
+      }
+      this.cmapCharacters = new int[this.cmapCharacterOffsets[this.numGlyphs]];
+      int[] next = this.cmapCharacterOffsets.clone();
+      for (int i = 0; i < characters.length; i++) {
+        int glyphId = glyphIds[i];
+        if (glyphId > 0 && glyphId < this.numGlyphs) {
+          this.cmapCharacters[next[glyphId]++] = characters[i];
+        }
+      }
+    } else {
+      this.cmapCharacters = NO_CHARACTERS;
+    }
+  }
+
+  /**
+   * Gets the font that this plan subsets.
+   *
+   * @return the font
+   */
+  public Font font() {
+    return this.font;
+  }
+
+  /**
+   * Gets the number of glyphs in the font.
+   *
+   * @return the number of glyphs
+   */
+  public int numGlyphs() {
+    return this.numGlyphs;
+  }
+
+  /**
+   * Gets the glyph ids of the components of a glyph.
+   *
+   * @param glyphId the glyph id
+   * @return the component glyph ids; empty if the glyph is not a composite
+   */
+  public int[] components(int glyphId) {
+    int[] components = new int[this.compositeGraph.numComponents(glyphId)];
+    for (int i = 0; i < components.length; i++) {
+      components[i] = this.compositeGraph.component(glyphId, i);
+    }
+    return components;
+  }
+
+  /**
+   * Adds the components of any composite glyphs to a list of glyphs. The
+   * glyphs given keep their order and any components, and the components of
+   * those in turn, that aren't already present follow them in glyph id order.
+   * Duplicates are removed.
+   *
+   * @param glyphs the glyph ids
+   * @return the glyph ids closed over the composite glyph components
+   * @throws IllegalArgumentException if any glyph id is not in the font
+   */
+  public List<Integer> closure(Collection<Integer> glyphs) {
+    List<Integer> result = new ArrayList<Integer>(new LinkedHashSet<Integer>(glyphs));
+    BitSet given = new BitSet(this.numGlyphs);
+    for (int glyphId : result) {
+      if (glyphId < 0 || glyphId >= this.numGlyphs) {
+        throw new IllegalArgumentException("Glyph id " + glyphId + " is not in the font.");
+      }
+      given.set(glyphId);
+    }
+    BitSet added = this.compositeGraph.closure((BitSet) given.clone());
+    added.andNot(given);
+    for (int glyphId = added.nextSetBit(0); glyphId >= 0; glyphId = added.nextSetBit(glyphId + 1)) {
+      result.add(glyphId);
+    }
+    return result;
+  }
+
+  /**
+   * Creates a subset of the font with the glyphs given. The glyphs are
+   * renumbered in the order given and any composite components missing from
+   * the glyphs are added after them, as in {@link #closure(Collection)}.
+   *
+   * @param glyphs the glyph ids to keep
+   * @return the subset font builder
+   * @throws IOException
+   */
+  public Font.Builder subset(Collection<Integer> glyphs) throws IOException {
+    return this.subset(glyphs, Collections.<Integer, Integer>emptyMap());
+  }
+
+  /**
+   * Creates a subset of the font with the glyphs given and with characters
+   * remapped to other glyphs.
+   *
+   * @param glyphs the glyph ids to keep
+   * @param unicodeToGlyph characters to map to glyphs other than those given by
+   *        the font's cmap
+   * @return the subset font builder
+   * @throws IOException
+   * @see #subset(Collection)
+   */
+  public Font.Builder subset(Collection<Integer> glyphs, Map<Integer, Integer> unicodeToGlyph)
+      throws IOException {
+    return this.newSubsetter(glyphs, unicodeToGlyph).subset();
+  }
+
+  /**
+   * Creates a subset of the font with the glyphs given and serializes it to
+   * the output stream. The glyph data and the tables that are passed through
+   * unchanged are written straight from the font without being copied.
+   *
+   * @param glyphs the glyph ids to keep
+   * @param os the destination for the subset font
+   * @throws IOException
+   * @see #subset(Collection)
+   * @see Subsetter#subset(OutputStream)
+   */
+  public void subset(Collection<Integer> glyphs, OutputStream os) throws IOException {
+    this.newSubsetter(glyphs, Collections.<Integer, Integer>emptyMap()).subset(os);
+  }
+
+  private Subsetter newSubsetter(Collection<Integer> glyphs, Map<Integer, Integer> unicodeToGlyph) {
+    Subsetter subsetter = new RenumberingSubsetter(this.font, this.fontFactory);
+    subsetter.setPlan(this);
+    subsetter.setGlyphs(this.closure(glyphs));
+    subsetter.setRemapping(unicodeToGlyph);
+    return subsetter;
+  }
+
+  List<CMapTable.CMapId> cmapIds() {
+    return this.cmapIds;
+  }
+
+  Set<Integer> removeTables() {
+    return this.removeTables;
+  }
+
+  int advanceWidth(int glyphId) {
+    return this.advanceWidths[glyphId];
+  }
+
+  int leftSideBearing(int glyphId) {
+    return this.leftSideBearings[glyphId];
+  }
+
+  int numberOfContours(int glyphId) {
+    return this.numberOfContours[glyphId];
+  }
+
+  int xMin(int glyphId) {
+    return this.xMins[glyphId];
+  }
+
+  int xMax(int glyphId) {
+    return this.xMaxs[glyphId];
+  }
+
+  int yMin(int glyphId) {
+    return this.yMins[glyphId];
+  }
+
+  int yMax(int glyphId) {
+    return this.yMaxs[glyphId];
+  }
+
+  /**
+   * Gets the characters that the format 4 cmap maps to a glyph. These are the
+   * entries of {@link #cmapCharacters()} from {@code cmapCharacterOffsets()[g]}
+   * up to {@code cmapCharacterOffsets()[g + 1]}. The arrays must not be
+   * modified.
+   *
+   * @return the start offset of the characters for each glyph
+   */
+  int[] cmapCharacterOffsets() {
+    return this.cmapCharacterOffsets;
+  }
+
+  int[] cmapCharacters() {
+    return this.cmapCharacters;
+  }
+}
@@ -19,14 +19,28 @@ package com.google.typography.font.tools.subsetter;
 import com.google.typography.font.sfntly.Font;
 import com.google.typography.font.sfntly.FontFactory;
 import com.google.typography.font.sfntly.Tag;
+import com.google.typography.font.sfntly.data.WritableFontData;
 import com.google.typography.font.sfntly.table.Table;
 import com.google.typography.font.sfntly.table.core.CMap;
 import com.google.typography.font.sfntly.table.core.CMapTable;
+import com.google.typography.font.sfntly.table.core.MaximumProfileTable;
+import com.google.typography.font.sfntly.table.opentype.GSubTable;
+import com.google.typography.font.sfntly.table.opentype.ScriptTag;
+import com.google.typography.font.sfntly.table.opentype.component.GlyphGroup;
+import com.google.typography.font.sfntly.table.opentype.component.RuleClosure;
+import com.google.typography.font.sfntly.table.opentype.component.RuleIndex;
+import com.google.typography.font.sfntly.table.truetype.GlyphTable;
+import com.google.typography.font.sfntly.table.truetype.LocaTable;
 
 import java.io.IOException;
+import java.io.OutputStream;
 import java.security.InvalidParameterException;
+import java.util.AbstractList;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -51,12 +65,21 @@ public class Subsetter {
 
   // settings from user
   private Set<Integer> removeTables;
-  private List<Integer> newToOldGlyphs;
+  private int[] newToOldGlyphs;
   private List<CMapTable.CMapId> cmapIds;
   private Map<Integer, Integer> remappedGlyphs;
+  private boolean layoutClosure;
+  private Set<ScriptTag> layoutScripts;
+  private Set<Integer> layoutFeatureTags;
 
   // inverse of mapping, computed lazily
-  private Map<Integer, Integer> oldToNewGlyphs = null;
+  private int[] oldToNewGlyphs = null;
+
+  // whether the current subset is being streamed
+  private boolean streaming;
+
+  // precomputed font data shared between subsetters, may be null
+  private SubsetPlan plan;
 
   protected Subsetter(Font font, FontFactory fontFactory) {
     this.font = font;
@@ -64,7 +87,26 @@ public class Subsetter {
   }
 
   public void setGlyphs(Collection<Integer> glyphs) {
-    this.newToOldGlyphs = new ArrayList<Integer>(glyphs);
+    int[] newToOld = new int[glyphs.size()];
+    int newGlyph = 0;
+    for (int oldGlyph : glyphs) {
+      newToOld[newGlyph++] = oldGlyph;
+    }
+    this.setGlyphsInternal(newToOld);
+  }
+
+  /**
+   * Sets the glyphs to keep. The glyphs are renumbered in the order given.
+   *
+   * @param glyphs the old glyph id of each new glyph id
+   */
+  public void setGlyphs(int[] glyphs) {
+    this.setGlyphsInternal(glyphs.clone());
+  }
+
+  private void setGlyphsInternal(int[] newToOld) {
+    this.newToOldGlyphs = newToOld;
+    this.oldToNewGlyphs = null;
   }
   
   public void setRemapping(Map<Integer, Integer> unicodeToGlyph) {
@@ -118,11 +160,84 @@ public class Subsetter {
     }
   }
 
+  /**
+   * Binds this subsetter to a plan for the same font. The cmap and table
+   * removal settings are taken from the plan and the table subsetters use the
+   * data precomputed by the plan instead of reading it from the font.
+   *
+   * @param plan the plan
+   */
+  void setPlan(SubsetPlan plan) {
+    this.plan = plan;
+    this.cmapIds = plan.cmapIds();
+    this.removeTables = plan.removeTables();
+  }
+
+  /**
+   * Gets the plan that this subsetter is bound to.
+   *
+   * @return the plan; null if there is none
+   */
+  SubsetPlan plan() {
+    return this.plan;
+  }
+
+  /**
+   * Turns on layout closure. Before the tables are subset the glyphs are
+   * extended with every glyph that the GSUB substitutions of the chosen
+   * scripts and features can produce from them, and the GSUB and GDEF tables
+   * are subset and renumbered along with the glyphs instead of being passed
+   * through unchanged.
+   *
+   * @param scripts the scripts to keep or null for all scripts
+   * @param featureTags the tags of the features to keep or null for all
+   *        features
+   */
+  public void setLayoutClosure(Set<ScriptTag> scripts, Set<Integer> featureTags) {
+    this.layoutClosure = true;
+    this.layoutScripts = scripts == null ? null : new HashSet<ScriptTag>(scripts);
+    this.layoutFeatureTags = featureTags == null ? null : new HashSet<Integer>(featureTags);
+  }
+
   public void setRemoveTables(Set<Integer> removeTables) {
     this.removeTables = new HashSet<Integer>(removeTables);
   }
 
   public Font.Builder subset() throws IOException {
+    return this.subset(false);
+  }
+
+  /**
+   * Subsets the font and serializes the subset font to the output stream.
+   *
+   * This gives the same font as serializing the font built from
+   * {@link #subset()} but the glyph data and the tables that are passed through
+   * unchanged are never copied. They are written straight from the source font
+   * data to the output stream as the font is serialized, so the memory needed
+   * is bounded by the tables that are rebuilt rather than by the size of the
+   * font. The source font data must not be changed while this runs.
+   *
+   * @param os the destination for the subset font
+   * @throws IOException
+   */
+  public void subset(OutputStream os) throws IOException {
+    Font subsetFont = this.subset(true).build();
+    this.fontFactory.serializeFont(subsetFont, os);
+  }
+
+  private Font.Builder subset(boolean streaming) throws IOException {
+    this.streaming = streaming;
+    try {
+      return this.subsetTables();
+    } finally {
+      this.streaming = false;
+    }
+  }
+
+  private Font.Builder subsetTables() throws IOException {
+    if (this.layoutClosure && this.newToOldGlyphs != null) {
+      this.closeOverLayout();
+    }
     Font.Builder fontBuilder = this.fontFactory.newFontBuilder();
 
     setUpTables(fontBuilder);
@@ -141,12 +256,115 @@ public class Subsetter {
     for (Integer tag : tableTags) {
       Table table = this.font.getTable(tag);
       if (table != null) {
-        fontBuilder.newTableBuilder(tag, table.readFontData());
+        if (this.streaming) {
+          // a read only view of the source that copies itself if written to
+          fontBuilder.newTableBuilderSharingData(tag,
+              WritableFontData.createWritableFontData(Collections.singletonList(
+                  table.readFontData())));
+        } else {
+          fontBuilder.newTableBuilder(tag, table.readFontData());
+        }
       }
     }
     return fontBuilder;
   }
 
+  /**
+   * Appends the glyphs that the GSUB substitutions can produce from the
+   * glyphs, and the components of those glyphs, to the glyphs in ascending
+   * order. The glyphs already chosen keep their new glyph ids.
+   */
+  private void closeOverLayout() {
+    GSubTable gsub = this.font.getTable(Tag.GSUB);
+    if (gsub == null) {
+      return;
+    }
+    GlyphGroup closure = new GlyphGroup();
+    for (int glyph : this.newToOldGlyphs) {
+      closure.add(glyph);
+    }
+    this.layoutRuleClosure(gsub.ruleIndex()).closure(closure);
+    GlyphTable glyf = this.font.getTable(Tag.glyf);
+    LocaTable loca = this.font.getTable(Tag.loca);
+    if (glyf != null && loca != null) {
+      glyf.compositeGraph(loca).closure(closure);
+    }
+
+    BitSet added = (BitSet) closure.clone();
+    for (int glyph : this.newToOldGlyphs) {
+      added.clear(glyph);
+    }
+    if (added.isEmpty()) {
+      return;
+    }
+    int[] glyphs = Arrays.copyOf(
+        this.newToOldGlyphs, this.newToOldGlyphs.length + added.cardinality());
+    int newGlyph = this.newToOldGlyphs.length;
+    for (int glyph = added.nextSetBit(0); glyph >= 0; glyph = added.nextSetBit(glyph + 1)) {
+      glyphs[newGlyph++] = glyph;
+    }
+    this.setGlyphsInternal(glyphs);
+  }
+
+  private RuleClosure layoutRuleClosure(RuleIndex ruleIndex) {
+    if (this.layoutScripts == null && this.layoutFeatureTags == null) {
+      return ruleIndex.ruleClosure();
+    }
+    if (this.layoutScripts == null) {
+      return RuleClosure.compile(ruleIndex.glyphRulesMap(null, null, this.layoutFeatureTags));
+    }
+    Set<Integer> lookups = new TreeSet<Integer>();
+    for (ScriptTag script : this.layoutScripts) {
+      lookups.addAll(ruleIndex.lookups(script, null, this.layoutFeatureTags));
+    }
+    return RuleClosure.compile(ruleIndex.glyphRulesMap(lookups));
+  }
+
+  /**
+   * Whether the subset is being streamed. Table subsetters may then build
+   * tables that share the source font data instead of copying it.
+   *
+   * @return true if the subset is being streamed; false otherwise
+   */
+  boolean streaming() {
+    return this.streaming;
+  }
+
+  /**
+   * Whether the layout tables are subset along with the glyphs.
+   *
+   * @return true if layout closure is turned on; false otherwise
+   * @see #setLayoutClosure(Set, Set)
+   */
+  boolean layoutClosure() {
+    return this.layoutClosure;
+  }
+
+  /**
+   * Gets the tags of the scripts whose layout data is kept.
+   *
+   * @return the script tags; null for all scripts
+   */
+  Set<Integer> layoutScriptTags() {
+    if (this.layoutScripts == null) {
+      return null;
+    }
+    Set<Integer> tags = new HashSet<Integer>();
+    for (ScriptTag script : this.layoutScripts) {
+      tags.add(script.tag());
+    }
+    return tags;
+  }
+
+  /**
+   * Gets the tags of the features whose layout data is kept.
+   *
+   * @return the feature tags; null for all features
+   */
+  Set<Integer> layoutFeatureTags() {
+    return this.layoutFeatureTags;
+  }
+
   Map<Integer, Integer> remappedGlyphs() {
     return this.remappedGlyphs;
   }
@@ -154,26 +372,67 @@ public class Subsetter {
   /**
    * Get the permutation table of the new glyph id to the old glyph id.
    *
-   * @return the permutation table
+   * @return the permutation table; null if no glyphs have been set
+   * @see #newToOldGlyphs()
    */
   List<Integer> glyphMappingTable() {
+    if (this.newToOldGlyphs == null) {
+      return null;
+    }
+    final int[] newToOld = this.newToOldGlyphs;
+    return new AbstractList<Integer>() {
+      @Override
+      public Integer get(int newGlyph) {
+        return newToOld[newGlyph];
+      }
+
+      @Override
+      public int size() {
+        return newToOld.length;
+      }
+    };
+  }
+
+  /**
+   * Get the old glyph id of each new glyph id. The array is shared and must
+   * not be changed.
+   *
+   * @return the old glyph id for each new glyph id; null if no glyphs have
+   *         been set
+   */
+  int[] newToOldGlyphs() {
     return this.newToOldGlyphs;
   }
 
   /**
-   * Get the inverse mapping, from old glyph id to new.
+   * Get the inverse mapping, from old glyph id to new. The array covers every
+   * glyph of the font and is shared so it must not be changed.
    *
-   * @return the inverse mapping
+   * @return the new glyph id for each old glyph id; -1 for the glyphs that
+   *         aren't kept
    */
-  Map<Integer, Integer> getInverseMapping() {
-    if (oldToNewGlyphs == null) {
-      oldToNewGlyphs = new HashMap<Integer, Integer>();
-      List<Integer> mapping = glyphMappingTable();
-      for (int i = 0; i < mapping.size(); i++) {
-        oldToNewGlyphs.put(mapping.get(i), i);
+  int[] oldToNewGlyphs() {
+    if (this.oldToNewGlyphs == null) {
+      int size = this.numGlyphs();
+      for (int oldGlyph : this.newToOldGlyphs) {
+        size = Math.max(size, oldGlyph + 1);
+      }
+      int[] oldToNew = new int[size];
+      Arrays.fill(oldToNew, -1);
+      for (int newGlyph = 0; newGlyph < this.newToOldGlyphs.length; newGlyph++) {
+        oldToNew[this.newToOldGlyphs[newGlyph]] = newGlyph;
       }
+      this.oldToNewGlyphs = oldToNew;
+    }
+    return this.oldToNewGlyphs;
+  }
+
+  private int numGlyphs() {
+    if (this.plan != null) {
+      return this.plan.numGlyphs();
     }
-    return oldToNewGlyphs;
+    MaximumProfileTable maxp = this.font.getTable(Tag.maxp);
+    return maxp == null ? 0 : maxp.numGlyphs();
   }
 
   List<CMapTable.CMapId> cmapId() {
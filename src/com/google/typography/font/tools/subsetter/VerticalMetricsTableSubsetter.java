@@ -109,7 +109,7 @@ public class VerticalMetricsTableSubsetter extends TableSubsetterImpl {
   
   @Override
   public boolean subset(Subsetter subsetter, Font font, Font.Builder fontBuilder) throws IOException {
-    List<Integer> permutationTable = subsetter.glyphMappingTable();
+    int[] permutationTable = subsetter.newToOldGlyphs();
     VerticalHeaderTable origHeader = font.getTable(Tag.vhea);
     VerticalMetricsTable origMetrics = font.getTable(Tag.vmtx);
     
@@ -119,7 +119,7 @@ public class VerticalMetricsTableSubsetter extends TableSubsetterImpl {
     
     GlyphTable glyphTable = font.getTable(Tag.glyf);
     LocaTable locaTable = font.getTable(Tag.loca);
-    List<Metrics> vMetrics = new ArrayList<Metrics>(permutationTable.size());
+    List<Metrics> vMetrics = new ArrayList<Metrics>(permutationTable.length);
     
     for (int origGlyphId : permutationTable) {
       int advanceHeight = origMetrics.advanceHeight(origGlyphId);
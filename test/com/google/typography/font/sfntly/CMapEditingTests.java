@@ -101,6 +101,51 @@ public class CMapEditingTests extends TestCase {
     assertEquals(CMapId.WINDOWS_BMP, cmap.cmapId());
   }
 
+  public void testBulkGlyphIds() throws Exception {
+    Font font = TestFontUtils.loadFont(TEST_FONT_FILE)[0];
+    CMapTable cmapTable = font.getTable(Tag.cmap);
+
+    int[] increasing = new int[0x10100];
+    int[] decreasing = new int[increasing.length];
+    for (int i = 0; i < increasing.length; i++) {
+      increasing[i] = i - 1;
+      decreasing[decreasing.length - 1 - i] = i - 1;
+    }
+    for (CMap cmap : cmapTable) {
+      int[] glyphIds = cmap.glyphIds(increasing);
+      int[] reversedGlyphIds = cmap.glyphIds(decreasing);
+      for (int i = 0; i < increasing.length; i++) {
+        int expected = cmap.glyphId(increasing[i]);
+        assertEquals(cmap + " U+" + Integer.toHexString(increasing[i]), expected, glyphIds[i]);
+        assertEquals(cmap + " U+" + Integer.toHexString(increasing[i]), expected,
+            reversedGlyphIds[reversedGlyphIds.length - 1 - i]);
+      }
+    }
+
+    CMap cmap = cmapTable.cmap(CMapId.WINDOWS_BMP);
+    String text = "ba\ud83d\ude00a\ud800";
+    int[] glyphIds = new int[text.length()];
+    assertEquals(5, cmap.glyphIds(text, glyphIds));
+    assertEquals(cmap.glyphId('b'), glyphIds[0]);
+    assertEquals(cmap.glyphId('a'), glyphIds[1]);
+    assertEquals(cmap.glyphId(0x1f600), glyphIds[2]);
+    assertEquals(cmap.glyphId('a'), glyphIds[3]);
+    assertEquals(cmap.glyphId(0xd800), glyphIds[4]);
+  }
+
+  public void testCMapIndex() throws Exception {
+    Font font = TestFontUtils.loadFont(TEST_FONT_FILE)[0];
+    CMapTable cmapTable = font.getTable(Tag.cmap);
+
+    for (CMap cmap : cmapTable) {
+      CMap.Index index = cmap.index();
+      assertSame(index, cmap.index());
+      for (int c = -1; c < 0x10100; c++) {
+        assertEquals(cmap + " U+" + Integer.toHexString(c), cmap.glyphId(c), index.glyphId(c));
+      }
+    }
+  }
+
   public void testCMap4WithNoEditing() throws Exception {
     Font.Builder fontBuilder = TestFontUtils.builderForFontFile(TEST_FONT_FILE);
     CMapTable.Builder cmapTableBuilder = (CMapTable.Builder) fontBuilder.getTableBuilder(Tag.cmap);
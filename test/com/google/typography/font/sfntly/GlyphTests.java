@@ -20,9 +20,12 @@ import com.google.typography.font.sfntly.Font.PlatformId;
 import com.google.typography.font.sfntly.Font.WindowsEncodingId;
 import com.google.typography.font.sfntly.table.core.CMap;
 import com.google.typography.font.sfntly.table.core.CMapTable;
+import com.google.typography.font.sfntly.table.truetype.CompositeGlyph;
+import com.google.typography.font.sfntly.table.truetype.CompositeGraph;
 import com.google.typography.font.sfntly.table.truetype.Glyph;
 import com.google.typography.font.sfntly.table.truetype.GlyphTable;
 import com.google.typography.font.sfntly.table.truetype.LocaTable;
+import com.google.typography.font.sfntly.table.truetype.SimpleGlyph;
 import com.google.typography.font.sfntly.testutils.TestFont;
 import com.google.typography.font.sfntly.testutils.TestFontUtils;
 import com.google.typography.font.sfntly.testutils.TestUtils;
@@ -31,6 +34,7 @@ import junit.framework.TestCase;
 
 import java.io.File;
 import java.nio.charset.CharsetEncoder;
+import java.util.BitSet;
 
 /**
  * @author Stuart Gill
@@ -103,6 +107,102 @@ public class GlyphTests extends TestCase {
     }
   }
 
+  public void testSimpleGlyphOutline() throws Exception {
+    Font font = TestFontUtils.loadFont(TestFont.TestFontNames.OPENSANS.getFile())[0];
+    LocaTable locaTable = font.getTable(Tag.loca);
+    GlyphTable glyphTable = font.getTable(Tag.glyf);
+    CompositeGraph graph = glyphTable.compositeGraph(locaTable);
+
+    int simpleGlyphs = 0;
+    for (int glyphId = 0; glyphId < locaTable.numGlyphs(); glyphId++) {
+      int length = locaTable.glyphLength(glyphId);
+      Glyph glyph = glyphTable.glyph(locaTable.glyphOffset(glyphId), length);
+      if (!(glyph instanceof SimpleGlyph) || length == 0) {
+        continue;
+      }
+      simpleGlyphs++;
+      SimpleGlyph simple = (SimpleGlyph) glyph;
+      // the structure is known before any coordinate is decoded
+      assertTrue(simple.padding() >= 0);
+      assertTrue(simple.padding() < 4);
+      int points = 0;
+      for (int contour = 0; contour < simple.numberOfContours(); contour++) {
+        points += simple.numberOfPoints(contour);
+        for (int point = 0; point < simple.numberOfPoints(contour); point++) {
+          int x = simple.xCoordinate(contour, point);
+          int y = simple.yCoordinate(contour, point);
+          assertTrue(x >= simple.xMin() && x <= simple.xMax());
+          assertTrue(y >= simple.yMin() && y <= simple.yMax());
+        }
+      }
+      assertEquals(graph.totalPoints(glyphId), points);
+    }
+    assertTrue(simpleGlyphs > 0);
+  }
+
+  public void testCompositeGraph() throws Exception {
+    Font font = TestFontUtils.loadFont(TestFont.TestFontNames.OPENSANS.getFile())[0];
+    LocaTable locaTable = font.getTable(Tag.loca);
+    GlyphTable glyphTable = font.getTable(Tag.glyf);
+    CompositeGraph graph = glyphTable.compositeGraph(locaTable);
+    assertSame(graph, glyphTable.compositeGraph(locaTable));
+    assertEquals(locaTable.numGlyphs(), graph.numGlyphs());
+
+    int composites = 0;
+    for (int glyphId = 0; glyphId < locaTable.numGlyphs(); glyphId++) {
+      Glyph glyph = glyphTable.glyph(
+          locaTable.glyphOffset(glyphId), locaTable.glyphLength(glyphId));
+      // depth, contours and points found by walking the glyphs
+      int[] values = new int[3];
+      BitSet expected = new BitSet();
+      walkGlyph(glyphTable, locaTable, glyphId, 0, values, expected);
+      assertEquals(values[0], graph.depth(glyphId));
+      assertEquals(values[1], graph.totalContours(glyphId));
+      assertEquals(values[2], graph.totalPoints(glyphId));
+      assertEquals(glyph.instructionSize(), graph.instructionSize(glyphId));
+
+      BitSet closure = new BitSet();
+      closure.set(glyphId);
+      assertEquals(expected, graph.closure(closure));
+
+      if (glyph instanceof CompositeGlyph) {
+        composites++;
+        CompositeGlyph composite = (CompositeGlyph) glyph;
+        assertTrue(graph.isComposite(glyphId));
+        assertEquals(composite.numGlyphs(), graph.numComponents(glyphId));
+        for (int i = 0; i < composite.numGlyphs(); i++) {
+          assertEquals(composite.glyphIndex(i), graph.component(glyphId, i));
+        }
+      } else {
+        assertFalse(graph.isComposite(glyphId));
+      }
+    }
+    assertTrue(composites > 0);
+  }
+
+  private static void walkGlyph(GlyphTable glyphTable, LocaTable locaTable, int glyphId,
+      int depth, int[] values, BitSet glyphIds) {
+    glyphIds.set(glyphId);
+    int length = locaTable.glyphLength(glyphId);
+    if (length == 0) {
+      return;
+    }
+    Glyph glyph = glyphTable.glyph(locaTable.glyphOffset(glyphId), length);
+    if (glyph instanceof CompositeGlyph) {
+      values[0] = Math.max(values[0], depth + 1);
+      CompositeGlyph composite = (CompositeGlyph) glyph;
+      for (int i = 0; i < composite.numGlyphs(); i++) {
+        walkGlyph(glyphTable, locaTable, composite.glyphIndex(i), depth + 1, values, glyphIds);
+      }
+    } else {
+      SimpleGlyph simple = (SimpleGlyph) glyph;
+      values[1] += simple.numberOfContours();
+      for (int i = 0; i < simple.numberOfContours(); i++) {
+        values[2] += simple.numberOfPoints(i);
+      }
+    }
+  }
+
   private void checkTestSet(TestSet test) throws Exception {
     Font[] fonts = TestFontUtils.loadFont(test.fontFile);
     Font font = fonts[0];
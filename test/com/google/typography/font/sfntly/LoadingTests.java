@@ -16,14 +16,30 @@
 
 package com.google.typography.font.sfntly;
 
+import com.google.typography.font.sfntly.data.ReadableFontData;
+import com.google.typography.font.sfntly.data.WritableFontData;
 import com.google.typography.font.sfntly.table.Header;
 import com.google.typography.font.sfntly.table.Table;
+import com.google.typography.font.sfntly.table.core.HorizontalHeaderTable;
+import com.google.typography.font.sfntly.table.truetype.Glyph;
+import com.google.typography.font.sfntly.table.truetype.GlyphTable;
+import com.google.typography.font.sfntly.table.truetype.LocaTable;
+import com.google.typography.font.sfntly.table.truetype.SimpleGlyph;
 import com.google.typography.font.sfntly.testutils.TestFont;
 import com.google.typography.font.sfntly.testutils.TestFontUtils;
+import com.google.typography.font.sfntly.testutils.TestUtils;
+import com.google.typography.font.tools.conversion.woff.Woff2Writer;
+import com.google.typography.font.tools.conversion.woff.WoffWriter;
 
 import junit.framework.TestCase;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.File;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.BitSet;
 import java.util.Map;
 
 /**
@@ -44,7 +60,313 @@ public class LoadingTests extends TestCase {
   public void testLoadingComparison() throws Exception {
     Font[] sFonts = TestFontUtils.loadFont(TEST_FONT_FILE);
     Font[] bFonts = TestFontUtils.loadFontUsingByteArray(TEST_FONT_FILE);
+    compareFonts(sFonts, bFonts);
+  }
+
+  public void testLazyLoadingComparison() throws Exception {
+    Font[] sFonts = TestFontUtils.loadFont(TEST_FONT_FILE);
+    FontFactory factory = FontFactory.getInstance();
+    factory.loadTablesLazily(true);
+    Font[] lFonts = factory.loadFonts(TEST_FONT_FILE);
+
+    compareFonts(sFonts, lFonts);
+    for (int i = 0; i < sFonts.length; i++) {
+      assertEquals(sFonts[i].checksum(), lFonts[i].checksum());
+      assertSame(lFonts[i].getTable(Tag.cmap), lFonts[i].getTable(Tag.cmap));
+    }
+  }
+
+  public void testFontCache() throws Exception {
+    byte[] b = TestUtils.readFile(TEST_FONT_FILE);
+    FontFactory factory = FontFactory.getInstance();
+    FontCache cache = new FontCache(Long.MAX_VALUE);
+    factory.setFontCache(cache);
+
+    Font[] first = factory.loadFonts(b);
+    Font[] second = factory.loadFonts(b.clone());
+    assertSame(first[0], second[0]);
+    assertEquals(1, cache.missCount());
+    assertEquals(1, cache.hitCount());
+    assertEquals(first[0].dataLength(), cache.size());
+
+    // fonts loaded from files are keyed by the file
+    Font fileFont = factory.loadFonts(TEST_FONT_FILE)[0];
+    assertSame(fileFont, factory.loadFonts(TEST_FONT_FILE)[0]);
+    assertEquals(2, cache.entryCount());
+
+    // a cache with room for one font evicts the least recently used
+    cache = new FontCache(first[0].dataLength());
+    factory.setFontCache(cache);
+    factory.loadFonts(b);
+    factory.loadFonts(TEST_FONT_FILE);
+    assertEquals(1, cache.entryCount());
+    assertEquals(1, cache.evictionCount());
+
+    // a cache too small for the font never holds it
+    cache = new FontCache(first[0].dataLength() - 1);
+    factory.setFontCache(cache);
+    assertNotSame(factory.loadFonts(b)[0], factory.loadFonts(b)[0]);
+    assertEquals(0, cache.entryCount());
+    assertEquals(2, cache.missCount());
+  }
+
+  public void testWoffLoading() throws Exception {
+    Font srcFont = TestFontUtils.loadFont(TEST_FONT_FILE)[0];
+    byte[] woff = toBytes(new WoffWriter().convert(srcFont));
+
+    for (boolean lazy : new boolean[] {false, true}) {
+      FontFactory factory = FontFactory.getInstance();
+      factory.loadTablesLazily(lazy);
+      compareTableData(srcFont, factory.loadFonts(woff)[0], false);
+      compareTableData(srcFont, factory.loadFonts(new ByteArrayInputStream(woff))[0], false);
+    }
+  }
+
+  public void testWoff2Loading() throws Exception {
+    Font srcFont = TestFontUtils.loadFont(TEST_FONT_FILE)[0];
+    Woff2Writer writer = new Woff2Writer();
+    byte[] transformed = toBytes(writer.convert(srcFont));
+    writer.setTransformGlyf(false);
+    byte[] untransformed = toBytes(writer.convert(srcFont));
+
+    for (boolean lazy : new boolean[] {false, true}) {
+      FontFactory factory = FontFactory.getInstance();
+      factory.loadTablesLazily(lazy);
+      compareTableData(srcFont, factory.loadFonts(transformed)[0], true);
+      compareTableData(srcFont, factory.loadFonts(untransformed)[0], false);
+      compareTableData(
+          srcFont, factory.loadFontsForBuilding(transformed)[0].build(), true);
+    }
+  }
+
+  public void testWoff2Truncated() throws Exception {
+    Font srcFont = TestFontUtils.loadFont(TEST_FONT_FILE)[0];
+    byte[] woff2 = toBytes(new Woff2Writer().convert(srcFont));
+    try {
+      FontFactory.getInstance().loadFonts(Arrays.copyOf(woff2, woff2.length / 2));
+      fail("Expected IOException");
+    } catch (IOException e) {
+      // expected
+    }
+  }
+
+  public void testCollectionSharedTables() throws Exception {
+    Font openSans = TestFontUtils.loadFont(TEST_FONT_FILE)[0];
+    FontFactory factory = FontFactory.getInstance();
+
+    ByteArrayOutputStream os = new ByteArrayOutputStream();
+    factory.serializeFont(openSans, os);
+    byte[] fontBytes = os.toByteArray();
+    os.reset();
+    factory.serializeCollection(new Font[] {openSans, openSans}, os);
+    // the second font only adds its table directory
+    int directorySize = 12 + 16 * openSans.numTables();
+    assertEquals(12 + 2 * 4 + directorySize + fontBytes.length, os.size());
+
+    // a face that differs only in its hhea table shares everything else
+    Font variant = createVariant(factory, fontBytes);
+
+    os.reset();
+    factory.serializeCollection(new Font[] {openSans, variant, openSans}, os);
+    byte[] ttc = os.toByteArray();
+    for (boolean lazy : new boolean[] {false, true}) {
+      factory.loadTablesLazily(lazy);
+      Font[] fonts = factory.loadFonts(ttc);
+      assertEquals(3, fonts.length);
+      compareTableData(openSans, fonts[0], false);
+      compareTableData(variant, fonts[1], false);
+      compareTableData(openSans, fonts[2], false);
+      for (Map.Entry<Integer, ? extends Table> entry : fonts[0].tableMap().entrySet()) {
+        assertSame(entry.getValue(), fonts[2].getTable(entry.getKey()));
+      }
+      assertSame(fonts[0].getTable(Tag.glyf), fonts[1].getTable(Tag.glyf));
+      assertNotSame(fonts[0].getTable(Tag.hhea), fonts[1].getTable(Tag.hhea));
+      // the metrics are read using the hhea table so they aren't shared
+      assertNotSame(fonts[0].getTable(Tag.hmtx), fonts[1].getTable(Tag.hmtx));
+    }
+  }
+
+  public void testCollectionStreamLoading() throws Exception {
+    Font openSans = TestFontUtils.loadFont(TEST_FONT_FILE)[0];
+    FontFactory factory = FontFactory.getInstance();
+    ByteArrayOutputStream os = new ByteArrayOutputStream();
+    factory.serializeFont(openSans, os);
+    Font variant = createVariant(factory, os.toByteArray());
+    os.reset();
+    factory.serializeCollection(new Font[] {openSans, variant, openSans}, os);
+    byte[] ttc = os.toByteArray();
+
+    Font[] fonts = factory.loadFonts(new UnsizedInputStream(ttc));
+    assertEquals(3, fonts.length);
+    compareTableData(openSans, fonts[0], false);
+    compareTableData(variant, fonts[1], false);
+    compareTableData(openSans, fonts[2], false);
+    assertSame(fonts[0].getTable(Tag.glyf), fonts[2].getTable(Tag.glyf));
+
+    BitSet fontIndices = new BitSet();
+    fontIndices.set(1);
+    fonts = factory.loadFonts(new UnsizedInputStream(ttc), fontIndices);
+    assertEquals(1, fonts.length);
+    compareTableData(variant, fonts[0], false);
+
+    // a truncated collection is reported rather than loaded with missing data
+    try {
+      factory.loadFonts(new UnsizedInputStream(Arrays.copyOf(ttc, ttc.length - 100)));
+      fail("Expected IOException");
+    } catch (IOException e) {
+      // expected
+    }
+  }
+
+  public void testCollectionStreamLoadingInterleaved() throws Exception {
+    Font openSans = TestFontUtils.loadFont(TEST_FONT_FILE)[0];
+    FontFactory factory = FontFactory.getInstance();
+    ByteArrayOutputStream os = new ByteArrayOutputStream();
+    factory.serializeFont(openSans, os);
+    byte[] fontBytes = os.toByteArray();
+    // the variant is edited in place so it is made from a copy
+    Font variant = createVariant(factory, fontBytes.clone());
+    byte[] ttc = interleavedCollection(fontBytes, variant.getTable(Tag.hhea));
+
+    // the baseline loads the collection from memory
+    Font[] fonts = factory.loadFonts(ttc);
+    assertEquals(2, fonts.length);
+    compareTableData(openSans, fonts[0], false);
+    compareTableData(variant, fonts[1], false);
+
+    fonts = factory.loadFonts(new UnsizedInputStream(ttc));
+    assertEquals(2, fonts.length);
+    compareTableData(openSans, fonts[0], false);
+    compareTableData(variant, fonts[1], false);
+
+    // the second face's shared tables come before its offset table
+    BitSet fontIndices = new BitSet();
+    fontIndices.set(1);
+    fonts = factory.loadFonts(new UnsizedInputStream(ttc), fontIndices);
+    assertEquals(1, fonts.length);
+    compareTableData(variant, fonts[0], false);
+  }
+
+  /**
+   * Makes a collection of a font and a variant with another hhea table laid
+   * out the way fontTools writes collections: each offset table is followed by
+   * the tables that weren't in an earlier font, and the later offset tables
+   * refer back to the tables shared with the earlier fonts.
+   */
+  private static byte[] interleavedCollection(byte[] fontBytes, Table hhea) {
+    int header = 12 + 2 * 4;
+    int numTables = ((fontBytes[4] & 0xff) << 8) | (fontBytes[5] & 0xff);
+    int directorySize = 12 + 16 * numTables;
+    int hheaLength = hhea.dataLength();
+    WritableFontData ttc = WritableFontData.createWritableFontData(
+        header + fontBytes.length + directorySize + ((hheaLength + 3) & ~3));
+    ttc.writeULong(0, Tag.ttcf);
+    ttc.writeFixed(4, 0x00010000);
+    ttc.writeULong(8, 2);
+    ttc.writeULong(12, header);
+    ttc.writeULong(16, header + fontBytes.length);
+    ttc.writeBytes(header, fontBytes);
+    int secondDirectory = header + fontBytes.length;
+    ttc.writeBytes(secondDirectory, fontBytes, 0, directorySize);
+    int secondHhea = secondDirectory + directorySize;
+    hhea.readFontData().copyTo(ttc.slice(secondHhea, hheaLength));
+    for (int i = 0; i < numTables; i++) {
+      int record = 12 + 16 * i;
+      int offset = ttc.readULongAsInt(header + record + 8);
+      ttc.writeULong(header + record + 8, offset + header);
+      if (ttc.readULongAsInt(header + record) == Tag.hhea) {
+        ttc.writeULong(secondDirectory + record + 4, hhea.calculatedChecksum());
+        ttc.writeULong(secondDirectory + record + 8, secondHhea);
+      } else {
+        ttc.writeULong(secondDirectory + record + 8, offset + header);
+      }
+    }
+    return toBytes(ttc);
+  }
+
+  /**
+   * A stream that doesn't know how much data it holds, like a network stream.
+   */
+  private static final class UnsizedInputStream extends FilterInputStream {
+    UnsizedInputStream(byte[] b) {
+      super(new ByteArrayInputStream(b));
+    }
+
+    @Override
+    public int available() {
+      return 0;
+    }
+  }
+
+  private static Font createVariant(FontFactory factory, byte[] fontBytes) throws IOException {
+    Font.Builder variantBuilder = factory.loadFontsForBuilding(fontBytes)[0];
+    HorizontalHeaderTable.Builder hheaBuilder =
+        (HorizontalHeaderTable.Builder) variantBuilder.getTableBuilder(Tag.hhea);
+    hheaBuilder.setAdvanceWidthMax(hheaBuilder.advanceWidthMax() + 1);
+    return variantBuilder.build();
+  }
+
+  /**
+   * Compares the table data of a font loaded from another container with the
+   * font it was made from. A transformed glyf table is compared glyph by glyph since
+   * the reconstructed glyphs need not be encoded the same way.
+   */
+  private static void compareTableData(Font srcFont, Font font, boolean transformedGlyf) {
+    for (Map.Entry<Integer, ? extends Table> entry : srcFont.tableMap().entrySet()) {
+      int tag = entry.getKey();
+      if (tag == Tag.DSIG || (transformedGlyf
+          && (tag == Tag.glyf || tag == Tag.loca || tag == Tag.head))) {
+        // the WOFF 2.0 writer drops the signature and flags transformed fonts in head
+        continue;
+      }
+      Table table = font.getTable(tag);
+      assertNotNull(Tag.stringValue(tag), table);
+      assertTrue(Tag.stringValue(tag),
+          Arrays.equals(toBytes(entry.getValue().readFontData()), toBytes(table.readFontData())));
+    }
+    if (!transformedGlyf) {
+      return;
+    }
+    LocaTable srcLoca = srcFont.getTable(Tag.loca);
+    GlyphTable srcGlyf = srcFont.getTable(Tag.glyf);
+    LocaTable loca = font.getTable(Tag.loca);
+    GlyphTable glyf = font.getTable(Tag.glyf);
+    assertEquals(srcLoca.numGlyphs(), loca.numGlyphs());
+    for (int i = 0; i < srcLoca.numGlyphs(); i++) {
+      assertEquals(srcLoca.glyphLength(i) == 0, loca.glyphLength(i) == 0);
+      if (srcLoca.glyphLength(i) == 0) {
+        continue;
+      }
+      Glyph srcGlyph = srcGlyf.glyph(srcLoca.glyphOffset(i), srcLoca.glyphLength(i));
+      Glyph glyph = glyf.glyph(loca.glyphOffset(i), loca.glyphLength(i));
+      assertEquals(srcGlyph.glyphType(), glyph.glyphType());
+      assertEquals(srcGlyph.numberOfContours(), glyph.numberOfContours());
+      assertEquals(srcGlyph.xMin(), glyph.xMin());
+      assertEquals(srcGlyph.yMax(), glyph.yMax());
+      if (srcGlyph instanceof SimpleGlyph) {
+        SimpleGlyph srcSimple = (SimpleGlyph) srcGlyph;
+        SimpleGlyph simple = (SimpleGlyph) glyph;
+        for (int c = 0; c < srcSimple.numberOfContours(); c++) {
+          assertEquals(srcSimple.numberOfPoints(c), simple.numberOfPoints(c));
+          for (int p = 0; p < srcSimple.numberOfPoints(c); p++) {
+            assertEquals(srcSimple.xCoordinate(c, p), simple.xCoordinate(c, p));
+            assertEquals(srcSimple.yCoordinate(c, p), simple.yCoordinate(c, p));
+            assertEquals(srcSimple.onCurve(c, p), simple.onCurve(c, p));
+          }
+        }
+      }
+      assertTrue(Arrays.equals(
+          toBytes(srcGlyph.instructions()), toBytes(glyph.instructions())));
+    }
+  }
+
+  private static byte[] toBytes(ReadableFontData data) {
+    byte[] b = new byte[data.length()];
+    data.readBytes(0, b, 0, b.length);
+    return b;
+  }
 
+  private static void compareFonts(Font[] sFonts, Font[] bFonts) {
     assertEquals(sFonts.length, bFonts.length);
     for (int i = 0; i < sFonts.length; i++) {
       Font streamFont = sFonts[i];
@@ -23,13 +23,20 @@ import com.google.typography.font.sfntly.table.Table;
 import com.google.typography.font.sfntly.table.core.FontHeaderTable;
 import com.google.typography.font.sfntly.testutils.TestFont;
 import com.google.typography.font.sfntly.testutils.TestFontUtils;
+import com.google.typography.font.sfntly.testutils.TestUtils;
 
 import junit.framework.TestCase;
 
+import java.io.ByteArrayOutputStream;
 import java.io.File;
+import java.io.RandomAccessFile;
+import java.nio.channels.FileChannel;
+import java.util.Arrays;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 /**
  * @author Stuart Gill
@@ -120,4 +127,44 @@ public class OTFBasicEditingTests extends TestCase {
     long checksumAdjustment = header.checkSumAdjustment();
     assertEquals(headerAdjustment, header.checkSumAdjustment());
   }
+
+  /**
+   * Tests that building the tables in parallel and serializing with a
+   * gathering write give the same result as doing both serially.
+   *
+   * @throws Exception
+   */
+  public void testParallelBuildAndSerialize() throws Exception {
+    Builder serialBuilder = TestFontUtils.builderForFontFile(TEST_FONT_FILE);
+    FontHeaderTable.Builder headerBuilder =
+        (FontHeaderTable.Builder) serialBuilder.getTableBuilder(Tag.head);
+    headerBuilder.setModified(headerBuilder.modified() + 1);
+    Font serialFont = serialBuilder.build();
+    ByteArrayOutputStream serialBytes = new ByteArrayOutputStream();
+    serialBuilder.getFontFactory().serializeFont(serialFont, serialBytes);
+
+    ExecutorService executor = Executors.newFixedThreadPool(4);
+    File serializedFile = File.createTempFile("parallel", ".ttf");
+    try {
+      Builder parallelBuilder = TestFontUtils.builderForFontFile(TEST_FONT_FILE);
+      parallelBuilder.getFontFactory().setExecutor(executor);
+      headerBuilder = (FontHeaderTable.Builder) parallelBuilder.getTableBuilder(Tag.head);
+      headerBuilder.setModified(headerBuilder.modified() + 1);
+      Font parallelFont = parallelBuilder.build();
+      assertEquals(serialFont.checksum(), parallelFont.checksum());
+
+      RandomAccessFile raf = new RandomAccessFile(serializedFile, "rw");
+      try {
+        FileChannel fc = raf.getChannel();
+        parallelBuilder.getFontFactory().serializeFont(parallelFont, fc);
+        assertEquals(serialBytes.size(), fc.size());
+      } finally {
+        raf.close();
+      }
+      assertTrue(Arrays.equals(serialBytes.toByteArray(), TestUtils.readFile(serializedFile)));
+    } finally {
+      executor.shutdown();
+      serializedFile.delete();
+    }
+  }
 }
@@ -20,6 +20,12 @@ import com.google.typography.font.sfntly.testutils.TestUtils;
 
 import junit.framework.TestCase;
 
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+
 
 /**
  * @author Stuart Gill
@@ -47,6 +53,40 @@ public class ByteArrayTests extends TestCase {
     }
   }
 
+  public void testMappedByteArray() throws Exception {
+    for (int size : BYTE_ARRAY_SIZES) {
+      File file = File.createTempFile("mapped", ".bin");
+      try {
+        FileOutputStream fos = new FileOutputStream(file);
+        try {
+          for (int i = 0; i < size; i++) {
+            fos.write(i % 256);
+          }
+        } finally {
+          fos.close();
+        }
+        byteArrayTester(new MappedByteArray(map(file)));
+
+        // writes must go to a private copy and leave the file untouched
+        MappedByteArray ba = new MappedByteArray(map(file));
+        ba.put(0, (byte) 0xff);
+        assertEquals(0xff, ba.get(0));
+        assertEquals(0, new MappedByteArray(map(file)).get(0));
+      } finally {
+        file.delete();
+      }
+    }
+  }
+
+  private static ByteBuffer map(File file) throws Exception {
+    RandomAccessFile raf = new RandomAccessFile(file, "r");
+    try {
+      return raf.getChannel().map(FileChannel.MapMode.READ_ONLY, 0, raf.length());
+    } finally {
+      raf.close();
+    }
+  }
+
   private void byteArrayTester(ByteArray<? extends ByteArray<?>> ba) throws Exception {
     copyTest(ba);
     // slicingCopyTest(ba);
@@ -0,0 +1,56 @@
+package com.google.typography.font.sfntly.table.opentype;
+
+import com.google.typography.font.sfntly.Font;
+import com.google.typography.font.sfntly.Tag;
+import com.google.typography.font.sfntly.table.core.CMapTable;
+import com.google.typography.font.sfntly.table.opentype.component.GlyphGroup;
+import com.google.typography.font.sfntly.table.opentype.component.Rule;
+import com.google.typography.font.sfntly.table.opentype.component.RuleClosure;
+import com.google.typography.font.sfntly.testutils.TestFont.TestFontNames;
+import com.google.typography.font.sfntly.testutils.TestFontUtils;
+
+import junit.framework.TestCase;
+
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+/**
+ * Checks the compiled closure against {@link Rule#closure(Map, GlyphGroup)}.
+ */
+public class RuleClosureTests extends TestCase {
+  private static final String[] TEXTS = {
+    "", "fi", "ffl", "The office affords fluffy waffles.", "العربية",
+  };
+
+  public void testClosure() throws Exception {
+    Font font = TestFontUtils.loadFont(TestFontNames.OPENSANS.getFile())[0];
+    Map<Integer, Set<Rule>> glyphRulesMap = Rule.glyphRulesMap(font);
+    assertNotNull(glyphRulesMap);
+    RuleClosure ruleClosure = RuleClosure.compile(glyphRulesMap);
+    CMapTable cmapTable = font.getTable(Tag.cmap);
+
+    for (String text : TEXTS) {
+      assertClosure(glyphRulesMap, ruleClosure, Rule.glyphGroupForText(text, cmapTable));
+    }
+    Random random = new Random(1);
+    for (int i = 0; i < 200; i++) {
+      GlyphGroup glyphs = new GlyphGroup();
+      for (int glyph = 0; glyph < 20; glyph++) {
+        glyphs.add(random.nextInt(4000));
+      }
+      assertClosure(glyphRulesMap, ruleClosure, glyphs);
+    }
+  }
+
+  private static void assertClosure(
+      Map<Integer, Set<Rule>> glyphRulesMap, RuleClosure ruleClosure, GlyphGroup glyphs) {
+    GlyphGroup expected = new GlyphGroup();
+    expected.or(glyphs);
+    Rule.closure(glyphRulesMap, expected);
+    GlyphGroup closure = new GlyphGroup();
+    closure.or(glyphs);
+    assertSame(closure, ruleClosure.closure(closure));
+    assertEquals(expected, closure);
+  }
+}
@@ -0,0 +1,55 @@
+package com.google.typography.font.sfntly.table.opentype;
+
+import com.google.typography.font.sfntly.Font;
+import com.google.typography.font.sfntly.Tag;
+import com.google.typography.font.sfntly.table.opentype.component.Rule;
+import com.google.typography.font.sfntly.table.opentype.component.RuleIndex;
+import com.google.typography.font.sfntly.testutils.TestFont.TestFontNames;
+import com.google.typography.font.sfntly.testutils.TestFontUtils;
+
+import junit.framework.TestCase;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+
+public class RuleIndexTests extends TestCase {
+
+  public void testRuleIndex() throws Exception {
+    Font font = TestFontUtils.loadFont(TestFontNames.OPENSANS.getFile())[0];
+    GSubTable gsub = font.getTable(Tag.GSUB);
+    RuleIndex ruleIndex = gsub.ruleIndex();
+    assertSame(ruleIndex, gsub.ruleIndex());
+    assertSame(ruleIndex.glyphRulesMap(), Rule.glyphRulesMap(font));
+    assertSame(ruleIndex.ruleClosure(), ruleIndex.ruleClosure());
+
+    Set<Integer> featuredLookups = ruleIndex.featuredLookups();
+    assertFalse(featuredLookups.isEmpty());
+    assertTrue(ruleIndex.lookupRules().keySet().containsAll(featuredLookups));
+    assertEquals(featuredLookups, ruleIndex.lookups(null, null, null));
+
+    // every script and language filter selects some of the featured lookups
+    for (ScriptTag script : gsub.scriptList().map().keySet()) {
+      Set<Integer> scriptLookups = ruleIndex.lookups(script, null, null);
+      assertTrue(featuredLookups.containsAll(scriptLookups));
+      assertTrue(scriptLookups.containsAll(ruleIndex.lookups(script, LanguageTag.DFLT, null)));
+    }
+
+    Set<Integer> noFeatures = Collections.emptySet();
+    assertTrue(ruleIndex.lookups(null, null, noFeatures).isEmpty());
+    assertTrue(ruleIndex.glyphRulesMap(null, null, noFeatures).isEmpty());
+
+    Set<Integer> liga = Collections.singleton(Tag.intValue("liga"));
+    Map<Integer, Set<Rule>> ligaRules = ruleIndex.glyphRulesMap(null, null, liga);
+    for (Map.Entry<Integer, Set<Rule>> entry : ligaRules.entrySet()) {
+      assertTrue(ruleIndex.glyphRulesMap().get(entry.getKey()).containsAll(entry.getValue()));
+    }
+
+    try {
+      ruleIndex.glyphRulesMap().clear();
+      fail("the shared rule map can be modified");
+    } catch (UnsupportedOperationException e) {
+      // expected
+    }
+  }
+}
@@ -25,6 +25,9 @@ import junit.framework.TestCase;
 
 import java.io.File;
 import java.io.IOException;
+import java.util.Arrays;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 /**
  * @author Raph Levien
@@ -42,4 +45,24 @@ public class EOTWriterTest extends TestCase {
     assertEquals(EOT_VERSION, eotData.readULongLE(8));
     // TODO: more sanity-checking and validation
   }
+
+  public void testParallelMtx() throws IOException {
+    Font srcFont = TestFontUtils.loadFont(fontFile)[0];
+
+    byte[] serial = new MtxWriter().compress(srcFont);
+    ExecutorService executor = Executors.newFixedThreadPool(4);
+    try {
+      byte[] parallel = new MtxWriter(executor).compress(srcFont);
+      assertTrue(Arrays.equals(serial, parallel));
+
+      WritableFontData serialEot = new EOTWriter(true).convert(srcFont);
+      WritableFontData parallelEot = new EOTWriter(true, executor).convert(srcFont);
+      assertEquals(serialEot.length(), parallelEot.length());
+      for (int i = 0; i < serialEot.length(); i++) {
+        assertEquals(serialEot.readByte(i), parallelEot.readByte(i));
+      }
+    } finally {
+      executor.shutdown();
+    }
+  }
 }
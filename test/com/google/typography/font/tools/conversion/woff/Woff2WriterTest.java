@@ -0,0 +1,149 @@
+/*
+ * Copyright 2011 Google Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.typography.font.tools.conversion.woff;
+
+import com.google.typography.font.sfntly.Font;
+import com.google.typography.font.sfntly.Tag;
+import com.google.typography.font.sfntly.data.ReadableFontData;
+import com.google.typography.font.sfntly.data.WritableFontData;
+import com.google.typography.font.sfntly.table.Table;
+import com.google.typography.font.sfntly.testutils.TestFont.TestFontNames;
+import com.google.typography.font.sfntly.testutils.TestFontUtils;
+
+import junit.framework.TestCase;
+
+import java.io.File;
+import java.io.IOException;
+
+public class Woff2WriterTest extends TestCase {
+  private static final File fontFile = TestFontNames.OPENSANS.getFile();
+  private static final long SIGNATURE = 0x774F4632;
+  private static final int HEADER_SIZE = 48;
+
+  public void testBasicWoff2() throws IOException {
+    Font srcFont = TestFontUtils.loadFont(fontFile)[0];
+
+    WritableFontData woff2Data = new Woff2Writer().convert(srcFont);
+    assertEquals(SIGNATURE, woff2Data.readULong(0));
+    assertEquals(srcFont.sfntVersion(), woff2Data.readULong(4));
+    assertEquals(woff2Data.length(), woff2Data.readULong(8));
+    assertEquals(0, woff2Data.length() % 4);
+    int numTables = srcFont.tableMap().size() - (srcFont.hasTable(Tag.DSIG) ? 1 : 0);
+    assertEquals(numTables, woff2Data.readUShort(12));
+
+    // the transformed glyf table comes with an empty loca table right after it
+    int index = HEADER_SIZE;
+    int glyfEntry = -1;
+    for (int i = 0; i < numTables; i++) {
+      int flags = woff2Data.readUByte(index++);
+      int tag = (flags & 0x3f) == 0x3f ? woff2Data.readULongAsInt(index) : -1;
+      if ((flags & 0x3f) == 0x3f) {
+        index += 4;
+      }
+      int[] value = new int[1];
+      index = readBase128(woff2Data, index, value);
+      if ((flags & 0x3f) == 10) {
+        assertEquals(0, flags >> 6);
+        assertEquals(srcFont.getTable(Tag.glyf).dataLength(), value[0]);
+        index = readBase128(woff2Data, index, value);
+        glyfEntry = i;
+      } else if ((flags & 0x3f) == 11) {
+        assertEquals(glyfEntry + 1, i);
+        index = readBase128(woff2Data, index, value);
+        assertEquals(0, value[0]);
+      } else if ((flags >> 6) != 0) {
+        index = readBase128(woff2Data, index, value);
+      }
+      assertTrue(tag != Tag.DSIG);
+    }
+    assertTrue(glyfEntry >= 0);
+    int compressedLength = woff2Data.readULongAsInt(20);
+    assertEquals(woff2Data.length(), (index + compressedLength + 3) & -4);
+  }
+
+  public void testCompressor() throws IOException {
+    Font srcFont = TestFontUtils.loadFont(fontFile)[0];
+
+    CapturingCompressor compressor = new CapturingCompressor();
+    Woff2Writer writer = new Woff2Writer();
+    writer.setCompressor(compressor);
+    writer.setTransformGlyf(false);
+    WritableFontData woff2Data = writer.convert(srcFont);
+    assertEquals(compressor.data.length, woff2Data.readULong(20));
+
+    // without transforms the stream is the tables one after another
+    int length = 0;
+    for (Table table : srcFont.tableMap().values()) {
+      if (table.headerTag() != Tag.DSIG) {
+        length += table.dataLength();
+      }
+    }
+    assertEquals(length, compressor.data.length);
+    Table glyf = srcFont.getTable(Tag.glyf);
+    assertTrue(indexOf(compressor.data, glyf.readFontData()) >= 0);
+
+    writer.setTransformGlyf(true);
+    writer.convert(srcFont);
+    assertTrue(compressor.data.length < length);
+
+    try {
+      writer.setCompressor(null);
+      fail("Expected IllegalArgumentException");
+    } catch (IllegalArgumentException e) {
+      // expected
+    }
+  }
+
+  private static int readBase128(ReadableFontData data, int index, int[] value) {
+    int result = 0;
+    int b;
+    do {
+      b = data.readUByte(index++);
+      result = (result << 7) | (b & 0x7f);
+    } while ((b & 0x80) != 0);
+    value[0] = result;
+    return index;
+  }
+
+  private static int indexOf(byte[] stream, ReadableFontData data) {
+    byte[] b = new byte[data.length()];
+    data.readBytes(0, b, 0, b.length);
+    outer:
+    for (int i = 0; i + b.length <= stream.length; i++) {
+      for (int j = 0; j < b.length; j++) {
+        if (stream[i + j] != b[j]) {
+          continue outer;
+        }
+      }
+      return i;
+    }
+    return -1;
+  }
+
+  /**
+   * Stores the data instead of compressing it and keeps the last data seen.
+   */
+  private static final class CapturingCompressor implements BrotliCompressor {
+    byte[] data;
+
+    @Override
+    public byte[] compress(byte[] data) {
+      this.data = data;
+      return data;
+    }
+  }
+}
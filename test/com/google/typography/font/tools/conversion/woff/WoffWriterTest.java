@@ -0,0 +1,88 @@
+/*
+ * Copyright 2011 Google Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.typography.font.tools.conversion.woff;
+
+import com.google.typography.font.sfntly.Font;
+import com.google.typography.font.sfntly.data.WritableFontData;
+import com.google.typography.font.sfntly.testutils.TestFont.TestFontNames;
+import com.google.typography.font.sfntly.testutils.TestFontUtils;
+
+import junit.framework.TestCase;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.zip.Deflater;
+
+public class WoffWriterTest extends TestCase {
+  private static final File fontFile = TestFontNames.OPENSANS.getFile();
+  private static final long SIGNATURE = 0x774F4646;
+
+  public void testBasicWoff() throws IOException {
+    Font srcFont = TestFontUtils.loadFont(fontFile)[0];
+
+    WritableFontData woffData = new WoffWriter().convert(srcFont);
+    assertEquals(SIGNATURE, woffData.readULong(0));
+    assertEquals(woffData.length(), woffData.readULong(8));
+  }
+
+  public void testParallelWoff() throws IOException {
+    Font srcFont = TestFontUtils.loadFont(fontFile)[0];
+
+    byte[] serial = toBytes(new WoffWriter().convert(srcFont));
+    ExecutorService executor = Executors.newFixedThreadPool(4);
+    try {
+      WoffWriter writer = new WoffWriter();
+      writer.setExecutor(executor);
+      // the same writer reuses its deflaters for a second conversion
+      assertTrue(Arrays.equals(serial, toBytes(writer.convert(srcFont))));
+      assertTrue(Arrays.equals(serial, toBytes(writer.convert(srcFont))));
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+  public void testCompressionLevel() throws IOException {
+    Font srcFont = TestFontUtils.loadFont(fontFile)[0];
+
+    WoffWriter writer = new WoffWriter();
+    writer.setCompressionLevel(Deflater.NO_COMPRESSION);
+    WritableFontData stored = writer.convert(srcFont);
+    writer.setCompressionLevel(Deflater.BEST_COMPRESSION);
+    writer.setCompressionStrategy(Deflater.FILTERED);
+    WritableFontData compressed = writer.convert(srcFont);
+    assertTrue(compressed.length() < stored.length());
+    // the total sfnt size doesn't depend on the compression
+    assertEquals(stored.readULong(16), compressed.readULong(16));
+
+    try {
+      writer.setCompressionLevel(10);
+      fail("Expected IllegalArgumentException");
+    } catch (IllegalArgumentException e) {
+      // expected
+    }
+  }
+
+  private static byte[] toBytes(WritableFontData data) throws IOException {
+    ByteArrayOutputStream os = new ByteArrayOutputStream();
+    data.copyTo(os);
+    return os.toByteArray();
+  }
+}
@@ -23,6 +23,7 @@ import com.google.typography.font.sfntly.FontFactory;
 import com.google.typography.font.sfntly.Tag;
 import com.google.typography.font.sfntly.table.Table;
 import com.google.typography.font.sfntly.table.core.CMapTable;
+import com.google.typography.font.sfntly.table.truetype.CompositeGraph;
 import com.google.typography.font.sfntly.table.truetype.GlyphTable;
 import com.google.typography.font.sfntly.table.truetype.LocaTable;
 import com.google.typography.font.sfntly.testutils.TestFont;
@@ -30,8 +31,12 @@ import com.google.typography.font.sfntly.testutils.TestFontUtils;
 
 import junit.framework.TestCase;
 
+import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
@@ -120,4 +125,134 @@ public class BasicSubsetTests extends TestCase {
       System.out.println(dstFontFile);
     }
   }
+
+  public void testStreamingSubset() throws Exception {
+    Font srcFont = TestFontUtils.loadFont(fontFile)[0];
+    FontFactory factory = FontFactory.getInstance();
+
+    ByteArrayOutputStream built = new ByteArrayOutputStream();
+    factory.serializeFont(renumberingSubsetter(srcFont, factory).subset().build(), built);
+
+    ByteArrayOutputStream streamed = new ByteArrayOutputStream();
+    renumberingSubsetter(srcFont, factory).subset(streamed);
+
+    assertTrue(Arrays.equals(built.toByteArray(), streamed.toByteArray()));
+    Font dstFont = factory.loadFonts(streamed.toByteArray())[0];
+    LocaTable dstLocaTable = dstFont.getTable(Tag.loca);
+    assertEquals(21, dstLocaTable.numGlyphs());
+    assertFalse(dstFont.hasTable(Tag.GSUB));
+  }
+
+  public void testSubsetPlan() throws Exception {
+    Font srcFont = TestFontUtils.loadFont(fontFile)[0];
+    FontFactory factory = FontFactory.getInstance();
+    Set<Integer> removeTables = new HashSet<Integer>();
+    removeTables.add(Tag.GPOS);
+    removeTables.add(Tag.GSUB);
+    removeTables.add(Tag.kern);
+    final SubsetPlan plan = new SubsetPlan(
+        srcFont, factory, Arrays.asList(CMapTable.CMapId.WINDOWS_BMP), removeTables);
+
+    ByteArrayOutputStream expected = new ByteArrayOutputStream();
+    factory.serializeFont(renumberingSubsetter(srcFont, factory).subset().build(), expected);
+    final List<Integer> glyphs = renumberingSubsetter(srcFont, factory).glyphMappingTable();
+    ByteArrayOutputStream planned = new ByteArrayOutputStream();
+    factory.serializeFont(plan.subset(glyphs).build(), planned);
+    assertTrue(Arrays.equals(expected.toByteArray(), planned.toByteArray()));
+
+    // the components of composite glyphs follow the glyphs in glyph id order
+    GlyphTable glyf = srcFont.getTable(Tag.glyf);
+    CompositeGraph graph = glyf.compositeGraph(srcFont.<LocaTable>getTable(Tag.loca));
+    int composite = 0;
+    while (plan.components(composite).length < 2) {
+      composite++;
+    }
+    List<Integer> closure = plan.closure(Arrays.asList(composite, 0));
+    BitSet expectedClosure = new BitSet();
+    expectedClosure.set(composite);
+    graph.closure(expectedClosure);
+    expectedClosure.set(0);
+    assertEquals(Arrays.asList(composite, 0), closure.subList(0, 2));
+    assertEquals(expectedClosure.cardinality(), closure.size());
+    for (int i = 2; i < closure.size(); i++) {
+      assertTrue(expectedClosure.get(closure.get(i)));
+      assertTrue(i == 2 || closure.get(i - 1) < closure.get(i));
+    }
+
+    // the same plan used from several threads at once
+    final byte[] expectedBytes = expected.toByteArray();
+    final List<Throwable> failures = Collections.synchronizedList(new ArrayList<Throwable>());
+    Thread[] threads = new Thread[4];
+    for (int t = 0; t < threads.length; t++) {
+      threads[t] = new Thread() {
+        @Override
+        public void run() {
+          try {
+            for (int i = 0; i < 10; i++) {
+              ByteArrayOutputStream os = new ByteArrayOutputStream();
+              plan.subset(glyphs, os);
+              assertTrue(Arrays.equals(expectedBytes, os.toByteArray()));
+            }
+          } catch (Throwable e) {
+            failures.add(e);
+          }
+        }
+      };
+      threads[t].start();
+    }
+    for (Thread thread : threads) {
+      thread.join();
+    }
+    assertEquals(Collections.emptyList(), failures);
+  }
+
+  public void testSubsetGlyphArray() throws Exception {
+    Font srcFont = TestFontUtils.loadFont(fontFile)[0];
+    FontFactory factory = FontFactory.getInstance();
+    Subsetter listSubsetter = renumberingSubsetter(srcFont, factory);
+    List<Integer> glyphList = new ArrayList<Integer>(listSubsetter.glyphMappingTable());
+    Collections.reverse(glyphList);
+    listSubsetter.setGlyphs(glyphList);
+    ByteArrayOutputStream expected = new ByteArrayOutputStream();
+    factory.serializeFont(listSubsetter.subset().build(), expected);
+
+    Subsetter arraySubsetter = renumberingSubsetter(srcFont, factory);
+    int[] glyphs = new int[glyphList.size()];
+    for (int i = 0; i < glyphs.length; i++) {
+      glyphs[i] = glyphList.get(i);
+    }
+    arraySubsetter.setGlyphs(glyphs);
+    // the glyphs are copied when set
+    glyphs[0] = 0;
+    ByteArrayOutputStream actual = new ByteArrayOutputStream();
+    factory.serializeFont(arraySubsetter.subset().build(), actual);
+    assertTrue(Arrays.equals(expected.toByteArray(), actual.toByteArray()));
+
+    assertEquals(glyphList, arraySubsetter.glyphMappingTable());
+    LocaTable srcLocaTable = srcFont.getTable(Tag.loca);
+    int[] oldToNew = arraySubsetter.oldToNewGlyphs();
+    assertEquals(srcLocaTable.numGlyphs(), oldToNew.length);
+    for (int oldGlyph = 0; oldGlyph < oldToNew.length; oldGlyph++) {
+      assertEquals(oldGlyph <= 20 ? 20 - oldGlyph : -1, oldToNew[oldGlyph]);
+    }
+  }
+
+  private static Subsetter renumberingSubsetter(Font font, FontFactory factory) {
+    Subsetter subsetter = new RenumberingSubsetter(font, factory);
+    List<Integer> glyphs = new ArrayList<Integer>();
+    for (int i = 0; i <= 20; i++) {
+      glyphs.add(i);
+    }
+    subsetter.setGlyphs(glyphs);
+    subsetter.setRemapping(Collections.<Integer, Integer>emptyMap());
+    List<CMapTable.CMapId> cmapIds = new ArrayList<CMapTable.CMapId>();
+    cmapIds.add(CMapTable.CMapId.WINDOWS_BMP);
+    subsetter.setCMaps(cmapIds, 1);
+    Set<Integer> removeTables = new HashSet<Integer>();
+    removeTables.add(Tag.GPOS);
+    removeTables.add(Tag.GSUB);
+    removeTables.add(Tag.kern);
+    subsetter.setRemoveTables(removeTables);
+    return subsetter;
+  }
 }
@@ -0,0 +1,133 @@
+/*
+ * Copyright 2011 Google Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.typography.font.tools.subsetter;
+
+import com.google.typography.font.sfntly.Font;
+import com.google.typography.font.sfntly.FontFactory;
+import com.google.typography.font.sfntly.Tag;
+import com.google.typography.font.sfntly.data.ReadableFontData;
+import com.google.typography.font.sfntly.table.core.CMapTable;
+import com.google.typography.font.sfntly.testutils.TestFont.TestFontNames;
+import com.google.typography.font.sfntly.testutils.TestFontUtils;
+import com.google.typography.font.tools.sfnttool.GlyphCoverage;
+
+import junit.framework.TestCase;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+public class GlyphPatchTest extends TestCase {
+  private static final int[] PATCHED_TABLES =
+      {Tag.glyf, Tag.loca, Tag.hmtx, Tag.hhea, Tag.maxp, Tag.cmap};
+
+  private Font font;
+  private FontFactory factory;
+  private GlyphPatcher patcher;
+
+  @Override
+  public void setUp() throws Exception {
+    font = TestFontUtils.loadFont(TestFontNames.OPENSANS.getFile())[0];
+    factory = FontFactory.getInstance();
+    patcher = new GlyphPatcher(font, CMapTable.CMapId.WINDOWS_BMP);
+  }
+
+  public void testPatchMatchesSubset() throws Exception {
+    List<Integer> delivered = new ArrayList<Integer>(GlyphCoverage.getGlyphCoverage(font, "Hello"));
+    Font patched = subset(delivered);
+
+    for (String text : new String[] {" world", "ÀÉÎ"}) {
+      GlyphPatch patch = roundTrip(patcher.patch(delivered, characters(text)));
+      assertEquals(delivered.size(), patch.firstGlyph());
+      assertTrue(patch.glyphCount() > 0);
+      patched = reload(patch.applyTo(patched, factory));
+      delivered.addAll(patch.sourceGlyphs());
+
+      // the patched font has the same glyph tables as subsetting at once
+      Font expected = subset(delivered);
+      for (int tag : PATCHED_TABLES) {
+        assertEquals(Tag.stringValue(tag),
+            bytes(expected.getTable(tag).readFontData()),
+            bytes(patched.getTable(tag).readFontData()));
+      }
+    }
+  }
+
+  public void testPatchWithoutNewGlyphs() throws Exception {
+    List<Integer> delivered = GlyphCoverage.getGlyphCoverage(font, "Hello");
+    GlyphPatch patch = roundTrip(patcher.patch(delivered, characters("olleH")));
+    assertEquals(0, patch.glyphCount());
+    assertTrue(patch.cmap().isEmpty());
+  }
+
+  public void testPatchForOtherFont() throws Exception {
+    List<Integer> delivered = GlyphCoverage.getGlyphCoverage(font, "Hello");
+    GlyphPatch patch = patcher.patch(delivered, characters("world"));
+    try {
+      patch.applyTo(subset(GlyphCoverage.getGlyphCoverage(font, "Hi")), factory);
+      fail("a patch was applied to a font with other glyphs");
+    } catch (IllegalArgumentException e) {
+      // expected
+    }
+  }
+
+  private Font subset(List<Integer> glyphs) throws IOException {
+    Subsetter subsetter = new RenumberingSubsetter(font, factory);
+    subsetter.setGlyphs(glyphs);
+    subsetter.setRemapping(Collections.<Integer, Integer>emptyMap());
+    subsetter.setCMaps(Collections.singletonList(CMapTable.CMapId.WINDOWS_BMP), 1);
+    Set<Integer> removeTables = new HashSet<Integer>();
+    removeTables.add(Tag.GPOS);
+    removeTables.add(Tag.GSUB);
+    removeTables.add(Tag.kern);
+    subsetter.setRemoveTables(removeTables);
+    return reload(subsetter.subset());
+  }
+
+  private Font reload(Font.Builder fontBuilder) throws IOException {
+    ByteArrayOutputStream os = new ByteArrayOutputStream();
+    factory.serializeFont(fontBuilder.build(), os);
+    return factory.loadFonts(os.toByteArray())[0];
+  }
+
+  private static GlyphPatch roundTrip(GlyphPatch patch) throws IOException {
+    ByteArrayOutputStream os = new ByteArrayOutputStream();
+    patch.writeTo(os);
+    assertEquals(patch.length(), os.size());
+    return GlyphPatch.read(ReadableFontData.createReadableFontData(os.toByteArray()));
+  }
+
+  private static List<Integer> characters(String text) {
+    List<Integer> characters = new ArrayList<Integer>();
+    for (int i = 0; i < text.length(); i++) {
+      characters.add((int) text.charAt(i));
+    }
+    return characters;
+  }
+
+  private static List<Integer> bytes(ReadableFontData data) {
+    List<Integer> bytes = new ArrayList<Integer>(data.length());
+    for (int i = 0; i < data.length(); i++) {
+      bytes.add(data.readUByte(i));
+    }
+    return bytes;
+  }
+}
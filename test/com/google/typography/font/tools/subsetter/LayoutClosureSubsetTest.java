@@ -0,0 +1,228 @@
+/*
+ * Copyright 2011 Google Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.typography.font.tools.subsetter;
+
+import com.google.typography.font.sfntly.Font;
+import com.google.typography.font.sfntly.FontFactory;
+import com.google.typography.font.sfntly.Tag;
+import com.google.typography.font.sfntly.data.ReadableFontData;
+import com.google.typography.font.sfntly.data.WritableFontData;
+import com.google.typography.font.sfntly.table.Table;
+import com.google.typography.font.sfntly.table.core.CMapTable;
+import com.google.typography.font.sfntly.table.core.MaximumProfileTable;
+import com.google.typography.font.sfntly.table.opentype.GSubTable;
+import com.google.typography.font.sfntly.table.opentype.component.GlyphGroup;
+import com.google.typography.font.sfntly.table.opentype.component.Rule;
+import com.google.typography.font.sfntly.testutils.TestFont.TestFontNames;
+import com.google.typography.font.sfntly.testutils.TestFontUtils;
+import com.google.typography.font.tools.sfnttool.GlyphCoverage;
+
+import junit.framework.TestCase;
+
+import java.io.ByteArrayOutputStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+public class LayoutClosureSubsetTest extends TestCase {
+  private static final String TEXT = "office";
+
+  private Font font;
+  private FontFactory factory;
+
+  @Override
+  public void setUp() throws Exception {
+    font = TestFontUtils.loadFont(TestFontNames.OPENSANS.getFile())[0];
+    factory = FontFactory.getInstance();
+  }
+
+  public void testLayoutClosure() throws Exception {
+    List<Integer> glyphs = GlyphCoverage.getGlyphCoverage(font, TEXT);
+    Subsetter subsetter = layoutSubsetter(glyphs);
+    subsetter.setLayoutClosure(null, null);
+    Font subsetFont = subsetAndReload(subsetter);
+
+    // the text's glyphs keep their ids and the substitutes follow them
+    List<Integer> newToOld = subsetter.glyphMappingTable();
+    assertEquals(glyphs, newToOld.subList(0, glyphs.size()));
+    GlyphGroup closure = new GlyphGroup();
+    for (int glyph : glyphs) {
+      closure.add(glyph);
+    }
+    Rule.closure(Rule.glyphRulesMap(font), closure);
+    assertTrue(closure.size() > glyphs.size());
+    Set<Integer> kept = new HashSet<Integer>(newToOld);
+    for (int glyph : closure) {
+      assertTrue(kept.contains(glyph));
+    }
+
+    // the subset GSUB gives the same closure in the new glyph ids
+    MaximumProfileTable maxp = subsetFont.getTable(Tag.maxp);
+    assertEquals(newToOld.size(), maxp.numGlyphs());
+    Map<Integer, Set<Rule>> subsetRules = Rule.glyphRulesMap(subsetFont);
+    assertFalse(subsetRules.isEmpty());
+    for (int glyph : subsetRules.keySet()) {
+      assertTrue(glyph < newToOld.size());
+    }
+    GlyphGroup subsetClosure = new GlyphGroup();
+    for (int glyph = 0; glyph < glyphs.size(); glyph++) {
+      subsetClosure.add(glyph);
+    }
+    Rule.closure(subsetRules, subsetClosure);
+    GlyphGroup mappedClosure = new GlyphGroup();
+    for (int glyph : subsetClosure) {
+      mappedClosure.add(newToOld.get(glyph));
+    }
+    assertEquals(closure, mappedClosure);
+    assertNotNull(subsetFont.getTable(Tag.GDEF));
+  }
+
+  public void testLayoutFeatureFilter() throws Exception {
+    List<Integer> glyphs = GlyphCoverage.getGlyphCoverage(font, TEXT);
+    Subsetter subsetter = layoutSubsetter(glyphs);
+    subsetter.setLayoutClosure(null, Collections.<Integer>emptySet());
+    Font subsetFont = subsetAndReload(subsetter);
+
+    assertEquals(glyphs, subsetter.glyphMappingTable());
+    GSubTable gsub = subsetFont.getTable(Tag.GSUB);
+    assertEquals(0, gsub.featureList().count());
+    assertTrue(gsub.ruleIndex().featuredLookups().isEmpty());
+  }
+
+  public void testWithoutLayoutClosure() throws Exception {
+    List<Integer> glyphs = GlyphCoverage.getGlyphCoverage(font, TEXT);
+    Subsetter subsetter = layoutSubsetter(glyphs);
+    Font subsetFont = subsetAndReload(subsetter);
+
+    // the GSUB table is passed through as it was
+    assertEquals(glyphs, subsetter.glyphMappingTable());
+    assertEquals(font.getTable(Tag.GSUB).dataLength(),
+        subsetFont.getTable(Tag.GSUB).dataLength());
+  }
+
+  public void testExtensionLookups() throws Exception {
+    ReadableFontData gsub = font.getTable(Tag.GSUB).readFontData();
+    int lookupList = gsub.readUShort(8);
+    boolean multipleSubTables = false;
+    for (int i = 0; i < gsub.readUShort(lookupList); i++) {
+      int lookup = lookupList + gsub.readUShort(lookupList + 2 + 2 * i);
+      multipleSubTables |= gsub.readUShort(lookup + 4) > 1;
+    }
+    assertTrue(multipleSubTables);
+    Font.Builder extendedBuilder = factory.newFontBuilder();
+    for (Table table : font.tableMap().values()) {
+      extendedBuilder.newTableBuilder(table.headerTag(),
+          table.headerTag() == Tag.GSUB ? wrapInExtensions(gsub) : table.readFontData());
+    }
+    Font extendedFont = reload(extendedBuilder);
+
+    // the extension subtables are unwrapped so the subset is the same as if
+    // there had been none
+    List<Integer> glyphs = GlyphCoverage.getGlyphCoverage(font, TEXT);
+    Subsetter subsetter = layoutSubsetter(font, glyphs);
+    subsetter.setLayoutClosure(null, null);
+    Font subsetFont = subsetAndReload(subsetter);
+    Subsetter extendedSubsetter = layoutSubsetter(extendedFont, glyphs);
+    extendedSubsetter.setLayoutClosure(null, null);
+    Font extendedSubsetFont = subsetAndReload(extendedSubsetter);
+    assertEquals(subsetter.glyphMappingTable(), extendedSubsetter.glyphMappingTable());
+    assertEquals(bytes(subsetFont.getTable(Tag.GSUB).readFontData()),
+        bytes(extendedSubsetFont.getTable(Tag.GSUB).readFontData()));
+  }
+
+  /**
+   * Rewrites a GSUB table so that every subtable is reached through an
+   * extension subtable. A new lookup list of extension lookups is put in
+   * front of a copy of the table.
+   */
+  private static ReadableFontData wrapInExtensions(ReadableFontData gsub) {
+    int lookupList = gsub.readUShort(8);
+    int lookupCount = gsub.readUShort(lookupList);
+    int size = 10 + 2 + 2 * lookupCount;
+    for (int i = 0; i < lookupCount; i++) {
+      int lookup = lookupList + gsub.readUShort(lookupList + 2 + 2 * i);
+      size += 8 + 10 * gsub.readUShort(lookup + 4);
+    }
+    int copy = size;
+    WritableFontData data = WritableFontData.createWritableFontData(copy + gsub.length());
+    gsub.copyTo(data.slice(copy));
+    data.writeULong(0, 0x00010000);
+    data.writeUShort(4, copy + gsub.readUShort(4));
+    data.writeUShort(6, copy + gsub.readUShort(6));
+    data.writeUShort(8, 10);
+    data.writeUShort(10, lookupCount);
+    int index = 12 + 2 * lookupCount;
+    for (int i = 0; i < lookupCount; i++) {
+      int lookup = lookupList + gsub.readUShort(lookupList + 2 + 2 * i);
+      int subTableCount = gsub.readUShort(lookup + 4);
+      data.writeUShort(12 + 2 * i, index - 10);
+      int lookupTable = index;
+      data.writeUShort(index, 7);
+      data.writeUShort(index + 2, gsub.readUShort(lookup + 2));
+      data.writeUShort(index + 4, subTableCount);
+      // no lookup of the test font uses a mark filtering set
+      data.writeUShort(index + 6 + 2 * subTableCount, 0);
+      index += 8 + 2 * subTableCount;
+      for (int j = 0; j < subTableCount; j++) {
+        int subTable = lookup + gsub.readUShort(lookup + 6 + 2 * j);
+        data.writeUShort(lookupTable + 6 + 2 * j, index - lookupTable);
+        data.writeUShort(index, 1);
+        data.writeUShort(index + 2, gsub.readUShort(lookup));
+        data.writeULong(index + 4, copy + subTable - index);
+        index += 8;
+      }
+    }
+    return data;
+  }
+
+  private static List<Integer> bytes(ReadableFontData data) {
+    List<Integer> bytes = new ArrayList<Integer>(data.length());
+    for (int i = 0; i < data.length(); i++) {
+      bytes.add(data.readUByte(i));
+    }
+    return bytes;
+  }
+
+  private Subsetter layoutSubsetter(List<Integer> glyphs) {
+    return layoutSubsetter(font, glyphs);
+  }
+
+  private Subsetter layoutSubsetter(Font font, List<Integer> glyphs) {
+    Subsetter subsetter = new RenumberingSubsetter(font, factory);
+    subsetter.setGlyphs(glyphs);
+    subsetter.setRemapping(Collections.<Integer, Integer>emptyMap());
+    subsetter.setCMaps(Collections.singletonList(CMapTable.CMapId.WINDOWS_BMP), 1);
+    Set<Integer> removeTables = new HashSet<Integer>();
+    removeTables.add(Tag.GPOS);
+    removeTables.add(Tag.kern);
+    subsetter.setRemoveTables(removeTables);
+    return subsetter;
+  }
+
+  private Font subsetAndReload(Subsetter subsetter) throws Exception {
+    return reload(subsetter.subset());
+  }
+
+  private Font reload(Font.Builder fontBuilder) throws Exception {
+    ByteArrayOutputStream os = new ByteArrayOutputStream();
+    factory.serializeFont(fontBuilder.build(), os);
+    return factory.loadFonts(os.toByteArray())[0];
+  }
+}